@@ -345,7 +345,7 @@ CREATE TABLE `tbl_production_plan` (
 CREATE TABLE `tbl_production_plan_list` (
     `plan_list_code`    INT NOT NULL COMMENT '생산 계획 목로 코드',
     `required_quantity` INT NOT NULL COMMENT '생산 필요 수량',
-    `panned_quantity`   INT NOT NULL COMMENT '생산 계획 수량',
+    `planned_quantity`  INT NOT NULL COMMENT '생산 계획 수량',
     `plan_code`         INT NOT NULL COMMENT '생산 계획 코드',
     `product_code`      INT NOT NULL COMMENT '상품 코드',
     PRIMARY KEY (`plan_list_code`)
@@ -495,4 +495,252 @@ ALTER TABLE tbl_stock
 DEFAULT 'NOT_ASSIGNED';
 
 ALTER TABLE tbl_release_change DROP FOREIGN KEY tbl_release_change_fk1;
-ALTER TABLE tbl_release MODIFY COLUMN release_code INT AUTO_INCREMENT;
\ No newline at end of file
+ALTER TABLE tbl_release MODIFY COLUMN release_code INT AUTO_INCREMENT;
+ALTER TABLE tbl_estimate
+    ADD COLUMN version BIGINT DEFAULT 0 NOT NULL COMMENT '버전';
+ALTER TABLE tbl_return
+    ADD COLUMN is_restocked BOOLEAN DEFAULT FALSE NOT NULL COMMENT '재입고 처리 여부';
+
+CREATE TABLE `tbl_sales_daily_product` (
+    `sales_date`      DATE             NOT NULL COMMENT '집계일',
+    `product_code`    INT              NOT NULL COMMENT '상품 코드',
+    `order_count`     INT    DEFAULT 0 NOT NULL COMMENT '주문 건수',
+    `order_quantity`  BIGINT DEFAULT 0 NOT NULL COMMENT '주문 수량',
+    `revenue`         BIGINT DEFAULT 0 NOT NULL COMMENT '매출액',
+    `return_count`    INT    DEFAULT 0 NOT NULL COMMENT '반품 건수',
+    `return_quantity` BIGINT DEFAULT 0 NOT NULL COMMENT '반품 수량',
+    `refund_amount`   BIGINT DEFAULT 0 NOT NULL COMMENT '환불액',
+    PRIMARY KEY (`sales_date`, `product_code`)
+) COMMENT = '상품별 일 매출 집계';
+
+CREATE TABLE `tbl_sales_daily_client` (
+    `sales_date`      DATE             NOT NULL COMMENT '집계일',
+    `client_code`     INT              NOT NULL COMMENT '거래처코드',
+    `order_count`     INT    DEFAULT 0 NOT NULL COMMENT '주문 건수',
+    `order_quantity`  BIGINT DEFAULT 0 NOT NULL COMMENT '주문 수량',
+    `revenue`         BIGINT DEFAULT 0 NOT NULL COMMENT '매출액',
+    `return_count`    INT    DEFAULT 0 NOT NULL COMMENT '반품 건수',
+    `return_quantity` BIGINT DEFAULT 0 NOT NULL COMMENT '반품 수량',
+    `refund_amount`   BIGINT DEFAULT 0 NOT NULL COMMENT '환불액',
+    PRIMARY KEY (`sales_date`, `client_code`)
+) COMMENT = '거래처별 일 매출 집계';
+
+CREATE TABLE `tbl_sales_monthly_product` (
+    `sales_month`     DATE             NOT NULL COMMENT '집계월 (해당 월 1일)',
+    `product_code`    INT              NOT NULL COMMENT '상품 코드',
+    `order_count`     INT    DEFAULT 0 NOT NULL COMMENT '주문 건수',
+    `order_quantity`  BIGINT DEFAULT 0 NOT NULL COMMENT '주문 수량',
+    `revenue`         BIGINT DEFAULT 0 NOT NULL COMMENT '매출액',
+    `return_count`    INT    DEFAULT 0 NOT NULL COMMENT '반품 건수',
+    `return_quantity` BIGINT DEFAULT 0 NOT NULL COMMENT '반품 수량',
+    `refund_amount`   BIGINT DEFAULT 0 NOT NULL COMMENT '환불액',
+    PRIMARY KEY (`sales_month`, `product_code`)
+) COMMENT = '상품별 월 매출 집계';
+
+CREATE TABLE `tbl_sales_monthly_client` (
+    `sales_month`     DATE             NOT NULL COMMENT '집계월 (해당 월 1일)',
+    `client_code`     INT              NOT NULL COMMENT '거래처코드',
+    `order_count`     INT    DEFAULT 0 NOT NULL COMMENT '주문 건수',
+    `order_quantity`  BIGINT DEFAULT 0 NOT NULL COMMENT '주문 수량',
+    `revenue`         BIGINT DEFAULT 0 NOT NULL COMMENT '매출액',
+    `return_count`    INT    DEFAULT 0 NOT NULL COMMENT '반품 건수',
+    `return_quantity` BIGINT DEFAULT 0 NOT NULL COMMENT '반품 수량',
+    `refund_amount`   BIGINT DEFAULT 0 NOT NULL COMMENT '환불액',
+    PRIMARY KEY (`sales_month`, `client_code`)
+) COMMENT = '거래처별 월 매출 집계';
+
+CREATE TABLE `tbl_demand_forecast` (
+    `product_code`        INT          NOT NULL COMMENT '상품 코드',
+    `week_start`          DATE         NOT NULL COMMENT '예측 주 (월요일)',
+    `forecast_quantity`   BIGINT       NOT NULL COMMENT '예측 수요량',
+    `model`               VARCHAR(30)  NOT NULL COMMENT '선택된 예측 모델',
+    `mean_absolute_error` DOUBLE       NOT NULL COMMENT '최근 구간 1주 앞 예측 평균 절대 오차',
+    `fitted_at`           DATETIME     NOT NULL COMMENT '적합 일시',
+    PRIMARY KEY (`product_code`, `week_start`)
+) COMMENT = '상품별 주간 수요 예측';
+
+ALTER TABLE tbl_client
+    ADD COLUMN credit_limit BIGINT COMMENT '여신 한도 (없으면 제한 없음)';
+
+CREATE TABLE `tbl_client_exposure` (
+    `client_code`       INT              NOT NULL COMMENT '거래처코드',
+    `open_order_amount` BIGINT DEFAULT 0 NOT NULL COMMENT '출고 전 주문 금액 (접수, 생산중, 배송 준비)',
+    `shipping_amount`   BIGINT DEFAULT 0 NOT NULL COMMENT '배송 중(완료 전) 주문 금액',
+    `returned_amount`   BIGINT DEFAULT 0 NOT NULL COMMENT '환불 처리 전 반품 금액',
+    `updated_at`        DATETIME         NOT NULL COMMENT '수정일시',
+    PRIMARY KEY (`client_code`)
+) COMMENT = '거래처별 미결 금액';
+
+CREATE INDEX idx_order_status ON tbl_order (status, completed_at);
+CREATE INDEX idx_order_product_order ON tbl_order_product (order_code);
+CREATE INDEX idx_release_order ON tbl_release (order_code);
+CREATE INDEX idx_release_change_release ON tbl_release_change (release_code);
+CREATE INDEX idx_return_order ON tbl_return (order_code);
+CREATE INDEX idx_return_exchange_order ON tbl_return (exchange_order);
+CREATE INDEX idx_return_product_return ON tbl_return_product (return_code);
+
+-- 보관 기간이 지난 주문 이력. 원본 테이블과 컬럼이 같아야 하므로 원본 변경 시 함께 변경한다.
+CREATE TABLE `tbl_order_archive` LIKE `tbl_order`;
+CREATE TABLE `tbl_order_product_archive` LIKE `tbl_order_product`;
+CREATE TABLE `tbl_release_archive` LIKE `tbl_release`;
+CREATE TABLE `tbl_release_change_archive` LIKE `tbl_release_change`;
+CREATE TABLE `tbl_return_archive` LIKE `tbl_return`;
+CREATE TABLE `tbl_return_product_archive` LIKE `tbl_return_product`;
+
+CREATE TABLE `tbl_reference_cache_version` (
+    `cache_name` VARCHAR(30) NOT NULL COMMENT '기준 정보 캐시 종류',
+    `version`    BIGINT      NOT NULL COMMENT '변경 버전',
+    `updated_at` DATETIME    NOT NULL COMMENT '수정일시',
+    PRIMARY KEY (`cache_name`)
+) COMMENT = '기준 정보 캐시 무효화 버전';
+
+-- 캐시 종류(ReferenceCacheType)별 버전 행을 미리 만들어 첫 변경도 버전 증가로 전파되게 한다
+INSERT IGNORE INTO tbl_reference_cache_version (cache_name, version, updated_at)
+VALUES ('PRODUCT', 0, NOW()),
+       ('LINE', 0, NOW()),
+       ('WAREHOUSE', 0, NOW()),
+       ('DEPARTMENT', 0, NOW()),
+       ('POSITION', 0, NOW()),
+       ('SPEC_CATEGORY', 0, NOW()),
+       ('BOM_EXPLOSION', 0, NOW());
+
+ALTER TABLE tbl_production_detail
+    ADD COLUMN stock_code       INT COMMENT '적재한 재검수 재고 코드',
+    ADD COLUMN stocked_quantity INT DEFAULT 0 NOT NULL COMMENT '재고에 적재된 양품 수';
+
+-- 이미 완료된 상세는 재고가 적재된 것으로 본다 (연결된 재고 코드는 알 수 없음)
+UPDATE tbl_production_detail
+SET stocked_quantity = COALESCE(completely_quantity, 0)
+WHERE production_status = 'PRODUCTION_COMPLETED';
+
+CREATE INDEX idx_production_detail_management ON tbl_production_detail (production_status_code);
+CREATE INDEX idx_defect_detail_production_detail ON tbl_defect_detail (production_detail_code);
+
+-- 소요량 계산(MRP) 일괄 조회용
+CREATE INDEX idx_production_plan_list_plan ON tbl_production_plan_list (plan_code);
+CREATE INDEX idx_bom_product ON tbl_bom (product_code);
+CREATE INDEX idx_material_stock_spec ON tbl_material_stock (spec_code, division);
+CREATE INDEX idx_order_spec_spec ON tbl_order_spec (spec_code);
+CREATE INDEX idx_order_spec_order ON tbl_order_spec (order_code);
+CREATE INDEX idx_material_order_plan ON tbl_material_order (plan_code);
+
+-- 다단계 BOM. 한 줄은 원자재 스펙(spec_code) 또는 하위 상품(child_product_code) 중 하나로 구성된다.
+ALTER TABLE tbl_bom
+    MODIFY COLUMN spec_code INT COMMENT '스펙 코드',
+    ADD COLUMN child_product_code INT COMMENT '하위 상품 코드',
+    ADD CONSTRAINT tbl_bom_component_CK CHECK ( (spec_code IS NULL) <> (child_product_code IS NULL) );
+CREATE INDEX idx_bom_child_product ON tbl_bom (child_product_code);
+
+-- BOM where-used / 공급 차질 영향 조회
+CREATE INDEX idx_bom_spec ON tbl_bom (spec_code);
+CREATE INDEX idx_work_order_product ON tbl_work_order (product_code, completion_status);
+CREATE INDEX idx_order_product_product ON tbl_order_product (product_code);
+
+-- 상품 재료비 원가. 원가 재계산 시 상품별/단가 기준별로 한 행씩 쌓인다.
+CREATE TABLE `tbl_product_cost_snapshot` (
+    `snapshot_code`       BIGINT        NOT NULL AUTO_INCREMENT COMMENT '원가 스냅샷 코드',
+    `product_code`        INT           NOT NULL COMMENT '상품 코드',
+    `price_basis`         VARCHAR(20)   NOT NULL COMMENT '단가 기준',
+    `material_cost`       DECIMAL(15, 2) NOT NULL COMMENT '재료비',
+    `unpriced_spec_count` INT DEFAULT 0 NOT NULL COMMENT '단가 없는 스펙 수',
+    `calculated_at`       DATETIME      NOT NULL COMMENT '계산 일시',
+    PRIMARY KEY (`snapshot_code`)
+) COMMENT = '상품 원가 스냅샷';
+CREATE INDEX idx_product_cost_snapshot_product ON tbl_product_cost_snapshot (product_code, price_basis, snapshot_code);
+
+-- 마지막 원가 계산에 쓴 스펙별 단가. 다음 계산 때 단가가 바뀐 스펙을 찾는 기준
+CREATE TABLE `tbl_spec_price` (
+    `spec_code`     INT            NOT NULL COMMENT '스펙 코드',
+    `latest_price`  INT            NOT NULL COMMENT '최근 주문 단가',
+    `average_price` DECIMAL(15, 4) NOT NULL COMMENT '최근 주문 목록 이동평균 단가',
+    `updated_at`    DATETIME       NOT NULL COMMENT '수정 일시',
+    PRIMARY KEY (`spec_code`)
+) COMMENT = '원가 계산 스펙 단가';
+
+-- BOM 이 바뀌어 원가를 다시 계산해야 하는 상품
+CREATE TABLE `tbl_cost_rollup_queue` (
+    `product_code` INT    NOT NULL COMMENT '상품 코드',
+    `version`      BIGINT NOT NULL COMMENT '변경 버전',
+    PRIMARY KEY (`product_code`)
+) COMMENT = '원가 재계산 대기 상품';
+
+CREATE INDEX idx_material_order_deleted ON tbl_material_order (is_deleted, order_date);
+
+-- 작업지시 자동 배정: 기간 안 라인/날짜 점유 확인, 상품별 지시 수량 집계, 계획 연결 주문 조회
+CREATE INDEX idx_work_order_date_line ON tbl_work_order (work_order_date, line_code);
+CREATE INDEX idx_work_order_product_date ON tbl_work_order (product_code, work_order_date);
+CREATE INDEX idx_planned_order_list_plan ON tbl_planned_order_list (plan_code);
+
+-- 월별 생산계획 목록 정렬 (종료일, 계획코드)
+CREATE INDEX idx_production_plan_end ON tbl_production_plan (end_at, plan_code);
+
+-- 라인 실적 시계열. (라인, 생산일, 근무조) 당 한 행. 근무조 0 주간(06-14), 1 오후(14-22), 2 야간(22-06)
+CREATE TABLE `tbl_line_performance` (
+    `line_code`           BIGINT  NOT NULL COMMENT '라인 코드',
+    `production_date`     DATE    NOT NULL COMMENT '생산일',
+    `shift`               TINYINT NOT NULL COMMENT '근무조',
+    `production_quantity` INT     NOT NULL DEFAULT 0 COMMENT '생산 수량',
+    `defect_quantity`     INT     NOT NULL DEFAULT 0 COMMENT '불량 수량',
+    `completely_quantity` INT     NOT NULL DEFAULT 0 COMMENT '양품 수량',
+    `line_capacity`       INT     NOT NULL DEFAULT 0 COMMENT '라인 일 생산량',
+    PRIMARY KEY (`line_code`, `production_date`, `shift`)
+) COMMENT = '라인 실적';
+CREATE INDEX idx_line_performance_date ON tbl_line_performance (production_date);
+
+-- 기존 보고서 전체로 라인 실적을 채운다 (LinePerformanceRepo.REBUILD_SQL 의 기간 조건만 뺀 것)
+INSERT INTO tbl_line_performance (line_code, production_date, shift, production_quantity, defect_quantity, completely_quantity, line_capacity)
+SELECT x.line_code, DATE(x.produced_at - INTERVAL 6 HOUR) AS production_date,
+       CASE WHEN HOUR(x.produced_at) BETWEEN 6 AND 13 THEN 0 WHEN HOUR(x.produced_at) BETWEEN 14 AND 21 THEN 1 ELSE 2 END AS shift,
+       SUM(x.production_quantity), SUM(x.defect_quantity), SUM(x.completely_quantity), COALESCE(MAX(l.line_production), 0)
+FROM (SELECT wo.line_code,
+             COALESCE(pm.start_at, TIMESTAMP(wo.work_order_date, '06:00:00')) AS produced_at,
+             COALESCE(pd.production_quantity, 0) AS production_quantity,
+             COALESCE(pd.defect_quantity, 0) AS defect_quantity,
+             COALESCE(pd.completely_quantity, 0) AS completely_quantity
+      FROM tbl_production_detail pd
+               JOIN tbl_production_management pm ON pm.production_status_code = pd.production_status_code
+               JOIN tbl_work_order wo ON wo.work_order_code = pd.work_order_code) x
+         LEFT JOIN tbl_line l ON l.line_code = x.line_code
+GROUP BY x.line_code, production_date, shift;
+
+-- 불량 사유 사전. 불량 상세는 정규화한 사유(앞뒤 공백 제거, 연속 공백 하나로)의 코드로 집계한다.
+CREATE TABLE `tbl_defect_reason` (
+    `reason_code` INT         NOT NULL AUTO_INCREMENT COMMENT '불량 사유 코드',
+    `reason_name` VARCHAR(50) NOT NULL COMMENT '불량 사유',
+    PRIMARY KEY (`reason_code`),
+    UNIQUE KEY `uk_defect_reason_name` (`reason_name`)
+) COMMENT = '불량 사유 사전';
+
+ALTER TABLE `tbl_defect_detail` ADD COLUMN `defect_reason_code` INT COMMENT '불량 사유 코드';
+
+-- DefectReasons.normalize 와 같은 정의: 앞뒤 공백(모든 공백 문자) 제거 후 연속 공백을 하나로
+INSERT IGNORE INTO tbl_defect_reason (reason_name)
+SELECT DISTINCT REGEXP_REPLACE(REGEXP_REPLACE(defect_reason, '^[[:space:]]+|[[:space:]]+$', ''), '[[:space:]]+', ' ')
+FROM tbl_defect_detail
+WHERE defect_reason IS NOT NULL AND REGEXP_REPLACE(REGEXP_REPLACE(defect_reason, '^[[:space:]]+|[[:space:]]+$', ''), '[[:space:]]+', ' ') <> '';
+
+UPDATE tbl_defect_detail d
+    JOIN tbl_defect_reason r ON r.reason_name = REGEXP_REPLACE(REGEXP_REPLACE(d.defect_reason, '^[[:space:]]+|[[:space:]]+$', ''), '[[:space:]]+', ' ')
+SET d.defect_reason_code = r.reason_code;
+
+-- 불량 분석: 검수 일시 범위 → 상세 → 작업지시
+CREATE INDEX idx_production_detail_inspection ON tbl_production_detail (inspection_date, production_detail_code, work_order_code);
+CREATE INDEX idx_defect_detail_reason ON tbl_defect_detail (production_detail_code, defect_reason_code);
+
+-- 생산계획에서 자동 생성된 작업지시. 계획 수정 후 재생성할 때 계획의 작업지시를 날짜 순으로 찾는다.
+ALTER TABLE `tbl_work_order` ADD COLUMN `plan_code` INT COMMENT '생산 계획 코드';
+CREATE INDEX idx_work_order_plan_date ON tbl_work_order (plan_code, work_order_date);
+CREATE INDEX idx_material_usage_work_order ON tbl_material_usage (work_order_code, status);
+
+-- 생산 계획 목록 수량을 문자열에서 정수로. 숫자가 아닌 값은 0 으로 정리한 뒤 변환한다.
+UPDATE tbl_production_plan_list
+SET planned_quantity  = IF(TRIM(planned_quantity) REGEXP '^[0-9]+$', TRIM(planned_quantity), '0'),
+    required_quantity = IF(TRIM(required_quantity) REGEXP '^[0-9]+$', TRIM(required_quantity), '0');
+
+ALTER TABLE `tbl_production_plan_list`
+    MODIFY `planned_quantity`  INT NOT NULL DEFAULT 0 COMMENT '생산 계획 수량',
+    MODIFY `required_quantity` INT NOT NULL DEFAULT 0 COMMENT '생산 필요 수량';
+
+-- 계획 대비 생산 집계: 계획 상품별 수량 합산, 작업지시 → 생산 상세 실적
+CREATE INDEX idx_production_plan_list_product ON tbl_production_plan_list (plan_code, product_code, planned_quantity, required_quantity);
+CREATE INDEX idx_production_detail_work_order ON tbl_production_detail (work_order_code, completely_quantity, defect_quantity);
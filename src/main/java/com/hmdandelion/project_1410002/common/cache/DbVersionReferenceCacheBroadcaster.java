@@ -0,0 +1,63 @@
+package com.hmdandelion.project_1410002.common.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 캐시 종류별 버전을 tbl_reference_cache_version 에 두고, 변경 시 버전을 올린다.
+ * 각 노드는 주기적으로 버전을 읽어 마지막으로 본 값과 다르면 해당 캐시를 비운다.
+ * 버전 증가는 변경과 같은 트랜잭션에서 커밋되므로 롤백된 변경은 다른 노드에 알려지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DbVersionReferenceCacheBroadcaster implements ReferenceCacheBroadcaster {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Long> seenVersions = new ConcurrentHashMap<>();
+    private volatile boolean baselineLoaded;
+
+    @Override
+    public void publish(ReferenceCacheType type) {
+        jdbcTemplate.update(
+                "INSERT INTO tbl_reference_cache_version (cache_name, version, updated_at) VALUES (?, 1, NOW())"
+                        + " ON DUPLICATE KEY UPDATE version = version + 1, updated_at = VALUES(updated_at)",
+                type.name()
+        );
+    }
+
+    /* 첫 조회는 기준값으로만 기록한다 (기동 직후 캐시는 비어 있으므로). 그 이후 새로 생긴 행은 첫 변경으로 본다. */
+    @Override
+    public Set<ReferenceCacheType> pollChanges() {
+        Set<ReferenceCacheType> changed = EnumSet.noneOf(ReferenceCacheType.class);
+        boolean baseline = !baselineLoaded;
+        jdbcTemplate.query(
+                "SELECT cache_name, version FROM tbl_reference_cache_version",
+                (RowCallbackHandler) rs -> {
+                    String name = rs.getString(1);
+                    long version = rs.getLong(2);
+                    Long seen = seenVersions.put(name, version);
+                    if (!baseline && (seen == null || seen != version)) {
+                        toType(name, changed);
+                    }
+                }
+        );
+        baselineLoaded = true;
+        return changed;
+    }
+
+    private void toType(String name, Set<ReferenceCacheType> changed) {
+        for (ReferenceCacheType type : ReferenceCacheType.values()) {
+            if (type.name().equals(name)) {
+                changed.add(type);
+            }
+        }
+    }
+}
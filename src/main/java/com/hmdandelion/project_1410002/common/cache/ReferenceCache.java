@@ -0,0 +1,150 @@
+package com.hmdandelion.project_1410002.common.cache;
+
+import com.hmdandelion.project_1410002.common.dto.response.ReferenceCacheMetricResponse;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+ * 크기 제한(LRU)과 TTL 을 가진 단순 로컬 캐시.
+ * 조회는 락 밖에서 하고, 조회 중에 무효화가 일어났으면 결과를 캐시에 넣지 않는다 (커밋 전 값이 남지 않도록).
+ * null 과 예외는 캐시하지 않는다.
+ */
+public class ReferenceCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /* 접근 순서 LinkedHashMap. 모든 접근은 this 로 동기화한다. */
+    private final Map<K, Entry<V>> entries;
+    private long generation;
+
+    public ReferenceCache(String name, int maxSize, long ttlNanos) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ReferenceCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key, Supplier<? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        V value = loader.get();
+
+        if (value != null) {
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+                }
+            }
+        }
+        return value;
+    }
+
+    /* 없는 키만 모아 loader 로 한 번에 조회한다. loader 결과에 없는 키는 결과에서 빠진다. */
+    public Map<K, V> getAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        Map<K, V> result = new HashMap<>();
+        List<K> missingKeys = new ArrayList<>();
+        long loadGeneration;
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (K key : keys) {
+                Entry<V> entry = entries.get(key);
+                if (entry != null && entry.expiresAt - now > 0) {
+                    result.put(key, entry.value);
+                } else {
+                    if (entry != null) {
+                        entries.remove(key);
+                    }
+                    missingKeys.add(key);
+                }
+            }
+            loadGeneration = generation;
+        }
+        hits.add(result.size());
+        if (missingKeys.isEmpty()) {
+            return result;
+        }
+
+        misses.add(missingKeys.size());
+        Map<K, V> loaded = loader.apply(missingKeys);
+
+        synchronized (this) {
+            boolean cacheable = loadGeneration == generation;
+            long expiresAt = System.nanoTime() + ttlNanos;
+            loaded.forEach((key, value) -> {
+                if (value != null) {
+                    result.put(key, value);
+                    if (cacheable) {
+                        entries.put(key, new Entry<>(value, expiresAt));
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    public synchronized void invalidate(Collection<K> keys) {
+        keys.forEach(entries::remove);
+        generation++;
+        invalidations.increment();
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        generation++;
+        invalidations.increment();
+    }
+
+    public ReferenceCacheMetricResponse getMetric() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new ReferenceCacheMetricResponse(
+                name,
+                size,
+                maxSize,
+                hitCount,
+                missCount,
+                evictions.sum(),
+                invalidations.sum(),
+                total == 0 ? 0.0 : (double) hitCount / total
+        );
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.common.cache;
+
+import java.util.Set;
+
+/*
+ * 기준 정보 변경을 다른 노드에 알리는 방법.
+ * 기본 구현은 DB 버전 테이블(DbVersionReferenceCacheBroadcaster)이며, 메시지 브로커 등으로 바꾸려면 이 인터페이스의 빈을 교체한다.
+ */
+public interface ReferenceCacheBroadcaster {
+
+    /* 변경한 트랜잭션 안에서 호출된다 */
+    void publish(ReferenceCacheType type);
+
+    /* 마지막 확인 이후 다른 노드(자신 포함)에서 변경된 캐시 종류 */
+    Set<ReferenceCacheType> pollChanges();
+}
@@ -0,0 +1,86 @@
+package com.hmdandelion.project_1410002.common.cache;
+
+import com.hmdandelion.project_1410002.common.dto.response.ReferenceCacheMetricResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+ * 거의 바뀌지 않는 기준 정보(상품, 라인, 창고, 부서, 직급, 스펙 분류) 조회 결과를 노드 로컬에 캐시한다.
+ * 변경 서비스는 evict 를 호출하고, 로컬 캐시는 커밋 후 비워지며 다른 노드에는 ReferenceCacheBroadcaster 로 알린다.
+ * 알림이 누락돼도 TTL 이 지나면 다시 조회한다.
+ */
+@Slf4j
+@Component
+public class ReferenceCacheManager {
+
+    private final ReferenceCacheBroadcaster broadcaster;
+    private final Map<ReferenceCacheType, ReferenceCache<Object, Object>> caches = new EnumMap<>(ReferenceCacheType.class);
+
+    public ReferenceCacheManager(ReferenceCacheBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+        for (ReferenceCacheType type : ReferenceCacheType.values()) {
+            caches.put(type, new ReferenceCache<>(type.name(), type.getMaxSize(), type.getTtl().toNanos()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V get(ReferenceCacheType type, Object key, Supplier<V> loader) {
+        return (V) caches.get(type).get(key, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getAll(ReferenceCacheType type, Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        ReferenceCache<K, V> cache = (ReferenceCache<K, V>) (ReferenceCache<?, ?>) caches.get(type);
+        return cache.getAll(keys, loader);
+    }
+
+    /* 로컬은 지정한 키만 비운다. 다른 노드는 키를 모르므로 해당 종류 전체를 비운다. */
+    public void evict(ReferenceCacheType type, Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object> targets = List.copyOf(keys);
+        broadcaster.publish(type);
+        afterCommit(() -> caches.get(type).invalidate(targets));
+    }
+
+    public void evict(ReferenceCacheType type) {
+        broadcaster.publish(type);
+        afterCommit(() -> caches.get(type).invalidateAll());
+    }
+
+    @Scheduled(fixedDelay = 5_000L)
+    public void syncRemoteChanges() {
+        try {
+            broadcaster.pollChanges().forEach(type -> caches.get(type).invalidateAll());
+        } catch (RuntimeException e) {
+            log.warn("기준 정보 캐시 버전 확인 실패", e);
+        }
+    }
+
+    public List<ReferenceCacheMetricResponse> getMetrics() {
+        return caches.values().stream()
+                .map(ReferenceCache::getMetric)
+                .toList();
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.hmdandelion.project_1410002.common.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/* 기준 정보 캐시 종류. BOM_EXPLOSION 은 상품 코드별 다단계 BOM 전개 결과. 이름은 노드 간 무효화 버전 테이블의 키로도 쓰인다. */
+@Getter
+@RequiredArgsConstructor
+public enum ReferenceCacheType {
+    PRODUCT(2_000, Duration.ofMinutes(10)),
+    LINE(200, Duration.ofMinutes(30)),
+    WAREHOUSE(1, Duration.ofMinutes(10)),
+    DEPARTMENT(100, Duration.ofHours(1)),
+    POSITION(100, Duration.ofHours(1)),
+    SPEC_CATEGORY(1, Duration.ofMinutes(30)),
+    BOM_EXPLOSION(5_000, Duration.ofHours(1));
+
+    private final int maxSize;
+    private final Duration ttl;
+}
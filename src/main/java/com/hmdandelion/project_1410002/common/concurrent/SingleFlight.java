@@ -0,0 +1,97 @@
+package com.hmdandelion.project_1410002.common.concurrent;
+
+import com.hmdandelion.project_1410002.common.dto.response.SingleFlightMetricResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+ * 같은 이름, 같은 인자로 동시에 들어온 호출을 한 번만 실행하고 결과를 나눠 갖는다.
+ * 결과를 저장해 두지는 않으므로 실행이 끝난 뒤 들어온 호출은 다시 실행한다.
+ * 트랜잭션 안에서 기다리면 커넥션을 잡고 대기하게 되므로 트랜잭션 밖(컨트롤러)에서 감싼다.
+ */
+@Component
+public class SingleFlight {
+
+    private final Map<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Supplier<T> supplier, Object... args) {
+        List<Object> key = new ArrayList<>(args.length + 1);
+        key.add(name);
+        key.addAll(Arrays.asList(args));
+
+        Metric metric = metrics.computeIfAbsent(name, Metric::new);
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            metric.coalesced.increment();
+            return (T) await(running);
+        }
+
+        metric.executed.increment();
+        try {
+            T result = supplier.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            metric.failed.increment();
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    public List<SingleFlightMetricResponse> getMetrics() {
+        return metrics.values().stream()
+                .sorted(Comparator.comparing(metric -> metric.name))
+                .map(metric -> new SingleFlightMetricResponse(
+                        metric.name,
+                        metric.executed.sum(),
+                        metric.coalesced.sum(),
+                        metric.failed.sum()
+                ))
+                .toList();
+    }
+
+    /* 대표 호출에서 난 예외를 그대로 다시 던져 기존 예외 처리(ExceptionHandlingController)를 타게 한다 */
+    private Object await(CompletableFuture<Object> running) {
+        try {
+            return running.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Metric {
+        private final String name;
+        private final LongAdder executed = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private Metric(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.hmdandelion.project_1410002.common.controller;
+
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheManager;
+import com.hmdandelion.project_1410002.common.concurrent.SingleFlight;
+import com.hmdandelion.project_1410002.common.dto.response.ReferenceCacheMetricResponse;
+import com.hmdandelion.project_1410002.common.dto.response.SingleFlightMetricResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class MetricController {
+
+    private final SingleFlight singleFlight;
+    private final ReferenceCacheManager referenceCacheManager;
+
+    /* 동시 호출 병합 현황 (실행 / 병합 / 실패 횟수) */
+    @GetMapping("/metrics/single-flight")
+    public ResponseEntity<List<SingleFlightMetricResponse>> getSingleFlightMetrics() {
+        return ResponseEntity.ok(singleFlight.getMetrics());
+    }
+
+    /* 기준 정보 캐시 현황 (적중 / 미스 / 제거 / 무효화 횟수) */
+    @GetMapping("/metrics/reference-cache")
+    public ResponseEntity<List<ReferenceCacheMetricResponse>> getReferenceCacheMetrics() {
+        return ResponseEntity.ok(referenceCacheManager.getMetrics());
+    }
+}
@@ -0,0 +1,18 @@
+package com.hmdandelion.project_1410002.common.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ReferenceCacheMetricResponse {
+
+    private final String name;
+    private final int size;
+    private final int maxSize;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+    private final double hitRatio;
+}
@@ -0,0 +1,14 @@
+package com.hmdandelion.project_1410002.common.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class SingleFlightMetricResponse {
+
+    private final String name;
+    private final long executed;
+    private final long coalesced;
+    private final long failed;
+}
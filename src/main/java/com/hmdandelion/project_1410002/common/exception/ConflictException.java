@@ -0,0 +1,12 @@
+package com.hmdandelion.project_1410002.common.exception;
+
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import lombok.Getter;
+
+@Getter
+public class ConflictException extends CustomException {
+
+    public ConflictException(final ExceptionCode exceptionCode) {
+        super(exceptionCode);
+    }
+}
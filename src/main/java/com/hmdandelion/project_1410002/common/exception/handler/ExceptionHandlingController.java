@@ -1,11 +1,15 @@
 package com.hmdandelion.project_1410002.common.exception.handler;
 
 import com.hmdandelion.project_1410002.common.exception.BadRequestException;
+import com.hmdandelion.project_1410002.common.exception.ConflictException;
 import com.hmdandelion.project_1410002.common.exception.NoContentsException;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.dto.response.ExceptionResponse;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -37,6 +41,21 @@ public class ExceptionHandlingController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionResponse);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ExceptionResponse> conflictException(ConflictException e) {
+        final ExceptionResponse exceptionResponse = ExceptionResponse.of(e.getCode(), e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(exceptionResponse);
+    }
+
+    /* 동시 수정으로 버전이 어긋난 경우. 엔티티 종류와 관계없이, 서비스의 버전 사전 확인(ConflictException)과 같은 충돌 코드로 응답한다. */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionResponse> optimisticLockingFailureException(ObjectOptimisticLockingFailureException e) {
+        final ExceptionResponse exceptionResponse = new ExceptionResponse(ExceptionCode.ALREADY_MODIFIED);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(exceptionResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ExceptionResponse> methodValidException(MethodArgumentNotValidException e) {
         int code = 0;
@@ -68,5 +87,13 @@ public class ExceptionHandlingController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionResponse);
     }
 
+    /* @Validated 컨트롤러의 요청 파라미터 범위 검증 실패 */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ExceptionResponse> constraintViolationException(ConstraintViolationException e) {
+        final ExceptionResponse exceptionResponse = new ExceptionResponse(6902, "알맞은 범위의 값이 입력되지 않았습니다.");
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exceptionResponse);
+    }
+
 
 }
@@ -13,6 +13,7 @@ public enum ExceptionCode {
     NOT_FOUND_ESTIMATE_PRODUCT_CODE(3201, "견적 상품 코드에 해당하는 견적 상품이 존재하지 않습니다."),
     NOT_FOUND_ORDER_CODE(3300, "주문 코드에 해당하는 주문이 존재하지 않습니다."),
     NOT_FOUND_RETURN_CODE(3301, "반품 코드에 해당하는 반품이 존재하지 않습니다."),
+    NOT_FOUND_RETURN_PRODUCT_CODE(3302, "반품 상품 코드에 해당하는 반품 상품이 존재하지 않습니다."),
     NOT_FOUND_CATEGORY_CODE(3400,"카테고리 코드에 해당하는 카테고리가 존재하지 않습니다." ),
     NOT_FOUND_STOCK_CODE(3401,"스톡 코드에 해당하는 스톡이 존재하지 않습니다." ),
     NOT_FOUND_MATERIAL_NAME(3402, "자재 이름에 해당하는 스톡이 존재하지 않습니다." ),
@@ -41,18 +42,31 @@ public enum ExceptionCode {
     NO_CONTENTS_MATERIAL_USE(4404,"조건에 맞는 원자재 사용이 존재하지 않습니다." ),
 
     BAD_REQUEST_ORDER_EXIST_CLIENT(6100, "주문건이 존재하는 거래처는 삭제할 수 없습니다."),
+    BAD_REQUEST_CREDIT_LIMIT_EXCEEDED(6101, "거래처의 여신 한도를 초과합니다."),
     BAD_REQUEST_ORDERED_ESTIMATE(6200, "주문이 진행된 견적은 수정하거나 삭제할 수 없습니다."),
     BAD_REQUEST_DEADLINE_PASSED(6201, "마감일자가 지난 견적은 주문으로 전환할 수 없습니다."),
+    BAD_REQUEST_ORDER_STATUS_TRANSITION(6300, "현재 주문 상태에서 요청한 상태로 변경할 수 없습니다."),
+    BAD_REQUEST_DEFECTIVE_QUANTITY(6301, "불량 수량은 0 이상 반품 수량 이하여야 합니다."),
     BAD_REQUEST_NO_OPTIONS(6400, "스펙 삭제에 필요한 정보를 제공하지 않았습니다." ),
     BAD_REQUEST_INSUFFICIENT_QUANTITY(6401,"사용하려는 재고보다 실수량이 부족합니다" ),
     BAD_REQUEST_CATEGORY_EXIST(6402,"사용중인 스펙이 있어 삭제할수 없습니다"),
     BAD_REQUEST_SPEC_EXIST(6403,"사용중인 재고는 삭제할 수 없습니다" ),
+    BAD_REQUEST_BOM_COMPONENT(6404, "BOM 구성품은 원자재 스펙과 하위 상품 중 하나만 지정해야 합니다."),
+    BAD_REQUEST_BOM_CYCLE(6405, "하위 상품의 BOM 에 상위 상품이 포함되어 있어 순환이 생깁니다."),
+    BAD_REQUEST_SPEC_IN_BOM(6406, "BOM 에 사용 중인 스펙은 삭제할 수 없습니다."),
     BAD_REQUEST_MORE_QUANTITY(6500,"보관 중인 재고가 재고 수량보다 큽니다."),
     BAD_REQUEST_MIN_QUANTITY(6500,"최소 수량이 최대 수량보다 큽니다."),
     BAD_REQUEST_DELETED_STOCK(6501,"삭제 된 재고 정보입니다."),
     BAD_REQUEST_DESTROY_QUANTITY(6502,"파손 수량은 초기 수량보다 클 수 없습니다."),
     BAD_REQUEST_WORK_ORDER_DONE(6700, "이미 완료된 작업지시서는 수정할 수 없습니다."),
+    BAD_REQUEST_PLAN_PERIOD(6701, "계획 시작일이 종료일보다 늦습니다."),
+    BAD_REQUEST_PERIOD(6702, "조회 시작일이 종료일보다 늦습니다."),
+    BAD_REQUEST_PLANNED_QUANTITY(6703, "계획 수량과 필요 수량은 0 이상이어야 합니다."),
+    BAD_REQUEST_COMPLETELY_QUANTITY(6704, "양품 수량은 0 이상이어야 합니다."),
+    BAD_REQUEST_STOCK_PROCESSED(6705, "이미 검수, 보관 또는 출고되었거나 수량이 부족한 재고라 생산 실적을 수정할 수 없습니다."),
+    BAD_REQUEST_DUPLICATE_WORK_ORDER_SLOT(6706, "같은 라인/날짜에 작업지시가 둘 이상 있어 다시 배정할 수 없습니다. 중복된 작업지시를 정리해 주세요."),
 
+    ALREADY_MODIFIED(7000, "다른 사용자가 먼저 수정한 데이터입니다. 다시 조회해 주세요."),
     ALREADY_EXIST_PRODUCTION_PLAN(7700, "해당 생산 계획의 기간이 현재 생산 계획과 겹칩니다."),
     ALREADY_EXIST_WORK_ORDER(7701,"이미 해당 날짜에 작업이 등록 되어 있습니다."),
     ALREADY_ASSIGNED_STOCK(7501,"이미 창고에 보관 된 재고는 삭제할 수 없습니다."),
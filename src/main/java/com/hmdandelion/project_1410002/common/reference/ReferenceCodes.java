@@ -0,0 +1,36 @@
+package com.hmdandelion.project_1410002.common.reference;
+
+import lombok.Getter;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/* 한 화면(페이지)에서 이름이 필요한 상품/라인/사원 코드를 모은다. null 코드는 무시한다. */
+@Getter
+public class ReferenceCodes {
+
+    private final Set<Long> productCodes = new HashSet<>();
+    private final Set<Long> lineCodes = new HashSet<>();
+    private final Set<Long> employeeCodes = new HashSet<>();
+
+    public ReferenceCodes addProduct(Long productCode) {
+        add(productCodes, productCode);
+        return this;
+    }
+
+    public ReferenceCodes addLine(Long lineCode) {
+        add(lineCodes, lineCode);
+        return this;
+    }
+
+    public ReferenceCodes addEmployee(Long employeeCode) {
+        add(employeeCodes, employeeCode);
+        return this;
+    }
+
+    private void add(Set<Long> codes, Long code) {
+        if (code != null) {
+            codes.add(code);
+        }
+    }
+}
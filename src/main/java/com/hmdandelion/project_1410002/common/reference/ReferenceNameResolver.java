@@ -0,0 +1,54 @@
+package com.hmdandelion.project_1410002.common.reference;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.hmdandelion.project_1410002.employee.domain.entity.QEmployee.employee;
+import static com.hmdandelion.project_1410002.inventory.domian.entity.product.QProduct.product;
+import static com.hmdandelion.project_1410002.production.domain.entity.line.QLine.line;
+
+/*
+ * 목록 화면에서 행마다 상품/라인/사원 이름을 단건 조회하던 것을 유형별 IN 조회 한 번으로 바꾼다.
+ * 코드를 먼저 ReferenceCodes 에 모두 모은 뒤 resolve 하고, 이름은 반환된 ReferenceNames 에서 꺼낸다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceNameResolver {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Transactional(readOnly = true)
+    public ReferenceNames resolve(ReferenceCodes codes) {
+        return new ReferenceNames(
+                findNames(product, product.productCode, product.productName, codes.getProductCodes()),
+                findNames(line, line.lineCode, line.lineName, codes.getLineCodes()),
+                findNames(employee, employee.employeeCode, employee.employeeName, codes.getEmployeeCodes())
+        );
+    }
+
+    private Map<Long, String> findNames(EntityPath<?> entity, NumberPath<Long> codePath, StringPath namePath, Collection<Long> codes) {
+        Map<Long, String> names = new HashMap<>();
+        if (codes.isEmpty()) {
+            return names;
+        }
+
+        for (Tuple tuple : queryFactory
+                .select(codePath, namePath)
+                .from(entity)
+                .where(codePath.in(codes))
+                .fetch()) {
+            names.put(tuple.get(codePath), tuple.get(namePath));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,36 @@
+package com.hmdandelion.project_1410002.common.reference;
+
+import com.hmdandelion.project_1410002.common.exception.NotFoundException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/* ReferenceNameResolver 가 한 번에 조회한 이름. 없는 코드는 단건 조회와 같은 예외를 던진다. */
+@RequiredArgsConstructor
+public class ReferenceNames {
+
+    private final Map<Long, String> productNames;
+    private final Map<Long, String> lineNames;
+    private final Map<Long, String> employeeNames;
+
+    public String productName(Long productCode) {
+        return find(productNames, productCode, ExceptionCode.NOT_FOUND_PRODUCT_CODE);
+    }
+
+    public String lineName(Long lineCode) {
+        return find(lineNames, lineCode, ExceptionCode.NOT_FOUND_LINE_CODE);
+    }
+
+    public String employeeName(Long employeeCode) {
+        return find(employeeNames, employeeCode, ExceptionCode.NOT_FOUND_EMPLOYEE_CODE);
+    }
+
+    private String find(Map<Long, String> names, Long code, ExceptionCode exceptionCode) {
+        String name = names.get(code);
+        if (name == null) {
+            throw new NotFoundException(exceptionCode);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,236 @@
+package com.hmdandelion.project_1410002.dashboard.domain.repository;
+
+import com.hmdandelion.project_1410002.dashboard.domain.rollup.SalesLine;
+import com.hmdandelion.project_1410002.dashboard.domain.rollup.SalesRollupDelta;
+import com.hmdandelion.project_1410002.dashboard.domain.type.SalesRollupTable;
+import com.hmdandelion.project_1410002.dashboard.dto.response.ClientSalesResponse;
+import com.hmdandelion.project_1410002.dashboard.dto.response.ProductSalesResponse;
+import com.hmdandelion.project_1410002.dashboard.dto.response.SalesTrendResponse;
+import com.hmdandelion.project_1410002.sales.domain.repository.archive.OrderHistorySql;
+import com.hmdandelion.project_1410002.sales.domain.type.ManageType;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.hmdandelion.project_1410002.sales.domain.entity.order.QOrder.order;
+import static com.hmdandelion.project_1410002.sales.domain.entity.order.QOrderProduct.orderProduct;
+import static com.hmdandelion.project_1410002.sales.domain.entity.returns.QReturn.return$;
+import static com.hmdandelion.project_1410002.sales.domain.entity.returns.QReturnProduct.returnProduct;
+
+/* 매출 집계 테이블 접근. 집계 테이블은 엔티티 없이 JDBC 로 직접 갱신/조회한다. */
+@Repository
+@RequiredArgsConstructor
+public class SalesRollupRepo {
+    private static final int BATCH_SIZE = 500;
+
+    /* 교환으로 생성된 주문은 매출로 보지 않는다. 재계산은 보관된 이력까지 포함한다. */
+    private static final String REVENUE_ORDER_CONDITION =
+            "o.status <> 'CANCELED' AND NOT EXISTS (SELECT 1 FROM " + OrderHistorySql.RETURNS + " r WHERE r.exchange_order = o.order_code)";
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    /* 교환 주문은 제외 (REVENUE_ORDER_CONDITION 과 동일 기준) */
+    public List<SalesLine> findOrderLines(Collection<Long> orderCodes) {
+        return queryFactory
+                .select(order.orderCode, order.orderDatetime, order.clientCode, orderProduct.productCode, orderProduct.quantity, orderProduct.price)
+                .from(orderProduct)
+                .join(orderProduct.order, order)
+                .where(
+                        order.orderCode.in(orderCodes),
+                        JPAExpressions.selectOne()
+                                .from(return$)
+                                .where(return$.exchangeOrder.eq(order.orderCode))
+                                .notExists()
+                )
+                .fetch()
+                .stream()
+                .map(tuple -> new SalesLine(
+                        tuple.get(order.orderCode),
+                        tuple.get(order.orderDatetime),
+                        tuple.get(order.clientCode),
+                        tuple.get(orderProduct.productCode),
+                        tuple.get(orderProduct.quantity),
+                        (long) tuple.get(orderProduct.quantity) * tuple.get(orderProduct.price)
+                ))
+                .toList();
+    }
+
+    /* 환불액은 환불 반품만 집계한다 */
+    public List<SalesLine> findReturnLines(Collection<Long> returnCodes) {
+        return queryFactory
+                .select(return$.returnCode, return$.returnDatetime, return$.clientCode, return$.manageType, returnProduct.productCode, returnProduct.quantity, returnProduct.refundPrice)
+                .from(returnProduct)
+                .join(returnProduct.returnEntity, return$)
+                .where(return$.returnCode.in(returnCodes))
+                .fetch()
+                .stream()
+                .map(tuple -> new SalesLine(
+                        tuple.get(return$.returnCode),
+                        tuple.get(return$.returnDatetime),
+                        tuple.get(return$.clientCode),
+                        tuple.get(returnProduct.productCode),
+                        tuple.get(returnProduct.quantity),
+                        ManageType.REFUND.equals(tuple.get(return$.manageType))
+                                ? (long) tuple.get(returnProduct.quantity) * tuple.get(returnProduct.refundPrice)
+                                : 0L
+                ))
+                .toList();
+    }
+
+    public void upsert(SalesRollupTable table, Collection<SalesRollupDelta> deltas) {
+        String sql = "INSERT INTO " + table.getTableName()
+                + " (" + table.getPeriodColumn() + ", " + table.getKeyColumn()
+                + ", order_count, order_quantity, revenue, return_count, return_quantity, refund_amount)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)"
+                + " ON DUPLICATE KEY UPDATE"
+                + " order_count = order_count + VALUES(order_count),"
+                + " order_quantity = order_quantity + VALUES(order_quantity),"
+                + " revenue = revenue + VALUES(revenue),"
+                + " return_count = return_count + VALUES(return_count),"
+                + " return_quantity = return_quantity + VALUES(return_quantity),"
+                + " refund_amount = refund_amount + VALUES(refund_amount)";
+
+        jdbcTemplate.batchUpdate(sql, new ArrayList<>(deltas), BATCH_SIZE, (ps, delta) -> {
+            ps.setDate(1, Date.valueOf(delta.getPeriod()));
+            ps.setLong(2, delta.getKey());
+            ps.setLong(3, delta.getOrderCount());
+            ps.setLong(4, delta.getOrderQuantity());
+            ps.setLong(5, delta.getRevenue());
+            ps.setLong(6, delta.getReturnCount());
+            ps.setLong(7, delta.getReturnQuantity());
+            ps.setLong(8, delta.getRefundAmount());
+        });
+    }
+
+    /* 일 집계를 원본 주문/반품으로부터 다시 계산 (from ~ to, 양 끝 포함) */
+    public void rebuildDaily(SalesRollupTable table, LocalDate from, LocalDate to) {
+        String keyColumn = table.getKeyColumn();
+        String orderKey = table.isProduct() ? "op.product_code" : "o.client_code";
+        String returnKey = table.isProduct() ? "rp.product_code" : "r.client_code";
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+
+        jdbcTemplate.update(
+                "DELETE FROM " + table.getTableName() + " WHERE sales_date BETWEEN ? AND ?",
+                Date.valueOf(from), Date.valueOf(to)
+        );
+
+        jdbcTemplate.update(
+                "INSERT INTO " + table.getTableName() + " (sales_date, " + keyColumn + ", order_count, order_quantity, revenue)"
+                        + " SELECT DATE(o.order_datetime), " + orderKey + ", COUNT(DISTINCT o.order_code), SUM(op.quantity), SUM(op.quantity * op.price)"
+                        + " FROM " + OrderHistorySql.ORDERS + " o JOIN " + OrderHistorySql.ORDER_PRODUCTS + " op ON op.order_code = o.order_code"
+                        + " WHERE o.order_datetime >= ? AND o.order_datetime < ? AND " + REVENUE_ORDER_CONDITION
+                        + " GROUP BY DATE(o.order_datetime), " + orderKey,
+                start, end
+        );
+
+        jdbcTemplate.update(
+                "INSERT INTO " + table.getTableName() + " (sales_date, " + keyColumn + ", return_count, return_quantity, refund_amount)"
+                        + " SELECT DATE(r.return_datetime), " + returnKey + ", COUNT(DISTINCT r.return_code), SUM(rp.quantity),"
+                        + " SUM(CASE WHEN r.manage_type = 'REFUND' THEN rp.quantity * rp.refund_price ELSE 0 END)"
+                        + " FROM " + OrderHistorySql.RETURNS + " r JOIN " + OrderHistorySql.RETURN_PRODUCTS + " rp ON rp.return_code = r.return_code"
+                        + " WHERE r.return_datetime >= ? AND r.return_datetime < ? AND r.return_status <> 'CANCELED'"
+                        + " GROUP BY DATE(r.return_datetime), " + returnKey
+                        + " ON DUPLICATE KEY UPDATE return_count = VALUES(return_count),"
+                        + " return_quantity = VALUES(return_quantity), refund_amount = VALUES(refund_amount)",
+                start, end
+        );
+    }
+
+    /* 월 집계는 일 집계를 합산해서 다시 만든다 (fromMonth, toMonth 는 각 월의 1일) */
+    public void rebuildMonthly(SalesRollupTable monthly, SalesRollupTable daily, LocalDate fromMonth, LocalDate toMonth) {
+        String keyColumn = monthly.getKeyColumn();
+
+        jdbcTemplate.update(
+                "DELETE FROM " + monthly.getTableName() + " WHERE sales_month BETWEEN ? AND ?",
+                Date.valueOf(fromMonth), Date.valueOf(toMonth)
+        );
+
+        jdbcTemplate.update(
+                "INSERT INTO " + monthly.getTableName()
+                        + " (sales_month, " + keyColumn + ", order_count, order_quantity, revenue, return_count, return_quantity, refund_amount)"
+                        + " SELECT DATE_FORMAT(sales_date, '%Y-%m-01'), " + keyColumn + ", SUM(order_count), SUM(order_quantity), SUM(revenue),"
+                        + " SUM(return_count), SUM(return_quantity), SUM(refund_amount)"
+                        + " FROM " + daily.getTableName()
+                        + " WHERE sales_date >= ? AND sales_date < ?"
+                        + " GROUP BY DATE_FORMAT(sales_date, '%Y-%m-01'), " + keyColumn,
+                Date.valueOf(fromMonth), Date.valueOf(toMonth.plusMonths(1))
+        );
+    }
+
+    /* 기간별 추이. 거래처 집계를 기간으로 묶어 주문 건수가 중복되지 않도록 한다. */
+    public List<SalesTrendResponse> findTrends(SalesRollupTable clientTable, LocalDate from, LocalDate to) {
+        String period = clientTable.getPeriodColumn();
+        return jdbcTemplate.query(
+                "SELECT " + period + ", SUM(order_count), SUM(order_quantity), SUM(revenue), SUM(return_quantity), SUM(refund_amount)"
+                        + " FROM " + clientTable.getTableName()
+                        + " WHERE " + period + " BETWEEN ? AND ?"
+                        + " GROUP BY " + period
+                        + " ORDER BY " + period,
+                (rs, rowNum) -> new SalesTrendResponse(
+                        rs.getDate(1).toLocalDate(),
+                        rs.getLong(2),
+                        rs.getLong(3),
+                        rs.getLong(4),
+                        rs.getLong(5),
+                        rs.getLong(6),
+                        ratio(rs.getLong(5), rs.getLong(3))
+                ),
+                Date.valueOf(from), Date.valueOf(to)
+        );
+    }
+
+    public List<ClientSalesResponse> findClientSales(LocalDate month, int limit) {
+        return jdbcTemplate.query(
+                "SELECT s.client_code, c.client_name, s.order_count, s.revenue, s.return_count, s.refund_amount"
+                        + " FROM tbl_sales_monthly_client s LEFT JOIN tbl_client c ON c.client_code = s.client_code"
+                        + " WHERE s.sales_month = ?"
+                        + " ORDER BY s.revenue DESC"
+                        + " LIMIT ?",
+                (rs, rowNum) -> new ClientSalesResponse(
+                        rs.getLong(1),
+                        rs.getString(2),
+                        rs.getLong(3),
+                        rs.getLong(4),
+                        rs.getLong(5),
+                        rs.getLong(6)
+                ),
+                Date.valueOf(month), limit
+        );
+    }
+
+    /* 매출 비중은 같은 월 전체 매출 대비 */
+    public List<ProductSalesResponse> findProductSales(LocalDate month) {
+        return jdbcTemplate.query(
+                "SELECT s.product_code, p.product_name, s.order_quantity, s.revenue,"
+                        + " s.revenue / NULLIF(SUM(s.revenue) OVER (), 0), s.return_quantity"
+                        + " FROM tbl_sales_monthly_product s LEFT JOIN tbl_product p ON p.product_code = s.product_code"
+                        + " WHERE s.sales_month = ?"
+                        + " ORDER BY s.revenue DESC",
+                (rs, rowNum) -> new ProductSalesResponse(
+                        rs.getLong(1),
+                        rs.getString(2),
+                        rs.getLong(3),
+                        rs.getLong(4),
+                        rs.getDouble(5),
+                        rs.getLong(6),
+                        ratio(rs.getLong(6), rs.getLong(3))
+                ),
+                Date.valueOf(month)
+        );
+    }
+
+    private double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0.0 : (double) numerator / denominator;
+    }
+}
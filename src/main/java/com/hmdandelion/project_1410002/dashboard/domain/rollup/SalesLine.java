@@ -0,0 +1,18 @@
+package com.hmdandelion.project_1410002.dashboard.domain.rollup;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/* 집계 대상 주문/반품의 상품 한 줄. documentCode 는 주문 코드 또는 반품 코드. */
+@Getter
+@RequiredArgsConstructor
+public class SalesLine {
+    private final Long documentCode;
+    private final LocalDateTime occurredAt;
+    private final Long clientCode;
+    private final Long productCode;
+    private final long quantity;
+    private final long amount;
+}
@@ -0,0 +1,32 @@
+package com.hmdandelion.project_1410002.dashboard.domain.rollup;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/* 집계 테이블 한 행에 더할 증감분 */
+@Getter
+@RequiredArgsConstructor
+public class SalesRollupDelta {
+    private final LocalDate period;
+    private final Long key;
+    private long orderCount;
+    private long orderQuantity;
+    private long revenue;
+    private long returnCount;
+    private long returnQuantity;
+    private long refundAmount;
+
+    public void addOrder(long count, long quantity, long amount) {
+        this.orderCount += count;
+        this.orderQuantity += quantity;
+        this.revenue += amount;
+    }
+
+    public void addReturn(long count, long quantity, long amount) {
+        this.returnCount += count;
+        this.returnQuantity += quantity;
+        this.refundAmount += amount;
+    }
+}
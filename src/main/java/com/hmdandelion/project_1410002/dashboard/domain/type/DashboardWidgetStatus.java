@@ -0,0 +1,9 @@
+package com.hmdandelion.project_1410002.dashboard.domain.type;
+
+public enum DashboardWidgetStatus {
+    LOADED,     // 이번 요청에서 새로 계산
+    CACHED,     // TTL 안의 캐시
+    STALE,      // 갱신이 늦거나 실패해서 만료된 캐시를 대신 응답
+    TIMEOUT,    // 캐시도 없고 제한 시간 안에 계산되지 않음
+    FAILED      // 캐시도 없고 계산 중 오류
+}
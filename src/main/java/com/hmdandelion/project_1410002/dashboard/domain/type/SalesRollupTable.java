@@ -0,0 +1,39 @@
+package com.hmdandelion.project_1410002.dashboard.domain.type;
+
+import java.time.LocalDate;
+
+public enum SalesRollupTable {
+    DAILY_PRODUCT("tbl_sales_daily_product", "sales_date", "product_code", false, true),
+    DAILY_CLIENT("tbl_sales_daily_client", "sales_date", "client_code", false, false),
+    MONTHLY_PRODUCT("tbl_sales_monthly_product", "sales_month", "product_code", true, true),
+    MONTHLY_CLIENT("tbl_sales_monthly_client", "sales_month", "client_code", true, false);
+
+    private final String tableName;
+    private final String periodColumn;
+    private final String keyColumn;
+    private final boolean isMonthly;
+    private final boolean isProduct;
+
+    SalesRollupTable(String tableName, String periodColumn, String keyColumn, boolean isMonthly, boolean isProduct) {
+        this.tableName = tableName;
+        this.periodColumn = periodColumn;
+        this.keyColumn = keyColumn;
+        this.isMonthly = isMonthly;
+        this.isProduct = isProduct;
+    }
+
+    public String getTableName() { return tableName; }
+
+    public String getPeriodColumn() { return periodColumn; }
+
+    public String getKeyColumn() { return keyColumn; }
+
+    public boolean isMonthly() { return isMonthly; }
+
+    public boolean isProduct() { return isProduct; }
+
+    /* 월 집계는 해당 월 1일을 기간 키로 쓴다 */
+    public LocalDate toPeriod(LocalDate date) {
+        return isMonthly ? date.withDayOfMonth(1) : date;
+    }
+}
@@ -0,0 +1,24 @@
+package com.hmdandelion.project_1410002.dashboard.domain.widget;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class CachedWidget {
+
+    private final Object data;
+    private final LocalDateTime loadedAt;
+    private final long loadedNanos;
+
+    public static CachedWidget of(Object data) {
+        return new CachedWidget(data, LocalDateTime.now(), System.nanoTime());
+    }
+
+    public boolean isFresh(Duration ttl) {
+        return System.nanoTime() - loadedNanos < ttl.toNanos();
+    }
+}
@@ -0,0 +1,22 @@
+package com.hmdandelion.project_1410002.dashboard.domain.widget;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/* 대시보드 한 칸. 위젯마다 캐시 유지 시간과 응답 대기 시간을 따로 둔다. */
+@Getter
+@RequiredArgsConstructor
+public class DashboardWidget {
+
+    private final String name;
+    private final Duration ttl;
+    private final Duration timeout;
+    private final Supplier<Object> provider;
+
+    public static DashboardWidget of(String name, Duration ttl, Duration timeout, Supplier<Object> provider) {
+        return new DashboardWidget(name, ttl, timeout, provider);
+    }
+}
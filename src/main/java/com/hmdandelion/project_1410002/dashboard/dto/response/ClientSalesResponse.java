@@ -0,0 +1,15 @@
+package com.hmdandelion.project_1410002.dashboard.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ClientSalesResponse {
+    private final Long clientCode;
+    private final String clientName;
+    private final Long orderCount;
+    private final Long revenue;
+    private final Long returnCount;
+    private final Long refundAmount;
+}
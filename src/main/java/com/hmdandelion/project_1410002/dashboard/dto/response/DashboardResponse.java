@@ -0,0 +1,15 @@
+package com.hmdandelion.project_1410002.dashboard.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Getter
+@RequiredArgsConstructor
+public class DashboardResponse {
+
+    private final LocalDateTime generatedAt;
+    private final Map<String, DashboardWidgetResponse> widgets;
+}
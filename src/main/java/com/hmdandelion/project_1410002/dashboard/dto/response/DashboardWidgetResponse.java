@@ -0,0 +1,25 @@
+package com.hmdandelion.project_1410002.dashboard.dto.response;
+
+import com.hmdandelion.project_1410002.dashboard.domain.type.DashboardWidgetStatus;
+import com.hmdandelion.project_1410002.dashboard.domain.widget.CachedWidget;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class DashboardWidgetResponse {
+
+    private final DashboardWidgetStatus status;
+    private final LocalDateTime loadedAt;
+    private final Object data;
+
+    public static DashboardWidgetResponse of(DashboardWidgetStatus status, CachedWidget cached) {
+        return new DashboardWidgetResponse(status, cached.getLoadedAt(), cached.getData());
+    }
+
+    public static DashboardWidgetResponse empty(DashboardWidgetStatus status) {
+        return new DashboardWidgetResponse(status, null, null);
+    }
+}
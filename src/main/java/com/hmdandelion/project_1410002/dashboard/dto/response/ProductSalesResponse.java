@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.dashboard.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ProductSalesResponse {
+    private final Long productCode;
+    private final String productName;
+    private final Long orderQuantity;
+    private final Long revenue;
+    private final Double revenueShare;
+    private final Long returnQuantity;
+    private final Double returnRate;
+}
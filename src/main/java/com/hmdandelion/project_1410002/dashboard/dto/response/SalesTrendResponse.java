@@ -0,0 +1,18 @@
+package com.hmdandelion.project_1410002.dashboard.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor
+public class SalesTrendResponse {
+    private final LocalDate period;
+    private final Long orderCount;
+    private final Long orderQuantity;
+    private final Long revenue;
+    private final Long returnQuantity;
+    private final Long refundAmount;
+    private final Double returnRate;
+}
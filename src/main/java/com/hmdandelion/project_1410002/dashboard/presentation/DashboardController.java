@@ -1,7 +1,79 @@
 package com.hmdandelion.project_1410002.dashboard.presentation;
 
-import org.springframework.web.bind.annotation.RestController;
+import com.hmdandelion.project_1410002.dashboard.dto.response.ClientSalesResponse;
+import com.hmdandelion.project_1410002.dashboard.dto.response.DashboardResponse;
+import com.hmdandelion.project_1410002.dashboard.dto.response.ProductSalesResponse;
+import com.hmdandelion.project_1410002.dashboard.dto.response.SalesTrendResponse;
+import com.hmdandelion.project_1410002.dashboard.service.DashboardService;
+import com.hmdandelion.project_1410002.dashboard.service.SalesDashboardService;
+import com.hmdandelion.project_1410002.dashboard.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 @RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
 public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final SalesDashboardService salesDashboardService;
+    private final SalesRollupService salesRollupService;
+
+    /* 대시보드 위젯 일괄 조회 (widgets 미지정 시 전체). 늦은 위젯은 만료된 캐시나 빈 값으로 내려간다. */
+    @GetMapping("/dashboard")
+    public ResponseEntity<DashboardResponse> getDashboard(
+            @RequestParam(required = false) final List<String> widgets
+    ) {
+        return ResponseEntity.ok(dashboardService.getDashboard(widgets));
+    }
+
+    /* 일별 매출 추이 (기본 최근 30일) */
+    @GetMapping("/dashboard/sales/daily")
+    public ResponseEntity<List<SalesTrendResponse>> getDailySales(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate endDate
+    ) {
+        return ResponseEntity.ok(salesDashboardService.getDailyTrends(startDate, endDate));
+    }
+
+    /* 월별 매출 추이 (기본 최근 12개월) */
+    @GetMapping("/dashboard/sales/monthly")
+    public ResponseEntity<List<SalesTrendResponse>> getMonthlySales(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") final YearMonth startMonth,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") final YearMonth endMonth
+    ) {
+        return ResponseEntity.ok(salesDashboardService.getMonthlyTrends(startMonth, endMonth));
+    }
+
+    /* 거래처별 주문 (매출 상위) */
+    @GetMapping("/dashboard/sales/clients")
+    public ResponseEntity<List<ClientSalesResponse>> getClientSales(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") final YearMonth month
+    ) {
+        return ResponseEntity.ok(salesDashboardService.getClientSales(month));
+    }
+
+    /* 상품 매출 구성 및 반품률 */
+    @GetMapping("/dashboard/sales/products")
+    public ResponseEntity<List<ProductSalesResponse>> getProductSales(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") final YearMonth month
+    ) {
+        return ResponseEntity.ok(salesDashboardService.getProductSales(month));
+    }
+
+    /* 집계 테이블 재계산 (최초 적재, 과거 데이터 보정용) */
+    @PostMapping("/dashboard/sales/rollups")
+    public ResponseEntity<Void> rebuildSalesRollups(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate endDate
+    ) {
+        salesRollupService.rebuild(startDate, endDate);
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -0,0 +1,196 @@
+package com.hmdandelion.project_1410002.dashboard.service;
+
+import com.hmdandelion.project_1410002.common.paging.Pagination;
+import com.hmdandelion.project_1410002.common.paging.PagingResponse;
+import com.hmdandelion.project_1410002.dashboard.domain.type.DashboardWidgetStatus;
+import com.hmdandelion.project_1410002.dashboard.domain.widget.CachedWidget;
+import com.hmdandelion.project_1410002.dashboard.domain.widget.DashboardWidget;
+import com.hmdandelion.project_1410002.dashboard.dto.response.DashboardResponse;
+import com.hmdandelion.project_1410002.dashboard.dto.response.DashboardWidgetResponse;
+import com.hmdandelion.project_1410002.inventory.dto.stock.response.ReleaseWaitDTO;
+import com.hmdandelion.project_1410002.inventory.service.ReleaseService;
+import com.hmdandelion.project_1410002.inventory.service.StockService;
+import com.hmdandelion.project_1410002.inventory.service.StorageService;
+import com.hmdandelion.project_1410002.production.service.PlanService;
+import com.hmdandelion.project_1410002.production.service.ProductionService;
+import com.hmdandelion.project_1410002.purchase.service.MaterialOrderService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/*
+ * 대시보드 위젯을 한 번에 모아서 응답한다.
+ * 위젯은 전용 스레드 풀에서 동시에 계산하고, 위젯별 제한 시간 안에 끝나지 않으면 만료된 캐시(없으면 빈 값)로 대신한다.
+ * 늦게 끝난 계산도 캐시에는 반영되므로 다음 요청부터는 캐시로 응답한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private static final int POOL_SIZE = 4;
+    private static final int QUEUE_CAPACITY = 32;
+    private static final int LIST_SIZE = 5;
+
+    private final StockService stockService;
+    private final StorageService storageService;
+    private final MaterialOrderService materialOrderService;
+    private final ReleaseService releaseService;
+    private final ProductionService productionService;
+    private final PlanService planService;
+    private final SalesDashboardService salesDashboardService;
+
+    private final Map<String, DashboardWidget> widgets = new LinkedHashMap<>();
+    private final Map<String, CachedWidget> cache = new ConcurrentHashMap<>();
+    /* 같은 위젯을 동시에 여러 번 계산하지 않도록 진행 중인 계산을 공유한다 */
+    private final Map<String, CompletableFuture<CachedWidget>> loading = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                POOL_SIZE, POOL_SIZE,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+
+        register("todayStock", Duration.ofSeconds(30), Duration.ofSeconds(2),
+                stockService::getTodayStockInformation);
+        register("accumulateStock", Duration.ofMinutes(1), Duration.ofSeconds(2),
+                stockService::getAccumulateStock);
+        register("productAccumulateStock", Duration.ofMinutes(5), Duration.ofSeconds(3),
+                stockService::getAccumulateStockByProductCode);
+        register("destroyRatio", Duration.ofMinutes(5), Duration.ofSeconds(3),
+                storageService::getDestroyRatio);
+        register("productDestroyRatio", Duration.ofMinutes(5), Duration.ofSeconds(3),
+                storageService::getProductDestroyRatio);
+        register("materialOrderWeekly", Duration.ofMinutes(1), Duration.ofSeconds(2),
+                materialOrderService::orderWeekly);
+        register("releaseWait", Duration.ofSeconds(30), Duration.ofSeconds(2),
+                this::getReleaseWait);
+        register("productionReports", Duration.ofMinutes(1), Duration.ofSeconds(2),
+                () -> productionService.getProductionReportRecords(
+                        PageRequest.of(0, LIST_SIZE, Sort.by("productionStatusCode").descending()),
+                        null, null, null, null
+                ).getContent());
+        register("upcomingPlans", Duration.ofMinutes(5), Duration.ofSeconds(2),
+                planService::getPlanTodayAfter);
+        register("dailySales", Duration.ofMinutes(10), Duration.ofSeconds(2),
+                () -> salesDashboardService.getDailyTrends(null, null));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /* names 가 비어 있으면 전체 위젯 */
+    public DashboardResponse getDashboard(Collection<String> names) {
+        List<DashboardWidget> targets = names == null || names.isEmpty()
+                ? new ArrayList<>(widgets.values())
+                : names.stream().distinct().map(widgets::get).filter(Objects::nonNull).toList();
+
+        long startedAt = System.nanoTime();
+        Map<String, CompletableFuture<CachedWidget>> futures = new HashMap<>();
+        for (DashboardWidget widget : targets) {
+            CachedWidget cached = cache.get(widget.getName());
+            if (cached == null || !cached.isFresh(widget.getTtl())) {
+                futures.put(widget.getName(), load(widget));
+            }
+        }
+
+        /* 모든 위젯이 동시에 돌고 있으므로 각자 요청 시작 시점부터 자기 제한 시간만큼만 기다린다 */
+        Map<String, DashboardWidgetResponse> responses = new LinkedHashMap<>();
+        for (DashboardWidget widget : targets) {
+            CompletableFuture<CachedWidget> future = futures.get(widget.getName());
+            if (future == null) {
+                responses.put(widget.getName(), DashboardWidgetResponse.of(DashboardWidgetStatus.CACHED, cache.get(widget.getName())));
+                continue;
+            }
+            long remaining = widget.getTimeout().toNanos() - (System.nanoTime() - startedAt);
+            responses.put(widget.getName(), await(widget, future, remaining));
+        }
+
+        return new DashboardResponse(LocalDateTime.now(), responses);
+    }
+
+    private DashboardWidgetResponse await(DashboardWidget widget, CompletableFuture<CachedWidget> future, long remainingNanos) {
+        DashboardWidgetStatus fallback;
+        try {
+            return DashboardWidgetResponse.of(DashboardWidgetStatus.LOADED, future.get(Math.max(0L, remainingNanos), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            fallback = DashboardWidgetStatus.TIMEOUT;
+        } catch (ExecutionException e) {
+            fallback = DashboardWidgetStatus.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fallback = DashboardWidgetStatus.TIMEOUT;
+        }
+
+        CachedWidget stale = cache.get(widget.getName());
+        return stale != null
+                ? DashboardWidgetResponse.of(DashboardWidgetStatus.STALE, stale)
+                : DashboardWidgetResponse.empty(fallback);
+    }
+
+    private CompletableFuture<CachedWidget> load(DashboardWidget widget) {
+        String name = widget.getName();
+        CompletableFuture<CachedWidget> future = new CompletableFuture<>();
+        CompletableFuture<CachedWidget> running = loading.putIfAbsent(name, future);
+        if (running != null) {
+            return running;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    CachedWidget loaded = CachedWidget.of(widget.getProvider().get());
+                    cache.put(name, loaded);
+                    future.complete(loaded);
+                } catch (Exception e) {
+                    log.warn("대시보드 위젯 계산 실패 : {}", name, e);
+                    future.completeExceptionally(e);
+                } finally {
+                    loading.remove(name, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            /* 풀과 대기열이 모두 찼으면 이번 요청은 캐시로만 응답 */
+            loading.remove(name, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void register(String name, Duration ttl, Duration timeout, Supplier<Object> provider) {
+        widgets.put(name, DashboardWidget.of(name, ttl, timeout, provider));
+    }
+
+    private PagingResponse getReleaseWait() {
+        Page<ReleaseWaitDTO> releaseWaits = releaseService.getReleaseWait(1, true);
+        return PagingResponse.of(releaseWaits.getContent(), Pagination.getPagingButtonInfo(releaseWaits));
+    }
+}
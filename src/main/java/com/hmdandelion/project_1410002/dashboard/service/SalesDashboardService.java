@@ -0,0 +1,47 @@
+package com.hmdandelion.project_1410002.dashboard.service;
+
+import com.hmdandelion.project_1410002.dashboard.domain.repository.SalesRollupRepo;
+import com.hmdandelion.project_1410002.dashboard.domain.type.SalesRollupTable;
+import com.hmdandelion.project_1410002.dashboard.dto.response.ClientSalesResponse;
+import com.hmdandelion.project_1410002.dashboard.dto.response.ProductSalesResponse;
+import com.hmdandelion.project_1410002.dashboard.dto.response.SalesTrendResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/* 대시보드 매출 차트. 원본 주문/반품 테이블은 보지 않고 집계 테이블만 조회한다. */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SalesDashboardService {
+
+    private static final int CLIENT_LIMIT = 10;
+
+    private final SalesRollupRepo salesRollupRepo;
+
+    public List<SalesTrendResponse> getDailyTrends(LocalDate startDate, LocalDate endDate) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(29);
+        return salesRollupRepo.findTrends(SalesRollupTable.DAILY_CLIENT, start, end);
+    }
+
+    public List<SalesTrendResponse> getMonthlyTrends(YearMonth startMonth, YearMonth endMonth) {
+        YearMonth end = endMonth != null ? endMonth : YearMonth.now();
+        YearMonth start = startMonth != null ? startMonth : end.minusMonths(11);
+        return salesRollupRepo.findTrends(SalesRollupTable.MONTHLY_CLIENT, start.atDay(1), end.atDay(1));
+    }
+
+    public List<ClientSalesResponse> getClientSales(YearMonth month) {
+        YearMonth target = month != null ? month : YearMonth.now();
+        return salesRollupRepo.findClientSales(target.atDay(1), CLIENT_LIMIT);
+    }
+
+    public List<ProductSalesResponse> getProductSales(YearMonth month) {
+        YearMonth target = month != null ? month : YearMonth.now();
+        return salesRollupRepo.findProductSales(target.atDay(1));
+    }
+}
@@ -0,0 +1,110 @@
+package com.hmdandelion.project_1410002.dashboard.service;
+
+import com.hmdandelion.project_1410002.dashboard.domain.repository.SalesRollupRepo;
+import com.hmdandelion.project_1410002.dashboard.domain.rollup.SalesLine;
+import com.hmdandelion.project_1410002.dashboard.domain.rollup.SalesRollupDelta;
+import com.hmdandelion.project_1410002.dashboard.domain.type.SalesRollupTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/*
+ * 매출 집계 테이블 유지.
+ * 주문/반품 등록, 취소 시 같은 트랜잭션에서 증감분을 바로 반영하고,
+ * 매일 새벽 최근 두 달을 원본에서 다시 계산해 누락된 변경을 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SalesRollupService {
+
+    private final SalesRollupRepo salesRollupRepo;
+
+    public void recordOrders(Collection<Long> orderCodes) {
+        applyOrders(orderCodes, 1);
+    }
+
+    public void cancelOrders(Collection<Long> orderCodes) {
+        applyOrders(orderCodes, -1);
+    }
+
+    public void recordReturns(Collection<Long> returnCodes) {
+        applyReturns(returnCodes, 1);
+    }
+
+    public void cancelReturns(Collection<Long> returnCodes) {
+        applyReturns(returnCodes, -1);
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void catchUp() {
+        LocalDate today = LocalDate.now();
+        rebuild(today.minusMonths(1).withDayOfMonth(1), today);
+        log.info("매출 집계 보정 완료 : {} ~ {}", today.minusMonths(1).withDayOfMonth(1), today);
+    }
+
+    /* 월 집계가 어긋나지 않도록 기간을 월 단위로 넓혀서 다시 계산 */
+    public void rebuild(LocalDate startDate, LocalDate endDate) {
+        LocalDate fromMonth = startDate.withDayOfMonth(1);
+        LocalDate toMonth = endDate.withDayOfMonth(1);
+        LocalDate toDate = endDate.with(TemporalAdjusters.lastDayOfMonth());
+
+        salesRollupRepo.rebuildDaily(SalesRollupTable.DAILY_PRODUCT, fromMonth, toDate);
+        salesRollupRepo.rebuildDaily(SalesRollupTable.DAILY_CLIENT, fromMonth, toDate);
+        salesRollupRepo.rebuildMonthly(SalesRollupTable.MONTHLY_PRODUCT, SalesRollupTable.DAILY_PRODUCT, fromMonth, toMonth);
+        salesRollupRepo.rebuildMonthly(SalesRollupTable.MONTHLY_CLIENT, SalesRollupTable.DAILY_CLIENT, fromMonth, toMonth);
+    }
+
+    private void applyOrders(Collection<Long> orderCodes, int sign) {
+        if (orderCodes == null || orderCodes.isEmpty()) {
+            return;
+        }
+        apply(salesRollupRepo.findOrderLines(orderCodes), sign, true);
+    }
+
+    private void applyReturns(Collection<Long> returnCodes, int sign) {
+        if (returnCodes == null || returnCodes.isEmpty()) {
+            return;
+        }
+        apply(salesRollupRepo.findReturnLines(returnCodes), sign, false);
+    }
+
+    /* 집계 테이블마다 (기간, 키) 로 묶어 테이블당 배치 한 번으로 반영. 건수는 같은 행에서 문서당 한 번만 센다. */
+    private void apply(List<SalesLine> lines, int sign, boolean isOrder) {
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        for (SalesRollupTable table : SalesRollupTable.values()) {
+            Map<LocalDate, Map<Long, SalesRollupDelta>> deltas = new LinkedHashMap<>();
+            Map<SalesRollupDelta, Set<Long>> countedDocuments = new IdentityHashMap<>();
+
+            for (SalesLine line : lines) {
+                LocalDate period = table.toPeriod(line.getOccurredAt().toLocalDate());
+                Long key = table.isProduct() ? line.getProductCode() : line.getClientCode();
+                SalesRollupDelta delta = deltas
+                        .computeIfAbsent(period, date -> new LinkedHashMap<>())
+                        .computeIfAbsent(key, code -> new SalesRollupDelta(period, code));
+
+                long count = countedDocuments.computeIfAbsent(delta, row -> new HashSet<>()).add(line.getDocumentCode()) ? sign : 0;
+                if (isOrder) {
+                    delta.addOrder(count, sign * line.getQuantity(), sign * line.getAmount());
+                } else {
+                    delta.addReturn(count, sign * line.getQuantity(), sign * line.getAmount());
+                }
+            }
+
+            List<SalesRollupDelta> rows = deltas.values().stream()
+                    .flatMap(byKey -> byKey.values().stream())
+                    .toList();
+            salesRollupRepo.upsert(table, rows);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.hmdandelion.project_1410002.employee.service;
 
 import com.hmdandelion.project_1410002.auth.dto.LoginDTO;
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheManager;
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheType;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
 import com.hmdandelion.project_1410002.employee.domain.entity.Employee;
@@ -22,6 +24,7 @@ public class EmployeeService {
 
     private final EmployeeRepo employeeRepo;
     private final PasswordEncoder passwordEncoder;
+    private final ReferenceCacheManager referenceCacheManager;
 
     @Transactional(readOnly = true)
     public Employee findById(Long employeeCode) {
@@ -32,12 +35,12 @@ public class EmployeeService {
 
     @Transactional(readOnly = true)
     public String findDepartmentNameById(Long departmentCode) {
-        return employeeRepo.getDepartmentName(departmentCode);
+        return referenceCacheManager.get(ReferenceCacheType.DEPARTMENT, departmentCode, () -> employeeRepo.getDepartmentName(departmentCode));
     }
 
     @Transactional(readOnly = true)
     public String findPositionNameById(Long positionCode) {
-        return employeeRepo.getPositonName(positionCode);
+        return referenceCacheManager.get(ReferenceCacheType.POSITION, positionCode, () -> employeeRepo.getPositonName(positionCode));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,14 @@
+package com.hmdandelion.project_1410002.inventory.domian.bom;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* BOM 한 줄. specCode 와 childProductCode 중 하나만 값이 있다. */
+@Getter
+@RequiredArgsConstructor
+public class BomComponent {
+    private final Long productCode;
+    private final Long specCode;
+    private final Long childProductCode;
+    private final Long quantity;
+}
@@ -0,0 +1,24 @@
+package com.hmdandelion.project_1410002.inventory.domian.bom;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/* 상품 1개에 드는 원자재 스펙별 총수량. 하위 상품을 끝까지 펼쳐 수량을 곱한 결과 */
+@Getter
+public class BomExplosion {
+
+    private final Long productCode;
+    private final Map<Long, Long> specQuantities;
+
+    private BomExplosion(Long productCode, Map<Long, Long> specQuantities) {
+        this.productCode = productCode;
+        this.specQuantities = Collections.unmodifiableMap(specQuantities);
+    }
+
+    public static BomExplosion of(Long productCode, Map<Long, Long> specQuantities) {
+        return new BomExplosion(productCode, new HashMap<>(specQuantities));
+    }
+}
@@ -0,0 +1,87 @@
+package com.hmdandelion.project_1410002.inventory.domian.bom;
+
+import java.util.*;
+
+/*
+ * BOM 역방향 색인. 스펙 → 직접 쓰는 상품, 하위 상품 → 상위 상품.
+ * 상품별 정방향 구성도 함께 들고 있어 한 상품의 BOM 만 갈아끼울 수 있다. 동기화는 사용하는 쪽에서 한다.
+ */
+public class BomWhereUsedIndex {
+
+    private final Map<Long, Set<Long>> specUsers = new HashMap<>();
+    private final Map<Long, Set<Long>> parentProducts = new HashMap<>();
+    private final Map<Long, List<BomComponent>> components = new HashMap<>();
+
+    public static BomWhereUsedIndex of(Collection<BomComponent> allComponents) {
+        Map<Long, List<BomComponent>> byProduct = new HashMap<>();
+        for (BomComponent component : allComponents) {
+            byProduct.computeIfAbsent(component.getProductCode(), key -> new ArrayList<>()).add(component);
+        }
+
+        BomWhereUsedIndex index = new BomWhereUsedIndex();
+        byProduct.forEach(index::replace);
+        return index;
+    }
+
+    /* productCode 의 BOM 을 newComponents 로 교체. 비어 있으면 색인에서 제거 */
+    public void replace(Long productCode, Collection<BomComponent> newComponents) {
+        List<BomComponent> oldComponents = components.remove(productCode);
+        if (oldComponents != null) {
+            for (BomComponent component : oldComponents) {
+                unlink(specUsers, component.getSpecCode(), productCode);
+                unlink(parentProducts, component.getChildProductCode(), productCode);
+            }
+        }
+        if (newComponents.isEmpty()) {
+            return;
+        }
+
+        components.put(productCode, List.copyOf(newComponents));
+        for (BomComponent component : newComponents) {
+            link(specUsers, component.getSpecCode(), productCode);
+            link(parentProducts, component.getChildProductCode(), productCode);
+        }
+    }
+
+    public boolean isUsed(Long specCode) {
+        return specUsers.containsKey(specCode);
+    }
+
+    public Set<Long> findDirectUsers(Long specCode) {
+        return Set.copyOf(specUsers.getOrDefault(specCode, Set.of()));
+    }
+
+    /* 스펙을 직접 또는 하위 상품을 거쳐 쓰는 모든 상품 */
+    public Set<Long> findAllUsers(Long specCode) {
+        return withAncestors(specUsers.getOrDefault(specCode, Set.of()));
+    }
+
+    /* 주어진 상품과, 그 상품을 하위 상품으로 쓰는 모든 상위 상품 */
+    public Set<Long> withAncestors(Collection<Long> productCodes) {
+        Set<Long> users = new HashSet<>();
+        Deque<Long> queue = new ArrayDeque<>(productCodes);
+        while (!queue.isEmpty()) {
+            Long productCode = queue.poll();
+            if (users.add(productCode)) {
+                queue.addAll(parentProducts.getOrDefault(productCode, Set.of()));
+            }
+        }
+        return users;
+    }
+
+    private void link(Map<Long, Set<Long>> index, Long key, Long productCode) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new HashSet<>()).add(productCode);
+        }
+    }
+
+    private void unlink(Map<Long, Set<Long>> index, Long key, Long productCode) {
+        if (key == null) {
+            return;
+        }
+        Set<Long> users = index.get(key);
+        if (users != null && users.remove(productCode) && users.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.hmdandelion.project_1410002.inventory.domian.cost;
+
+import com.hmdandelion.project_1410002.inventory.domian.type.CostPriceBasis;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+
+/* 상품 1개의 재료비. 주문 이력이 없어 단가를 모르는 스펙은 0 원으로 계산하고 개수만 남긴다. */
+@Getter
+@RequiredArgsConstructor
+public class ProductCostSnapshot {
+    private final Long productCode;
+    private final CostPriceBasis basis;
+    private final BigDecimal materialCost;
+    private final int unpricedSpecCount;
+
+    public static ProductCostSnapshot of(Long productCode, CostPriceBasis basis,
+                                         Map<Long, Long> specQuantities, Map<Long, SpecPrice> prices) {
+        BigDecimal cost = BigDecimal.ZERO;
+        int unpriced = 0;
+        for (Map.Entry<Long, Long> entry : specQuantities.entrySet()) {
+            SpecPrice price = prices.get(entry.getKey());
+            if (price == null) {
+                unpriced++;
+                continue;
+            }
+            cost = cost.add(price.getPrice(basis).multiply(BigDecimal.valueOf(entry.getValue())));
+        }
+        return new ProductCostSnapshot(
+                productCode,
+                basis,
+                cost.setScale(2, RoundingMode.HALF_UP),
+                unpriced
+        );
+    }
+}
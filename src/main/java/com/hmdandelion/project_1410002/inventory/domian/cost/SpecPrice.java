@@ -0,0 +1,32 @@
+package com.hmdandelion.project_1410002.inventory.domian.cost;
+
+import com.hmdandelion.project_1410002.inventory.domian.type.CostPriceBasis;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/* 스펙별 원자재 단가. 삭제되지 않은 원자재 주문 목록 기준 */
+@Getter
+@RequiredArgsConstructor
+public class SpecPrice {
+    /* 평균 단가 저장 자릿수 (tbl_spec_price.average_price DECIMAL(15, 4)) */
+    public static final int AVERAGE_SCALE = 4;
+
+    private final Long specCode;
+    private final long latestPrice;
+    private final BigDecimal averagePrice;
+
+    public BigDecimal getPrice(CostPriceBasis basis) {
+        return basis == CostPriceBasis.LATEST ? BigDecimal.valueOf(latestPrice) : averagePrice;
+    }
+
+    /* 저장된 단가와 비교. 평균은 같은 자릿수로 반올림해 두므로 값만 비교한다. */
+    public boolean hasSamePrices(SpecPrice other) {
+        return other != null
+                && Objects.equals(specCode, other.specCode)
+                && latestPrice == other.latestPrice
+                && averagePrice.compareTo(other.averagePrice) == 0;
+    }
+}
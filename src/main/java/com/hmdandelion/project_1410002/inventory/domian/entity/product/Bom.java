@@ -25,11 +25,17 @@ public class Bom {
     @JoinColumn(name="spec_code")
     private MaterialSpec materialSpec;
 
-    private Bom(Long quantity, Long sequence, Product product, MaterialSpec materialSpec) {
+    /* 반제품(하위 상품)으로 구성되는 경우. materialSpec 과 둘 중 하나만 존재한다. */
+    @ManyToOne(fetch=FetchType.EAGER)
+    @JoinColumn(name="child_product_code")
+    private Product childProduct;
+
+    private Bom(Long quantity, Long sequence, Product product, MaterialSpec materialSpec, Product childProduct) {
         this.quantity = quantity;
         this.sequence = sequence;
         this.product = product;
         this.materialSpec = materialSpec;
+        this.childProduct = childProduct;
     }
 
     public static Bom of(Long quantity, Long sequence, Product product, MaterialSpec materialSpec) {
@@ -37,12 +43,28 @@ public class Bom {
                 quantity,
                 sequence,
                 product,
-                materialSpec
+                materialSpec,
+                null
         );
     }
 
-    public void modify(MaterialSpec materialSpec,Long  quantity, Long sequence) {
+    public static Bom of(Long quantity, Long sequence, Product product, MaterialSpec materialSpec, Product childProduct) {
+        return new Bom(
+                quantity,
+                sequence,
+                product,
+                materialSpec,
+                childProduct
+        );
+    }
+
+    public boolean isSubAssembly() {
+        return childProduct != null;
+    }
+
+    public void modify(MaterialSpec materialSpec, Product childProduct, Long quantity, Long sequence) {
         this.materialSpec = materialSpec;
+        this.childProduct = childProduct;
         this.quantity = quantity;
         this.sequence = sequence;
     }
@@ -0,0 +1,67 @@
+package com.hmdandelion.project_1410002.inventory.domian.repository.product;
+
+import com.hmdandelion.project_1410002.inventory.dto.product.response.ImpactOrderResponse;
+import com.hmdandelion.project_1410002.inventory.dto.product.response.ImpactWorkOrderResponse;
+import com.hmdandelion.project_1410002.production.domain.type.WorkOrderStatusType;
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.hmdandelion.project_1410002.production.domain.entity.QWorkOrder.workOrder;
+import static com.hmdandelion.project_1410002.sales.domain.entity.client.QClient.client;
+import static com.hmdandelion.project_1410002.sales.domain.entity.order.QOrder.order;
+import static com.hmdandelion.project_1410002.sales.domain.entity.order.QOrderProduct.orderProduct;
+
+/* where-used 색인으로 찾은 상품들이 걸린 진행 중 작업지시와 출고 전 주문 */
+@Repository
+@RequiredArgsConstructor
+public class BomImpactRepo {
+
+    private static final List<OrderStatus> OPEN_ORDER_STATUSES = List.of(OrderStatus.ORDER_RECEIVED, OrderStatus.IN_PRODUCTION);
+
+    private final JPAQueryFactory queryFactory;
+
+    public List<ImpactWorkOrderResponse> findOpenWorkOrders(Collection<Long> productCodes) {
+        return queryFactory
+                .select(Projections.constructor(ImpactWorkOrderResponse.class,
+                        workOrder.workOrderCode,
+                        workOrder.productCode,
+                        workOrder.lineCode,
+                        workOrder.workOrderDate,
+                        workOrder.orderedQuantity
+                ))
+                .from(workOrder)
+                .where(
+                        workOrder.productCode.in(productCodes),
+                        workOrder.completionStatus.eq(WorkOrderStatusType.IN_PROGRESS)
+                )
+                .orderBy(workOrder.workOrderDate.asc(), workOrder.workOrderCode.asc())
+                .fetch();
+    }
+
+    public List<ImpactOrderResponse> findOpenOrders(Collection<Long> productCodes) {
+        return queryFactory
+                .select(Projections.constructor(ImpactOrderResponse.class,
+                        order.orderCode,
+                        client.clientName,
+                        order.status,
+                        order.deadline,
+                        orderProduct.productCode,
+                        orderProduct.quantity
+                ))
+                .from(orderProduct)
+                .join(orderProduct.order, order)
+                .leftJoin(client).on(order.clientCode.eq(client.clientCode))
+                .where(
+                        orderProduct.productCode.in(productCodes),
+                        order.status.in(OPEN_ORDER_STATUSES)
+                )
+                .orderBy(order.deadline.asc(), order.orderCode.asc())
+                .fetch();
+    }
+}
@@ -1,5 +1,6 @@
 package com.hmdandelion.project_1410002.inventory.domian.repository.product;
 
+import com.hmdandelion.project_1410002.inventory.domian.bom.BomComponent;
 import com.hmdandelion.project_1410002.inventory.domian.entity.product.Bom;
 
 import com.hmdandelion.project_1410002.inventory.domian.entity.product.Product;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,5 +20,23 @@ public interface BomRepo extends JpaRepository<Bom,Long> {
     List<Bom> findBomByProduct(Product product);
     Page<Bom> findByProductProductCode(Pageable pageable, Long productCode);
     Optional<Bom> findBomByBomCode(Long bomCode);
+
+    @Query("SELECT new com.hmdandelion.project_1410002.inventory.domian.bom.BomComponent(p.productCode, s.specCode, c.productCode, b.quantity)" +
+            " FROM Bom b JOIN b.product p LEFT JOIN b.materialSpec s LEFT JOIN b.childProduct c" +
+            " WHERE p.productCode IN :productCodes")
+    List<BomComponent> findComponents(@Param("productCodes") Collection<Long> productCodes);
+
+    @Query("SELECT new com.hmdandelion.project_1410002.inventory.domian.bom.BomComponent(p.productCode, s.specCode, c.productCode, b.quantity)" +
+            " FROM Bom b JOIN b.product p LEFT JOIN b.materialSpec s LEFT JOIN b.childProduct c")
+    List<BomComponent> findAllComponents();
+
+    boolean existsByMaterialSpecSpecCode(Long specCode);
+
+    /* 주어진 상품을 하위 상품으로 쓰는 상위 상품 */
+    @Query("SELECT DISTINCT b.product.productCode FROM Bom b WHERE b.childProduct.productCode IN :productCodes")
+    List<Long> findParentProductCodes(@Param("productCodes") Collection<Long> productCodes);
+
+    @Query("SELECT DISTINCT b.childProduct.productCode FROM Bom b WHERE b.product.productCode IN :productCodes AND b.childProduct IS NOT NULL")
+    List<Long> findChildProductCodes(@Param("productCodes") Collection<Long> productCodes);
 }
 
@@ -0,0 +1,168 @@
+package com.hmdandelion.project_1410002.inventory.domian.repository.product;
+
+import com.hmdandelion.project_1410002.inventory.domian.cost.ProductCostSnapshot;
+import com.hmdandelion.project_1410002.inventory.domian.cost.SpecPrice;
+import com.hmdandelion.project_1410002.inventory.domian.type.CostPriceBasis;
+import com.hmdandelion.project_1410002.inventory.dto.product.response.ProductCostResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/* 원가 스냅샷, 계산 기준 단가, 재계산 대기열 접근 */
+@Repository
+@RequiredArgsConstructor
+public class ProductCostRepo {
+    private static final int BATCH_SIZE = 500;
+    /* 이동평균에 쓰는 스펙별 최근 주문 목록 수 */
+    private static final int MOVING_AVERAGE_WINDOW = 10;
+
+    private static final RowMapper<ProductCostResponse> COST_MAPPER = (rs, rowNum) -> new ProductCostResponse(
+            rs.getLong(1),
+            CostPriceBasis.valueOf(rs.getString(2)),
+            rs.getBigDecimal(3),
+            rs.getInt(4),
+            rs.getTimestamp(5).toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* 삭제되지 않은 주문 기준. 최근 단가는 주문일이 가장 늦은 주문 목록, 평균은 최근 주문 목록 MOVING_AVERAGE_WINDOW 건의 수량 가중 평균 */
+    public Map<Long, SpecPrice> findCurrentSpecPrices() {
+        Map<Long, SpecPrice> prices = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT spec_code, MAX(CASE WHEN rn = 1 THEN price END), SUM(price * order_quantity), SUM(order_quantity) FROM ("
+                        + " SELECT os.spec_code, os.price, os.order_quantity,"
+                        + " ROW_NUMBER() OVER (PARTITION BY os.spec_code ORDER BY mo.order_date DESC, os.order_spec_code DESC) AS rn"
+                        + " FROM tbl_order_spec os JOIN tbl_material_order mo ON mo.order_code = os.order_code"
+                        + " WHERE mo.is_deleted = FALSE"
+                        + ") recent WHERE rn <= ?"
+                        + " GROUP BY spec_code",
+                (RowCallbackHandler) rs -> {
+                    long specCode = rs.getLong(1);
+                    long latest = rs.getLong(2);
+                    BigDecimal amount = rs.getBigDecimal(3);
+                    long quantity = rs.getLong(4);
+                    BigDecimal average = quantity > 0 && amount != null
+                            ? amount.divide(BigDecimal.valueOf(quantity), SpecPrice.AVERAGE_SCALE, RoundingMode.HALF_UP)
+                            : BigDecimal.valueOf(latest).setScale(SpecPrice.AVERAGE_SCALE);
+                    prices.put(specCode, new SpecPrice(specCode, latest, average));
+                },
+                MOVING_AVERAGE_WINDOW
+        );
+        return prices;
+    }
+
+    public Map<Long, SpecPrice> findStoredSpecPrices() {
+        Map<Long, SpecPrice> prices = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT spec_code, latest_price, average_price FROM tbl_spec_price",
+                (RowCallbackHandler) rs -> prices.put(rs.getLong(1), new SpecPrice(rs.getLong(1), rs.getLong(2), rs.getBigDecimal(3).setScale(SpecPrice.AVERAGE_SCALE)))
+        );
+        return prices;
+    }
+
+    public void saveSpecPrices(Collection<SpecPrice> prices, LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_spec_price (spec_code, latest_price, average_price, updated_at) VALUES (?, ?, ?, ?)"
+                        + " ON DUPLICATE KEY UPDATE latest_price = VALUES(latest_price), average_price = VALUES(average_price),"
+                        + " updated_at = VALUES(updated_at)",
+                new ArrayList<>(prices), BATCH_SIZE, (ps, price) -> {
+                    ps.setLong(1, price.getSpecCode());
+                    ps.setLong(2, price.getLatestPrice());
+                    ps.setBigDecimal(3, price.getAveragePrice());
+                    ps.setTimestamp(4, updatedAt);
+                }
+        );
+    }
+
+    public void deleteSpecPrices(Collection<Long> specCodes) {
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM tbl_spec_price WHERE spec_code = ?",
+                new ArrayList<>(specCodes), BATCH_SIZE, (ps, specCode) -> ps.setLong(1, specCode)
+        );
+    }
+
+    public List<Long> findBomProductCodes() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT product_code FROM tbl_bom", Long.class);
+    }
+
+    /* 같은 상품이 이미 대기 중이면 버전만 올린다 */
+    public void enqueue(Long productCode) {
+        jdbcTemplate.update(
+                "INSERT INTO tbl_cost_rollup_queue (product_code, version) VALUES (?, 1)"
+                        + " ON DUPLICATE KEY UPDATE version = version + 1",
+                productCode
+        );
+    }
+
+    /* 상품 코드별 대기 버전. 동시에 두 번 계산하지 않도록 잠그고 가져온다. */
+    public Map<Long, Long> findQueuedProducts() {
+        Map<Long, Long> queued = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT product_code, version FROM tbl_cost_rollup_queue FOR UPDATE",
+                (RowCallbackHandler) rs -> queued.put(rs.getLong(1), rs.getLong(2))
+        );
+        return queued;
+    }
+
+    /* 읽은 뒤 다시 바뀐(버전이 오른) 상품은 남겨 둔다 */
+    public void dequeue(Map<Long, Long> queued) {
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM tbl_cost_rollup_queue WHERE product_code = ? AND version = ?",
+                new ArrayList<>(queued.entrySet()), BATCH_SIZE, (ps, entry) -> {
+                    ps.setLong(1, entry.getKey());
+                    ps.setLong(2, entry.getValue());
+                }
+        );
+    }
+
+    public void insertSnapshots(Collection<ProductCostSnapshot> snapshots, LocalDateTime now) {
+        Timestamp calculatedAt = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_product_cost_snapshot (product_code, price_basis, material_cost, unpriced_spec_count, calculated_at)"
+                        + " VALUES (?, ?, ?, ?, ?)",
+                new ArrayList<>(snapshots), BATCH_SIZE, (ps, snapshot) -> {
+                    ps.setLong(1, snapshot.getProductCode());
+                    ps.setString(2, snapshot.getBasis().name());
+                    ps.setBigDecimal(3, snapshot.getMaterialCost());
+                    ps.setInt(4, snapshot.getUnpricedSpecCount());
+                    ps.setTimestamp(5, calculatedAt);
+                }
+        );
+    }
+
+    /* 단가 기준별 가장 최근 스냅샷 */
+    public List<ProductCostResponse> findLatestCosts(Long productCode) {
+        return jdbcTemplate.query(
+                "SELECT s.product_code, s.price_basis, s.material_cost, s.unpriced_spec_count, s.calculated_at"
+                        + " FROM tbl_product_cost_snapshot s"
+                        + " WHERE s.snapshot_code IN ("
+                        + "   SELECT MAX(snapshot_code) FROM tbl_product_cost_snapshot WHERE product_code = ? GROUP BY price_basis"
+                        + " )"
+                        + " ORDER BY s.price_basis",
+                COST_MAPPER,
+                productCode
+        );
+    }
+
+    public List<ProductCostResponse> findCostHistory(Long productCode, CostPriceBasis basis, int limit) {
+        return jdbcTemplate.query(
+                "SELECT product_code, price_basis, material_cost, unpriced_spec_count, calculated_at"
+                        + " FROM tbl_product_cost_snapshot"
+                        + " WHERE product_code = ? AND price_basis = ?"
+                        + " ORDER BY snapshot_code DESC"
+                        + " LIMIT ?",
+                COST_MAPPER,
+                productCode, basis.name(), limit
+        );
+    }
+}
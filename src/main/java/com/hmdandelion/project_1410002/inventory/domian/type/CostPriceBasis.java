@@ -0,0 +1,6 @@
+package com.hmdandelion.project_1410002.inventory.domian.type;
+
+/* 원가 산정에 쓰는 원자재 단가 기준. 최근 주문 단가 / 최근 주문 목록 몇 건의 주문 수량 가중 이동평균 단가 */
+public enum CostPriceBasis {
+    LATEST, MOVING_AVERAGE
+}
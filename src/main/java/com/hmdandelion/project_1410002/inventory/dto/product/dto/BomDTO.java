@@ -1,5 +1,6 @@
 package com.hmdandelion.project_1410002.inventory.dto.product.dto;
 
+import com.hmdandelion.project_1410002.inventory.domian.entity.material.MaterialSpec;
 import com.hmdandelion.project_1410002.inventory.domian.entity.product.Bom;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -13,11 +14,23 @@ public class BomDTO {
     private final String categoryName;
     private final Long quantity;
 
+    /* 하위 상품 줄은 상품명을 자재명 자리에 보여준다 */
     public static BomDTO from(Bom bom) {
+        if (bom.isSubAssembly()) {
+            return new BomDTO(
+                    bom.getChildProduct().getProductName(),
+                    null,
+                    bom.getQuantity()
+            );
+        }
+        return of(bom.getMaterialSpec(), bom.getQuantity());
+    }
+
+    public static BomDTO of(MaterialSpec spec, Long quantity) {
         return new BomDTO(
-                bom.getMaterialSpec().getMaterialName(),
-                bom.getMaterialSpec().getCategory().getCategoryName(),
-                bom.getQuantity()
+                spec.getMaterialName(),
+                spec.getCategory().getCategoryName(),
+                quantity
         );
     }
 }
@@ -9,4 +9,5 @@ public class BomCreateRequest {
     private Long quantity;
     private Long sequence;
     private Long specCode;
+    private Long childProductCode;
 }
@@ -9,4 +9,5 @@ public class BomUpdateRequest {
     private Long quantity;
     private Long sequence;
     private Long specCode;
+    private Long childProductCode;
 }
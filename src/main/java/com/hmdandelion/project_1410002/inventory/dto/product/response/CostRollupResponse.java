@@ -0,0 +1,12 @@
+package com.hmdandelion.project_1410002.inventory.dto.product.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CostRollupResponse {
+    private final boolean full;
+    private final Integer changedSpecCount;
+    private final Integer recalculatedProductCount;
+}
@@ -0,0 +1,20 @@
+package com.hmdandelion.project_1410002.inventory.dto.product.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor
+public class ImpactOrderResponse {
+    private final Long orderCode;
+    private final String clientName;
+    private final OrderStatus status;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private final LocalDate deadline;
+    private final Long productCode;
+    private final Integer quantity;
+}
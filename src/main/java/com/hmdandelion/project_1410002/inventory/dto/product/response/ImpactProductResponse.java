@@ -0,0 +1,13 @@
+package com.hmdandelion.project_1410002.inventory.dto.product.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* direct 가 false 면 하위 상품을 거쳐 스펙을 쓰는 상품 */
+@Getter
+@RequiredArgsConstructor
+public class ImpactProductResponse {
+    private final Long productCode;
+    private final String productName;
+    private final boolean direct;
+}
@@ -0,0 +1,18 @@
+package com.hmdandelion.project_1410002.inventory.dto.product.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor
+public class ImpactWorkOrderResponse {
+    private final Long workOrderCode;
+    private final Long productCode;
+    private final Long lineCode;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private final LocalDate workOrderDate;
+    private final Integer orderedQuantity;
+}
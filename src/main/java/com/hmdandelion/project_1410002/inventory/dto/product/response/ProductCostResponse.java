@@ -0,0 +1,20 @@
+package com.hmdandelion.project_1410002.inventory.dto.product.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.hmdandelion.project_1410002.inventory.domian.type.CostPriceBasis;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class ProductCostResponse {
+    private final Long productCode;
+    private final CostPriceBasis priceBasis;
+    private final BigDecimal materialCost;
+    private final Integer unpricedSpecCount;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private final LocalDateTime calculatedAt;
+}
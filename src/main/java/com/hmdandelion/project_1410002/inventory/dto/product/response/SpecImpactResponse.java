@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.inventory.dto.product.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/* 스펙 공급 차질 시 영향 범위 : 스펙을 쓰는 상품, 진행 중 작업지시, 출고 전 주문 */
+@Getter
+@RequiredArgsConstructor
+public class SpecImpactResponse {
+    private final Long specCode;
+    private final List<ImpactProductResponse> products;
+    private final List<ImpactWorkOrderResponse> workOrders;
+    private final List<ImpactOrderResponse> orders;
+}
@@ -4,11 +4,14 @@ import com.hmdandelion.project_1410002.common.paging.Pagination;
 import com.hmdandelion.project_1410002.common.paging.PagingButtonInfo;
 import com.hmdandelion.project_1410002.common.paging.PagingResponse;
 import com.hmdandelion.project_1410002.inventory.domian.entity.product.Bom;
+import com.hmdandelion.project_1410002.inventory.dto.product.dto.BomDTO;
 import com.hmdandelion.project_1410002.inventory.dto.product.request.BomCreateRequest;
 import com.hmdandelion.project_1410002.inventory.dto.product.request.BomRequest;
 import com.hmdandelion.project_1410002.inventory.dto.product.request.BomUpdateRequest;
 import com.hmdandelion.project_1410002.inventory.dto.product.response.BomResponse;
+import com.hmdandelion.project_1410002.inventory.dto.product.response.SpecImpactResponse;
 import com.hmdandelion.project_1410002.inventory.service.BomService;
+import com.hmdandelion.project_1410002.inventory.service.BomWhereUsedService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +26,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BomController {
     private final BomService bomService;
+    private final BomWhereUsedService bomWhereUsedService;
 
     /*BOM 전체 조회*/
     @GetMapping("/bom")
@@ -51,6 +55,26 @@ public class BomController {
         return ResponseEntity.ok(boms);
     }
 
+    /*상품 코드로 하위 상품까지 펼친 원자재 소요량 조회*/
+    @GetMapping("/bom/product/{productCode}/explosion")
+    public ResponseEntity<List<BomDTO>> getExplodedBomByProductCode(
+            @PathVariable final Long productCode
+    ){
+        List<BomDTO> boms = bomService.getExplodedBoms(productCode);
+
+        return ResponseEntity.ok(boms);
+    }
+
+    /*스펙 공급 차질 시 영향 받는 상품, 작업지시, 주문 조회*/
+    @GetMapping("/bom/where-used/{specCode}")
+    public ResponseEntity<SpecImpactResponse> getSpecImpact(
+            @PathVariable final Long specCode
+    ){
+        SpecImpactResponse impact = bomWhereUsedService.getSpecImpact(specCode);
+
+        return ResponseEntity.ok(impact);
+    }
+
     /*상품 코드로 BOM조회(BOM상세 보기) 페이징*/
     @GetMapping("/bom/product/page/{productCode}")
     public ResponseEntity<PagingResponse> getBomByPageProductCode(
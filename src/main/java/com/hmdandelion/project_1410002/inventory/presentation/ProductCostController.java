@@ -0,0 +1,54 @@
+package com.hmdandelion.project_1410002.inventory.presentation;
+
+import com.hmdandelion.project_1410002.inventory.domian.type.CostPriceBasis;
+import com.hmdandelion.project_1410002.inventory.dto.product.response.CostRollupResponse;
+import com.hmdandelion.project_1410002.inventory.dto.product.response.ProductCostResponse;
+import com.hmdandelion.project_1410002.inventory.service.ProductCostService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Validated
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ProductCostController {
+
+    private static final int MAX_HISTORY_SIZE = 365;
+
+    private final ProductCostService productCostService;
+
+    /*단가 기준별 최근 재료비 원가*/
+    @GetMapping("/product/{productCode}/cost")
+    public ResponseEntity<List<ProductCostResponse>> getLatestCosts(
+            @PathVariable final Long productCode
+    ) {
+        List<ProductCostResponse> costs = productCostService.getLatestCosts(productCode);
+        return ResponseEntity.ok(costs);
+    }
+
+    /*재료비 원가 이력 (최근 순)*/
+    @GetMapping("/product/{productCode}/cost/history")
+    public ResponseEntity<List<ProductCostResponse>> getCostHistory(
+            @PathVariable final Long productCode,
+            @RequestParam(defaultValue = "MOVING_AVERAGE") final CostPriceBasis basis,
+            @RequestParam(defaultValue = "30") @Positive @Max(MAX_HISTORY_SIZE) final Integer limit
+    ) {
+        List<ProductCostResponse> costs = productCostService.getCostHistory(productCode, basis, limit);
+        return ResponseEntity.ok(costs);
+    }
+
+    /*원가 재계산. full 이 false 면 단가/BOM 이 바뀐 상품만*/
+    @PostMapping("/product/cost/rollup")
+    public ResponseEntity<CostRollupResponse> rollUp(
+            @RequestParam(defaultValue = "false") final boolean full
+    ) {
+        CostRollupResponse result = productCostService.rollUp(full);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -1,5 +1,6 @@
 package com.hmdandelion.project_1410002.inventory.presentation;
 
+import com.hmdandelion.project_1410002.common.concurrent.SingleFlight;
 import com.hmdandelion.project_1410002.common.paging.Pagination;
 import com.hmdandelion.project_1410002.common.paging.PagingButtonInfo;
 import com.hmdandelion.project_1410002.common.paging.PagingResponse;
@@ -25,6 +26,7 @@ import java.util.List;
 public class ReleaseController {
 
     private final ReleaseService releaseService;
+    private final SingleFlight singleFlight;
 
     /*현재 주문 목록과 함께 출고 가능 여부를 함께 조회*/
     @GetMapping("/release/orders")
@@ -33,7 +35,11 @@ public class ReleaseController {
             @RequestParam(required = false) final Boolean isReleasePossible,
             @RequestParam(defaultValue = "true") final Boolean createdSort
     ){
-        final Page<ReleasePossible> releasePossibles = releaseService.getReleasePossibles(page, isReleasePossible, createdSort);
+        final Page<ReleasePossible> releasePossibles = singleFlight.execute(
+                "release.orders",
+                () -> releaseService.getReleasePossibles(page, isReleasePossible, createdSort),
+                page, isReleasePossible, createdSort
+        );
         final PagingButtonInfo pagingButtonInfo = Pagination.getPagingButtonInfo(releasePossibles);
         final PagingResponse pagingResponse = PagingResponse.of(releasePossibles.getContent(), pagingButtonInfo);
 
@@ -1,5 +1,6 @@
 package com.hmdandelion.project_1410002.inventory.presentation;
 
+import com.hmdandelion.project_1410002.common.concurrent.SingleFlight;
 import com.hmdandelion.project_1410002.inventory.domian.type.AssignmentStatus;
 import com.hmdandelion.project_1410002.inventory.domian.type.StockType;
 import com.hmdandelion.project_1410002.inventory.dto.product.response.AccumulateProduct;
@@ -27,6 +28,7 @@ import java.util.List;
 public class StockController {
 
     private final StockService stockService;
+    private final SingleFlight singleFlight;
 
 
     /*재고 추가*/
@@ -96,7 +98,7 @@ public class StockController {
     public ResponseEntity<List<AccumulateProduct>> getAccumulateStockByProductCode(
 
     ){
-        List<AccumulateProduct> accumulateProducts = stockService.getAccumulateStockByProductCode();
+        List<AccumulateProduct> accumulateProducts = singleFlight.execute("stock.product.accumulate", stockService::getAccumulateStockByProductCode);
         return ResponseEntity.ok(accumulateProducts);
     }
 
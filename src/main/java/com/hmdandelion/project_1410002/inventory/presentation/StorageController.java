@@ -1,5 +1,6 @@
 package com.hmdandelion.project_1410002.inventory.presentation;
 
+import com.hmdandelion.project_1410002.common.concurrent.SingleFlight;
 import com.hmdandelion.project_1410002.common.paging.Pagination;
 import com.hmdandelion.project_1410002.common.paging.PagingButtonInfo;
 import com.hmdandelion.project_1410002.common.paging.PagingResponse;
@@ -24,6 +25,7 @@ import java.util.List;
 public class StorageController {
 
     private final StorageService storageService;
+    private final SingleFlight singleFlight;
 
     /*재고 저장 조회(필터링)*/
     @GetMapping("/storage/filter/{warehouseCode}")
@@ -106,7 +108,7 @@ public class StorageController {
     /*상품별 파손률 계산*/
     @GetMapping("/storage/product/destroy")
     public ResponseEntity<List<ProductDestroyDTO>> getProductDestroyRatio(){
-        List<ProductDestroyDTO> productDestroys = storageService.getProductDestroyRatio();
+        List<ProductDestroyDTO> productDestroys = singleFlight.execute("storage.product.destroy", storageService::getProductDestroyRatio);
         return ResponseEntity.ok(productDestroys);
     }
 
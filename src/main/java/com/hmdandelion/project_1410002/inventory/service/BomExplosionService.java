@@ -0,0 +1,138 @@
+package com.hmdandelion.project_1410002.inventory.service;
+
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheManager;
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheType;
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.inventory.domian.bom.BomComponent;
+import com.hmdandelion.project_1410002.inventory.domian.bom.BomExplosion;
+import com.hmdandelion.project_1410002.inventory.domian.entity.material.MaterialSpec;
+import com.hmdandelion.project_1410002.inventory.domian.repository.material.spec.MaterialSpecRepo;
+import com.hmdandelion.project_1410002.inventory.domian.repository.product.BomRepo;
+import com.hmdandelion.project_1410002.inventory.dto.product.dto.BomDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/*
+ * 다단계 BOM(상품 → 반제품 → 원자재)을 원자재 스펙별 수량으로 펼친다.
+ * 전개 결과는 상품 코드별로 캐시하고, BOM 이 바뀌면 해당 상품과 그 상품을 하위로 쓰는 모든 상위 상품을 비운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BomExplosionService {
+
+    private final BomRepo bomRepo;
+    private final MaterialSpecRepo materialSpecRepo;
+    private final ReferenceCacheManager referenceCacheManager;
+
+    public BomExplosion explode(Long productCode) {
+        return explode(List.of(productCode)).get(productCode);
+    }
+
+    /* 캐시에 없는 상품만 하위 상품까지 단계별로 한 번에 읽는다. 결과에는 함께 펼친 하위 상품이 포함될 수 있다. */
+    public Map<Long, BomExplosion> explode(Collection<Long> productCodes) {
+        if (productCodes.isEmpty()) {
+            return Map.of();
+        }
+        return referenceCacheManager.getAll(ReferenceCacheType.BOM_EXPLOSION, new HashSet<>(productCodes), this::load);
+    }
+
+    /* 화면 표시용 전개 결과 (스펙 코드 순) */
+    public List<BomDTO> getExplodedBoms(Long productCode) {
+        Map<Long, Long> quantities = explode(productCode).getSpecQuantities();
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+        return materialSpecRepo.findAllById(quantities.keySet()).stream()
+                .sorted(Comparator.comparing(MaterialSpec::getSpecCode))
+                .map(spec -> BomDTO.of(spec, quantities.get(spec.getSpecCode())))
+                .toList();
+    }
+
+    /* productCode 의 BOM 에 childProductCode 를 넣었을 때 하위 쪽에서 다시 productCode 가 나오면 순환 */
+    public void checkCycle(Long productCode, Long childProductCode) {
+        Set<Long> visited = new HashSet<>();
+        Collection<Long> frontier = List.of(childProductCode);
+        while (!frontier.isEmpty()) {
+            if (frontier.contains(productCode)) {
+                throw new BadRequestException(ExceptionCode.BAD_REQUEST_BOM_CYCLE);
+            }
+            visited.addAll(frontier);
+            frontier = bomRepo.findChildProductCodes(frontier).stream()
+                    .filter(code -> !visited.contains(code))
+                    .toList();
+        }
+    }
+
+    @Transactional
+    public void evictWithParents(Long productCode) {
+        Set<Long> targets = new HashSet<>();
+        Collection<Long> frontier = List.of(productCode);
+        while (!frontier.isEmpty()) {
+            targets.addAll(frontier);
+            frontier = bomRepo.findParentProductCodes(frontier).stream()
+                    .filter(code -> !targets.contains(code))
+                    .toList();
+        }
+        referenceCacheManager.evict(ReferenceCacheType.BOM_EXPLOSION, targets);
+    }
+
+    private Map<Long, BomExplosion> load(Collection<Long> productCodes) {
+        /* 단계별로 아직 읽지 않은 하위 상품만 다음 조회 대상이 되므로 순환이 있어도 조회는 끝난다 */
+        Map<Long, List<BomComponent>> components = new HashMap<>();
+        Collection<Long> frontier = productCodes;
+        while (!frontier.isEmpty()) {
+            for (Long code : frontier) {
+                components.put(code, new ArrayList<>());
+            }
+            Set<Long> next = new HashSet<>();
+            for (BomComponent component : bomRepo.findComponents(frontier)) {
+                components.get(component.getProductCode()).add(component);
+                Long child = component.getChildProductCode();
+                if (child != null && !components.containsKey(child)) {
+                    next.add(child);
+                }
+            }
+            frontier = next;
+        }
+
+        Map<Long, Map<Long, Long>> resolved = new HashMap<>();
+        for (Long productCode : components.keySet()) {
+            resolve(productCode, components, resolved, new HashSet<>());
+        }
+
+        Map<Long, BomExplosion> explosions = new HashMap<>();
+        resolved.forEach((productCode, quantities) -> explosions.put(productCode, BomExplosion.of(productCode, quantities)));
+        return explosions;
+    }
+
+    private Map<Long, Long> resolve(Long productCode, Map<Long, List<BomComponent>> components,
+                                    Map<Long, Map<Long, Long>> resolved, Set<Long> visiting) {
+        Map<Long, Long> done = resolved.get(productCode);
+        if (done != null) {
+            return done;
+        }
+        if (!visiting.add(productCode)) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_BOM_CYCLE);
+        }
+
+        Map<Long, Long> quantities = new HashMap<>();
+        for (BomComponent component : components.getOrDefault(productCode, List.of())) {
+            long quantity = component.getQuantity() == null ? 0L : component.getQuantity();
+            if (component.getSpecCode() != null) {
+                quantities.merge(component.getSpecCode(), quantity, Long::sum);
+            } else if (component.getChildProductCode() != null) {
+                resolve(component.getChildProductCode(), components, resolved, visiting)
+                        .forEach((specCode, childQuantity) -> quantities.merge(specCode, childQuantity * quantity, Long::sum));
+            }
+        }
+
+        visiting.remove(productCode);
+        resolved.put(productCode, quantities);
+        return quantities;
+    }
+}
@@ -1,6 +1,6 @@
 package com.hmdandelion.project_1410002.inventory.service;
 
-import com.hmdandelion.project_1410002.common.exception.CustomException;
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
 import com.hmdandelion.project_1410002.inventory.domian.entity.material.MaterialSpec;
@@ -10,6 +10,7 @@ import com.hmdandelion.project_1410002.inventory.domian.repository.material.spec
 import com.hmdandelion.project_1410002.inventory.domian.repository.product.BomRepo;
 import com.hmdandelion.project_1410002.inventory.domian.repository.product.BomRepository;
 import com.hmdandelion.project_1410002.inventory.domian.repository.product.ProductRepo;
+import com.hmdandelion.project_1410002.inventory.dto.product.dto.BomDTO;
 import com.hmdandelion.project_1410002.inventory.dto.product.request.BomCreateRequest;
 import com.hmdandelion.project_1410002.inventory.dto.product.request.BomUpdateRequest;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,9 @@ public class BomService {
     private final BomRepo bomRepository;
     private final ProductRepo productRepository;
     private final MaterialSpecRepo materialSpecRepo;
+    private final BomExplosionService bomExplosionService;
+    private final BomWhereUsedService bomWhereUsedService;
+    private final ProductCostService productCostService;
 
     private Pageable getPageable(final Integer page) {
         return PageRequest.of(page - 1, 10, Sort.by("sequence"));
@@ -51,18 +55,29 @@ public class BomService {
         return boms;
     }
 
+    @Transactional(readOnly = true)
+    public List<BomDTO> getExplodedBoms(Long productCode) {
+        if (!productRepository.existsById(productCode)) {
+            throw new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCT_CODE);
+        }
+        return bomExplosionService.getExplodedBoms(productCode);
+    }
+
     public Long saveBomByProductCode(Long productCode, BomCreateRequest bomRequest) {
         Product product = productRepository.findById(productCode).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCT_CODE));
-        MaterialSpec materialSpec = materialSpecRepo.findById(bomRequest.getSpecCode()).orElseThrow(() -> new NotFoundException(ExceptionCode.NO_CONTENTS_MATERIAL_STOCK));
+        MaterialSpec materialSpec = findMaterialSpec(bomRequest.getSpecCode(), bomRequest.getChildProductCode());
+        Product childProduct = findChildProduct(product, bomRequest.getChildProductCode());
 
         Bom newBom = Bom.of(
                 bomRequest.getQuantity(),
                 bomRequest.getSequence(),
                 product,
-                materialSpec
+                materialSpec,
+                childProduct
         );
 
         Bom bom =  bomRepository.save(newBom);
+        bomChanged(productCode);
 
         return bom.getBomCode();
     }
@@ -70,17 +85,47 @@ public class BomService {
 
     public void modifyBomByBomCode(Long bomCode, BomUpdateRequest bomRequest) {
         Bom bom = getBomByBomCode(bomCode);
-        System.out.println("bom = " + bom);
-        MaterialSpec materialSpec = materialSpecRepo.findById(bomRequest.getSpecCode()).orElseThrow(() -> new NotFoundException(ExceptionCode.NO_CONTENTS_MATERIAL_STOCK));
+        MaterialSpec materialSpec = findMaterialSpec(bomRequest.getSpecCode(), bomRequest.getChildProductCode());
+        Product childProduct = findChildProduct(bom.getProduct(), bomRequest.getChildProductCode());
         bom.modify(
                 materialSpec,
+                childProduct,
                 bomRequest.getQuantity(),
                 bomRequest.getSequence()
         );
+        bomChanged(bom.getProduct().getProductCode());
     }
 
     public void deleteByBomCode(Long bomCode) {
-        bomRepository.deleteById(bomCode);
+        Bom bom = getBomByBomCode(bomCode);
+        bomRepository.delete(bom);
+        bomChanged(bom.getProduct().getProductCode());
+    }
+
+    private void bomChanged(Long productCode) {
+        bomExplosionService.evictWithParents(productCode);
+        bomWhereUsedService.markChanged(productCode);
+        productCostService.markBomChanged(productCode);
+    }
+
+    /* 원자재 스펙과 하위 상품 중 정확히 하나만 지정 */
+    private MaterialSpec findMaterialSpec(Long specCode, Long childProductCode) {
+        if ((specCode == null) == (childProductCode == null)) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_BOM_COMPONENT);
+        }
+        if (specCode == null) {
+            return null;
+        }
+        return materialSpecRepo.findById(specCode).orElseThrow(() -> new NotFoundException(ExceptionCode.NO_CONTENTS_MATERIAL_STOCK));
+    }
+
+    private Product findChildProduct(Product product, Long childProductCode) {
+        if (childProductCode == null) {
+            return null;
+        }
+        Product childProduct = productRepository.findById(childProductCode).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCT_CODE));
+        bomExplosionService.checkCycle(product.getProductCode(), childProductCode);
+        return childProduct;
     }
 
     public Page<Bom> getBomByPageProductCode(Long productCode, Integer page) {
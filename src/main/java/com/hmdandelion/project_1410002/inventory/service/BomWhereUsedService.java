@@ -0,0 +1,125 @@
+package com.hmdandelion.project_1410002.inventory.service;
+
+import com.hmdandelion.project_1410002.common.exception.NotFoundException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.common.reference.ReferenceCodes;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNameResolver;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNames;
+import com.hmdandelion.project_1410002.inventory.domian.bom.BomComponent;
+import com.hmdandelion.project_1410002.inventory.domian.bom.BomWhereUsedIndex;
+import com.hmdandelion.project_1410002.inventory.domian.repository.material.spec.MaterialSpecRepo;
+import com.hmdandelion.project_1410002.inventory.domian.repository.product.BomImpactRepo;
+import com.hmdandelion.project_1410002.inventory.domian.repository.product.BomRepo;
+import com.hmdandelion.project_1410002.inventory.dto.product.response.ImpactProductResponse;
+import com.hmdandelion.project_1410002.inventory.dto.product.response.SpecImpactResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 스펙 → 상품(하위 상품 경유 포함) where-used 색인을 메모리에 두고 공급 차질 영향 범위를 조회한다.
+ * 최초 조회 때 전체 BOM 을 적재하고, 이후에는 BOM 이 바뀐 상품만 커밋 후 다시 적재한다.
+ * 다른 노드에서의 변경은 통보되지 않으므로 STALE_AFTER 가 지나면 전체를 다시 적재한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BomWhereUsedService {
+
+    private static final long STALE_AFTER = TimeUnit.MINUTES.toNanos(5);
+
+    private final BomRepo bomRepo;
+    private final BomImpactRepo bomImpactRepo;
+    private final MaterialSpecRepo materialSpecRepo;
+    private final ReferenceNameResolver referenceNameResolver;
+
+    private final Set<Long> dirtyProductCodes = ConcurrentHashMap.newKeySet();
+    private BomWhereUsedIndex index;
+    private long loadedAt;
+
+    @Transactional(readOnly = true)
+    public SpecImpactResponse getSpecImpact(Long specCode) {
+        if (!materialSpecRepo.existsById(specCode)) {
+            throw new NotFoundException(ExceptionCode.NOT_FOUND_SPEC_CODE);
+        }
+
+        Set<Long> directUsers;
+        Set<Long> allUsers;
+        synchronized (this) {
+            BomWhereUsedIndex current = currentIndex();
+            directUsers = current.findDirectUsers(specCode);
+            allUsers = current.findAllUsers(specCode);
+        }
+        if (allUsers.isEmpty()) {
+            return new SpecImpactResponse(specCode, List.of(), List.of(), List.of());
+        }
+
+        ReferenceCodes codes = new ReferenceCodes();
+        allUsers.forEach(codes::addProduct);
+        ReferenceNames names = referenceNameResolver.resolve(codes);
+
+        List<ImpactProductResponse> products = allUsers.stream()
+                .sorted()
+                .map(productCode -> new ImpactProductResponse(
+                        productCode,
+                        names.productName(productCode),
+                        directUsers.contains(productCode)
+                ))
+                .toList();
+
+        return new SpecImpactResponse(
+                specCode,
+                products,
+                bomImpactRepo.findOpenWorkOrders(allUsers),
+                bomImpactRepo.findOpenOrders(allUsers)
+        );
+    }
+
+    /* 스펙 단가나 상품 BOM 이 바뀌었을 때 원가가 달라지는 상품 (상위 상품 포함) */
+    public synchronized Set<Long> findAffectedProducts(Collection<Long> specCodes, Collection<Long> productCodes) {
+        BomWhereUsedIndex current = currentIndex();
+        Set<Long> seeds = new HashSet<>(productCodes);
+        for (Long specCode : specCodes) {
+            seeds.addAll(current.findDirectUsers(specCode));
+        }
+        return current.withAncestors(seeds);
+    }
+
+    /* BOM 변경 서비스가 호출. 커밋된 뒤에 해당 상품을 다시 적재하도록 표시한다. */
+    public void markChanged(Long productCode) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dirtyProductCodes.add(productCode);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirtyProductCodes.add(productCode);
+            }
+        });
+    }
+
+    private BomWhereUsedIndex currentIndex() {
+        if (index == null || System.nanoTime() - loadedAt > STALE_AFTER) {
+            dirtyProductCodes.clear();
+            index = BomWhereUsedIndex.of(bomRepo.findAllComponents());
+            loadedAt = System.nanoTime();
+            return index;
+        }
+        if (!dirtyProductCodes.isEmpty()) {
+            List<Long> targets = new ArrayList<>(dirtyProductCodes);
+            dirtyProductCodes.removeAll(targets);
+
+            Map<Long, List<BomComponent>> reloaded = new HashMap<>();
+            targets.forEach(productCode -> reloaded.put(productCode, new ArrayList<>()));
+            bomRepo.findComponents(targets).forEach(component -> reloaded.get(component.getProductCode()).add(component));
+            reloaded.forEach(index::replace);
+        }
+        return index;
+    }
+}
@@ -1,5 +1,7 @@
 package com.hmdandelion.project_1410002.inventory.service;
 
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheManager;
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheType;
 import com.hmdandelion.project_1410002.common.exception.BadRequestException;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
@@ -16,10 +18,12 @@ import java.util.List;
 public class MaterialSpecCategoryService {
 
     private final MaterialSpecCategoryRepo materialSpecCategoryRepo;
+    private final ReferenceCacheManager referenceCacheManager;
 
     public void save(String newCategoryName) {
         SpecCategory newCategory = SpecCategory.of(newCategoryName);
         materialSpecCategoryRepo.save(newCategory);
+        referenceCacheManager.evict(ReferenceCacheType.SPEC_CATEGORY);
     }
 
     public SpecCategory findById(final long categoryCode) {
@@ -31,12 +35,13 @@ public class MaterialSpecCategoryService {
     public void deleteById(Long categoryCode) {
         if (materialSpecCategoryRepo.isCanDelete(categoryCode)) {
             materialSpecCategoryRepo.deleteById(categoryCode);
+            referenceCacheManager.evict(ReferenceCacheType.SPEC_CATEGORY);
         } else {
             throw new BadRequestException(ExceptionCode.BAD_REQUEST_CATEGORY_EXIST);
         }
     }
 
     public List<SpecCategory> findAll() {
-        return materialSpecCategoryRepo.findAll();
+        return referenceCacheManager.get(ReferenceCacheType.SPEC_CATEGORY, "all", () -> List.copyOf(materialSpecCategoryRepo.findAll()));
     }
 }
@@ -6,6 +6,7 @@ import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
 import com.hmdandelion.project_1410002.inventory.domian.entity.material.MaterialSpec;
 import com.hmdandelion.project_1410002.inventory.domian.entity.material.SpecCategory;
 import com.hmdandelion.project_1410002.inventory.domian.repository.material.spec.MaterialSpecRepo;
+import com.hmdandelion.project_1410002.inventory.domian.repository.product.BomRepo;
 import com.hmdandelion.project_1410002.inventory.dto.material.dto.MaterialSpecDTO;
 import com.hmdandelion.project_1410002.inventory.dto.material.request.MaterialSpecCreateRequest;
 import com.hmdandelion.project_1410002.inventory.dto.material.request.MaterialSpecModifyRequest;
@@ -28,6 +29,7 @@ public class MaterialSpecService {
 
     private final MaterialSpecRepo materialSpecRepo;
     private final MaterialSpecCategoryService materialSpecCategoryService;
+    private final BomRepo bomRepo;
     @Transactional
     public Page<MaterialSpecDTO> searchMaterialSpec(Pageable pageable, String materialName) {
         return materialSpecRepo.searchMaterialSpec(pageable, materialName).map(MaterialSpecDTO::from);
@@ -58,6 +60,9 @@ public class MaterialSpecService {
         if (useThisSpec > 0) {
             throw new BadRequestException(ExceptionCode.BAD_REQUEST_SPEC_EXIST);
         }
+        if (bomRepo.existsByMaterialSpecSpecCode(specCode)) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_SPEC_IN_BOM);
+        }
         long affectRows = materialSpecRepo.removeByList(list);
         return affectRows + "의 콘텐츠가 삭제되었습니다.";
     }
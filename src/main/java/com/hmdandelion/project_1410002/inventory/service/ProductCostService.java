@@ -0,0 +1,107 @@
+package com.hmdandelion.project_1410002.inventory.service;
+
+import com.hmdandelion.project_1410002.common.exception.NotFoundException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.inventory.domian.bom.BomExplosion;
+import com.hmdandelion.project_1410002.inventory.domian.cost.ProductCostSnapshot;
+import com.hmdandelion.project_1410002.inventory.domian.cost.SpecPrice;
+import com.hmdandelion.project_1410002.inventory.domian.repository.product.ProductCostRepo;
+import com.hmdandelion.project_1410002.inventory.domian.repository.product.ProductRepo;
+import com.hmdandelion.project_1410002.inventory.domian.type.CostPriceBasis;
+import com.hmdandelion.project_1410002.inventory.dto.product.response.CostRollupResponse;
+import com.hmdandelion.project_1410002.inventory.dto.product.response.ProductCostResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+ * 다단계 BOM 전개 결과와 스펙별 원자재 단가로 상품 재료비를 계산해 스냅샷으로 쌓는다.
+ * 증분 계산은 마지막 계산 이후 단가가 바뀐 스펙을 쓰는 상품과 BOM 이 바뀐 상품(대기열), 그 상위 상품만 다시 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProductCostService {
+
+    private final ProductCostRepo productCostRepo;
+    private final ProductRepo productRepo;
+    private final BomExplosionService bomExplosionService;
+    private final BomWhereUsedService bomWhereUsedService;
+
+    @Transactional(readOnly = true)
+    public List<ProductCostResponse> getLatestCosts(Long productCode) {
+        checkProduct(productCode);
+        return productCostRepo.findLatestCosts(productCode);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductCostResponse> getCostHistory(Long productCode, CostPriceBasis basis, int limit) {
+        checkProduct(productCode);
+        return productCostRepo.findCostHistory(productCode, basis, limit);
+    }
+
+    /* BOM 변경 서비스가 같은 트랜잭션에서 호출 */
+    public void markBomChanged(Long productCode) {
+        productCostRepo.enqueue(productCode);
+    }
+
+    @Scheduled(cron = "0 50 3 * * *")
+    public void rollUpChanged() {
+        CostRollupResponse result = rollUp(false);
+        log.info("상품 원가 재계산 완료 : 단가 변경 스펙 {}개, 상품 {}개", result.getChangedSpecCount(), result.getRecalculatedProductCount());
+    }
+
+    public CostRollupResponse rollUp(boolean full) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, SpecPrice> currentPrices = productCostRepo.findCurrentSpecPrices();
+        Map<Long, SpecPrice> storedPrices = productCostRepo.findStoredSpecPrices();
+
+        List<SpecPrice> changedPrices = currentPrices.values().stream()
+                .filter(price -> !price.hasSamePrices(storedPrices.get(price.getSpecCode())))
+                .toList();
+        /* 주문이 모두 삭제돼 단가가 없어진 스펙 */
+        List<Long> removedSpecCodes = storedPrices.keySet().stream()
+                .filter(specCode -> !currentPrices.containsKey(specCode))
+                .toList();
+
+        Set<Long> changedSpecCodes = new HashSet<>(removedSpecCodes);
+        changedPrices.forEach(price -> changedSpecCodes.add(price.getSpecCode()));
+
+        Map<Long, Long> queued = productCostRepo.findQueuedProducts();
+        Set<Long> targets = full
+                ? new HashSet<>(productCostRepo.findBomProductCodes())
+                : bomWhereUsedService.findAffectedProducts(changedSpecCodes, queued.keySet());
+        if (full) {
+            targets.addAll(queued.keySet());
+        }
+
+        Map<Long, BomExplosion> explosions = bomExplosionService.explode(targets);
+        List<ProductCostSnapshot> snapshots = new ArrayList<>(targets.size() * CostPriceBasis.values().length);
+        for (Long productCode : targets) {
+            BomExplosion explosion = explosions.get(productCode);
+            Map<Long, Long> specQuantities = explosion == null ? Map.of() : explosion.getSpecQuantities();
+            for (CostPriceBasis basis : CostPriceBasis.values()) {
+                snapshots.add(ProductCostSnapshot.of(productCode, basis, specQuantities, currentPrices));
+            }
+        }
+
+        productCostRepo.insertSnapshots(snapshots, now);
+        productCostRepo.saveSpecPrices(changedPrices, now);
+        productCostRepo.deleteSpecPrices(removedSpecCodes);
+        productCostRepo.dequeue(queued);
+
+        return new CostRollupResponse(full, changedSpecCodes.size(), targets.size());
+    }
+
+    private void checkProduct(Long productCode) {
+        if (!productRepo.existsById(productCode)) {
+            throw new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCT_CODE);
+        }
+    }
+}
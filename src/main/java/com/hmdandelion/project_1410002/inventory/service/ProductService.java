@@ -1,5 +1,7 @@
 package com.hmdandelion.project_1410002.inventory.service;
 
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheManager;
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheType;
 import com.hmdandelion.project_1410002.common.exception.CustomException;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
@@ -40,6 +42,7 @@ public class ProductService {
     private final OrderProductRepo orderProductRepo;
     private final OrderRepo orderRepo;
     private final ClientRepo clientRepo;
+    private final ReferenceCacheManager referenceCacheManager;
 
     private Pageable getPageable(final Integer page) {
         return PageRequest.of(page - 1, 10, Sort.by("productCode").descending());
@@ -59,9 +62,11 @@ public class ProductService {
 
     @Transactional(readOnly = true)
     public ProductsResponse getProduct(Long productCode) {
-        Product product = productRepo.findById(productCode)
-                                           .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCT_CODE));
-        return ProductsResponse.from(product);
+        return referenceCacheManager.get(ReferenceCacheType.PRODUCT, productCode, () -> {
+            Product product = productRepo.findById(productCode)
+                                               .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCT_CODE));
+            return ProductsResponse.from(product);
+        });
     }
 
     public Long save(ProductRequest productRequest) {
@@ -85,12 +90,14 @@ public class ProductService {
                 productRequest.getPrice(),
                 productRequest.getUnit()
         );
+        referenceCacheManager.evict(ReferenceCacheType.PRODUCT);
     }
 
     public void updateStatus(Long productCode) {
         Product product = productRepo.findById(productCode)
                                            .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCT_CODE));
         product.updateStatus(product);
+        referenceCacheManager.evict(ReferenceCacheType.PRODUCT);
     }
     @Transactional(readOnly = true)
     public Page<Product> searchProducts(Pageable pageable, String productName, String unit, ProductStatus status,Boolean createdAtSort) {
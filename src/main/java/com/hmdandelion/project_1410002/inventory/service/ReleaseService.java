@@ -27,6 +27,8 @@ import com.hmdandelion.project_1410002.sales.domain.repository.client.ClientRepo
 import com.hmdandelion.project_1410002.sales.domain.repository.order.OrderProductRepo;
 import com.hmdandelion.project_1410002.sales.domain.repository.order.OrderRepo;
 import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import com.hmdandelion.project_1410002.sales.service.AvailableToPromiseService;
+import com.hmdandelion.project_1410002.sales.service.ClientExposureService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
@@ -59,6 +61,8 @@ public class ReleaseService {
     private final ClientRepo clientRepo;
     private final ProductRepo productRepo;
     private final ReleaseChangeRepo releaseChangeRepo;
+    private final AvailableToPromiseService availableToPromiseService;
+    private final ClientExposureService clientExposureService;
 
     private Pageable getPageable(final Integer page, final Boolean createdSort) {
         Sort sort = createdSort ? Sort.by("dDay").ascending() : Sort.by("dDay").descending();
@@ -295,6 +299,7 @@ public class ReleaseService {
 
         }
         order.modifyStatus(OrderStatus.WAIT_SHIPPING);
+        availableToPromiseService.invalidate(orderProducts.stream().map(OrderProduct::getProductCode).toList());
 
         Long releaseCode = releaseRepo.save(newRelease).getReleaseCode();
 
@@ -431,6 +436,7 @@ public class ReleaseService {
 
         Order order = orderRepo.findByOrderCodeAndStatus(orderCode,WAIT_SHIPPING).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_ORDER_CODE));
         order.modifyStatus(OrderStatus.SHIPPING);
+        clientExposureService.changeOrderStatus(List.of(orderCode), WAIT_SHIPPING, OrderStatus.SHIPPING);
         releaseChangeRepo.save(releaseChange);
     }
     @Transactional(readOnly = true)
@@ -524,6 +530,7 @@ public class ReleaseService {
 
         Order order = orderRepo.findByOrderCodeAndStatus(orderCode,OrderStatus.SHIPPING).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_ORDER_CODE));
         order.orderCompleteWork(COMPLETED,LocalDateTime.now());
+        clientExposureService.changeOrderStatus(List.of(orderCode), OrderStatus.SHIPPING, COMPLETED);
 
     }
     @Transactional(readOnly = true)
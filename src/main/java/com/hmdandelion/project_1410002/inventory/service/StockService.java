@@ -18,6 +18,7 @@ import com.hmdandelion.project_1410002.inventory.dto.stock.request.StockUpdateRe
 import com.hmdandelion.project_1410002.inventory.dto.stock.response.LeftStockDTO;
 import com.hmdandelion.project_1410002.inventory.dto.stock.response.StockProductDTO;
 import com.hmdandelion.project_1410002.inventory.dto.stock.response.TodayStockDTO;
+import com.hmdandelion.project_1410002.sales.service.AvailableToPromiseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -38,6 +39,7 @@ import java.util.List;
 public class StockService {
     private final StockRepo stockRepo;
     private final ProductRepo productRepo;
+    private final AvailableToPromiseService availableToPromiseService;
     private final StorageRepo storageRepo;
     private Pageable getPageable(final Integer page) {
         return PageRequest.of(page - 1, 10, Sort.by("productCode"));
@@ -53,6 +55,7 @@ public class StockService {
             product
         );
         Stock stock = stockRepo.save(newStock);
+        availableToPromiseService.invalidate(product.getProductCode());
         return stock.getStockCode();
     }
     @Transactional(readOnly = true)
@@ -66,6 +69,7 @@ public class StockService {
             throw new CustomException(ExceptionCode.BAD_REQUEST_DELETED_STOCK);
         }
         Product product = productRepo.findById(stockUpdateRequest.getProductCode()).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCT_CODE));
+        availableToPromiseService.invalidate(List.of(stock.getProduct().getProductCode(), product.getProductCode()));
 
         stock.modify(
                 product,
@@ -83,6 +87,7 @@ public class StockService {
             throw new CustomException(ExceptionCode.ALREADY_ASSIGNED_STOCK);
         }
         stockRepo.deleteById(stockCode);
+        availableToPromiseService.invalidate(stock.getProduct().getProductCode());
     }
     @Transactional(readOnly = true)
     public Integer getAccumulateStock() {
@@ -17,6 +17,7 @@ import com.hmdandelion.project_1410002.inventory.domian.type.AssignmentStatus;
 import com.hmdandelion.project_1410002.inventory.dto.stock.request.StorageCreateRequest;
 import com.hmdandelion.project_1410002.inventory.dto.stock.request.StorageDestroyRequest;
 import com.hmdandelion.project_1410002.inventory.dto.stock.response.*;
+import com.hmdandelion.project_1410002.sales.service.AvailableToPromiseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
@@ -39,6 +40,7 @@ public class StorageService {
     private final StockRepo stockRepo;
     private final WarehouseRepo warehouseRepo;
     private final ProductRepo productRepo;
+    private final AvailableToPromiseService availableToPromiseService;
 
     private Pageable getPageable(final Integer page) {
         return PageRequest.of(page - 1, 10, Sort.by("productCode"));
@@ -106,6 +108,7 @@ public class StorageService {
         }
         System.out.println("change = " + change);
         stock.modifyStatus(change);
+        availableToPromiseService.invalidate(stock.getProduct().getProductCode());
         return newStorage.getStorageCode();
     }
 
@@ -143,6 +146,7 @@ public class StorageService {
             change=PARTIALLY_ASSIGNED;
         }
         stock.modifyStatus(change);
+        availableToPromiseService.invalidate(stock.getProduct().getProductCode());
     }
     @Transactional(readOnly = true)
     public List<StorageStockDTO> getStorageStockByStockCode(Long stockCode) {
@@ -243,6 +247,7 @@ public class StorageService {
         if(standardSum == 0){
             stock.modifyIsDelete();
         }
+        availableToPromiseService.invalidate(stock.getProduct().getProductCode());
     }
 
     public StorageStockWarehouseDTO getStorageByStorageCode(Long storageCode) {
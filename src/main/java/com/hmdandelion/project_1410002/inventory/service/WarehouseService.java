@@ -1,5 +1,7 @@
 package com.hmdandelion.project_1410002.inventory.service;
 
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheManager;
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheType;
 import com.hmdandelion.project_1410002.common.exception.CustomException;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
@@ -30,6 +32,7 @@ public class WarehouseService {
 
     private final WarehouseRepo warehouseRepository;
     private final EmployeeRepo employeeRepo;
+    private final ReferenceCacheManager referenceCacheManager;
 
     private Pageable getPageable(final Integer page) {
         return PageRequest.of(page - 1, 10, Sort.by("warehouseCode"));
@@ -44,10 +47,15 @@ public class WarehouseService {
         );
 
         Warehouse warehouse = warehouseRepository.save(newWarehouse);
+        referenceCacheManager.evict(ReferenceCacheType.WAREHOUSE);
         return warehouse.getWarehouseCode();
     }
     @Transactional(readOnly = true)
     public List<WarehouseResponse> getWarehouses() {
+        return referenceCacheManager.get(ReferenceCacheType.WAREHOUSE, "all", this::findWarehouses);
+    }
+
+    private List<WarehouseResponse> findWarehouses() {
         List<WarehouseResponse> resultList = new ArrayList<>();
 
         List<Warehouse> warehouses  = warehouseRepository.findAll();
@@ -60,7 +68,7 @@ public class WarehouseService {
             );
             resultList.add(warehouseResponse);
         }
-        return resultList;
+        return List.copyOf(resultList);
     }
     @Transactional(readOnly = true)
     public WarehouseResponse getWarehouse(Long warehouseCode) {
@@ -89,11 +97,12 @@ public class WarehouseService {
                 warehouseUpdateRequest.getVolume(),
                 warehouseUpdateRequest.getEmployeeCode()
         );
-
+        referenceCacheManager.evict(ReferenceCacheType.WAREHOUSE);
     }
 
     public void delete(Long warehouseCode) {
         Warehouse warehouse = warehouseRepository.findById(warehouseCode).orElseThrow(() -> new CustomException(ExceptionCode.NOT_FOUND_WAREHOUSE_CODE));
         warehouseRepository.delete(warehouse);
+        referenceCacheManager.evict(ReferenceCacheType.WAREHOUSE);
     }
 }
@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.production.domain.calendar;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor
+public class CalendarWorkOrder {
+    private final Long workOrderCode;
+    private final Long lineCode;
+    private final Long productCode;
+    private final LocalDate workOrderDate;
+    private final Integer orderedQuantity;
+}
@@ -0,0 +1,111 @@
+package com.hmdandelion.project_1410002.production.domain.calendar;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/*
+ * 날짜 구간(시작일, 종료일 포함)을 담는 읽기 전용 구간 트리.
+ * 시작일 순으로 정렬한 배열을 가운데를 루트로 하는 균형 트리로 보고, 노드마다 하위 트리의 최대 종료일을 둔다.
+ * 조회는 O(log n + 결과 수)이고, 변경이 있으면 새로 만든다(계획/작업지시 변경은 조회보다 훨씬 드물다).
+ */
+public final class IntervalTree<T> {
+
+    private static final IntervalTree<?> EMPTY = new IntervalTree<>(new long[0], new long[0], new long[0], new Object[0]);
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final Object[] values;
+
+    private IntervalTree(long[] starts, long[] ends, long[] maxEnds, Object[] values) {
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = maxEnds;
+        this.values = values;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> IntervalTree<T> empty() {
+        return (IntervalTree<T>) EMPTY;
+    }
+
+    public static <T> IntervalTree<T> of(Collection<T> items, Function<T, LocalDate> start, Function<T, LocalDate> end) {
+        if (items.isEmpty()) {
+            return empty();
+        }
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(start));
+
+        int size = sorted.size();
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            T item = sorted.get(i);
+            starts[i] = start.apply(item).toEpochDay();
+            ends[i] = end.apply(item).toEpochDay();
+            values[i] = item;
+        }
+        long[] maxEnds = new long[size];
+        fillMaxEnds(ends, maxEnds, 0, size);
+        return new IntervalTree<>(starts, ends, maxEnds, values);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /* [from, to] 와 하루라도 겹치는 구간, 시작일 순 */
+    public List<T> findOverlapping(LocalDate from, LocalDate to) {
+        List<T> found = new ArrayList<>();
+        collect(0, values.length, from.toEpochDay(), to.toEpochDay(), item -> {
+            found.add(item);
+            return false;
+        });
+        return found;
+    }
+
+    /* 겹치는 구간 중 조건을 만족하는 것이 하나라도 있으면 바로 끝낸다 */
+    public boolean anyOverlapping(LocalDate from, LocalDate to, Predicate<T> condition) {
+        return collect(0, values.length, from.toEpochDay(), to.toEpochDay(), condition);
+    }
+
+    private static long fillMaxEnds(long[] ends, long[] maxEnds, int low, int high) {
+        if (low >= high) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long max = Math.max(ends[mid], Math.max(
+                fillMaxEnds(ends, maxEnds, low, mid),
+                fillMaxEnds(ends, maxEnds, mid + 1, high)
+        ));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    /* 중위 순회라 결과가 시작일 순으로 나온다. visitor 가 true 를 돌려주면 중단 */
+    @SuppressWarnings("unchecked")
+    private boolean collect(int low, int high, long from, long to, Predicate<T> visitor) {
+        if (low >= high) {
+            return false;
+        }
+        int mid = (low + high) >>> 1;
+        /* 하위 트리의 모든 구간이 from 전에 끝난다 */
+        if (maxEnds[mid] < from) {
+            return false;
+        }
+        if (collect(low, mid, from, to, visitor)) {
+            return true;
+        }
+        /* mid 와 오른쪽 하위 트리는 모두 to 이후에 시작한다 */
+        if (starts[mid] > to) {
+            return false;
+        }
+        if (ends[mid] >= from && visitor.test((T) values[mid])) {
+            return true;
+        }
+        return collect(mid + 1, high, from, to, visitor);
+    }
+}
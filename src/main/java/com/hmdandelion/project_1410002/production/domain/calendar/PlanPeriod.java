@@ -0,0 +1,14 @@
+package com.hmdandelion.project_1410002.production.domain.calendar;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor
+public class PlanPeriod {
+    private final Long planCode;
+    private final LocalDate startAt;
+    private final LocalDate endAt;
+}
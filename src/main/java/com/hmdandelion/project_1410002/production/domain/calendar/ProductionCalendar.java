@@ -0,0 +1,44 @@
+package com.hmdandelion.project_1410002.production.domain.calendar;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/* 생산계획 기간과 라인별 작업지시 일자를 구간 트리로 묶은 읽기 전용 스냅샷 */
+public final class ProductionCalendar {
+
+    public static final ProductionCalendar EMPTY = new ProductionCalendar(IntervalTree.empty(), Map.of());
+
+    private final IntervalTree<PlanPeriod> plans;
+    private final Map<Long, IntervalTree<CalendarWorkOrder>> workOrdersByLine;
+
+    private ProductionCalendar(IntervalTree<PlanPeriod> plans, Map<Long, IntervalTree<CalendarWorkOrder>> workOrdersByLine) {
+        this.plans = plans;
+        this.workOrdersByLine = workOrdersByLine;
+    }
+
+    public static ProductionCalendar of(Collection<PlanPeriod> plans, Collection<CalendarWorkOrder> workOrders) {
+        Map<Long, IntervalTree<CalendarWorkOrder>> workOrdersByLine = new HashMap<>();
+        workOrders.stream()
+                .collect(Collectors.groupingBy(CalendarWorkOrder::getLineCode))
+                .forEach((lineCode, lineWorkOrders) -> workOrdersByLine.put(lineCode, IntervalTree.of(
+                        lineWorkOrders, CalendarWorkOrder::getWorkOrderDate, CalendarWorkOrder::getWorkOrderDate
+                )));
+        return new ProductionCalendar(IntervalTree.of(plans, PlanPeriod::getStartAt, PlanPeriod::getEndAt), workOrdersByLine);
+    }
+
+    public List<PlanPeriod> findPlans(LocalDate startAt, LocalDate endAt) {
+        return plans.findOverlapping(startAt, endAt);
+    }
+
+    /* lineCode 가 null 이면 전체 라인 */
+    public List<CalendarWorkOrder> findWorkOrders(Long lineCode, LocalDate startAt, LocalDate endAt) {
+        if (lineCode != null) {
+            return workOrdersByLine.getOrDefault(lineCode, IntervalTree.empty()).findOverlapping(startAt, endAt);
+        }
+        List<CalendarWorkOrder> found = new ArrayList<>();
+        workOrdersByLine.values().forEach(tree -> found.addAll(tree.findOverlapping(startAt, endAt)));
+        found.sort(Comparator.comparing(CalendarWorkOrder::getWorkOrderDate).thenComparing(CalendarWorkOrder::getLineCode));
+        return found;
+    }
+}
@@ -0,0 +1,41 @@
+package com.hmdandelion.project_1410002.production.domain.defect;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/* 건수 많은 순으로 정렬해 비율, 누적 비율을 붙인다. 누적 80% 에 처음 닿는 항목까지가 주요 원인이다. */
+public final class DefectPareto {
+
+    private static final double VITAL_FEW_SHARE = 80.0;
+
+    private DefectPareto() {
+    }
+
+    public static List<DefectParetoItem> of(Map<Long, Long> counts, boolean chronological) {
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        Comparator<Map.Entry<Long, Long>> order = chronological
+                ? Map.Entry.comparingByKey()
+                : Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+        List<DefectParetoItem> items = new ArrayList<>(counts.size());
+        long cumulative = 0;
+        for (Map.Entry<Long, Long> entry : counts.entrySet().stream().sorted(order).toList()) {
+            double before = percent(cumulative, total);
+            cumulative += entry.getValue();
+            items.add(new DefectParetoItem(
+                    entry.getKey(),
+                    entry.getValue(),
+                    percent(entry.getValue(), total),
+                    percent(cumulative, total),
+                    !chronological && before < VITAL_FEW_SHARE
+            ));
+        }
+        return items;
+    }
+
+    private static double percent(long value, long total) {
+        return total == 0 ? 0.0 : Math.round(value * 10_000.0 / total) / 100.0;
+    }
+}
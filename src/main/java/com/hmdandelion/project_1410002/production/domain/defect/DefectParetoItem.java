@@ -0,0 +1,17 @@
+package com.hmdandelion.project_1410002.production.domain.defect;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class DefectParetoItem {
+    private final long key;
+    private final long count;
+    /* 전체 대비 비율(%) */
+    private final double share;
+    /* 이 항목까지의 누적 비율(%) */
+    private final double cumulativeShare;
+    /* 누적 80% 안에 드는 주요 원인 */
+    private final boolean vitalFew;
+}
@@ -0,0 +1,21 @@
+package com.hmdandelion.project_1410002.production.domain.defect;
+
+/*
+ * 불량 사유 사전 키. 앞뒤 공백을 없애고 연속 공백을 하나로 줄인다. 빈 사유는 사전에 넣지 않는다.
+ * 공백은 유니코드 공백 전체로, DDL 백필의 [[:space:]] 정규식과 같은 정의를 쓴다.
+ */
+public final class DefectReasons {
+
+    public static final String UNSPECIFIED = "미기재";
+
+    private DefectReasons() {
+    }
+
+    public static String normalize(String reason) {
+        if (reason == null) {
+            return null;
+        }
+        String normalized = reason.strip().replaceAll("(?U)\\s+", " ");
+        return normalized.isEmpty() ? null : normalized;
+    }
+}
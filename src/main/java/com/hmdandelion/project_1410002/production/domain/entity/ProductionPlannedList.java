@@ -25,11 +25,11 @@ public class ProductionPlannedList {
     @Column(name = "plan_code")
     private Long planCode;
 
-    @Column(name = "required_quantity")
-    private String requiredQuantity;
+    @Column(name = "required_quantity", nullable = false)
+    private int requiredQuantity;
 
-    @Column(name = "planned_quantity")
-    private String plannedQuantity;
+    @Column(name = "planned_quantity", nullable = false)
+    private int plannedQuantity;
 
     @Column(name = "description")
     private String description;
@@ -38,28 +38,28 @@ public class ProductionPlannedList {
 //    @JoinColumn(name = "plan_code")
 //    private ProductionPlan  productionPlan;
 
-    public ProductionPlannedList(Long productCode, String plannedQuantity, String description, String requiredQuantity) {
+    public ProductionPlannedList(Long productCode, int plannedQuantity, String description, int requiredQuantity) {
         this.productCode = productCode;
         this.requiredQuantity = requiredQuantity;
         this.plannedQuantity = plannedQuantity;
         this.description = description;
     }
-    public ProductionPlannedList(Long planListCode, String plannedQuantity, String description) {
+    public ProductionPlannedList(Long planListCode, int plannedQuantity, String description) {
         this.planListCode = planListCode;
         this.plannedQuantity = plannedQuantity;
         this.description = description;
     }
 
-    public static ProductionPlannedList of(Long productCode, String plannedQuantity, String description, String requiredQuantity) {
+    public static ProductionPlannedList of(Long productCode, int plannedQuantity, String description, int requiredQuantity) {
         return new ProductionPlannedList(productCode, plannedQuantity, description, requiredQuantity);
     }
 
 
-    public static ProductionPlannedList of(Long planListCode, String plannedQuantity, String description) {
+    public static ProductionPlannedList of(Long planListCode, int plannedQuantity, String description) {
         return new ProductionPlannedList(planListCode, plannedQuantity, description);
     }
 
-    public void planModify(String plannedQuantity, String description) {
+    public void planModify(int plannedQuantity, String description) {
         this.plannedQuantity = plannedQuantity;
         this.description = description;
     }
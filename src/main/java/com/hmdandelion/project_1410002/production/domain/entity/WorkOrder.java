@@ -53,6 +53,10 @@ public class WorkOrder {
     @Column(name = "employee_code", nullable = false)
     private Long employeeCode;
 
+    /* 생산계획에서 자동 생성된 작업지시만 값이 있다 */
+    @Column(name = "plan_code")
+    private Long planCode;
+
     public WorkOrder(LocalDate workWrittenDate, LocalDate workOrderDate, Long lineCode, Long productCode, Long employeeCode, Integer orderedQuantity, WorkOrderStatusType completionStatus) {
         this.workWrittenDate = workWrittenDate;
         this.workOrderDate = workOrderDate;
@@ -24,6 +24,9 @@ public class DefectDetail {
     private ProductionDetail productionDetail;
 
     private String defectReason;
+    /* 정규화한 사유의 사전 코드. JDBC 배치에서만 기록한다. */
+    @Column(name = "defect_reason_code", insertable = false, updatable = false)
+    private Integer defectReasonCode;
     @Enumerated(value = EnumType.STRING)
     private DefectStatusType defectStatus;
     private String defectFile;
@@ -59,6 +59,11 @@ public class ProductionDetail {
     @OneToMany(mappedBy = "productionDetail")
     private List<DefectDetail> defectDetails;
 
+    /* 이 상세로 적재한 재검수 재고와 적재된 수량. 보고서를 수정하면 차이만큼만 재고에 반영한다. */
+    private Long stockCode;
+
+    private Integer stockedQuantity = 0;
+
     public ProductionDetail(ProductionManagement newProductionManagement, WorkOrder workOrder, Integer productionQuantity, Integer defectQuantity, Integer completelyQuantity, LocalDateTime inspectionDate, InspectionStatusType inspectionStatusType, String productionMemo, ProductionStatusType productionStatus) {
 
         this.productionManagement = newProductionManagement;
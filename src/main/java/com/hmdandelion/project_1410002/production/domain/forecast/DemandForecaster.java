@@ -0,0 +1,209 @@
+package com.hmdandelion.project_1410002.production.domain.forecast;
+
+import com.hmdandelion.project_1410002.production.domain.type.ForecastModelType;
+
+import java.util.Arrays;
+
+/*
+ * 상품 하나의 주간 수요 시계열로 모델별 파라미터를 격자 탐색해 맞추고,
+ * 최근 EVALUATION_WEEKS 주의 1주 앞 예측 오차(MAE)가 가장 작은 모델로 앞으로의 수요를 예측한다.
+ * 수천 개 상품을 병렬로 돌리므로 박싱 없이 double[] 로만 계산한다.
+ */
+public final class DemandForecaster {
+
+    public static final int SEASON_LENGTH = 52;
+
+    private static final int MOVING_AVERAGE_WINDOW = 4;
+    private static final int EVALUATION_WEEKS = 26;
+    private static final double DAMPING = 0.9;
+    private static final double[] GRID = {0.1, 0.3, 0.5, 0.7, 0.9};
+
+    private DemandForecaster() {
+    }
+
+    /* 주문이 한 번도 없던 상품은 null. 첫 주문 이전 구간(출시 전)은 잘라내고 맞춘다. */
+    public static ForecastResult forecast(long productCode, double[] weeklyDemands, int horizon) {
+        int first = 0;
+        while (first < weeklyDemands.length && weeklyDemands[first] <= 0) {
+            first++;
+        }
+        if (first == weeklyDemands.length) {
+            return null;
+        }
+        double[] series = first == 0 ? weeklyDemands : Arrays.copyOfRange(weeklyDemands, first, weeklyDemands.length);
+
+        int n = series.length;
+        int evaluationStart = Math.max(1, n - EVALUATION_WEEKS);
+        int evaluationCount = n - evaluationStart;
+
+        double[] forecasts = new double[horizon];
+        double bestError = movingAverage(series, evaluationStart, forecasts);
+        ForecastModelType bestModel = ForecastModelType.MOVING_AVERAGE;
+
+        if (evaluationCount > 0 && n >= 3) {
+            double[] holtForecasts = new double[horizon];
+            double error = fitHolt(series, evaluationStart, holtForecasts);
+            if (error < bestError) {
+                bestError = error;
+                bestModel = ForecastModelType.HOLT;
+                forecasts = holtForecasts;
+            }
+        }
+
+        if (n >= SEASON_LENGTH * 2) {
+            double[] seasonalForecasts = new double[horizon];
+            double error = fitHoltWinters(series, evaluationStart, seasonalForecasts);
+            if (error < bestError) {
+                bestError = error;
+                bestModel = ForecastModelType.HOLT_WINTERS;
+                forecasts = seasonalForecasts;
+            }
+        }
+
+        long[] quantities = new long[horizon];
+        for (int h = 0; h < horizon; h++) {
+            quantities[h] = Math.max(0L, Math.round(forecasts[h]));
+        }
+        return new ForecastResult(productCode, bestModel, evaluationCount == 0 ? 0.0 : bestError / evaluationCount, quantities);
+    }
+
+    /* 평가 구간 절대 오차 합을 반환 */
+    private static double movingAverage(double[] y, int evaluationStart, double[] forecasts) {
+        double windowSum = 0;
+        double absoluteError = 0;
+        for (int t = 0; t < y.length; t++) {
+            if (t >= evaluationStart) {
+                absoluteError += Math.abs(y[t] - windowSum / Math.min(t, MOVING_AVERAGE_WINDOW));
+            }
+            windowSum += y[t];
+            if (t >= MOVING_AVERAGE_WINDOW) {
+                windowSum -= y[t - MOVING_AVERAGE_WINDOW];
+            }
+        }
+        Arrays.fill(forecasts, windowSum / Math.min(y.length, MOVING_AVERAGE_WINDOW));
+        return absoluteError;
+    }
+
+    /* 전체 구간 제곱 오차가 가장 작은 파라미터로 다시 돌려 예측값을 채우고, 평가 구간 절대 오차 합을 반환 */
+    private static double fitHolt(double[] y, int evaluationStart, double[] forecasts) {
+        double[] errors = new double[2];
+        double bestSquared = Double.MAX_VALUE;
+        double bestAlpha = GRID[0];
+        double bestBeta = GRID[0];
+        for (double alpha : GRID) {
+            for (double beta : GRID) {
+                holt(y, alpha, beta, evaluationStart, errors, null);
+                if (errors[0] < bestSquared) {
+                    bestSquared = errors[0];
+                    bestAlpha = alpha;
+                    bestBeta = beta;
+                }
+            }
+        }
+        holt(y, bestAlpha, bestBeta, evaluationStart, errors, forecasts);
+        return errors[1];
+    }
+
+    private static double fitHoltWinters(double[] y, int evaluationStart, double[] forecasts) {
+        double[] errors = new double[2];
+        double[] season = new double[SEASON_LENGTH];
+        double bestSquared = Double.MAX_VALUE;
+        double bestAlpha = GRID[0];
+        double bestBeta = GRID[0];
+        double bestGamma = GRID[0];
+        for (double alpha : GRID) {
+            for (double beta : GRID) {
+                for (double gamma : GRID) {
+                    holtWinters(y, alpha, beta, gamma, evaluationStart, errors, season, null);
+                    if (errors[0] < bestSquared) {
+                        bestSquared = errors[0];
+                        bestAlpha = alpha;
+                        bestBeta = beta;
+                        bestGamma = gamma;
+                    }
+                }
+            }
+        }
+        holtWinters(y, bestAlpha, bestBeta, bestGamma, evaluationStart, errors, season, forecasts);
+        return errors[1];
+    }
+
+    /* errors[0] : 전체 1주 앞 예측 제곱 오차 합, errors[1] : 평가 구간 절대 오차 합 */
+    private static void holt(double[] y, double alpha, double beta, int evaluationStart, double[] errors, double[] forecasts) {
+        double level = y[0];
+        double trend = 0;
+        double squaredError = 0;
+        double absoluteError = 0;
+        for (int t = 1; t < y.length; t++) {
+            double predicted = level + DAMPING * trend;
+            double error = y[t] - predicted;
+            squaredError += error * error;
+            if (t >= evaluationStart) {
+                absoluteError += Math.abs(error);
+            }
+            double newLevel = alpha * y[t] + (1 - alpha) * predicted;
+            trend = beta * (newLevel - level) + (1 - beta) * DAMPING * trend;
+            level = newLevel;
+        }
+        errors[0] = squaredError;
+        errors[1] = absoluteError;
+
+        if (forecasts != null) {
+            double damping = 1;
+            double dampedSum = 0;
+            for (int h = 0; h < forecasts.length; h++) {
+                damping *= DAMPING;
+                dampedSum += damping;
+                forecasts[h] = level + dampedSum * trend;
+            }
+        }
+    }
+
+    /* 가법 계절성. 첫 두 시즌 평균으로 수준/추세를, 첫 시즌 편차로 계절 지수를 초기화한다. */
+    private static void holtWinters(double[] y, double alpha, double beta, double gamma, int evaluationStart,
+                                    double[] errors, double[] season, double[] forecasts) {
+        int m = SEASON_LENGTH;
+        double firstMean = mean(y, 0, m);
+        double level = firstMean;
+        double trend = (mean(y, m, m * 2) - firstMean) / m;
+        for (int i = 0; i < m; i++) {
+            season[i] = y[i] - firstMean;
+        }
+
+        double squaredError = 0;
+        double absoluteError = 0;
+        for (int t = m; t < y.length; t++) {
+            int s = t % m;
+            double base = level + DAMPING * trend;
+            double error = y[t] - (base + season[s]);
+            squaredError += error * error;
+            if (t >= evaluationStart) {
+                absoluteError += Math.abs(error);
+            }
+            double newLevel = alpha * (y[t] - season[s]) + (1 - alpha) * base;
+            trend = beta * (newLevel - level) + (1 - beta) * DAMPING * trend;
+            season[s] = gamma * (y[t] - newLevel) + (1 - gamma) * season[s];
+            level = newLevel;
+        }
+        errors[0] = squaredError;
+        errors[1] = absoluteError;
+
+        if (forecasts != null) {
+            double damping = 1;
+            double dampedSum = 0;
+            for (int h = 0; h < forecasts.length; h++) {
+                damping *= DAMPING;
+                dampedSum += damping;
+                forecasts[h] = level + dampedSum * trend + season[(y.length + h) % m];
+            }
+        }
+    }
+
+    private static double mean(double[] y, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += y[i];
+        }
+        return sum / (to - from);
+    }
+}
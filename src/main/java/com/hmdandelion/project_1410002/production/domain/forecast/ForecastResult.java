@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.production.domain.forecast;
+
+import com.hmdandelion.project_1410002.production.domain.type.ForecastModelType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ForecastResult {
+
+    private final long productCode;
+    private final ForecastModelType model;
+    private final double meanAbsoluteError;
+    /* 이번 주부터 주 단위 예측 수요량 */
+    private final long[] quantities;
+}
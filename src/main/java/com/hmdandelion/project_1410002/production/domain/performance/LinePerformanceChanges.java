@@ -0,0 +1,46 @@
+package com.hmdandelion.project_1410002.production.domain.performance;
+
+import com.hmdandelion.project_1410002.production.domain.entity.WorkOrder;
+import com.hmdandelion.project_1410002.production.domain.type.ShiftType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+ * 보고서 등록/수정으로 생긴 라인 실적 증감분을 (라인, 생산일, 근무조) 별로 모은다.
+ * 근무조는 보고서 생산 시작 일시 기준이고, 없으면 작업지시 일자의 주간조로 본다.
+ * 수정은 이전 값을 빼고 새 값을 더하므로 바뀌지 않은 상세는 서로 상쇄된다.
+ */
+public class LinePerformanceChanges {
+
+    private final Map<List<Object>, LinePerformanceDelta> deltas = new LinkedHashMap<>();
+
+    public void add(WorkOrder workOrder, LocalDateTime startAt, Integer productionQuantity, Integer defectQuantity, Integer completelyQuantity) {
+        apply(workOrder, startAt, productionQuantity, defectQuantity, completelyQuantity, 1);
+    }
+
+    public void subtract(WorkOrder workOrder, LocalDateTime startAt, Integer productionQuantity, Integer defectQuantity, Integer completelyQuantity) {
+        apply(workOrder, startAt, productionQuantity, defectQuantity, completelyQuantity, -1);
+    }
+
+    public List<LinePerformanceDelta> getDeltas() {
+        return deltas.values().stream()
+                .filter(delta -> !delta.isEmpty())
+                .toList();
+    }
+
+    private void apply(WorkOrder workOrder, LocalDateTime startAt, Integer productionQuantity, Integer defectQuantity, Integer completelyQuantity, int sign) {
+        LocalDateTime producedAt = startAt != null ? startAt : ShiftType.dayShiftStart(workOrder.getWorkOrderDate());
+        Long lineCode = workOrder.getLineCode();
+        ShiftType shift = ShiftType.of(producedAt);
+        LocalDate productionDate = ShiftType.productionDate(producedAt);
+
+        deltas.computeIfAbsent(List.of(lineCode, productionDate, shift), key -> new LinePerformanceDelta(lineCode, productionDate, shift))
+                .add(sign * toLong(productionQuantity), sign * toLong(defectQuantity), sign * toLong(completelyQuantity));
+    }
+
+    private long toLong(Integer quantity) {
+        return quantity == null ? 0L : quantity;
+    }
+}
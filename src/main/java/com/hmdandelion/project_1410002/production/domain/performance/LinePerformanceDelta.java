@@ -0,0 +1,29 @@
+package com.hmdandelion.project_1410002.production.domain.performance;
+
+import com.hmdandelion.project_1410002.production.domain.type.ShiftType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/* 라인 실적 한 행(라인, 생산일, 근무조)에 더할 증감분 */
+@Getter
+@RequiredArgsConstructor
+public class LinePerformanceDelta {
+    private final Long lineCode;
+    private final LocalDate productionDate;
+    private final ShiftType shift;
+    private long productionQuantity;
+    private long defectQuantity;
+    private long completelyQuantity;
+
+    public void add(long productionQuantity, long defectQuantity, long completelyQuantity) {
+        this.productionQuantity += productionQuantity;
+        this.defectQuantity += defectQuantity;
+        this.completelyQuantity += completelyQuantity;
+    }
+
+    public boolean isEmpty() {
+        return productionQuantity == 0 && defectQuantity == 0 && completelyQuantity == 0;
+    }
+}
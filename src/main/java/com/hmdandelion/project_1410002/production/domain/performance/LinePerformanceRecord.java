@@ -0,0 +1,54 @@
+package com.hmdandelion.project_1410002.production.domain.performance;
+
+import com.hmdandelion.project_1410002.production.domain.type.ShiftType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/*
+ * 라인 실적 집계 한 건(근무조 또는 하루). 지표는 저장하지 않고 수량에서 계산한다.
+ * 라인 생산량(lineProduction)은 하루 기준이므로 근무조 기준 능력은 그 1/3 로 본다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LinePerformanceRecord {
+    private final Long lineCode;
+    private final LocalDate productionDate;
+    /* 하루 집계면 null */
+    private final ShiftType shift;
+    private final long productionQuantity;
+    private final long defectQuantity;
+    private final long completelyQuantity;
+    private final long dailyCapacity;
+    /* 실적이 있는 근무조 수 */
+    private final int shiftCount;
+
+    /* 근무 시간당 양품 수 */
+    public Double getThroughput() {
+        return ratio(completelyQuantity, (double) shiftCount * ShiftType.HOURS);
+    }
+
+    /* 양품 / 생산 */
+    public Double getYield() {
+        return ratio(completelyQuantity, productionQuantity);
+    }
+
+    /* 생산 / 생산 능력 */
+    public Double getUtilization() {
+        double capacity = shift == null ? dailyCapacity : (double) dailyCapacity / ShiftType.PER_DAY;
+        return ratio(productionQuantity, capacity);
+    }
+
+    /* 불량 / 생산 */
+    public Double getDefectRate() {
+        return ratio(defectQuantity, productionQuantity);
+    }
+
+    private Double ratio(double numerator, double denominator) {
+        if (denominator <= 0) {
+            return null;
+        }
+        return Math.round(numerator / denominator * 10_000) / 10_000.0;
+    }
+}
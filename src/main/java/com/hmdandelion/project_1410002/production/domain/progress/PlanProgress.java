@@ -0,0 +1,35 @@
+package com.hmdandelion.project_1410002.production.domain.progress;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * 계획 대비 생산 집계 한 건. 생산량은 계획 기간 안의 같은 상품 작업지시 실적(양품)이다.
+ * 계획 기간은 서로 겹치지 않으므로 실적 하나는 많아야 한 계획에 잡힌다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PlanProgress {
+    /* 계획 코드, 상품 코드 또는 yyyyMM */
+    private final long key;
+    private final long requiredQuantity;
+    private final long plannedQuantity;
+    private final long completelyQuantity;
+    private final long defectQuantity;
+
+    /* 계획 수량 대비 양품 비율 */
+    public Double getAchievementRate() {
+        return ratio(completelyQuantity, plannedQuantity);
+    }
+
+    public long getRemainingQuantity() {
+        return Math.max(0L, plannedQuantity - completelyQuantity);
+    }
+
+    private Double ratio(double numerator, double denominator) {
+        if (denominator <= 0) {
+            return null;
+        }
+        return Math.round(numerator / denominator * 10_000) / 10_000.0;
+    }
+}
@@ -0,0 +1,144 @@
+package com.hmdandelion.project_1410002.production.domain.report;
+
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
+import com.hmdandelion.project_1410002.common.exception.NotFoundException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.production.domain.entity.production.DefectDetail;
+import com.hmdandelion.project_1410002.production.domain.entity.production.ProductionDetail;
+import com.hmdandelion.project_1410002.production.domain.type.ProductionStatusType;
+import com.hmdandelion.project_1410002.production.domain.type.WorkOrderStatusType;
+import com.hmdandelion.project_1410002.production.dto.request.updateProductionRequest.DefectDetailUpdateRequest;
+import com.hmdandelion.project_1410002.production.dto.request.updateProductionRequest.ProductionDetailUpdateRequest;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+
+/*
+ * 보고서 수정 요청과 현재 상세/불량을 비교해 실제로 바뀐 것만 골라낸다.
+ * - 상세 : 값이 달라진 것만 수정
+ * - 불량 : id 가 없으면 추가, 값이 달라졌으면 수정, 요청에 없는 기존 불량은 삭제
+ * - 재고 : 완료 상세는 양품 수, 그 외는 0 을 목표로 이미 적재된 수량과의 차이만 반영 (같은 요청을 반복해도 차이는 0)
+ */
+@Getter
+public class ProductionReportDiff {
+
+    private final List<DetailUpdate> detailUpdates = new ArrayList<>();
+    private final List<DefectInsert> defectInserts = new ArrayList<>();
+    private final List<DefectUpdate> defectUpdates = new ArrayList<>();
+    private final List<Long> defectDeletes = new ArrayList<>();
+    private final List<StockChange> stockChanges = new ArrayList<>();
+    private final Set<Long> completedWorkOrderCodes = new LinkedHashSet<>();
+
+    /* 상세 요청의 productionStatusCode 에 상세 코드가 담겨 온다 (기존 API 규약) */
+    public static ProductionReportDiff of(
+            List<ProductionDetail> details,
+            List<DefectDetail> defects,
+            List<ProductionDetailUpdateRequest> requests
+    ) {
+        Map<Long, ProductionDetail> detailMap = new HashMap<>();
+        details.forEach(detail -> detailMap.put(detail.getProductionDetailCode(), detail));
+
+        Map<Long, Map<Long, DefectDetail>> defectsByDetail = new HashMap<>();
+        defects.forEach(defect -> defectsByDetail
+                .computeIfAbsent(defect.getProductionDetail().getProductionDetailCode(), key -> new LinkedHashMap<>())
+                .put(defect.getDefectCode(), defect));
+
+        ProductionReportDiff diff = new ProductionReportDiff();
+        for (ProductionDetailUpdateRequest request : requests) {
+            ProductionDetail detail = detailMap.get(request.getProductionStatusCode());
+            if (detail == null) {
+                throw new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCTION_DETAIL);
+            }
+            diff.compareDetail(detail, request);
+            diff.compareDefects(detail, defectsByDetail.getOrDefault(detail.getProductionDetailCode(), Map.of()), request);
+            diff.compareStock(detail, request);
+        }
+        return diff;
+    }
+
+    private void compareDetail(ProductionDetail detail, ProductionDetailUpdateRequest request) {
+        boolean changed = !Objects.equals(detail.getProductionQuantity(), request.getProductionQuantity())
+                || !Objects.equals(detail.getDefectQuantity(), request.getDefectQuantity())
+                || !Objects.equals(detail.getCompletelyQuantity(), request.getCompletelyQuantity())
+                || !Objects.equals(detail.getInspectionDate(), request.getInspectionDate())
+                || detail.getInspectionStatus() != request.getInspectionStatusType()
+                || !Objects.equals(detail.getProductionMemo(), request.getProductionMemo())
+                || detail.getProductionStatus() != request.getProductionStatusType();
+        if (changed) {
+            detailUpdates.add(new DetailUpdate(detail.getProductionDetailCode(), request));
+        }
+    }
+
+    private void compareDefects(ProductionDetail detail, Map<Long, DefectDetail> currentDefects, ProductionDetailUpdateRequest request) {
+        Map<Long, DefectDetail> remaining = new LinkedHashMap<>(currentDefects);
+        DefectDetailUpdateRequest[] defectRequests = request.getDefectDetailUpdateRequest();
+
+        for (DefectDetailUpdateRequest defectRequest : defectRequests == null ? new DefectDetailUpdateRequest[0] : defectRequests) {
+            if (defectRequest.getId() == null) {
+                defectInserts.add(new DefectInsert(detail, defectRequest));
+                continue;
+            }
+            DefectDetail defect = remaining.remove(defectRequest.getId());
+            if (defect == null) {
+                throw new NotFoundException(ExceptionCode.NOT_FOUND_DEFECT_DATA);
+            }
+            boolean changed = !Objects.equals(defect.getDefectReason(), defectRequest.getDefectReason())
+                    || defect.getDefectStatus() != defectRequest.getDefectStatus()
+                    || !Objects.equals(defect.getDefectFile(), defectRequest.getDefectFile());
+            if (changed) {
+                defectUpdates.add(new DefectUpdate(defect.getDefectCode(), defectRequest));
+            }
+        }
+        defectDeletes.addAll(remaining.keySet());
+    }
+
+    /*
+     * 재고 코드를 모르는 기존 적재분(컬럼 추가 이전)은 줄일 수 없으므로 감소분은 반영하지 않는다.
+     * 재고가 이미 처리됐거나 0 아래로 내려가는지는 반영할 때 행 단위로 확인한다.
+     */
+    private void compareStock(ProductionDetail detail, ProductionDetailUpdateRequest request) {
+        boolean completed = request.getProductionStatusType() == ProductionStatusType.PRODUCTION_COMPLETED;
+        if (completed && detail.getWorkOrder().getCompletionStatus() != WorkOrderStatusType.DONE) {
+            completedWorkOrderCodes.add(detail.getWorkOrder().getWorkOrderCode());
+        }
+
+        int target = completed && request.getCompletelyQuantity() != null ? request.getCompletelyQuantity() : 0;
+        if (target < 0) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_COMPLETELY_QUANTITY);
+        }
+        int stocked = detail.getStockedQuantity() == null ? 0 : detail.getStockedQuantity();
+        long delta = (long) target - stocked;
+        if (delta == 0 || (delta < 0 && detail.getStockCode() == null)) {
+            return;
+        }
+        stockChanges.add(new StockChange(
+                detail.getProductionDetailCode(),
+                detail.getStockCode(),
+                detail.getWorkOrder().getProductCode(),
+                delta,
+                target
+        ));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class DetailUpdate {
+        private final Long productionDetailCode;
+        private final ProductionDetailUpdateRequest request;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class DefectInsert {
+        private final ProductionDetail productionDetail;
+        private final DefectDetailUpdateRequest request;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class DefectUpdate {
+        private final Long defectCode;
+        private final DefectDetailUpdateRequest request;
+    }
+}
@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.production.domain.report;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* 생산 상세 하나가 재검수 재고에 반영할 차이. stockCode 가 없으면 새 재고 행을 만든다. */
+@Getter
+@RequiredArgsConstructor
+public class StockChange {
+
+    private final Long productionDetailCode;
+    private final Long stockCode;
+    private final Long productCode;
+    private final long delta;
+    private final int stockedQuantity;
+}
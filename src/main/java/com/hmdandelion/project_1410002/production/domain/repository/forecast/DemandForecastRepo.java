@@ -0,0 +1,119 @@
+package com.hmdandelion.project_1410002.production.domain.repository.forecast;
+
+import com.hmdandelion.project_1410002.production.domain.forecast.ForecastResult;
+import com.hmdandelion.project_1410002.production.domain.type.ForecastModelType;
+import com.hmdandelion.project_1410002.production.dto.response.forecast.DemandForecastResponse;
+import com.hmdandelion.project_1410002.production.dto.response.forecast.PlanSuggestionResponse;
+import com.hmdandelion.project_1410002.sales.domain.repository.archive.OrderHistorySql;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/* 수요 예측 입력(주간 주문량)과 결과 테이블 접근 */
+@Repository
+@RequiredArgsConstructor
+public class DemandForecastRepo {
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* origin(월요일) 부터 weeks 주 동안의 상품별 주간 주문 수량 (보관 이력 포함). 취소, 교환 주문은 매출 집계와 같은 기준으로 뺀다. */
+    public Map<Long, double[]> findWeeklyDemands(LocalDate origin, int weeks) {
+        Map<Long, double[]> demands = new HashMap<>();
+
+        jdbcTemplate.query(
+                "SELECT op.product_code, FLOOR(DATEDIFF(o.order_datetime, ?) / 7) AS week_index, SUM(op.quantity)"
+                        + " FROM " + OrderHistorySql.ORDERS + " o JOIN " + OrderHistorySql.ORDER_PRODUCTS + " op ON op.order_code = o.order_code"
+                        + " WHERE o.order_datetime >= ? AND o.order_datetime < ? AND o.status <> 'CANCELED'"
+                        + " AND NOT EXISTS (SELECT 1 FROM " + OrderHistorySql.RETURNS + " r WHERE r.exchange_order = o.order_code)"
+                        + " GROUP BY op.product_code, week_index",
+                (RowCallbackHandler) rs -> {
+                    int week = rs.getInt(2);
+                    if (week >= 0 && week < weeks) {
+                        demands.computeIfAbsent(rs.getLong(1), key -> new double[weeks])[week] += rs.getLong(3);
+                    }
+                },
+                Date.valueOf(origin),
+                Timestamp.valueOf(origin.atStartOfDay()),
+                Timestamp.valueOf(origin.plusWeeks(weeks).atStartOfDay())
+        );
+
+        return demands;
+    }
+
+    /* 전체 재적합 결과로 통째로 교체 */
+    public void replaceForecasts(List<ForecastResult> results, LocalDate firstWeek, LocalDateTime fittedAt) {
+        jdbcTemplate.update("DELETE FROM tbl_demand_forecast");
+
+        List<Object[]> rows = new ArrayList<>();
+        for (ForecastResult result : results) {
+            long[] quantities = result.getQuantities();
+            for (int week = 0; week < quantities.length; week++) {
+                rows.add(new Object[]{
+                        result.getProductCode(),
+                        Date.valueOf(firstWeek.plusWeeks(week)),
+                        quantities[week],
+                        result.getModel().name(),
+                        result.getMeanAbsoluteError()
+                });
+            }
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_demand_forecast (product_code, week_start, forecast_quantity, model, mean_absolute_error, fitted_at)"
+                        + " VALUES (?, ?, ?, ?, ?, ?)",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, (Long) row[0]);
+                    ps.setDate(2, (Date) row[1]);
+                    ps.setLong(3, (Long) row[2]);
+                    ps.setString(4, (String) row[3]);
+                    ps.setDouble(5, (Double) row[4]);
+                    ps.setTimestamp(6, Timestamp.valueOf(fittedAt));
+                }
+        );
+    }
+
+    public List<DemandForecastResponse> findForecasts(Long productCode) {
+        return jdbcTemplate.query(
+                "SELECT week_start, forecast_quantity, model, mean_absolute_error, fitted_at"
+                        + " FROM tbl_demand_forecast WHERE product_code = ? ORDER BY week_start",
+                (rs, rowNum) -> new DemandForecastResponse(
+                        rs.getDate(1).toLocalDate(),
+                        rs.getLong(2),
+                        ForecastModelType.valueOf(rs.getString(3)),
+                        rs.getDouble(4),
+                        rs.getTimestamp(5).toLocalDateTime()
+                ),
+                productCode
+        );
+    }
+
+    /* 주간 예측을 계획 기간과 겹치는 일수 비율로 나눠 합산 */
+    public List<PlanSuggestionResponse> findPlanSuggestions(LocalDate startAt, LocalDate endAt) {
+        return jdbcTemplate.query(
+                "SELECT f.product_code, p.product_name, f.model,"
+                        + " CEIL(SUM(f.forecast_quantity * (DATEDIFF(LEAST(DATE_ADD(f.week_start, INTERVAL 6 DAY), ?), GREATEST(f.week_start, ?)) + 1) / 7))"
+                        + " FROM tbl_demand_forecast f LEFT JOIN tbl_product p ON p.product_code = f.product_code"
+                        + " WHERE f.week_start <= ? AND f.week_start > DATE_SUB(?, INTERVAL 7 DAY)"
+                        + " GROUP BY f.product_code, p.product_name, f.model"
+                        + " ORDER BY f.product_code",
+                (rs, rowNum) -> new PlanSuggestionResponse(
+                        rs.getLong(1),
+                        rs.getString(2),
+                        rs.getLong(4),
+                        ForecastModelType.valueOf(rs.getString(3))
+                ),
+                Date.valueOf(endAt), Date.valueOf(startAt), Date.valueOf(endAt), Date.valueOf(startAt)
+        );
+    }
+}
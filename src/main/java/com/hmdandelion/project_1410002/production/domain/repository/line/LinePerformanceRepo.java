@@ -0,0 +1,135 @@
+package com.hmdandelion.project_1410002.production.domain.repository.line;
+
+import com.hmdandelion.project_1410002.production.domain.performance.LinePerformanceDelta;
+import com.hmdandelion.project_1410002.production.domain.performance.LinePerformanceRecord;
+import com.hmdandelion.project_1410002.production.domain.type.ShiftType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * 라인 실적 시계열 테이블 접근. 한 행은 (라인, 생산일, 근무조) 의 수량 합이다.
+ * 보고서 등록/수정은 증감분 upsert 로, 원본 기준 재계산은 기간 단위 delete + insert select 로 처리한다.
+ * 근무조는 ShiftType 의 순서값(0 주간, 1 오후, 2 야간)으로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LinePerformanceRepo {
+    private static final int BATCH_SIZE = 500;
+
+    /* 라인 생산량은 처음 실적이 생길 때의 값을 남긴다 */
+    private static final String UPSERT_SQL =
+            "INSERT INTO tbl_line_performance (line_code, production_date, shift, production_quantity, defect_quantity, completely_quantity, line_capacity)"
+                    + " SELECT ?, ?, ?, ?, ?, ?, COALESCE(l.line_production, 0) FROM tbl_line l WHERE l.line_code = ?"
+                    + " ON DUPLICATE KEY UPDATE"
+                    + " production_quantity = production_quantity + VALUES(production_quantity),"
+                    + " defect_quantity = defect_quantity + VALUES(defect_quantity),"
+                    + " completely_quantity = completely_quantity + VALUES(completely_quantity)";
+
+    /* 보고서 생산 시작 일시(없으면 작업지시 일자 06시)로 생산일과 근무조를 정한다. ShiftType 과 같은 규칙 */
+    private static final String REBUILD_SQL =
+            "INSERT INTO tbl_line_performance (line_code, production_date, shift, production_quantity, defect_quantity, completely_quantity, line_capacity)"
+                    + " SELECT x.line_code, DATE(x.produced_at - INTERVAL 6 HOUR) AS production_date,"
+                    + " CASE WHEN HOUR(x.produced_at) BETWEEN 6 AND 13 THEN 0 WHEN HOUR(x.produced_at) BETWEEN 14 AND 21 THEN 1 ELSE 2 END AS shift,"
+                    + " SUM(x.production_quantity), SUM(x.defect_quantity), SUM(x.completely_quantity), COALESCE(MAX(l.line_production), 0)"
+                    + " FROM (SELECT wo.line_code,"
+                    + "   COALESCE(pm.start_at, TIMESTAMP(wo.work_order_date, '06:00:00')) AS produced_at,"
+                    + "   COALESCE(pd.production_quantity, 0) AS production_quantity,"
+                    + "   COALESCE(pd.defect_quantity, 0) AS defect_quantity,"
+                    + "   COALESCE(pd.completely_quantity, 0) AS completely_quantity"
+                    + "   FROM tbl_production_detail pd"
+                    + "   JOIN tbl_production_management pm ON pm.production_status_code = pd.production_status_code"
+                    + "   JOIN tbl_work_order wo ON wo.work_order_code = pd.work_order_code) x"
+                    + " LEFT JOIN tbl_line l ON l.line_code = x.line_code"
+                    + " WHERE x.produced_at >= ? AND x.produced_at < ?"
+                    + " GROUP BY x.line_code, production_date, shift";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(Collection<LinePerformanceDelta> deltas) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new ArrayList<>(deltas), BATCH_SIZE, (ps, delta) -> {
+            ps.setLong(1, delta.getLineCode());
+            ps.setDate(2, Date.valueOf(delta.getProductionDate()));
+            ps.setInt(3, delta.getShift().ordinal());
+            ps.setLong(4, delta.getProductionQuantity());
+            ps.setLong(5, delta.getDefectQuantity());
+            ps.setLong(6, delta.getCompletelyQuantity());
+            ps.setLong(7, delta.getLineCode());
+        });
+    }
+
+    /* [startDate, endDate] 생산일을 원본 보고서 기준으로 다시 계산 */
+    public void rebuild(LocalDate startDate, LocalDate endDate) {
+        jdbcTemplate.update(
+                "DELETE FROM tbl_line_performance WHERE production_date BETWEEN ? AND ?",
+                Date.valueOf(startDate), Date.valueOf(endDate)
+        );
+        jdbcTemplate.update(
+                REBUILD_SQL,
+                Timestamp.valueOf(ShiftType.dayShiftStart(startDate)),
+                Timestamp.valueOf(ShiftType.dayShiftStart(endDate.plusDays(1)))
+        );
+    }
+
+    /* lineCode 가 없으면 생산일 인덱스, 있으면 PK 범위 한 번으로 읽는다 */
+    public List<LinePerformanceRecord> findShiftRecords(Long lineCode, LocalDate startDate, LocalDate endDate) {
+        List<Object> args = rangeArgs(lineCode, startDate, endDate);
+        return jdbcTemplate.query(
+                "SELECT line_code, production_date, shift, production_quantity, defect_quantity, completely_quantity, line_capacity"
+                        + " FROM tbl_line_performance"
+                        + " WHERE production_date BETWEEN ? AND ?" + (lineCode == null ? "" : " AND line_code = ?")
+                        + " ORDER BY line_code, production_date, shift",
+                (rs, rowNum) -> new LinePerformanceRecord(
+                        rs.getLong(1),
+                        rs.getDate(2).toLocalDate(),
+                        ShiftType.values()[rs.getInt(3)],
+                        rs.getLong(4),
+                        rs.getLong(5),
+                        rs.getLong(6),
+                        rs.getLong(7),
+                        1
+                ),
+                args.toArray()
+        );
+    }
+
+    public List<LinePerformanceRecord> findDailyRecords(Long lineCode, LocalDate startDate, LocalDate endDate) {
+        List<Object> args = rangeArgs(lineCode, startDate, endDate);
+        return jdbcTemplate.query(
+                "SELECT line_code, production_date, SUM(production_quantity), SUM(defect_quantity), SUM(completely_quantity),"
+                        + " MAX(line_capacity), COUNT(*)"
+                        + " FROM tbl_line_performance"
+                        + " WHERE production_date BETWEEN ? AND ?" + (lineCode == null ? "" : " AND line_code = ?")
+                        + " GROUP BY line_code, production_date"
+                        + " ORDER BY line_code, production_date",
+                (rs, rowNum) -> new LinePerformanceRecord(
+                        rs.getLong(1),
+                        rs.getDate(2).toLocalDate(),
+                        null,
+                        rs.getLong(3),
+                        rs.getLong(4),
+                        rs.getLong(5),
+                        rs.getLong(6),
+                        rs.getInt(7)
+                ),
+                args.toArray()
+        );
+    }
+
+    private List<Object> rangeArgs(Long lineCode, LocalDate startDate, LocalDate endDate) {
+        List<Object> args = new ArrayList<>(3);
+        args.add(Date.valueOf(startDate));
+        args.add(Date.valueOf(endDate));
+        if (lineCode != null) {
+            args.add(lineCode);
+        }
+        return args;
+    }
+}
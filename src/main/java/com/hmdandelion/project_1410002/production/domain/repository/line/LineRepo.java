@@ -2,9 +2,11 @@ package com.hmdandelion.project_1410002.production.domain.repository.line;
 
 import com.hmdandelion.project_1410002.production.domain.entity.line.Line;
 import com.hmdandelion.project_1410002.production.domain.type.LineStatusType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.Optional;
 
@@ -13,4 +15,8 @@ public interface LineRepo extends JpaRepository<Line, Long> {
 
 
     Optional<Line> findLineByLineCode(Long lineCode);
+
+    /* 같은 라인/날짜에 작업지시가 동시에 두 건 들어가지 않도록 라인 단위로 직렬화 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Line> findWithLockByLineCode(Long lineCode);
 }
\ No newline at end of file
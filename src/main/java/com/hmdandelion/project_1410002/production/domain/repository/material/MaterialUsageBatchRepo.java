@@ -0,0 +1,41 @@
+package com.hmdandelion.project_1410002.production.domain.repository.material;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/* 계획 단위로 생성되는 작업지시의 원자재 사용을 건별 저장 대신 쿼리 한 번으로 만들고 지운다. */
+@Repository
+@RequiredArgsConstructor
+public class MaterialUsageBatchRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* 계획의 작업지시 중 원자재 사용이 아직 없는 것만. MaterialUsage.of 와 같이 작업일 0시, 준비중 상태로 만든다. */
+    public int insertMissingByPlan(Long planCode) {
+        return jdbcTemplate.update(
+                "INSERT INTO tbl_material_usage (usage_datetime, employee_code, work_order_code, status)"
+                        + " SELECT TIMESTAMP(wo.work_order_date), wo.employee_code, wo.work_order_code, 'READY'"
+                        + " FROM tbl_work_order wo"
+                        + " WHERE wo.plan_code = ?"
+                        + " AND NOT EXISTS (SELECT 1 FROM tbl_material_usage mu WHERE mu.work_order_code = wo.work_order_code)",
+                planCode
+        );
+    }
+
+    /* 자재 전달이 시작되지 않은(준비중) 사용만 지운다 */
+    public void deleteReadyByWorkOrders(Collection<Long> workOrderCodes) {
+        if (workOrderCodes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(
+                "DELETE FROM tbl_material_usage"
+                        + " WHERE status = 'READY'"
+                        + " AND work_order_code IN (" + String.join(", ", Collections.nCopies(workOrderCodes.size(), "?")) + ")",
+                workOrderCodes.toArray()
+        );
+    }
+}
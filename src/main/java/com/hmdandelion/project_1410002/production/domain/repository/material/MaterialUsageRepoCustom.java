@@ -1,5 +1,6 @@
 package com.hmdandelion.project_1410002.production.domain.repository.material;
 
+import com.hmdandelion.project_1410002.inventory.dto.product.dto.BomDTO;
 import com.hmdandelion.project_1410002.production.domain.entity.material.MaterialUsage;
 import com.hmdandelion.project_1410002.production.dto.material.MaterialUsageDTO;
 import com.hmdandelion.project_1410002.production.dto.material.response.MaterialUsageResponse;
@@ -13,5 +14,6 @@ public interface MaterialUsageRepoCustom  {
 
     Page<MaterialUsageDTO> searchUse(Pageable pageable, List<Long> stockCodes, String sortType);
 
-    MaterialUsageResponse getMaterialUsage(Long usageCode);
+    /* boms : 서비스에서 전개한 사용 작업지시 상품의 BOM */
+    MaterialUsageResponse getMaterialUsage(MaterialUsage usage, List<BomDTO> boms);
 }
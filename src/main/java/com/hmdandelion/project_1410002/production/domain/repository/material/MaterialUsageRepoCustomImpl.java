@@ -1,12 +1,9 @@
 package com.hmdandelion.project_1410002.production.domain.repository.material;
 
-import com.hmdandelion.project_1410002.common.exception.NotFoundException;
-import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
 import com.hmdandelion.project_1410002.employee.domain.entity.Employee;
 import com.hmdandelion.project_1410002.employee.domain.entity.QDepartment;
 import com.hmdandelion.project_1410002.employee.domain.entity.QPosition;
-import com.hmdandelion.project_1410002.inventory.domian.entity.product.Bom;
-import com.hmdandelion.project_1410002.inventory.domian.entity.product.QBom;
+import com.hmdandelion.project_1410002.inventory.dto.product.dto.BomDTO;
 import com.hmdandelion.project_1410002.production.domain.entity.line.QLine;
 import com.hmdandelion.project_1410002.production.domain.entity.material.MaterialUsage;
 import com.hmdandelion.project_1410002.production.domain.type.MaterialUsageStatus;
@@ -71,15 +68,7 @@ public class MaterialUsageRepoCustomImpl implements MaterialUsageRepoCustom {
     }
 
     @Override
-    public MaterialUsageResponse getMaterialUsage(Long usageCode) {
-        MaterialUsage usage = queryFactory
-                .select(materialUsage)
-                .from(materialUsage)
-                .where(materialUsage.usageCode.eq(usageCode))
-                .fetchOne();
-        if (usage == null) {
-            throw new NotFoundException(ExceptionCode.NOT_FOUND_USAGE_CODE);
-        }
+    public MaterialUsageResponse getMaterialUsage(MaterialUsage usage, List<BomDTO> boms) {
         String empName = "미배정";
         String phone = "";
         String positionName = "";
@@ -115,13 +104,6 @@ public class MaterialUsageRepoCustomImpl implements MaterialUsageRepoCustom {
                 .where(line.lineCode.eq(usage.getWorkOrder().getLineCode()))
                 .fetchOne();
 
-        QBom bom = QBom.bom;
-        List<Bom> boms = queryFactory
-                .selectFrom(bom)
-                .where(bom.product.productCode.eq(usage.getWorkOrder().getProductCode()))
-                .fetch();
-
-
         return MaterialUsageResponse.of(usage,
                                         empName,
                                         positionName,
@@ -0,0 +1,78 @@
+package com.hmdandelion.project_1410002.production.domain.repository.production;
+
+import com.hmdandelion.project_1410002.production.domain.type.DefectDimensionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.*;
+
+/*
+ * 불량 사유 사전과 불량 건수 집계. 집계는 기준별 GROUP BY 한 번이고, 사유는 사전 코드(정수)로 묶는다.
+ * 기간은 생산 상세의 품질 검수 일시 기준이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DefectAnalyticsRepo {
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* 이미 있는 사유는 무시 */
+    public void registerReasons(Collection<String> reasonNames) {
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO tbl_defect_reason (reason_name) VALUES (?)",
+                new ArrayList<>(reasonNames), BATCH_SIZE,
+                (ps, reasonName) -> ps.setString(1, reasonName)
+        );
+    }
+
+    public Map<Long, String> findReasonNames() {
+        Map<Long, String> names = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT reason_code, reason_name FROM tbl_defect_reason",
+                (RowCallbackHandler) rs -> names.put(rs.getLong(1), rs.getString(2))
+        );
+        return names;
+    }
+
+    /* 사유가 없는 불량은 키 0 */
+    public Map<Long, Long> countDefects(DefectDimensionType dimension, LocalDate startDate, LocalDate endDate,
+                                        Long lineCode, Long productCode) {
+        String key = switch (dimension) {
+            case REASON -> "COALESCE(d.defect_reason_code, 0)";
+            case PRODUCT -> "wo.product_code";
+            case LINE -> "wo.line_code";
+            case MONTH -> "YEAR(pd.inspection_date) * 100 + MONTH(pd.inspection_date)";
+        };
+
+        List<Object> args = new ArrayList<>(4);
+        args.add(Timestamp.valueOf(startDate.atStartOfDay()));
+        args.add(Timestamp.valueOf(endDate.plusDays(1).atStartOfDay()));
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT ").append(key).append(" AS dimension_key, COUNT(*) FROM tbl_defect_detail d")
+                .append(" JOIN tbl_production_detail pd ON pd.production_detail_code = d.production_detail_code")
+                .append(" JOIN tbl_work_order wo ON wo.work_order_code = pd.work_order_code")
+                .append(" WHERE pd.inspection_date >= ? AND pd.inspection_date < ?");
+        if (lineCode != null) {
+            sql.append(" AND wo.line_code = ?");
+            args.add(lineCode);
+        }
+        if (productCode != null) {
+            sql.append(" AND wo.product_code = ?");
+            args.add(productCode);
+        }
+        sql.append(" GROUP BY dimension_key");
+
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                sql.toString(),
+                (RowCallbackHandler) rs -> counts.put(rs.getLong(1), rs.getLong(2)),
+                args.toArray()
+        );
+        return counts;
+    }
+}
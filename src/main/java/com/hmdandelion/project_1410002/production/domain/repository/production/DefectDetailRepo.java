@@ -5,10 +5,14 @@ import com.hmdandelion.project_1410002.production.domain.entity.production.Produ
 import com.hmdandelion.project_1410002.production.domain.entity.production.ProductionManagement;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface DefectDetailRepo extends JpaRepository<DefectDetail, Long> {
 
     List<DefectDetail> findByProductionDetail(ProductionDetail productionDetail);
+
+    /* 보고서 수정 시 상세 전체의 불량을 한 번에 조회 */
+    List<DefectDetail> findByProductionDetailIn(Collection<ProductionDetail> productionDetails);
 }
\ No newline at end of file
@@ -4,11 +4,18 @@ import com.hmdandelion.project_1410002.production.domain.entity.production.Defec
 import com.hmdandelion.project_1410002.production.domain.entity.production.ProductionDetail;
 import com.hmdandelion.project_1410002.production.domain.entity.production.ProductionManagement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProductionDetailRepo extends JpaRepository<ProductionDetail, Long> {
     /* 불량 상세조회*/
     Optional<ProductionDetail> findByProductionDetailCode(Long productionDetailCode);
-}
\ No newline at end of file
+
+    /* 보고서 목록/상세 조회용. 여러 보고서의 상세를 작업지시서와 함께 한 번에 조회 */
+    @Query("SELECT pd FROM ProductionDetail pd JOIN FETCH pd.workOrder WHERE pd.productionManagement IN :productionManagements ORDER BY pd.productionDetailCode")
+    List<ProductionDetail> findAllWithWorkOrder(@Param("productionManagements") Collection<ProductionManagement> productionManagements);
+}
@@ -3,9 +3,11 @@ package com.hmdandelion.project_1410002.production.domain.repository.production;
 import com.hmdandelion.project_1410002.production.domain.entity.production.ProductionDetail;
 import com.hmdandelion.project_1410002.production.domain.entity.production.ProductionManagement;
 import com.hmdandelion.project_1410002.production.domain.type.ProductionStatusType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,6 +24,10 @@ public interface ProductionRepo extends JpaRepository<ProductionManagement, Long
     /* 상세 조회 */
     Optional<ProductionManagement>findByProductionStatusCode(Long productionStatusCode);
 
+    /* 수정/삭제 시 같은 보고서를 동시에 고쳐 재고 증감이 두 번 반영되지 않도록 행을 잠근다 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ProductionManagement> findWithLockByProductionStatusCode(Long productionStatusCode);
+
 }
 
 //    /* 완료 날짜로 조회 */
@@ -0,0 +1,226 @@
+package com.hmdandelion.project_1410002.production.domain.repository.production;
+
+import com.hmdandelion.project_1410002.inventory.domian.entity.stock.Stock;
+import com.hmdandelion.project_1410002.production.domain.defect.DefectReasons;
+import com.hmdandelion.project_1410002.production.domain.entity.production.DefectDetail;
+import com.hmdandelion.project_1410002.production.domain.entity.production.ProductionDetail;
+import com.hmdandelion.project_1410002.production.domain.report.ProductionReportDiff.DefectUpdate;
+import com.hmdandelion.project_1410002.production.domain.report.ProductionReportDiff.DetailUpdate;
+import com.hmdandelion.project_1410002.production.domain.report.StockChange;
+import com.hmdandelion.project_1410002.production.dto.request.updateProductionRequest.DefectDetailUpdateRequest;
+import com.hmdandelion.project_1410002.production.dto.request.updateProductionRequest.ProductionDetailUpdateRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 생산 보고서 등록/수정용 JDBC 배치.
+ * IDENTITY 전략이라 JPA 배치 insert 가 되지 않으므로 메모리에서 만든 엔티티(또는 비교 결과)의 값을 JDBC 배치로 넣는다.
+ * 여기서 바꾼 행은 영속성 컨텍스트에 반영되지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductionReportBatchRepo {
+    private static final int BATCH_SIZE = 500;
+    /* 사유는 DefectAnalyticsService.registerReasons 로 사전에 먼저 넣어 둔다 */
+    private static final String REASON_CODE_SQL = "(SELECT reason_code FROM tbl_defect_reason WHERE reason_name = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> insertDetails(List<ProductionDetail> details) {
+        return insertReturningKeys(
+                "INSERT INTO tbl_production_detail (work_order_code, production_status_code, inspection_date, inspection_status,"
+                        + " production_quantity, defect_quantity, completely_quantity, production_memo, production_status, stocked_quantity)"
+                        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                details,
+                (ps, detail) -> {
+                    ps.setLong(1, detail.getWorkOrder().getWorkOrderCode());
+                    ps.setLong(2, detail.getProductionManagement().getProductionStatusCode());
+                    ps.setTimestamp(3, toTimestamp(detail.getInspectionDate()));
+                    ps.setString(4, detail.getInspectionStatus() == null ? null : detail.getInspectionStatus().name());
+                    ps.setObject(5, detail.getProductionQuantity(), Types.INTEGER);
+                    ps.setObject(6, detail.getDefectQuantity(), Types.INTEGER);
+                    ps.setObject(7, detail.getCompletelyQuantity(), Types.INTEGER);
+                    ps.setString(8, detail.getProductionMemo());
+                    ps.setString(9, detail.getProductionStatus() == null ? null : detail.getProductionStatus().name());
+                }
+        );
+    }
+
+    public void updateDetails(List<DetailUpdate> updates) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE tbl_production_detail SET production_quantity = ?, defect_quantity = ?, completely_quantity = ?,"
+                        + " inspection_date = ?, inspection_status = ?, production_memo = ?, production_status = ?"
+                        + " WHERE production_detail_code = ?",
+                updates,
+                BATCH_SIZE,
+                (ps, update) -> {
+                    ProductionDetailUpdateRequest request = update.getRequest();
+                    ps.setObject(1, request.getProductionQuantity(), Types.INTEGER);
+                    ps.setObject(2, request.getDefectQuantity(), Types.INTEGER);
+                    ps.setObject(3, request.getCompletelyQuantity(), Types.INTEGER);
+                    ps.setTimestamp(4, toTimestamp(request.getInspectionDate()));
+                    ps.setString(5, request.getInspectionStatusType() == null ? null : request.getInspectionStatusType().name());
+                    ps.setString(6, request.getProductionMemo());
+                    ps.setString(7, request.getProductionStatusType() == null ? null : request.getProductionStatusType().name());
+                    ps.setLong(8, update.getProductionDetailCode());
+                }
+        );
+    }
+
+    /* detailCodes 는 defects 와 같은 순서의 생산 상세 코드 */
+    public void insertDefects(List<DefectDetail> defects, List<Long> detailCodes) {
+        List<Object[]> rows = new ArrayList<>(defects.size());
+        for (int i = 0; i < defects.size(); i++) {
+            DefectDetail defect = defects.get(i);
+            rows.add(new Object[]{
+                    detailCodes.get(i),
+                    defect.getDefectReason(),
+                    defect.getDefectStatus() == null ? null : defect.getDefectStatus().name(),
+                    defect.getDefectFile(),
+                    DefectReasons.normalize(defect.getDefectReason())
+            });
+        }
+        batchUpdate(
+                "INSERT INTO tbl_defect_detail (production_detail_code, defect_reason, defect_status, defect_file, defect_reason_code)"
+                        + " VALUES (?, ?, ?, ?, " + REASON_CODE_SQL + ")",
+                rows
+        );
+    }
+
+    public void updateDefects(List<DefectUpdate> updates) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE tbl_defect_detail SET defect_reason = ?, defect_status = ?, defect_file = ?, defect_reason_code = " + REASON_CODE_SQL
+                        + " WHERE defect_code = ?",
+                updates,
+                BATCH_SIZE,
+                (ps, update) -> {
+                    DefectDetailUpdateRequest request = update.getRequest();
+                    ps.setString(1, request.getDefectReason());
+                    ps.setString(2, request.getDefectStatus() == null ? null : request.getDefectStatus().name());
+                    ps.setString(3, request.getDefectFile());
+                    ps.setString(4, DefectReasons.normalize(request.getDefectReason()));
+                    ps.setLong(5, update.getDefectCode());
+                }
+        );
+    }
+
+    public void deleteDefects(Collection<Long> defectCodes) {
+        updateIn("DELETE FROM tbl_defect_detail WHERE defect_code IN ", defectCodes);
+    }
+
+    public void completeWorkOrders(Collection<Long> workOrderCodes) {
+        updateIn("UPDATE tbl_work_order SET completion_status = 'DONE', work_modified_date = NOW() WHERE work_order_code IN ", workOrderCodes);
+    }
+
+    public List<Long> insertStocks(List<Stock> stocks) {
+        return insertReturningKeys(
+                "INSERT INTO tbl_stock (quantity, created_at, is_delete, type, product_code, assignment_status) VALUES (?, NOW(), ?, ?, ?, ?)",
+                stocks,
+                (ps, stock) -> {
+                    ps.setLong(1, stock.getQuantity());
+                    ps.setBoolean(2, stock.getIsDelete());
+                    ps.setString(3, stock.getType().name());
+                    ps.setLong(4, stock.getProduct().getProductCode());
+                    ps.setString(5, stock.getAssignmentStatus().name());
+                }
+        );
+    }
+
+    /*
+     * 생산 실적으로 만든 재검수 재고가 아직 손대지 않은 상태(재검수, 미배정, 보관/삭제 없음)이고
+     * 증감 후에도 0 이상일 때만 반영한다. 반영된 행 수를 돌려준다.
+     */
+    public int addStockQuantities(List<StockChange> changes) {
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE tbl_stock s SET s.quantity = s.quantity + ?"
+                        + " WHERE s.stock_code = ? AND s.quantity + ? >= 0"
+                        + " AND s.type = 'RE_INSPECTION' AND s.assignment_status = 'NOT_ASSIGNED' AND s.is_delete = 0"
+                        + " AND NOT EXISTS (SELECT 1 FROM tbl_storage st WHERE st.stock_code = s.stock_code)",
+                changes,
+                BATCH_SIZE,
+                (ps, change) -> {
+                    ps.setLong(1, change.getDelta());
+                    ps.setLong(2, change.getStockCode());
+                    ps.setLong(3, change.getDelta());
+                }
+        );
+        return Arrays.stream(counts).flatMapToInt(Arrays::stream).sum();
+    }
+
+    /* stockCodes : 새로 만든 재고의 상세 코드별 재고 코드 */
+    public void updateStockedQuantities(List<StockChange> changes, Map<Long, Long> stockCodes) {
+        List<Object[]> rows = changes.stream()
+                .map(change -> new Object[]{
+                        change.getStockCode() != null ? change.getStockCode() : stockCodes.get(change.getProductionDetailCode()),
+                        change.getStockedQuantity(),
+                        change.getProductionDetailCode()
+                })
+                .toList();
+        batchUpdate("UPDATE tbl_production_detail SET stock_code = ?, stocked_quantity = ? WHERE production_detail_code = ?", rows);
+    }
+
+    /* 배치 실행 후 생성된 키를 입력 순서대로 돌려준다 (MySQL 드라이버 동작) */
+    private <T> List<Long> insertReturningKeys(String sql, List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+        List<Long> keys = new ArrayList<>(rows.size());
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<T> chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            keys.addAll(jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+                try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    for (T row : chunk) {
+                        setter.setValues(ps, row);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    List<Long> chunkKeys = new ArrayList<>(chunk.size());
+                    try (ResultSet generatedKeys = ps.getGeneratedKeys()) {
+                        while (generatedKeys.next()) {
+                            chunkKeys.add(generatedKeys.getLong(1));
+                        }
+                    }
+                    if (chunkKeys.size() != chunk.size()) {
+                        throw new IllegalStateException("생성된 키 개수가 입력 행 수와 일치하지 않습니다.");
+                    }
+                    return chunkKeys;
+                }
+            }));
+        }
+        return keys;
+    }
+
+    private void batchUpdate(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private void updateIn(String sql, Collection<Long> codes) {
+        if (codes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(
+                sql + "(" + String.join(", ", Collections.nCopies(codes.size(), "?")) + ")",
+                codes.toArray()
+        );
+    }
+
+    private Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
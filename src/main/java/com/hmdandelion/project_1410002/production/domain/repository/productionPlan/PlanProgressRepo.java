@@ -0,0 +1,78 @@
+package com.hmdandelion.project_1410002.production.domain.repository.productionPlan;
+
+import com.hmdandelion.project_1410002.production.domain.progress.PlanProgress;
+import com.hmdandelion.project_1410002.production.domain.type.PlanProgressDimensionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 계획 대비 생산 집계. 계획 수량은 (계획, 상품) 별로, 실적은 계획 기간 안의 같은 상품 작업지시 생산 상세를 (계획, 상품) 별로
+ * 먼저 묶은 뒤 기준별로 한 번 더 GROUP BY 한다. 기간은 계획 종료일 기준이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlanProgressRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<PlanProgress> findProgress(PlanProgressDimensionType dimension, LocalDate startDate, LocalDate endDate,
+                                           Long planCode, Long productCode) {
+        String key = switch (dimension) {
+            case PLAN -> "pl.plan_code";
+            case PRODUCT -> "pl.product_code";
+            case MONTH -> "YEAR(pl.end_at) * 100 + MONTH(pl.end_at)";
+        };
+
+        StringBuilder filter = new StringBuilder(" WHERE p.end_at BETWEEN ? AND ?");
+        List<Object> filterArgs = new ArrayList<>(4);
+        filterArgs.add(Date.valueOf(startDate));
+        filterArgs.add(Date.valueOf(endDate));
+        if (planCode != null) {
+            filter.append(" AND p.plan_code = ?");
+            filterArgs.add(planCode);
+        }
+        String planned = filter + (productCode != null ? " AND l.product_code = ?" : "");
+        String produced = filter + (productCode != null ? " AND wo.product_code = ?" : "");
+        if (productCode != null) {
+            filterArgs.add(productCode);
+        }
+
+        String sql = "SELECT " + key + " AS dimension_key, SUM(pl.required_quantity), SUM(pl.planned_quantity),"
+                + " SUM(COALESCE(pr.completely_quantity, 0)), SUM(COALESCE(pr.defect_quantity, 0))"
+                + " FROM (SELECT l.plan_code, l.product_code, p.end_at,"
+                + "   SUM(l.required_quantity) AS required_quantity, SUM(l.planned_quantity) AS planned_quantity"
+                + "   FROM tbl_production_plan_list l JOIN tbl_production_plan p ON p.plan_code = l.plan_code"
+                + planned
+                + "   GROUP BY l.plan_code, l.product_code, p.end_at) pl"
+                + " LEFT JOIN (SELECT p.plan_code, wo.product_code,"
+                + "   SUM(pd.completely_quantity) AS completely_quantity, SUM(pd.defect_quantity) AS defect_quantity"
+                + "   FROM tbl_production_plan p"
+                + "   JOIN tbl_work_order wo ON wo.work_order_date BETWEEN p.start_at AND p.end_at"
+                + "   JOIN tbl_production_detail pd ON pd.work_order_code = wo.work_order_code"
+                + produced
+                + "   GROUP BY p.plan_code, wo.product_code) pr"
+                + " ON pr.plan_code = pl.plan_code AND pr.product_code = pl.product_code"
+                + " GROUP BY dimension_key"
+                + " ORDER BY dimension_key";
+
+        List<Object> args = new ArrayList<>(filterArgs);
+        args.addAll(filterArgs);
+        return jdbcTemplate.query(
+                sql,
+                (rs, rowNum) -> new PlanProgress(
+                        rs.getLong(1),
+                        rs.getLong(2),
+                        rs.getLong(3),
+                        rs.getLong(4),
+                        rs.getLong(5)
+                ),
+                args.toArray()
+        );
+    }
+}
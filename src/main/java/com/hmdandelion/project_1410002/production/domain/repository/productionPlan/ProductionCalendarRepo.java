@@ -0,0 +1,41 @@
+package com.hmdandelion.project_1410002.production.domain.repository.productionPlan;
+
+import com.hmdandelion.project_1410002.production.domain.calendar.CalendarWorkOrder;
+import com.hmdandelion.project_1410002.production.domain.calendar.PlanPeriod;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/* 생산 캘린더 전체 적재용. 기간/일자만 읽는다. */
+@Repository
+@RequiredArgsConstructor
+public class ProductionCalendarRepo {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<PlanPeriod> findPlanPeriods() {
+        return jdbcTemplate.query(
+                "SELECT plan_code, start_at, end_at FROM tbl_production_plan",
+                (rs, rowNum) -> new PlanPeriod(
+                        rs.getLong(1),
+                        rs.getDate(2).toLocalDate(),
+                        rs.getDate(3).toLocalDate()
+                )
+        );
+    }
+
+    public List<CalendarWorkOrder> findWorkOrders() {
+        return jdbcTemplate.query(
+                "SELECT work_order_code, line_code, product_code, work_order_date, ordered_quantity FROM tbl_work_order",
+                (rs, rowNum) -> new CalendarWorkOrder(
+                        rs.getLong(1),
+                        rs.getLong(2),
+                        rs.getLong(3),
+                        rs.getDate(4).toLocalDate(),
+                        rs.getInt(5)
+                )
+        );
+    }
+}
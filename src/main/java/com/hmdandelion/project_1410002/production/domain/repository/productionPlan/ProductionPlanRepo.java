@@ -3,13 +3,16 @@ package com.hmdandelion.project_1410002.production.domain.repository.productionP
 
 import com.hmdandelion.project_1410002.production.domain.entity.ProductionPlan;
 import com.hmdandelion.project_1410002.production.dto.response.PlanListResponse;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,15 +24,16 @@ public interface ProductionPlanRepo extends JpaRepository<ProductionPlan, Long>
             "LEFT JOIN ProductionPlannedList ppl ON pp.planCode = ppl.planCode" +
             " " +
             "LEFT JOIN Product p ON p.productCode = ppl.productCode " +
-            "WHERE pp.startAt <= :endAt AND pp.endAt >= :startAt " +
-            "ORDER BY (pp.endAt - CURRENT_TIMESTAMP)")
-    Page<PlanListResponse> findPlanDetails(Pageable pageable, @Param("startAt") LocalDate startAt, @Param("endAt") LocalDate endAt);
+            "WHERE pp.planCode IN :planCodes " +
+            "ORDER BY pp.endAt ASC, pp.planCode DESC")
+    Page<PlanListResponse> findPlanDetails(Pageable pageable, @Param("planCodes") Collection<Long> planCodes);
 
     Optional<ProductionPlan> findByPlanCode(Long planCode);
 
-    /* 생산 계획 기간 겹치지 않게 */
-    @Query("SELECT COUNT(p) > 0 FROM ProductionPlan p WHERE :endAt >= p.startAt AND :startAt <= p.endAt")
-    boolean existsByDateRange(@Param("startAt") LocalDate startAt, @Param("endAt") LocalDate endAt);
+    /* 생산 계획 기간 겹치지 않게. (end_at) 인덱스 범위를 잠가 겹치는 기간의 계획이 동시에 저장되지 않게 한다 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProductionPlan p WHERE :endAt >= p.startAt AND :startAt <= p.endAt")
+    List<ProductionPlan> findOverlappingForUpdate(@Param("startAt") LocalDate startAt, @Param("endAt") LocalDate endAt);
 
     List<ProductionPlan> findByStartAtAfter(LocalDate today);
 }
@@ -0,0 +1,175 @@
+package com.hmdandelion.project_1410002.production.domain.repository.productionPlan;
+
+import com.hmdandelion.project_1410002.production.domain.schedule.RegenerableWorkOrder;
+import com.hmdandelion.project_1410002.production.domain.schedule.ScheduleLine;
+import com.hmdandelion.project_1410002.production.domain.schedule.ScheduledWorkOrder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+ * 작업지시 자동 배정에 필요한 계획 수량, 납기, 라인, 이미 찬 라인/날짜를 종류별로 한 번에 읽는다.
+ * 계획 상품 수, 라인 수와 관계없이 쿼리 수는 일정하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkOrderScheduleRepo {
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* 같은 상품이 여러 줄로 계획된 경우 합산 */
+    public Map<Long, Long> findPlannedQuantities(Long planCode) {
+        Map<Long, Long> quantities = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT product_code, SUM(planned_quantity) FROM tbl_production_plan_list"
+                        + " WHERE plan_code = ?"
+                        + " GROUP BY product_code",
+                (RowCallbackHandler) rs -> quantities.put(rs.getLong(1), rs.getLong(2)),
+                planCode
+        );
+        return quantities;
+    }
+
+    /* 계획에 연결된 주문 중 해당 상품이 들어 있는 주문의 가장 빠른 납기 */
+    public Map<Long, LocalDate> findDeadlines(Long planCode) {
+        Map<Long, LocalDate> deadlines = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT op.product_code, MIN(o.deadline) FROM tbl_planned_order_list pol"
+                        + " JOIN tbl_order o ON o.order_code = pol.order_code"
+                        + " JOIN tbl_order_product op ON op.order_code = o.order_code"
+                        + " WHERE pol.plan_code = ?"
+                        + " GROUP BY op.product_code",
+                (RowCallbackHandler) rs -> deadlines.put(rs.getLong(1), rs.getDate(2).toLocalDate()),
+                planCode
+        );
+        return deadlines;
+    }
+
+    /*
+     * 이미 나간 작업지시 수량. 이 계획으로 생성된 작업지시와, 계획 기간 안에 계획 없이 직접 등록한 같은 상품의 작업지시를 합산한다.
+     * 기간이 겹치는 다른 계획의 작업지시는 섞지 않는다.
+     */
+    public Map<Long, Long> findOrderedQuantities(Long planCode, Collection<Long> productCodes, LocalDate startAt, LocalDate endAt) {
+        Map<Long, Long> quantities = new HashMap<>();
+        if (productCodes.isEmpty()) {
+            return quantities;
+        }
+        List<Object> args = new ArrayList<>(productCodes.size() + 3);
+        args.add(planCode);
+        args.add(Date.valueOf(startAt));
+        args.add(Date.valueOf(endAt));
+        args.addAll(productCodes);
+
+        jdbcTemplate.query(
+                "SELECT product_code, SUM(ordered_quantity) FROM tbl_work_order"
+                        + " WHERE (plan_code = ? OR (plan_code IS NULL AND work_order_date BETWEEN ? AND ?))"
+                        + " AND product_code IN (" + placeholders(productCodes) + ")"
+                        + " GROUP BY product_code",
+                (RowCallbackHandler) rs -> quantities.put(rs.getLong(1), rs.getLong(2)),
+                args.toArray()
+        );
+        return quantities;
+    }
+
+    /* 가동 중이고 생산량이 있는 라인. 확정 시에는 행 잠금으로 동시 배정을 직렬화한다. */
+    public List<ScheduleLine> findActiveLines(boolean forUpdate) {
+        return jdbcTemplate.query(
+                "SELECT line_code, line_production FROM tbl_line"
+                        + " WHERE line_status = 'ACTIVE' AND line_production > 0"
+                        + " ORDER BY line_code"
+                        + (forUpdate ? " FOR UPDATE" : ""),
+                (rs, rowNum) -> new ScheduleLine(rs.getLong(1), rs.getInt(2))
+        );
+    }
+
+    /* 기간 안에 이미 작업지시가 있는 라인별 날짜 */
+    public Map<Long, Set<LocalDate>> findOccupiedDates(LocalDate startAt, LocalDate endAt) {
+        Map<Long, Set<LocalDate>> occupied = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT DISTINCT line_code, work_order_date FROM tbl_work_order"
+                        + " WHERE work_order_date BETWEEN ? AND ?",
+                (RowCallbackHandler) rs -> occupied
+                        .computeIfAbsent(rs.getLong(1), key -> new HashSet<>())
+                        .add(rs.getDate(2).toLocalDate()),
+                Date.valueOf(startAt), Date.valueOf(endAt)
+        );
+        return occupied;
+    }
+
+    /* 계획에서 생성된 작업지시 중 from 이후, 진행중이고 실적도 자재 전달도 없는 것. 재생성 시에는 잠근다. */
+    public List<RegenerableWorkOrder> findRegenerableWorkOrders(Long planCode, LocalDate from, boolean forUpdate) {
+        return jdbcTemplate.query(
+                "SELECT wo.work_order_code, wo.line_code, wo.product_code, wo.work_order_date, wo.ordered_quantity"
+                        + " FROM tbl_work_order wo"
+                        + " WHERE wo.plan_code = ? AND wo.work_order_date >= ? AND wo.completion_status = 'IN_PROGRESS'"
+                        + " AND NOT EXISTS (SELECT 1 FROM tbl_production_detail pd WHERE pd.work_order_code = wo.work_order_code)"
+                        + " AND NOT EXISTS (SELECT 1 FROM tbl_material_usage mu WHERE mu.work_order_code = wo.work_order_code AND mu.status <> 'READY')"
+                        + " ORDER BY wo.work_order_date, wo.line_code"
+                        + (forUpdate ? " FOR UPDATE" : ""),
+                (rs, rowNum) -> new RegenerableWorkOrder(
+                        rs.getLong(1),
+                        rs.getLong(2),
+                        rs.getLong(3),
+                        rs.getDate(4).toLocalDate(),
+                        rs.getInt(5)
+                ),
+                planCode, Date.valueOf(from)
+        );
+    }
+
+    public void insertWorkOrders(List<ScheduledWorkOrder> workOrders, Long planCode, Long employeeCode) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_work_order (work_written_date, ordered_quantity, completion_status, work_modified_date,"
+                        + " work_order_date, product_code, line_code, employee_code, plan_code)"
+                        + " VALUES (?, ?, 'IN_PROGRESS', ?, ?, ?, ?, ?, ?)",
+                workOrders, BATCH_SIZE, (ps, workOrder) -> {
+                    ps.setDate(1, Date.valueOf(now.toLocalDate()));
+                    ps.setInt(2, workOrder.getQuantity());
+                    ps.setTimestamp(3, Timestamp.valueOf(now));
+                    ps.setDate(4, Date.valueOf(workOrder.getWorkOrderDate()));
+                    ps.setLong(5, workOrder.getProductCode());
+                    ps.setLong(6, workOrder.getLineCode());
+                    ps.setLong(7, employeeCode);
+                    ps.setLong(8, planCode);
+                }
+        );
+    }
+
+    /* 라인/날짜는 그대로이고 상품, 수량만 바뀐다 */
+    public void updateWorkOrders(Map<Long, ScheduledWorkOrder> workOrders) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "UPDATE tbl_work_order SET product_code = ?, ordered_quantity = ?, work_modified_date = ?"
+                        + " WHERE work_order_code = ?",
+                new ArrayList<>(workOrders.entrySet()), BATCH_SIZE, (ps, entry) -> {
+                    ps.setLong(1, entry.getValue().getProductCode());
+                    ps.setInt(2, entry.getValue().getQuantity());
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, entry.getKey());
+                }
+        );
+    }
+
+    public void deleteWorkOrders(Collection<Long> workOrderCodes) {
+        if (workOrderCodes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(
+                "DELETE FROM tbl_work_order WHERE work_order_code IN (" + placeholders(workOrderCodes) + ")",
+                workOrderCodes.toArray()
+        );
+    }
+
+    private String placeholders(Collection<?> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+}
@@ -0,0 +1,17 @@
+package com.hmdandelion.project_1410002.production.domain.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/* 계획에서 생성된 작업지시 중 아직 손대지 않은 것(진행 전, 실적/자재 출고 없음). 재생성 시 고치거나 지울 수 있다. */
+@Getter
+@RequiredArgsConstructor
+public class RegenerableWorkOrder {
+    private final long workOrderCode;
+    private final long lineCode;
+    private final long productCode;
+    private final LocalDate workOrderDate;
+    private final int quantity;
+}
@@ -0,0 +1,15 @@
+package com.hmdandelion.project_1410002.production.domain.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/* 작업지시로 내려야 할 상품별 잔여 계획 수량과 납기 */
+@Getter
+@RequiredArgsConstructor
+public class ScheduleJob {
+    private final long productCode;
+    private final LocalDate deadline;
+    private final long quantity;
+}
@@ -0,0 +1,12 @@
+package com.hmdandelion.project_1410002.production.domain.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* 가동 가능한 라인과 하루 생산량 */
+@Getter
+@RequiredArgsConstructor
+public class ScheduleLine {
+    private final long lineCode;
+    private final int capacity;
+}
@@ -0,0 +1,21 @@
+package com.hmdandelion.project_1410002.production.domain.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/* 배정 결과 한 건. 라인 하나의 하루가 작업지시 하나가 된다. */
+@Getter
+@RequiredArgsConstructor
+public class ScheduledWorkOrder {
+    private final long lineCode;
+    private final long productCode;
+    private final LocalDate workOrderDate;
+    private final int quantity;
+    private final LocalDate deadline;
+
+    public boolean isLate() {
+        return workOrderDate.isAfter(deadline);
+    }
+}
@@ -0,0 +1,75 @@
+package com.hmdandelion.project_1410002.production.domain.schedule;
+
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/*
+ * 새 배정 결과와 기존 작업지시를 라인/날짜 단위로 비교한 결과.
+ * 같은 라인/날짜에 상품과 수량이 같으면 그대로 두고, 달라졌으면 수정, 새 배정에 없는 칸은 삭제, 새로 생긴 칸만 추가한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class WorkOrderRegeneration {
+    private final List<ScheduledWorkOrder> created;
+    /* 작업지시 코드 → 바뀐 배정 */
+    private final Map<Long, ScheduledWorkOrder> updated;
+    private final List<RegenerableWorkOrder> removed;
+    private final int unchanged;
+    /* 수정된 작업지시의 이전 상품 */
+    @Getter(AccessLevel.NONE)
+    private final Set<Long> replacedProductCodes;
+
+    public static WorkOrderRegeneration of(Collection<RegenerableWorkOrder> existing, Collection<ScheduledWorkOrder> target) {
+        Map<List<Object>, RegenerableWorkOrder> bySlot = new HashMap<>();
+        for (RegenerableWorkOrder workOrder : existing) {
+            RegenerableWorkOrder duplicate = bySlot.putIfAbsent(slot(workOrder.getLineCode(), workOrder.getWorkOrderDate()), workOrder);
+            if (duplicate != null) {
+                throw new BadRequestException(ExceptionCode.BAD_REQUEST_DUPLICATE_WORK_ORDER_SLOT);
+            }
+        }
+
+        List<ScheduledWorkOrder> created = new ArrayList<>();
+        Map<Long, ScheduledWorkOrder> updated = new LinkedHashMap<>();
+        Set<Long> replacedProductCodes = new HashSet<>();
+        int unchanged = 0;
+        for (ScheduledWorkOrder workOrder : target) {
+            RegenerableWorkOrder current = bySlot.remove(slot(workOrder.getLineCode(), workOrder.getWorkOrderDate()));
+            if (current == null) {
+                created.add(workOrder);
+            } else if (current.getProductCode() != workOrder.getProductCode() || current.getQuantity() != workOrder.getQuantity()) {
+                updated.put(current.getWorkOrderCode(), workOrder);
+                replacedProductCodes.add(current.getProductCode());
+            } else {
+                unchanged++;
+            }
+        }
+
+        List<RegenerableWorkOrder> removed = bySlot.values().stream()
+                .sorted(Comparator.comparing(RegenerableWorkOrder::getWorkOrderCode))
+                .toList();
+        return new WorkOrderRegeneration(created, updated, removed, unchanged, replacedProductCodes);
+    }
+
+    public boolean isEmpty() {
+        return created.isEmpty() && updated.isEmpty() && removed.isEmpty();
+    }
+
+    /* 수정은 이전 상품과 새 상품 모두 공급량이 바뀐다 */
+    public Set<Long> getAffectedProductCodes() {
+        Set<Long> productCodes = new HashSet<>(replacedProductCodes);
+        created.forEach(workOrder -> productCodes.add(workOrder.getProductCode()));
+        updated.values().forEach(workOrder -> productCodes.add(workOrder.getProductCode()));
+        removed.forEach(workOrder -> productCodes.add(workOrder.getProductCode()));
+        return productCodes;
+    }
+
+    private static List<Object> slot(long lineCode, LocalDate workOrderDate) {
+        return List.of(lineCode, workOrderDate);
+    }
+}
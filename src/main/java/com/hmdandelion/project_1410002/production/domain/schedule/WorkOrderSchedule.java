@@ -0,0 +1,15 @@
+package com.hmdandelion.project_1410002.production.domain.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/* 배정된 작업지시와, 기간 안에 라인이 모자라 배정하지 못한 상품별 수량 */
+@Getter
+@RequiredArgsConstructor
+public class WorkOrderSchedule {
+    private final List<ScheduledWorkOrder> workOrders;
+    private final Map<Long, Long> unscheduledQuantities;
+}
@@ -0,0 +1,111 @@
+package com.hmdandelion.project_1410002.production.domain.schedule;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/*
+ * 유한 용량 작업지시 배정. 날짜 순으로 하루씩 비어 있는 라인을 납기가 빠른 상품부터(EDF) 채운다.
+ * 라인 하나의 하루는 작업지시 하나(기존 규칙: 같은 라인, 같은 날짜에 작업지시 하나)이고 수량은 라인 생산량 이하다.
+ * 라인 선택은 지금까지 배정된 일수가 적은 라인을 우선해 부하를 고르게 하고,
+ * 남은 수량을 한 번에 끝낼 수 있는 라인이 있으면 그중 생산량이 가장 작은 라인을 써서 큰 라인을 아껴 둔다.
+ */
+public final class WorkOrderScheduler {
+
+    private WorkOrderScheduler() {
+    }
+
+    /* occupied[line][day] : 이미 작업지시가 있는 라인/날짜 */
+    public static WorkOrderSchedule schedule(List<ScheduleJob> jobs, List<ScheduleLine> lines,
+                                             boolean[][] occupied, LocalDate startDate, int days) {
+        int jobCount = jobs.size();
+        long[] remaining = new long[jobCount];
+        for (int i = 0; i < jobCount; i++) {
+            remaining[i] = jobs.get(i).getQuantity();
+        }
+
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Math.max(1, jobCount), (a, b) -> {
+            int byDeadline = jobs.get(a).getDeadline().compareTo(jobs.get(b).getDeadline());
+            if (byDeadline != 0) {
+                return byDeadline;
+            }
+            int byRemaining = Long.compare(remaining[b], remaining[a]);
+            return byRemaining != 0 ? byRemaining : Long.compare(jobs.get(a).getProductCode(), jobs.get(b).getProductCode());
+        });
+        for (int i = 0; i < jobCount; i++) {
+            if (remaining[i] > 0) {
+                queue.add(i);
+            }
+        }
+
+        int lineCount = lines.size();
+        int[] assignedDays = new int[lineCount];
+        boolean[] used = new boolean[lineCount];
+        List<ScheduledWorkOrder> workOrders = new ArrayList<>();
+
+        for (int day = 0; day < days && !queue.isEmpty(); day++) {
+            LocalDate date = startDate.plusDays(day);
+            int free = 0;
+            for (int line = 0; line < lineCount; line++) {
+                used[line] = occupied[line][day];
+                if (!used[line]) {
+                    free++;
+                }
+            }
+
+            while (free > 0 && !queue.isEmpty()) {
+                int job = queue.poll();
+                while (remaining[job] > 0 && free > 0) {
+                    int line = pickLine(lines, used, assignedDays, remaining[job]);
+                    int quantity = (int) Math.min(lines.get(line).getCapacity(), remaining[job]);
+
+                    workOrders.add(new ScheduledWorkOrder(
+                            lines.get(line).getLineCode(),
+                            jobs.get(job).getProductCode(),
+                            date,
+                            quantity,
+                            jobs.get(job).getDeadline()
+                    ));
+                    remaining[job] -= quantity;
+                    assignedDays[line]++;
+                    used[line] = true;
+                    free--;
+                }
+                if (remaining[job] > 0) {
+                    queue.add(job);
+                }
+            }
+        }
+
+        Map<Long, Long> unscheduled = new HashMap<>();
+        for (int i = 0; i < jobCount; i++) {
+            if (remaining[i] > 0) {
+                unscheduled.merge(jobs.get(i).getProductCode(), remaining[i], Long::sum);
+            }
+        }
+        return new WorkOrderSchedule(workOrders, unscheduled);
+    }
+
+    private static int pickLine(List<ScheduleLine> lines, boolean[] used, int[] assignedDays, long remaining) {
+        int bestFit = -1;
+        int fallback = -1;
+        for (int line = 0; line < lines.size(); line++) {
+            if (used[line]) {
+                continue;
+            }
+            int capacity = lines.get(line).getCapacity();
+            if (capacity >= remaining
+                    && (bestFit < 0 || isBefore(assignedDays[line], capacity, assignedDays[bestFit], lines.get(bestFit).getCapacity()))) {
+                bestFit = line;
+            }
+            if (fallback < 0 || isBefore(assignedDays[line], -capacity, assignedDays[fallback], -lines.get(fallback).getCapacity())) {
+                fallback = line;
+            }
+        }
+        return bestFit >= 0 ? bestFit : fallback;
+    }
+
+    /* 배정 일수가 적은 쪽, 같으면 key 가 작은 쪽 */
+    private static boolean isBefore(int days, int key, int otherDays, int otherKey) {
+        return days != otherDays ? days < otherDays : key < otherKey;
+    }
+}
@@ -0,0 +1,9 @@
+package com.hmdandelion.project_1410002.production.domain.type;
+
+/* 불량 분석 기준. MONTH 는 yyyyMM 정수 키로 묶고 시간 순으로 보여준다. */
+public enum DefectDimensionType {
+    REASON,
+    PRODUCT,
+    LINE,
+    MONTH
+}
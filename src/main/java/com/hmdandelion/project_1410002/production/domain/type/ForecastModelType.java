@@ -0,0 +1,7 @@
+package com.hmdandelion.project_1410002.production.domain.type;
+
+public enum ForecastModelType {
+    MOVING_AVERAGE,     // 최근 몇 주 평균
+    HOLT,               // 수준 + 감쇠 추세
+    HOLT_WINTERS        // 수준 + 감쇠 추세 + 52주 계절성 (2년 이상 이력)
+}
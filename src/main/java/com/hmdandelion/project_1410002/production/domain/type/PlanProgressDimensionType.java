@@ -0,0 +1,8 @@
+package com.hmdandelion.project_1410002.production.domain.type;
+
+/* 계획 대비 생산 집계 기준. MONTH 는 계획 종료월(yyyyMM 정수 키)로 묶는다. */
+public enum PlanProgressDimensionType {
+    PLAN,
+    PRODUCT,
+    MONTH
+}
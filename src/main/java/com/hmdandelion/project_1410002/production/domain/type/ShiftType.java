@@ -0,0 +1,36 @@
+package com.hmdandelion.project_1410002.production.domain.type;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/* 3교대 8시간 근무조. 06시 이전은 전날 야간조로 본다. */
+public enum ShiftType {
+    DAY,
+    SWING,
+    NIGHT;
+
+    public static final int HOURS = 8;
+    public static final int PER_DAY = 3;
+    private static final int DAY_START_HOUR = 6;
+
+    public static ShiftType of(LocalDateTime dateTime) {
+        int hour = dateTime.getHour();
+        if (hour >= DAY_START_HOUR && hour < DAY_START_HOUR + HOURS) {
+            return DAY;
+        }
+        if (hour >= DAY_START_HOUR + HOURS && hour < DAY_START_HOUR + HOURS * 2) {
+            return SWING;
+        }
+        return NIGHT;
+    }
+
+    /* 시각을 모를 때 쓰는 해당 일자 주간조 시작 시각 */
+    public static LocalDateTime dayShiftStart(LocalDate date) {
+        return date.atTime(DAY_START_HOUR, 0);
+    }
+
+    /* 근무조가 속한 생산일 */
+    public static LocalDate productionDate(LocalDateTime dateTime) {
+        return dateTime.minusHours(DAY_START_HOUR).toLocalDate();
+    }
+}
@@ -1,7 +1,6 @@
 package com.hmdandelion.project_1410002.production.dto.material.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.hmdandelion.project_1410002.inventory.domian.entity.product.Bom;
 import com.hmdandelion.project_1410002.inventory.dto.product.dto.BomDTO;
 import com.hmdandelion.project_1410002.production.domain.entity.line.Line;
 import com.hmdandelion.project_1410002.production.domain.entity.material.MaterialUsage;
@@ -41,7 +40,7 @@ public class MaterialUsageResponse {
                                            String departmentName,
                                            String phone,
                                            String lineName,
-                                           List<Bom> boms) {
+                                           List<BomDTO> boms) {
         return new MaterialUsageResponse(
                 usage.getUsageCode(),
                 usage.getUsageDatetime(),
@@ -52,7 +51,7 @@ public class MaterialUsageResponse {
                 departmentName,
                 phone,
                 lineName,
-                boms.stream().map(BomDTO::from).toList()
+                boms
         );
     }
 
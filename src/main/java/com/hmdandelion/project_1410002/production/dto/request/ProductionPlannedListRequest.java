@@ -8,9 +8,9 @@ public class ProductionPlannedListRequest {
 
     private final Long planListCode;
 
-    private final String requiredQuantity;
+    private final Integer requiredQuantity;
 
-    private final String plannedQuantity;
+    private final Integer plannedQuantity;
 
     private final String description;
 
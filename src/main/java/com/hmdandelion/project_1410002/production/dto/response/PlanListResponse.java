@@ -20,8 +20,8 @@ public class PlanListResponse {
     private final LocalDate startAt;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
     private final LocalDate endAt;
-    private final String requiredQuantity;
-    private final String plannedQuantity;
+    private final Integer requiredQuantity;
+    private final Integer plannedQuantity;
     private final Long productCode;
     private final String productName;
 
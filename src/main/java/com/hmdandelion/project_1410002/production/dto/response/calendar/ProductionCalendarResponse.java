@@ -0,0 +1,20 @@
+package com.hmdandelion.project_1410002.production.dto.response.calendar;
+
+import com.hmdandelion.project_1410002.production.domain.calendar.CalendarWorkOrder;
+import com.hmdandelion.project_1410002.production.domain.calendar.PlanPeriod;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class ProductionCalendarResponse {
+
+    private final LocalDate startAt;
+    private final LocalDate endAt;
+    /* 조회 기간과 하루라도 겹치는 생산계획, 시작일 순 */
+    private final List<PlanPeriod> plans;
+    private final List<CalendarWorkOrder> workOrders;
+}
@@ -0,0 +1,19 @@
+package com.hmdandelion.project_1410002.production.dto.response.forecast;
+
+import com.hmdandelion.project_1410002.production.domain.type.ForecastModelType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class DemandForecastResponse {
+
+    private final LocalDate weekStart;
+    private final Long forecastQuantity;
+    private final ForecastModelType model;
+    private final Double meanAbsoluteError;
+    private final LocalDateTime fittedAt;
+}
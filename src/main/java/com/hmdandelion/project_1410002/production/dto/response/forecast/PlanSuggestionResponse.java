@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.production.dto.response.forecast;
+
+import com.hmdandelion.project_1410002.production.domain.type.ForecastModelType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PlanSuggestionResponse {
+
+    private final Long productCode;
+    private final String productName;
+    /* 계획 기간에 걸친 주간 예측을 겹치는 일수만큼 안분한 합 */
+    private final Long suggestedQuantity;
+    private final ForecastModelType model;
+}
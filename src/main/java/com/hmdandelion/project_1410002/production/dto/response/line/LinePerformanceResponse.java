@@ -0,0 +1,45 @@
+package com.hmdandelion.project_1410002.production.dto.response.line;
+
+import com.hmdandelion.project_1410002.production.domain.performance.LinePerformanceRecord;
+import com.hmdandelion.project_1410002.production.domain.type.ShiftType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class LinePerformanceResponse {
+    private final Long lineCode;
+    private final String lineName;
+    private final LocalDate productionDate;
+    /* 하루 집계면 null */
+    private final ShiftType shift;
+    private final Long productionQuantity;
+    private final Long defectQuantity;
+    private final Long completelyQuantity;
+    private final Long lineProduction;
+    /* 근무 시간당 양품 수 */
+    private final Double throughput;
+    private final Double yield;
+    private final Double utilization;
+    private final Double defectRate;
+
+    public static LinePerformanceResponse of(final LinePerformanceRecord record, final String lineName) {
+        return new LinePerformanceResponse(
+                record.getLineCode(),
+                lineName,
+                record.getProductionDate(),
+                record.getShift(),
+                record.getProductionQuantity(),
+                record.getDefectQuantity(),
+                record.getCompletelyQuantity(),
+                record.getDailyCapacity(),
+                record.getThroughput(),
+                record.getYield(),
+                record.getUtilization(),
+                record.getDefectRate()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.hmdandelion.project_1410002.production.dto.response.production;
+
+import com.hmdandelion.project_1410002.production.domain.defect.DefectParetoItem;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class DefectParetoItemResponse {
+    /* 사유 코드, 상품 코드, 라인 코드 또는 yyyyMM */
+    private final Long key;
+    private final String name;
+    private final Long count;
+    private final Double share;
+    private final Double cumulativeShare;
+    private final boolean vitalFew;
+
+    public static DefectParetoItemResponse of(DefectParetoItem item, String name) {
+        return new DefectParetoItemResponse(
+                item.getKey(),
+                name,
+                item.getCount(),
+                item.getShare(),
+                item.getCumulativeShare(),
+                item.isVitalFew()
+        );
+    }
+}
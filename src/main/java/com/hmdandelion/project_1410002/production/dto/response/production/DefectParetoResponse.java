@@ -0,0 +1,25 @@
+package com.hmdandelion.project_1410002.production.dto.response.production;
+
+import com.hmdandelion.project_1410002.production.domain.type.DefectDimensionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class DefectParetoResponse {
+    private final DefectDimensionType dimension;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Long lineCode;
+    private final Long productCode;
+    /* 기간 내 불량 건수 */
+    private final Long total;
+    private final List<DefectParetoItemResponse> items;
+
+    public boolean covers(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+}
@@ -0,0 +1,33 @@
+package com.hmdandelion.project_1410002.production.dto.response.progress;
+
+import com.hmdandelion.project_1410002.production.domain.progress.PlanProgress;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PlanProgressItemResponse {
+    /* 계획 코드, 상품 코드 또는 yyyyMM */
+    private final Long key;
+    /* 상품명 또는 yyyy-MM. 계획 기준이면 null */
+    private final String name;
+    private final Long requiredQuantity;
+    private final Long plannedQuantity;
+    private final Long completelyQuantity;
+    private final Long defectQuantity;
+    private final Long remainingQuantity;
+    private final Double achievementRate;
+
+    public static PlanProgressItemResponse of(PlanProgress progress, String name) {
+        return new PlanProgressItemResponse(
+                progress.getKey(),
+                name,
+                progress.getRequiredQuantity(),
+                progress.getPlannedQuantity(),
+                progress.getCompletelyQuantity(),
+                progress.getDefectQuantity(),
+                progress.getRemainingQuantity(),
+                progress.getAchievementRate()
+        );
+    }
+}
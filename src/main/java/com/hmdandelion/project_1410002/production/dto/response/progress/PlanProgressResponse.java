@@ -0,0 +1,22 @@
+package com.hmdandelion.project_1410002.production.dto.response.progress;
+
+import com.hmdandelion.project_1410002.production.domain.type.PlanProgressDimensionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class PlanProgressResponse {
+    private final PlanProgressDimensionType dimension;
+    /* 계획 종료일 기준 기간 */
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Long planCode;
+    private final Long productCode;
+    private final Long totalPlannedQuantity;
+    private final Long totalCompletelyQuantity;
+    private final List<PlanProgressItemResponse> items;
+}
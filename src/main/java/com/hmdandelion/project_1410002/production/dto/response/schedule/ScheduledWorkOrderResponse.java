@@ -0,0 +1,36 @@
+package com.hmdandelion.project_1410002.production.dto.response.schedule;
+
+import com.hmdandelion.project_1410002.common.reference.ReferenceNames;
+import com.hmdandelion.project_1410002.production.domain.schedule.ScheduledWorkOrder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor
+public class ScheduledWorkOrderResponse {
+
+    private final LocalDate workOrderDate;
+    private final Long lineCode;
+    private final String lineName;
+    private final Long productCode;
+    private final String productName;
+    private final Integer orderedQuantity;
+    private final LocalDate deadline;
+    /* 납기를 넘겨 배정된 작업지시 */
+    private final boolean late;
+
+    public static ScheduledWorkOrderResponse of(ScheduledWorkOrder workOrder, ReferenceNames names) {
+        return new ScheduledWorkOrderResponse(
+                workOrder.getWorkOrderDate(),
+                workOrder.getLineCode(),
+                names.lineName(workOrder.getLineCode()),
+                workOrder.getProductCode(),
+                names.productName(workOrder.getProductCode()),
+                workOrder.getQuantity(),
+                workOrder.getDeadline(),
+                workOrder.isLate()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.hmdandelion.project_1410002.production.dto.response.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* 계획 기간 안에 라인이 모자라 배정하지 못한 수량 */
+@Getter
+@RequiredArgsConstructor
+public class UnscheduledQuantityResponse {
+
+    private final Long productCode;
+    private final String productName;
+    private final Long quantity;
+}
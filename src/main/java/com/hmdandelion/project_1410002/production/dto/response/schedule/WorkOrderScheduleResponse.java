@@ -0,0 +1,24 @@
+package com.hmdandelion.project_1410002.production.dto.response.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class WorkOrderScheduleResponse {
+
+    private final Long planCode;
+    /* 배정 구간. 오늘 이전 날짜에는 배정하지 않는다. */
+    private final LocalDate startAt;
+    private final LocalDate endAt;
+    private final List<ScheduledWorkOrderResponse> workOrders;
+    private final List<UnscheduledQuantityResponse> unscheduled;
+    /* 기존 작업지시 대비 변경 건수. 미리보기는 확정하면 바뀔 건수. */
+    private final int createdCount;
+    private final int updatedCount;
+    private final int removedCount;
+    private final int unchangedCount;
+}
@@ -0,0 +1,32 @@
+package com.hmdandelion.project_1410002.production.presentation;
+
+import com.hmdandelion.project_1410002.production.dto.response.forecast.DemandForecastResponse;
+import com.hmdandelion.project_1410002.production.service.DemandForecastService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class DemandForecastController {
+
+    private final DemandForecastService demandForecastService;
+
+    /* 상품별 주간 수요 예측 조회 */
+    @GetMapping("/production/forecasts/{productCode}")
+    public ResponseEntity<List<DemandForecastResponse>> getForecasts(
+            @PathVariable final Long productCode
+    ) {
+        return ResponseEntity.ok(demandForecastService.getForecasts(productCode));
+    }
+
+    /* 전체 상품 수요 예측 재적합 (주간 배치를 기다리지 않고 바로 돌릴 때) */
+    @PostMapping("/production/forecasts")
+    public ResponseEntity<Void> refitForecasts() {
+        demandForecastService.refit();
+        return ResponseEntity.noContent().build();
+    }
+}
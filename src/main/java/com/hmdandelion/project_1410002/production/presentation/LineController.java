@@ -3,16 +3,21 @@ package com.hmdandelion.project_1410002.production.presentation;
 import com.hmdandelion.project_1410002.production.domain.type.LineStatusType;
 import com.hmdandelion.project_1410002.production.dto.request.LineCreateRequest;
 import com.hmdandelion.project_1410002.production.dto.request.LineUpdateRequest;
+import com.hmdandelion.project_1410002.production.dto.response.line.LinePerformanceResponse;
 import com.hmdandelion.project_1410002.production.dto.response.line.LineResponse;
+import com.hmdandelion.project_1410002.production.service.LinePerformanceService;
 import com.hmdandelion.project_1410002.production.service.LineService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
 
 @Slf4j
 @RestController
@@ -22,6 +27,8 @@ public class LineController {
 
     private final LineService lineService;
 
+    private final LinePerformanceService linePerformanceService;
+
     @GetMapping("/lines")
     public ResponseEntity<Page<LineResponse>> getLines(
             @RequestParam(required = false) Long lineCode,
@@ -34,6 +41,27 @@ public class LineController {
         return ResponseEntity.ok(lineResponses);
     }
 
+    /* 라인 실적 지표 (처리량, 수율, 가동률, 불량률). byShift 면 근무조별, 아니면 일별. lineCode 가 없으면 전체 라인 */
+    @GetMapping("/lines/performance")
+    public ResponseEntity<List<LinePerformanceResponse>> getPerformance(
+            @RequestParam(required = false) final Long lineCode,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate endDate,
+            @RequestParam(defaultValue = "false") final boolean byShift
+    ) {
+        return ResponseEntity.ok(linePerformanceService.getPerformance(lineCode, startDate, endDate, byShift));
+    }
+
+    /* 기간의 라인 실적을 생산 보고서 기준으로 다시 계산 */
+    @PostMapping("/lines/performance/rebuild")
+    public ResponseEntity<Void> rebuildPerformance(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate endDate
+    ) {
+        linePerformanceService.rebuild(startDate, endDate);
+        return ResponseEntity.noContent().build();
+    }
+
     /* 등록 */
     @PostMapping("/lines")
     public ResponseEntity<Void> save(
@@ -4,13 +4,16 @@ import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.paging.Pagination;
 import com.hmdandelion.project_1410002.common.paging.PagingButtonInfo;
 import com.hmdandelion.project_1410002.common.paging.PagingResponse;
+import com.hmdandelion.project_1410002.production.domain.type.DefectDimensionType;
 import com.hmdandelion.project_1410002.production.domain.type.ProductionStatusType;
 
 import com.hmdandelion.project_1410002.production.dto.request.createProductionRequest.ReportCreateRequest;
 import com.hmdandelion.project_1410002.production.dto.request.updateProductionRequest.ReportUpdateRequest;
 import com.hmdandelion.project_1410002.production.dto.response.production.DefectDetailResponse;
+import com.hmdandelion.project_1410002.production.dto.response.production.DefectParetoResponse;
 import com.hmdandelion.project_1410002.production.dto.response.production.ProductionDetailResponse;
 import com.hmdandelion.project_1410002.production.dto.response.production.ProductionReportResponse;
+import com.hmdandelion.project_1410002.production.service.DefectAnalyticsService;
 import com.hmdandelion.project_1410002.production.service.ProductionService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +21,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -33,6 +38,8 @@ public class ProductionManagerController {
 
     private final ProductionService productionService;
 
+    private final DefectAnalyticsService defectAnalyticsService;
+
     /*조회*/
     @GetMapping("/production/reports")
     public ResponseEntity<PagingResponse> getProductionReports(
@@ -66,6 +73,17 @@ public class ProductionManagerController {
         return ResponseEntity.ok(defectDetailResponses);
     }
 
+    /* 불량 파레토 분석. 기준(사유/상품/라인/월)별 건수, 비율, 누적 비율. 라인, 상품으로 좁힐 수 있다 */
+    @GetMapping("/production/defects/pareto")
+    public ResponseEntity<DefectParetoResponse> getDefectPareto(
+            @RequestParam(defaultValue = "REASON") DefectDimensionType dimension,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(required = false) Long lineCode,
+            @RequestParam(required = false) Long productCode) {
+        return ResponseEntity.ok(defectAnalyticsService.getPareto(dimension, startDate, endDate, lineCode, productCode));
+    }
+
     /* 보고서 등록 */
     @PostMapping("/production/reports")
     public ResponseEntity<Long> createReport(@RequestBody ReportCreateRequest reportCreateRequest) {
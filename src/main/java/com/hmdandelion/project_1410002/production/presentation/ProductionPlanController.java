@@ -3,20 +3,29 @@ package com.hmdandelion.project_1410002.production.presentation;
 import com.hmdandelion.project_1410002.common.paging.Pagination;
 import com.hmdandelion.project_1410002.common.paging.PagingButtonInfo;
 import com.hmdandelion.project_1410002.common.paging.PagingResponse;
-import com.hmdandelion.project_1410002.production.dto.request.PlannedOrderListRequest;
+import com.hmdandelion.project_1410002.production.domain.type.PlanProgressDimensionType;
 import com.hmdandelion.project_1410002.production.dto.request.ProductionPlanCreateRequest;
 import com.hmdandelion.project_1410002.production.dto.request.ProductionPlanUpdateRequest;
 import com.hmdandelion.project_1410002.production.dto.response.PlanListResponse;
+import com.hmdandelion.project_1410002.production.dto.response.calendar.ProductionCalendarResponse;
+import com.hmdandelion.project_1410002.production.dto.response.forecast.PlanSuggestionResponse;
 import com.hmdandelion.project_1410002.production.dto.response.production.SimplePlanResponse;
+import com.hmdandelion.project_1410002.production.dto.response.progress.PlanProgressResponse;
+import com.hmdandelion.project_1410002.production.dto.response.schedule.WorkOrderScheduleResponse;
+import com.hmdandelion.project_1410002.production.service.DemandForecastService;
+import com.hmdandelion.project_1410002.production.service.PlanProgressService;
 import com.hmdandelion.project_1410002.production.service.PlanService;
+import com.hmdandelion.project_1410002.production.service.ProductionCalendarService;
+import com.hmdandelion.project_1410002.production.service.WorkOrderScheduleService;
 import lombok.Getter;
-import com.hmdandelion.project_1410002.sales.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.net.URI;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Optional;
 import java.util.List;
@@ -28,7 +37,13 @@ public class ProductionPlanController {
 
     private final PlanService planService;
 
-    private final OrderService orderService;
+    private final DemandForecastService demandForecastService;
+
+    private final WorkOrderScheduleService workOrderScheduleService;
+
+    private final ProductionCalendarService productionCalendarService;
+
+    private final PlanProgressService planProgressService;
 
     /* 내가 설정한 시작날짜 종료날짜에 대한 생산 계획 조회 start */
     @GetMapping("/production/planning")
@@ -45,6 +60,36 @@ public class ProductionPlanController {
     }
     /* 내가 설정한 시작날짜 종료날짜에 대한 생산 계획 조회 end */
 
+    /* 월별 생산 캘린더 (계획 기간, 라인별 작업지시). lineCode 가 없으면 전체 라인 */
+    @GetMapping("/production/calendar")
+    public ResponseEntity<ProductionCalendarResponse> getCalendar(
+            @RequestParam final String month,
+            @RequestParam(required = false) final Long lineCode)
+    {
+        return ResponseEntity.ok(productionCalendarService.getMonth(YearMonth.parse(month), lineCode));
+    }
+
+    /* 계획 대비 생산 현황. 계획 종료일이 기간 안인 계획을 계획/상품/월 기준으로 집계 */
+    @GetMapping("/production/planning/progress")
+    public ResponseEntity<PlanProgressResponse> getPlanProgress(
+            @RequestParam(defaultValue = "PLAN") final PlanProgressDimensionType dimension,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate endDate,
+            @RequestParam(required = false) final Long planCode,
+            @RequestParam(required = false) final Long productCode)
+    {
+        return ResponseEntity.ok(planProgressService.getProgress(dimension, startDate, endDate, planCode, productCode));
+    }
+
+    /* 생산 계획 등록 시 계획 기간의 수요 예측으로 상품별 계획 수량 제안 */
+    @GetMapping("/production/planning/suggestions")
+    public ResponseEntity<List<PlanSuggestionResponse>> getPlanSuggestions(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate startAt,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") final LocalDate endAt)
+    {
+        return ResponseEntity.ok(demandForecastService.getPlanSuggestions(startAt, endAt));
+    }
+
     /* 생산 계획 등록 start */
     @PostMapping("/production/planning")
     public ResponseEntity<Void> planSave (
@@ -52,11 +97,6 @@ public class ProductionPlanController {
       {
             final Long planCode = planService.planSave(productionPlanCreateRequest);
 
-          List<PlannedOrderListRequest> plannedOrderListRequests = productionPlanCreateRequest.getPlannedOrderListRequests();
-          for (PlannedOrderListRequest orderRequest : plannedOrderListRequests) {
-              orderService.updateOrderStatusToInProduction(orderRequest.getOrderCode());
-          }
-
             return ResponseEntity.created(URI.create("/api/v1/production/planning/" + planCode)).build();
     }
     /* 생산 계획 등록 end */
@@ -84,6 +124,23 @@ public class ProductionPlanController {
             }
     /* 생산 계획 삭제 end */
 
+    /* 계획 잔여 수량의 라인별 작업지시 배정 미리보기 (저장하지 않음) */
+    @GetMapping("/production/planning/{planCode}/schedule")
+    public ResponseEntity<WorkOrderScheduleResponse> getScheduleDraft(
+            @PathVariable final Long planCode)
+    {
+        return ResponseEntity.ok(workOrderScheduleService.getDraft(planCode));
+    }
+
+    /* 배정 결과를 작업지시와 원자재 사용으로 저장. 계획 수정 후 다시 호출하면 바뀐 날짜만 반영한다. */
+    @PostMapping("/production/planning/{planCode}/schedule")
+    public ResponseEntity<WorkOrderScheduleResponse> commitSchedule(
+            @PathVariable final Long planCode,
+            @RequestParam final Long employeeCode)
+    {
+        return ResponseEntity.ok(workOrderScheduleService.commit(planCode, employeeCode));
+    }
+
 
     // 한결 : 금일 이후의 생산계획을 조회하는 기능
     @GetMapping("/production/planning/today-after")
@@ -0,0 +1,159 @@
+package com.hmdandelion.project_1410002.production.service;
+
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.common.reference.ReferenceCodes;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNameResolver;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNames;
+import com.hmdandelion.project_1410002.production.domain.defect.DefectPareto;
+import com.hmdandelion.project_1410002.production.domain.defect.DefectParetoItem;
+import com.hmdandelion.project_1410002.production.domain.defect.DefectReasons;
+import com.hmdandelion.project_1410002.production.domain.repository.production.DefectAnalyticsRepo;
+import com.hmdandelion.project_1410002.production.domain.type.DefectDimensionType;
+import com.hmdandelion.project_1410002.production.dto.response.production.DefectParetoItemResponse;
+import com.hmdandelion.project_1410002.production.dto.response.production.DefectParetoResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 불량 파레토 분석. 사유는 정규화해서 사전 코드로 저장하므로 집계는 정수 키 GROUP BY 한 번이다.
+ * 결과는 (기준, 기간, 필터) 별로 캐시하고, 보고서 등록/수정으로 불량이 바뀐 날짜를 포함하는 캐시만 커밋 후 버린다.
+ * 보고서 삭제처럼 통보되지 않는 변경은 CACHE_TTL 이 지나면 다시 집계된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DefectAnalyticsService {
+
+    private static final long CACHE_TTL = TimeUnit.MINUTES.toNanos(10);
+    private static final int MAX_CACHED = 256;
+
+    private final DefectAnalyticsRepo defectAnalyticsRepo;
+
+    private final ReferenceNameResolver referenceNameResolver;
+
+    private final Set<String> knownReasons = ConcurrentHashMap.newKeySet();
+    private final Map<String, CachedPareto> cache = new ConcurrentHashMap<>();
+    private volatile Map<Long, String> reasonNames = Map.of();
+
+    public DefectParetoResponse getPareto(DefectDimensionType dimension, LocalDate startDate, LocalDate endDate,
+                                          Long lineCode, Long productCode) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_PERIOD);
+        }
+        String key = dimension + "|" + startDate + "|" + endDate + "|" + lineCode + "|" + productCode;
+        CachedPareto cached = cache.get(key);
+        if (cached != null && System.nanoTime() - cached.loadedAt < CACHE_TTL) {
+            return cached.response;
+        }
+
+        Map<Long, Long> counts = defectAnalyticsRepo.countDefects(dimension, startDate, endDate, lineCode, productCode);
+        List<DefectParetoItem> items = DefectPareto.of(counts, dimension == DefectDimensionType.MONTH);
+        Map<Long, String> names = findNames(dimension, counts.keySet());
+
+        DefectParetoResponse response = new DefectParetoResponse(
+                dimension,
+                startDate,
+                endDate,
+                lineCode,
+                productCode,
+                counts.values().stream().mapToLong(Long::longValue).sum(),
+                items.stream()
+                        .map(item -> DefectParetoItemResponse.of(item, names.get(item.getKey())))
+                        .toList()
+        );
+
+        if (cache.size() >= MAX_CACHED) {
+            cache.clear();
+        }
+        cache.put(key, new CachedPareto(response, System.nanoTime()));
+        return response;
+    }
+
+    /* 보고서 저장 전에 새 사유를 사전에 넣는다. 롤백되면 사전도 같이 롤백되므로 알려진 사유는 커밋 후에 기록 */
+    @Transactional
+    public void registerReasons(Collection<String> reasons) {
+        Set<String> newReasons = new HashSet<>();
+        for (String reason : reasons) {
+            String normalized = DefectReasons.normalize(reason);
+            if (normalized != null && !knownReasons.contains(normalized)) {
+                newReasons.add(normalized);
+            }
+        }
+        if (newReasons.isEmpty()) {
+            return;
+        }
+        defectAnalyticsRepo.registerReasons(newReasons);
+        afterCommit(() -> knownReasons.addAll(newReasons));
+    }
+
+    /* 불량이 바뀐 검수 일시. 해당 날짜를 포함하는 기간의 캐시만 버린다 */
+    public void invalidate(Collection<LocalDateTime> inspectionDates) {
+        Set<LocalDate> dates = new HashSet<>();
+        inspectionDates.stream()
+                .filter(Objects::nonNull)
+                .forEach(inspectionDate -> dates.add(inspectionDate.toLocalDate()));
+        if (dates.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> cache.values().removeIf(cached -> dates.stream().anyMatch(cached.response::covers)));
+    }
+
+    private Map<Long, String> findNames(DefectDimensionType dimension, Set<Long> keys) {
+        Map<Long, String> names = new HashMap<>();
+        switch (dimension) {
+            case REASON -> {
+                if (!reasonNames.keySet().containsAll(keys)) {
+                    reasonNames = defectAnalyticsRepo.findReasonNames();
+                }
+                keys.forEach(key -> names.put(key, reasonNames.getOrDefault(key, DefectReasons.UNSPECIFIED)));
+            }
+            case PRODUCT -> {
+                ReferenceCodes codes = new ReferenceCodes();
+                keys.forEach(codes::addProduct);
+                ReferenceNames referenceNames = referenceNameResolver.resolve(codes);
+                keys.forEach(key -> names.put(key, referenceNames.productName(key)));
+            }
+            case LINE -> {
+                ReferenceCodes codes = new ReferenceCodes();
+                keys.forEach(codes::addLine);
+                ReferenceNames referenceNames = referenceNameResolver.resolve(codes);
+                keys.forEach(key -> names.put(key, referenceNames.lineName(key)));
+            }
+            case MONTH -> keys.forEach(key -> names.put(key, String.format("%d-%02d", key / 100, key % 100)));
+        }
+        return names;
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private static final class CachedPareto {
+        private final DefectParetoResponse response;
+        private final long loadedAt;
+
+        private CachedPareto(DefectParetoResponse response, long loadedAt) {
+            this.response = response;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
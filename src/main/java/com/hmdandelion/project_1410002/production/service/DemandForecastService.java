@@ -0,0 +1,87 @@
+package com.hmdandelion.project_1410002.production.service;
+
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.production.domain.forecast.DemandForecaster;
+import com.hmdandelion.project_1410002.production.domain.forecast.ForecastResult;
+import com.hmdandelion.project_1410002.production.domain.repository.forecast.DemandForecastRepo;
+import com.hmdandelion.project_1410002.production.dto.response.forecast.DemandForecastResponse;
+import com.hmdandelion.project_1410002.production.dto.response.forecast.PlanSuggestionResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/*
+ * 주문 이력으로 상품별 주간 수요를 예측해 생산계획 등록 시 계획 수량 제안으로 쓴다.
+ * 최근 5년 주간 주문량을 한 번에 읽어 상품별로 전용 ForkJoinPool 에서 병렬로 적합하고, 결과 테이블을 통째로 교체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DemandForecastService {
+
+    private static final int HISTORY_WEEKS = 260;
+    private static final int HORIZON_WEEKS = 12;
+
+    private final DemandForecastRepo demandForecastRepo;
+
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    @PreDestroy
+    void shutdown() {
+        forkJoinPool.shutdownNow();
+    }
+
+    /* 매주 월요일 새벽 전체 재적합 */
+    @Scheduled(cron = "0 0 4 * * MON")
+    @Transactional
+    public int refit() {
+        LocalDate firstWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        Map<Long, double[]> demands = demandForecastRepo.findWeeklyDemands(firstWeek.minusWeeks(HISTORY_WEEKS), HISTORY_WEEKS);
+
+        long[] productCodes = new long[demands.size()];
+        double[][] series = new double[demands.size()][];
+        int index = 0;
+        for (Map.Entry<Long, double[]> entry : demands.entrySet()) {
+            productCodes[index] = entry.getKey();
+            series[index++] = entry.getValue();
+        }
+
+        List<ForecastResult> results = forkJoinPool.submit(() -> IntStream.range(0, productCodes.length)
+                .parallel()
+                .mapToObj(i -> DemandForecaster.forecast(productCodes[i], series[i], HORIZON_WEEKS))
+                .filter(Objects::nonNull)
+                .toList()
+        ).join();
+
+        demandForecastRepo.replaceForecasts(results, firstWeek, LocalDateTime.now());
+        log.info("수요 예측 재적합 완료 : 상품 {}개, {} 부터 {}주", results.size(), firstWeek, HORIZON_WEEKS);
+        return results.size();
+    }
+
+    @Transactional(readOnly = true)
+    public List<DemandForecastResponse> getForecasts(Long productCode) {
+        return demandForecastRepo.findForecasts(productCode);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlanSuggestionResponse> getPlanSuggestions(LocalDate startAt, LocalDate endAt) {
+        if (startAt.isAfter(endAt)) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_PLAN_PERIOD);
+        }
+        return demandForecastRepo.findPlanSuggestions(startAt, endAt);
+    }
+}
@@ -0,0 +1,119 @@
+package com.hmdandelion.project_1410002.production.service;
+
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.common.reference.ReferenceCodes;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNameResolver;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNames;
+import com.hmdandelion.project_1410002.production.domain.entity.production.ProductionDetail;
+import com.hmdandelion.project_1410002.production.domain.performance.LinePerformanceChanges;
+import com.hmdandelion.project_1410002.production.domain.performance.LinePerformanceRecord;
+import com.hmdandelion.project_1410002.production.domain.repository.line.LinePerformanceRepo;
+import com.hmdandelion.project_1410002.production.dto.request.updateProductionRequest.ProductionDetailUpdateRequest;
+import com.hmdandelion.project_1410002.production.dto.response.line.LinePerformanceResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 라인별 생산일/근무조 실적(생산, 불량, 양품 수량)을 시계열 테이블에 증감분으로 유지하고,
+ * 처리량, 수율, 가동률, 불량률은 조회할 때 수량에서 계산한다.
+ * 보고서 등록/수정/삭제는 증감분으로 반영하고, 직접 수정처럼 통보되지 않는 변경은 매일 새벽 최근 기간을 원본 기준으로 다시 계산해 바로잡는다.
+ * 그 이전 기간은 마이그레이션 백필과 증감분으로 유지되며, 필요하면 rebuild 로 기간을 지정해 다시 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LinePerformanceService {
+
+    private static final int REBUILD_DAYS = 7;
+
+    private final LinePerformanceRepo linePerformanceRepo;
+
+    private final ReferenceNameResolver referenceNameResolver;
+
+    @Transactional(readOnly = true)
+    public List<LinePerformanceResponse> getPerformance(Long lineCode, LocalDate startDate, LocalDate endDate, boolean byShift) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_PERIOD);
+        }
+        List<LinePerformanceRecord> records = byShift
+                ? linePerformanceRepo.findShiftRecords(lineCode, startDate, endDate)
+                : linePerformanceRepo.findDailyRecords(lineCode, startDate, endDate);
+
+        ReferenceCodes codes = new ReferenceCodes();
+        records.forEach(record -> codes.addLine(record.getLineCode()));
+        ReferenceNames names = referenceNameResolver.resolve(codes);
+
+        return records.stream()
+                .map(record -> LinePerformanceResponse.of(record, names.lineName(record.getLineCode())))
+                .toList();
+    }
+
+    /* 보고서 등록. 상세의 작업지시서가 로딩되어 있어야 한다. */
+    public void recordReport(LocalDateTime startAt, List<ProductionDetail> details) {
+        LinePerformanceChanges changes = new LinePerformanceChanges();
+        details.forEach(detail -> changes.add(
+                detail.getWorkOrder(), startAt,
+                detail.getProductionQuantity(), detail.getDefectQuantity(), detail.getCompletelyQuantity()
+        ));
+        linePerformanceRepo.upsert(changes.getDeltas());
+    }
+
+    /* 보고서 수정. details 는 수정 전 값, updates 는 바뀐 상세의 요청(상세 코드 기준) */
+    public void recordModification(LocalDateTime previousStartAt, LocalDateTime startAt,
+                                   List<ProductionDetail> details, Map<Long, ProductionDetailUpdateRequest> updates) {
+        LinePerformanceChanges changes = new LinePerformanceChanges();
+        for (ProductionDetail detail : details) {
+            changes.subtract(
+                    detail.getWorkOrder(), previousStartAt,
+                    detail.getProductionQuantity(), detail.getDefectQuantity(), detail.getCompletelyQuantity()
+            );
+            ProductionDetailUpdateRequest update = updates.get(detail.getProductionDetailCode());
+            if (update == null) {
+                changes.add(
+                        detail.getWorkOrder(), startAt,
+                        detail.getProductionQuantity(), detail.getDefectQuantity(), detail.getCompletelyQuantity()
+                );
+            } else {
+                changes.add(
+                        detail.getWorkOrder(), startAt,
+                        update.getProductionQuantity(), update.getDefectQuantity(), update.getCompletelyQuantity()
+                );
+            }
+        }
+        linePerformanceRepo.upsert(changes.getDeltas());
+    }
+
+    /* 보고서 삭제. 삭제 전 상세 값만큼 뺀다. */
+    public void recordRemoval(LocalDateTime startAt, List<ProductionDetail> details) {
+        LinePerformanceChanges changes = new LinePerformanceChanges();
+        details.forEach(detail -> changes.subtract(
+                detail.getWorkOrder(), startAt,
+                detail.getProductionQuantity(), detail.getDefectQuantity(), detail.getCompletelyQuantity()
+        ));
+        linePerformanceRepo.upsert(changes.getDeltas());
+    }
+
+    public void rebuild(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_PERIOD);
+        }
+        linePerformanceRepo.rebuild(startDate, endDate);
+    }
+
+    @Scheduled(cron = "0 10 4 * * *")
+    public void rebuildRecent() {
+        LocalDate today = LocalDate.now();
+        linePerformanceRepo.rebuild(today.minusDays(REBUILD_DAYS), today);
+        log.info("라인 실적 재계산 완료");
+    }
+}
@@ -1,5 +1,7 @@
 package com.hmdandelion.project_1410002.production.service;
 
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheManager;
+import com.hmdandelion.project_1410002.common.cache.ReferenceCacheType;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
 import com.hmdandelion.project_1410002.production.domain.entity.line.Line;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class LineService {
     private final LineRepo lineRepo;
+    private final ReferenceCacheManager referenceCacheManager;
 
     @Transactional(readOnly = true)
     public Page<LineResponse> getLineInfo(final Long lineCode, final LineStatusType lineStatusType) {
@@ -62,17 +65,19 @@ public class LineService {
                 lineUpdateRequest.getLineStatusType()
         );
         lineRepo.save(line);
+        referenceCacheManager.evict(ReferenceCacheType.LINE);
     }
 
     /* 삭제 */
     public void remove(Long lineCode) {
 
         lineRepo.deleteById(lineCode);
+        referenceCacheManager.evict(ReferenceCacheType.LINE);
     }
 
     public String findNameByCode(Long lineCode) {
-        return lineRepo.findLineByLineCode(lineCode)
-                            .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_LINE_CODE)).getLineName();
+        return referenceCacheManager.get(ReferenceCacheType.LINE, lineCode, () -> lineRepo.findLineByLineCode(lineCode)
+                            .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_LINE_CODE)).getLineName());
     }
 }
 
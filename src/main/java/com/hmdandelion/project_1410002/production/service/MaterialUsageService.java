@@ -1,10 +1,14 @@
 package com.hmdandelion.project_1410002.production.service;
 
 import com.hmdandelion.project_1410002.common.exception.NoContentsException;
+import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.inventory.dto.product.dto.BomDTO;
+import com.hmdandelion.project_1410002.inventory.service.BomExplosionService;
 import com.hmdandelion.project_1410002.inventory.service.MaterialStockService;
 import com.hmdandelion.project_1410002.production.domain.entity.WorkOrder;
 import com.hmdandelion.project_1410002.production.domain.entity.material.MaterialUsage;
+import com.hmdandelion.project_1410002.production.domain.repository.material.MaterialUsageBatchRepo;
 import com.hmdandelion.project_1410002.production.domain.repository.material.MaterialUsageRepo;
 import com.hmdandelion.project_1410002.production.dto.material.MaterialUsageDTO;
 import com.hmdandelion.project_1410002.production.dto.material.StockUsageDTO;
@@ -13,8 +17,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -22,9 +28,11 @@ import java.util.List;
 public class MaterialUsageService {
 
     private final MaterialUsageRepo materialUsageRepo;
+    private final MaterialUsageBatchRepo materialUsageBatchRepo;
     private final MaterialStockService materialStockService;
     private final StockUsageService stockUsageService;
     private final LineService lineService;
+    private final BomExplosionService bomExplosionService;
 
 
     public void usageCreate(WorkOrder workOrder) {
@@ -32,6 +40,15 @@ public class MaterialUsageService {
         materialUsageRepo.save(createOne);
     }
 
+    /* 계획에서 생성된 작업지시 중 원자재 사용이 없는 것에 한 번에 생성 */
+    public int usageCreateByPlan(Long planCode) {
+        return materialUsageBatchRepo.insertMissingByPlan(planCode);
+    }
+
+    public void usageRemoveReady(Collection<Long> workOrderCodes) {
+        materialUsageBatchRepo.deleteReadyByWorkOrders(workOrderCodes);
+    }
+
 
     public Page<MaterialUsageDTO> searchUse(Pageable pageable, String materialName, String sortType) {
         List<Long> stockCodes = new ArrayList<>();
@@ -51,8 +68,12 @@ public class MaterialUsageService {
         return list;
     }
 
+    /* BOM 전개는 캐시를 쓰는 BomExplosionService 에 맡기고 결과만 조회에 넘긴다 */
+    @Transactional(readOnly = true)
     public MaterialUsageResponse findOne(Long usageCode) {
-
-        return materialUsageRepo.getMaterialUsage(usageCode);
+        MaterialUsage usage = materialUsageRepo.findById(usageCode)
+                .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_USAGE_CODE));
+        List<BomDTO> boms = bomExplosionService.getExplodedBoms(usage.getWorkOrder().getProductCode());
+        return materialUsageRepo.getMaterialUsage(usage, boms);
     }
 }
@@ -0,0 +1,63 @@
+package com.hmdandelion.project_1410002.production.service;
+
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.common.reference.ReferenceCodes;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNameResolver;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNames;
+import com.hmdandelion.project_1410002.production.domain.progress.PlanProgress;
+import com.hmdandelion.project_1410002.production.domain.repository.productionPlan.PlanProgressRepo;
+import com.hmdandelion.project_1410002.production.domain.type.PlanProgressDimensionType;
+import com.hmdandelion.project_1410002.production.dto.response.progress.PlanProgressItemResponse;
+import com.hmdandelion.project_1410002.production.dto.response.progress.PlanProgressResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/* 계획 대비 생산 현황. 계획/상품/월 기준 모두 집계 쿼리 한 번으로 끝난다. */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlanProgressService {
+
+    private final PlanProgressRepo planProgressRepo;
+
+    private final ReferenceNameResolver referenceNameResolver;
+
+    public PlanProgressResponse getProgress(PlanProgressDimensionType dimension, LocalDate startDate, LocalDate endDate,
+                                            Long planCode, Long productCode) {
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_PERIOD);
+        }
+
+        List<PlanProgress> progresses = planProgressRepo.findProgress(dimension, startDate, endDate, planCode, productCode);
+        ReferenceNames names = dimension == PlanProgressDimensionType.PRODUCT ? resolveProductNames(progresses) : null;
+        List<PlanProgressItemResponse> items = progresses.stream()
+                .map(progress -> PlanProgressItemResponse.of(progress, switch (dimension) {
+                    case PLAN -> null;
+                    case PRODUCT -> names.productName(progress.getKey());
+                    case MONTH -> String.format("%d-%02d", progress.getKey() / 100, progress.getKey() % 100);
+                }))
+                .toList();
+
+        return new PlanProgressResponse(
+                dimension,
+                startDate,
+                endDate,
+                planCode,
+                productCode,
+                progresses.stream().mapToLong(PlanProgress::getPlannedQuantity).sum(),
+                progresses.stream().mapToLong(PlanProgress::getCompletelyQuantity).sum(),
+                items
+        );
+    }
+
+    private ReferenceNames resolveProductNames(List<PlanProgress> progresses) {
+        ReferenceCodes codes = new ReferenceCodes();
+        progresses.forEach(progress -> codes.addProduct(progress.getKey()));
+        return referenceNameResolver.resolve(codes);
+    }
+}
@@ -1,20 +1,24 @@
 package com.hmdandelion.project_1410002.production.service;
 
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
 import com.hmdandelion.project_1410002.production.domain.entity.PlannedOrderList;
 import com.hmdandelion.project_1410002.production.domain.entity.ProductionPlan;
 import com.hmdandelion.project_1410002.production.domain.entity.ProductionPlannedList;
 import com.hmdandelion.project_1410002.production.domain.repository.productionPlan.ProductionPlanRepo;
+import com.hmdandelion.project_1410002.production.dto.request.PlannedOrderListRequest;
 import com.hmdandelion.project_1410002.production.dto.request.ProductionPlanCreateRequest;
 import com.hmdandelion.project_1410002.production.dto.request.ProductionPlanUpdateRequest;
 import com.hmdandelion.project_1410002.production.dto.response.PlanListResponse;
 import com.hmdandelion.project_1410002.production.dto.response.production.SimplePlanResponse;
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import com.hmdandelion.project_1410002.sales.service.AvailableToPromiseService;
+import com.hmdandelion.project_1410002.sales.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,9 +35,13 @@ import static com.hmdandelion.project_1410002.common.exception.type.ExceptionCod
 public class PlanService {
 
     private final ProductionPlanRepo productionPlanRepo;
+    private final AvailableToPromiseService availableToPromiseService;
+    private final ProductionCalendarService productionCalendarService;
+    private final OrderService orderService;
 
+    /* 정렬은 쿼리에서 종료일, 계획코드 순으로 */
     private Pageable getPageable(final Integer page) {
-        return PageRequest.of(page - 1, 10, Sort.by("planCode").descending());
+        return PageRequest.of(page - 1, 10);
     }
 
     @Transactional(readOnly = true)
@@ -42,7 +50,12 @@ public class PlanService {
         LocalDate startAt = LocalDate.parse(dt + "-01");
         LocalDate endAt = startAt.with(TemporalAdjusters.lastDayOfMonth());
 
-        Page<PlanListResponse> planList = productionPlanRepo.findPlanDetails(getPageable(page), startAt , endAt);
+        // 해당 월과 겹치는 계획은 캘린더에서 찾고, 상세는 계획코드로 조회
+        List<Long> planCodes = productionCalendarService.findPlanCodes(startAt, endAt);
+        if (planCodes.isEmpty()) {
+            return Page.empty(getPageable(page));
+        }
+        Page<PlanListResponse> planList = productionPlanRepo.findPlanDetails(getPageable(page), planCodes);
 
         return planList;
     }
@@ -53,19 +66,28 @@ public class PlanService {
         LocalDate startAt = productionPlanCreateRequest.getStartAt();
         LocalDate endAt = productionPlanCreateRequest.getEndAt();
 
-        // 해당 날짜와 겹치는 계획이 있는지 확인
-        boolean overlappingPlansExist = productionPlanRepo.existsByDateRange(startAt, endAt);
+        // 해당 날짜와 겹치는 계획이 있는지 확인 (캘린더는 다른 서버 변경이 늦게 보일 수 있어 DB 로 확인)
+        boolean overlappingPlansExist = !productionPlanRepo.findOverlappingForUpdate(startAt, endAt).isEmpty();
         if (overlappingPlansExist) {
             // 겹치는 계획이 있으면 예외를 발생시킵니다.
             throw new NotFoundException(ALREADY_EXIST_PRODUCTION_PLAN);
         }
 
+        // 연결된 주문은 모두 접수 상태에서 생산중으로 바뀌어야 한다. 하나라도 거절되면 계획 저장까지 롤백
+        List<Long> orderCodes = productionPlanCreateRequest.getPlannedOrderListRequests().stream()
+                .map(PlannedOrderListRequest::getOrderCode)
+                .toList();
+        if (!orderCodes.isEmpty()
+                && !orderService.modifyStatuses(orderCodes, OrderStatus.IN_PRODUCTION).getRejectedOrders().isEmpty()) {
+            throw new NotFoundException(ExceptionCode.NOT_FOUND_ORDER_CODE);
+        }
+
         List<ProductionPlannedList> productionPlanList = productionPlanCreateRequest.getProductionPlannedLists().stream().map(productionPlannedListRequest -> {
                     return ProductionPlannedList.of(
                             productionPlannedListRequest.getProductCode(),
-                            productionPlannedListRequest.getPlannedQuantity(),
+                            toQuantity(productionPlannedListRequest.getPlannedQuantity()),
                             productionPlannedListRequest.getDescription(),
-                            productionPlannedListRequest.getRequiredQuantity()
+                            toQuantity(productionPlannedListRequest.getRequiredQuantity())
 //                            ,newPlan
 
                     );
@@ -91,6 +113,8 @@ public class PlanService {
 //        newPlan.createPlan(productionPlanList, plannedOrderList);
 
         final ProductionPlan plan = productionPlanRepo.save(newPlan);
+        productionCalendarService.putPlan(plan.getPlanCode(), plan.getStartAt(), plan.getEndAt());
+        availableToPromiseService.invalidateAll();
 
         return plan.getPlanCode();
     }
@@ -107,21 +131,31 @@ public class PlanService {
                             .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCTION_PLANNED_LIST_CODE));
 
                     productionPlannedList.planModify(
-                            productionPlannedListRequest.getPlannedQuantity(),
+                            toQuantity(productionPlannedListRequest.getPlannedQuantity()),
                             productionPlannedListRequest.getDescription()
                     );
                 }
         );
 
+        // 바뀐 기간이 다른 계획과 겹치는지 확인 (자기 자신 제외)
+        if (productionPlanRepo.findOverlappingForUpdate(productionPlanUpdateRequest.getStartAt(), productionPlanUpdateRequest.getEndAt())
+                .stream().anyMatch(plan -> !plan.getPlanCode().equals(planCode))) {
+            throw new NotFoundException(ALREADY_EXIST_PRODUCTION_PLAN);
+        }
+
         productionPlan.planModify(
                 productionPlanUpdateRequest.getStartAt(),
                 productionPlanUpdateRequest.getEndAt()
         );
+        productionCalendarService.putPlan(planCode, productionPlan.getStartAt(), productionPlan.getEndAt());
+        availableToPromiseService.invalidateAll();
     }
 
     public void planRemove(Long planCode) {
 
         productionPlanRepo.deleteById(planCode);
+        productionCalendarService.removePlan(planCode);
+        availableToPromiseService.invalidateAll();
     }
 
     //플랜코드로 플랜을 조회하는 코드 (by한결)
@@ -137,4 +171,11 @@ public class PlanService {
                                  .map(SimplePlanResponse::from)
                                  .toList();
     }
+
+    private int toQuantity(Integer quantity) {
+        if (quantity == null || quantity < 0) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_PLANNED_QUANTITY);
+        }
+        return quantity;
+    }
 }
@@ -0,0 +1,164 @@
+package com.hmdandelion.project_1410002.production.service;
+
+import com.hmdandelion.project_1410002.production.domain.calendar.CalendarWorkOrder;
+import com.hmdandelion.project_1410002.production.domain.calendar.PlanPeriod;
+import com.hmdandelion.project_1410002.production.domain.calendar.ProductionCalendar;
+import com.hmdandelion.project_1410002.production.domain.entity.WorkOrder;
+import com.hmdandelion.project_1410002.production.domain.repository.productionPlan.ProductionCalendarRepo;
+import com.hmdandelion.project_1410002.production.dto.response.calendar.ProductionCalendarResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 생산계획 기간과 라인별 작업지시 일자를 메모리의 구간 트리로 유지한다.
+ * 월별 계획 목록과 캘린더 조회는 DB 를 보지 않는다.
+ * 다른 서버의 변경은 최대 STALE_AFTER 만큼 늦게 보이므로 저장 시 겹침/라인 점유 확인은 DB 로만 한다.
+ * 기동 시 전체를 적재하고, 저장/수정/삭제는 커밋 이후에 반영한다.
+ * 통보가 누락된 경로(다른 서버, 직접 수정 등)가 있더라도 STALE_AFTER 가 지나면 조회 시점에 다시 적재한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductionCalendarService {
+
+    private static final long STALE_AFTER = TimeUnit.MINUTES.toNanos(5);
+
+    private final ProductionCalendarRepo productionCalendarRepo;
+
+    private final Map<Long, PlanPeriod> plans = new HashMap<>();
+    private final Map<Long, CalendarWorkOrder> workOrders = new HashMap<>();
+    private volatile ProductionCalendar calendar = ProductionCalendar.EMPTY;
+    private volatile boolean reloadRequired = true;
+    private volatile boolean rebuildRequired;
+    private volatile long loadedAt;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            /* 기동은 막지 않고 첫 조회 때 다시 적재한다 */
+            log.warn("생산 캘린더 적재 실패", e);
+        }
+    }
+
+    /* 기간과 겹치는 계획 코드. 종료일이 빠른 순, 같으면 최근 계획 순 */
+    public List<Long> findPlanCodes(LocalDate startAt, LocalDate endAt) {
+        return current().findPlans(startAt, endAt).stream()
+                .sorted(Comparator.comparing(PlanPeriod::getEndAt)
+                        .thenComparing(PlanPeriod::getPlanCode, Comparator.reverseOrder()))
+                .map(PlanPeriod::getPlanCode)
+                .toList();
+    }
+
+    public ProductionCalendarResponse getMonth(YearMonth month, Long lineCode) {
+        ProductionCalendar snapshot = current();
+        LocalDate startAt = month.atDay(1);
+        LocalDate endAt = month.atEndOfMonth();
+        return new ProductionCalendarResponse(
+                startAt,
+                endAt,
+                snapshot.findPlans(startAt, endAt),
+                snapshot.findWorkOrders(lineCode, startAt, endAt)
+        );
+    }
+
+    public void putPlan(Long planCode, LocalDate startAt, LocalDate endAt) {
+        PlanPeriod plan = new PlanPeriod(planCode, startAt, endAt);
+        afterCommit(() -> change(() -> plans.put(planCode, plan)));
+    }
+
+    public void removePlan(Long planCode) {
+        afterCommit(() -> change(() -> plans.remove(planCode)));
+    }
+
+    public void putWorkOrder(WorkOrder workOrder) {
+        CalendarWorkOrder calendarWorkOrder = new CalendarWorkOrder(
+                workOrder.getWorkOrderCode(),
+                workOrder.getLineCode(),
+                workOrder.getProductCode(),
+                workOrder.getWorkOrderDate(),
+                workOrder.getOrderedQuantity()
+        );
+        afterCommit(() -> change(() -> workOrders.put(calendarWorkOrder.getWorkOrderCode(), calendarWorkOrder)));
+    }
+
+    public void removeWorkOrder(Long workOrderCode) {
+        afterCommit(() -> change(() -> workOrders.remove(workOrderCode)));
+    }
+
+    /* 일괄 등록처럼 코드를 돌려받지 않는 변경은 전체를 다시 적재 */
+    public void invalidateAll() {
+        afterCommit(() -> reloadRequired = true);
+    }
+
+    private ProductionCalendar current() {
+        if (isReloadRequired() || rebuildRequired) {
+            refresh();
+        }
+        return calendar;
+    }
+
+    private boolean isReloadRequired() {
+        return reloadRequired || System.nanoTime() - loadedAt > STALE_AFTER;
+    }
+
+    /* 동시에 들어온 조회가 한 번만 적재하도록 잠근 뒤 다시 확인 */
+    private synchronized void refresh() {
+        if (isReloadRequired()) {
+            reload();
+        } else if (rebuildRequired) {
+            rebuild();
+        }
+    }
+
+    private void reload() {
+        List<PlanPeriod> loadedPlans = productionCalendarRepo.findPlanPeriods();
+        List<CalendarWorkOrder> loadedWorkOrders = productionCalendarRepo.findWorkOrders();
+
+        plans.clear();
+        loadedPlans.forEach(plan -> plans.put(plan.getPlanCode(), plan));
+        workOrders.clear();
+        loadedWorkOrders.forEach(workOrder -> workOrders.put(workOrder.getWorkOrderCode(), workOrder));
+
+        reloadRequired = false;
+        loadedAt = System.nanoTime();
+        rebuild();
+    }
+
+    private void rebuild() {
+        rebuildRequired = false;
+        calendar = ProductionCalendar.of(plans.values(), workOrders.values());
+    }
+
+    private synchronized void change(Runnable change) {
+        change.run();
+        rebuildRequired = true;
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
@@ -1,33 +1,35 @@
 package com.hmdandelion.project_1410002.production.service;
 
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
 import com.hmdandelion.project_1410002.common.exception.CustomException;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
-import com.hmdandelion.project_1410002.employee.service.EmployeeService;
+import com.hmdandelion.project_1410002.common.reference.ReferenceCodes;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNameResolver;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNames;
 import com.hmdandelion.project_1410002.inventory.domian.entity.product.Product;
 import com.hmdandelion.project_1410002.inventory.domian.entity.stock.Stock;
 import com.hmdandelion.project_1410002.inventory.domian.repository.product.ProductRepo;
-import com.hmdandelion.project_1410002.inventory.domian.repository.stock.StockRepo;
-import com.hmdandelion.project_1410002.inventory.service.ProductService;
 import com.hmdandelion.project_1410002.production.domain.entity.WorkOrder;
 import com.hmdandelion.project_1410002.production.domain.entity.production.DefectDetail;
 import com.hmdandelion.project_1410002.production.domain.entity.production.ProductionDetail;
 import com.hmdandelion.project_1410002.production.domain.entity.production.ProductionManagement;
 import com.hmdandelion.project_1410002.production.domain.repository.production.DefectDetailRepo;
 import com.hmdandelion.project_1410002.production.domain.repository.production.ProductionDetailRepo;
+import com.hmdandelion.project_1410002.production.domain.repository.production.ProductionReportBatchRepo;
 import com.hmdandelion.project_1410002.production.domain.repository.production.ProductionRepo;
 import com.hmdandelion.project_1410002.production.domain.repository.productionPlan.WorkOrderRepo;
+import com.hmdandelion.project_1410002.production.domain.report.ProductionReportDiff;
+import com.hmdandelion.project_1410002.production.domain.report.StockChange;
 import com.hmdandelion.project_1410002.production.domain.type.ProductionStatusType;
-import com.hmdandelion.project_1410002.production.domain.type.WorkOrderStatusType;
 import com.hmdandelion.project_1410002.production.dto.request.createProductionRequest.DefectDetailCreateRequest;
 import com.hmdandelion.project_1410002.production.dto.request.createProductionRequest.ProductionDetailCreateRequest;
 import com.hmdandelion.project_1410002.production.dto.request.createProductionRequest.ReportCreateRequest;
-import com.hmdandelion.project_1410002.production.dto.request.updateProductionRequest.DefectDetailUpdateRequest;
-import com.hmdandelion.project_1410002.production.dto.request.updateProductionRequest.ProductionDetailUpdateRequest;
 import com.hmdandelion.project_1410002.production.dto.request.updateProductionRequest.ReportUpdateRequest;
 import com.hmdandelion.project_1410002.production.dto.response.production.DefectDetailResponse;
 import com.hmdandelion.project_1410002.production.dto.response.production.ProductionDetailResponse;
 import com.hmdandelion.project_1410002.production.dto.response.production.ProductionReportResponse;
+import com.hmdandelion.project_1410002.sales.service.AvailableToPromiseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -39,9 +41,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -57,11 +62,12 @@ public class ProductionService {
     private final ProductionDetailRepo productionDetailRepo;
     private final DefectDetailRepo defectDetailRepo;
     private final WorkOrderRepo workOrderRepo;
-    private final StockRepo stockRepo;
     private final ProductRepo productRepo;
-    private final LineService lineService;
-    private final EmployeeService employeeService; // 수정된 부분
-    private final ProductService productService; // 수정된 부분
+    private final AvailableToPromiseService availableToPromiseService;
+    private final ReferenceNameResolver referenceNameResolver;
+    private final ProductionReportBatchRepo productionReportBatchRepo;
+    private final LinePerformanceService linePerformanceService;
+    private final DefectAnalyticsService defectAnalyticsService;
 
     /* 페이징 */
     private Pageable getPageable(final Integer page) {
@@ -83,14 +89,23 @@ public class ProductionService {
             productionManagements = productionRepo.findAll(page);
 //            log.info("findAll로 실행됨");
         }
+        /* 페이지 안의 상세/작업지시서와 상품명을 한 번씩만 조회한다 */
+        Map<Long, List<ProductionDetail>> detailsByReport = productionDetailRepo.findAllWithWorkOrder(productionManagements.getContent()).stream()
+                .collect(Collectors.groupingBy(detail -> detail.getProductionManagement().getProductionStatusCode()));
+
+        ReferenceCodes referenceCodes = new ReferenceCodes();
+        detailsByReport.values().forEach(details -> details.forEach(detail -> referenceCodes.addProduct(detail.getWorkOrder().getProductCode())));
+        ReferenceNames referenceNames = referenceNameResolver.resolve(referenceCodes);
+
         return productionManagements.map(productionManagement -> {
-            List<String> productNames = productionManagement.getProductionDetails().stream()
-                    .map(detail -> productService.getProduct(detail.getWorkOrder().getProductCode()).getProductName())
+            List<ProductionDetail> details = detailsByReport.getOrDefault(productionManagement.getProductionStatusCode(), List.of());
+            List<String> productNames = details.stream()
+                    .map(detail -> referenceNames.productName(detail.getWorkOrder().getProductCode()))
                     .distinct()
                     .collect(Collectors.toList());
 
             String stylizationName = formatProductNames(productNames);
-            Map<Long, Integer> orderedQuantityMap = productionManagement.getProductionDetails().stream()
+            Map<Long, Integer> orderedQuantityMap = details.stream()
                     .collect(Collectors.groupingBy(
                             detail -> detail.getWorkOrder().getWorkOrderCode(),
                             Collectors.summingInt(detail -> detail.getWorkOrder().getOrderedQuantity())
@@ -134,11 +149,20 @@ public class ProductionService {
         Optional<ProductionManagement> optionalProductionManagement = productionRepo.findByProductionStatusCode(productionStatusCode);
         ProductionManagement productionManagement = optionalProductionManagement.orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCTION_CODE));
 
+        List<ProductionDetail> details = productionDetailRepo.findAllWithWorkOrder(List.of(productionManagement));
+        ReferenceCodes referenceCodes = new ReferenceCodes();
+        for (ProductionDetail productionDetail : details) {
+            referenceCodes.addLine(productionDetail.getWorkOrder().getLineCode())
+                    .addEmployee(productionDetail.getWorkOrder().getEmployeeCode())
+                    .addProduct(productionDetail.getWorkOrder().getProductCode());
+        }
+        ReferenceNames referenceNames = referenceNameResolver.resolve(referenceCodes);
+
         List<ProductionDetailResponse> productionDetails = new ArrayList<>();
-        for (ProductionDetail productionDetail : productionManagement.getProductionDetails()) {
-            final String lineName = lineService.findNameByCode(productionDetail.getWorkOrder().getLineCode());
-            final String employeeName = employeeService.findById(productionDetail.getWorkOrder().getEmployeeCode()).getEmployeeName();
-            final String productName = productService.getProduct(productionDetail.getWorkOrder().getProductCode()).getProductName();
+        for (ProductionDetail productionDetail : details) {
+            final String lineName = referenceNames.lineName(productionDetail.getWorkOrder().getLineCode());
+            final String employeeName = referenceNames.employeeName(productionDetail.getWorkOrder().getEmployeeCode());
+            final String productName = referenceNames.productName(productionDetail.getWorkOrder().getProductCode());
 
             final ProductionDetailResponse productionDetailResponse = ProductionDetailResponse.of(
                     productionDetail.getProductionDetailCode(),
@@ -174,7 +198,8 @@ public class ProductionService {
         return defectDetails;
     }
 
-    /* 보고서 등록 */
+    /* 보고서 등록
+     * 작업지시서, 상품은 IN 조회로 한 번에 가져오고, 상세/불량/재검수 재고는 메모리에서 만든 뒤 JDBC 배치로 넣는다. */
     public Long reportSave(ReportCreateRequest reportCreateRequest) {
         // ProductionManagement 생성 및 저장
         final ProductionManagement newProductionManagement = ProductionManagement.
@@ -186,105 +211,162 @@ public class ProductionService {
                         reportCreateRequest.getProductionStatus());
         productionRepo.save(newProductionManagement);
 
-        // ProductionDetail 생성 및 저장
-        for (ProductionDetailCreateRequest productionDetailRequest : reportCreateRequest.getProductionDetails()) {
-            WorkOrder workOrder = workOrderRepo.findByWorkOrderCode(productionDetailRequest.getWorkOrderCode()).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_WORK_ORDER));
-            ProductionDetail newProductionDetail = ProductionDetail.of(newProductionManagement, workOrder, productionDetailRequest.getProductionQuantity(), productionDetailRequest.getDefectQuantity(), productionDetailRequest.getCompletelyQuantity(), productionDetailRequest.getInspectionDate(), productionDetailRequest.getInspectionStatusType(), productionDetailRequest.getProductionMemo(), productionDetailRequest.getProductionStatusType()
-            );
-            productionDetailRepo.save(newProductionDetail);
+        List<ProductionDetailCreateRequest> detailRequests = reportCreateRequest.getProductionDetails();
+        Map<Long, WorkOrder> workOrders = workOrderRepo.findAllById(
+                        detailRequests.stream().map(ProductionDetailCreateRequest::getWorkOrderCode).collect(Collectors.toSet())
+                ).stream()
+                .collect(Collectors.toMap(WorkOrder::getWorkOrderCode, Function.identity()));
+
+        List<ProductionDetail> newProductionDetails = new ArrayList<>();
+        for (ProductionDetailCreateRequest productionDetailRequest : detailRequests) {
+            WorkOrder workOrder = Optional.ofNullable(workOrders.get(productionDetailRequest.getWorkOrderCode()))
+                    .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_WORK_ORDER));
+            newProductionDetails.add(ProductionDetail.of(newProductionManagement, workOrder, productionDetailRequest.getProductionQuantity(), productionDetailRequest.getDefectQuantity(), productionDetailRequest.getCompletelyQuantity(), productionDetailRequest.getInspectionDate(), productionDetailRequest.getInspectionStatusType(), productionDetailRequest.getProductionMemo(), productionDetailRequest.getProductionStatusType()));
+        }
 
-            // 해당 ProductionDetail 에 대한 DefectDetail 생성 및 저장
-            for (DefectDetailCreateRequest defectDetailRequest : productionDetailRequest.getDefectDetails()) {
-                DefectDetail newDefectDetail = DefectDetail.of(newProductionDetail, defectDetailRequest.getDefectReason(), defectDetailRequest.getDefectStatus(), defectDetailRequest.getDefectFile());
-                defectDetailRepo.save(newDefectDetail);
+        List<Long> detailCodes = productionReportBatchRepo.insertDetails(newProductionDetails);
+
+        // 해당 ProductionDetail 에 대한 DefectDetail 생성 및 저장
+        List<DefectDetail> newDefectDetails = new ArrayList<>();
+        List<Long> defectDetailCodes = new ArrayList<>();
+        for (int i = 0; i < detailRequests.size(); i++) {
+            for (DefectDetailCreateRequest defectDetailRequest : detailRequests.get(i).getDefectDetails()) {
+                newDefectDetails.add(DefectDetail.of(newProductionDetails.get(i), defectDetailRequest.getDefectReason(), defectDetailRequest.getDefectStatus(), defectDetailRequest.getDefectFile()));
+                defectDetailCodes.add(detailCodes.get(i));
+            }
+        }
+        defectAnalyticsService.registerReasons(newDefectDetails.stream().map(DefectDetail::getDefectReason).toList());
+        productionReportBatchRepo.insertDefects(newDefectDetails, defectDetailCodes);
+
+        // ProductionDetail의 상태가 PRODUCTION_COMPLETED이면 작업지시서 완료 처리 및 재검수 재고 등록
+        Set<Long> completedWorkOrderCodes = new HashSet<>();
+        List<StockChange> stockChanges = new ArrayList<>();
+        for (int i = 0; i < newProductionDetails.size(); i++) {
+            ProductionDetail detail = newProductionDetails.get(i);
+            if (detail.getProductionStatus() != ProductionStatusType.PRODUCTION_COMPLETED) {
+                continue;
             }
-            // ProductionDetail의 상태가 PRODUCTION_COMPLETED이면 WorkOrder의 completionStatus를 DONE으로 변경
-            if (productionDetailRequest.getProductionStatusType() == ProductionStatusType.PRODUCTION_COMPLETED) {
-                workOrder.setCompletionStatus(WorkOrderStatusType.DONE);
-                workOrderRepo.save(workOrder);
+            completedWorkOrderCodes.add(detail.getWorkOrder().getWorkOrderCode());
+            int completelyQuantity = detail.getCompletelyQuantity() == null ? 0 : detail.getCompletelyQuantity();
+            if (completelyQuantity < 0) {
+                throw new BadRequestException(ExceptionCode.BAD_REQUEST_COMPLETELY_QUANTITY);
             }
-            // ProductionDetail의 상태가 PRODUCTION_COMPLETED이면 Stock에 저장
-            if (productionDetailRequest.getProductionStatusType() == ProductionStatusType.PRODUCTION_COMPLETED) {
-                Product product = productRepo.findById(workOrder.getProductCode())
-                        .orElseThrow(() -> new CustomException(ExceptionCode.NOT_FOUND_PRODUCT_CODE));
-                Stock newStock = Stock.of(
-                        Long.valueOf(newProductionDetail.getCompletelyQuantity()),
-                        RE_INSPECTION,
-                        product
-                );
-                stockRepo.save(newStock);
+            if (completelyQuantity != 0) {
+                stockChanges.add(new StockChange(detailCodes.get(i), null, detail.getWorkOrder().getProductCode(), completelyQuantity, completelyQuantity));
             }
         }
+        productionReportBatchRepo.completeWorkOrders(completedWorkOrderCodes);
+        applyStockChanges(stockChanges);
+        linePerformanceService.recordReport(newProductionManagement.getStartAt(), newProductionDetails);
+        defectAnalyticsService.invalidate(newProductionDetails.stream().map(ProductionDetail::getInspectionDate).toList());
+
+        availableToPromiseService.invalidate(
+                newProductionDetails.stream().map(detail -> detail.getWorkOrder().getProductCode()).collect(Collectors.toSet())
+        );
         return newProductionManagement.getProductionStatusCode();
     }
 
-    /* 보고서 수정 */
+    /* 보고서 수정
+     * 보고서 행을 잠근 뒤 상세/불량을 한 번에 읽어 요청과 비교하고, 바뀐 것만 배치로 반영한다.
+     * 재고는 상세마다 이미 적재된 수량과의 차이만 반영하므로 같은 수정을 반복해도 중복 적재되지 않는다. */
     public void modifyReport(Long productionStatusCode, ReportUpdateRequest reportUpdateRequest) {
-        ProductionManagement productionManagement = productionRepo.findByProductionStatusCode(productionStatusCode).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCTION_CODE));
+        ProductionManagement productionManagement = productionRepo.findWithLockByProductionStatusCode(productionStatusCode).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCTION_CODE));
+        LocalDateTime previousStartAt = productionManagement.getStartAt();
 
         // ProductionManagement 엔터티 수정
         productionManagement.modifyReport(reportUpdateRequest.getProductionManagementUpdateRequest().getStartAt(), reportUpdateRequest.getProductionManagementUpdateRequest().getCompletedAt(), reportUpdateRequest.getProductionManagementUpdateRequest().getTotalProductionQuantity(), reportUpdateRequest.getProductionManagementUpdateRequest().getProductionFile(), reportUpdateRequest.getProductionManagementUpdateRequest().getProductionStatus());
 
-        // ProductionDetail 엔터티 수정
-
-        for (ProductionDetailUpdateRequest productionDetailRequest : reportUpdateRequest.getProductionDetailUpdateRequest()) {
-            WorkOrder workOrder = workOrderRepo.findByWorkOrderCode(productionDetailRequest.getWorkOrderCode()).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_WORK_ORDER));
-
-            ProductionDetail productionDetail = productionDetailRepo.findByProductionDetailCode(productionDetailRequest.getProductionStatusCode()).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PRODUCTION_DETAIL));
-            productionDetail.modifyDetail(
-                    productionDetailRequest.getProductionQuantity(), productionDetailRequest.
-                            getDefectQuantity(), productionDetailRequest.getCompletelyQuantity(),
-                    productionDetailRequest.getInspectionDate(), productionDetailRequest.getInspectionStatusType(),
-                    productionDetailRequest.getProductionMemo(), productionDetailRequest.getProductionStatusType());
-
-            // 연관된 불량 상세 정보 수정
-            /* 타겟 엔티티 조회 */
-            List<DefectDetail> defectDetails = defectDetailRepo.findByProductionDetail(productionDetail);
-            Map<Long, DefectDetail> defectDetailMap = defectDetails.stream().collect(Collectors.toMap(DefectDetail::getDefectCode, Function.identity()));
-
-            for (DefectDetailUpdateRequest defectDetailUpdateRequest : productionDetailRequest.getDefectDetailUpdateRequest()) {
-                if (defectDetailUpdateRequest.getId() != null) {
-                    DefectDetail defectDetailUpdate = defectDetailMap.get(defectDetailUpdateRequest.getId());
-                    if (defectDetailUpdate != null) {
-                        defectDetailUpdate.modifyDetail(defectDetailUpdate.getDefectReason(), defectDetailUpdate.getDefectStatus(), defectDetailUpdate.getDefectFile());
-                        defectDetailMap.remove(defectDetailUpdateRequest.getId());
-                    } else {
-                        throw new NotFoundException(ExceptionCode.NOT_FOUND_DEFECT_DATA);
-                    }
-                } else {
-                    DefectDetail newDefectDetail = new DefectDetail(productionDetail, defectDetailUpdateRequest.getDefectReason(), defectDetailUpdateRequest.getDefectStatus(), defectDetailUpdateRequest.getDefectFile());
-                    defectDetailRepo.save(newDefectDetail);
-                }
-                /* 나윤님 작업지시서 상태 자동 변화 */
-                if (productionDetailRequest.getProductionStatusType() == ProductionStatusType.PRODUCTION_COMPLETED) {
-                    workOrder.setCompletionStatus(WorkOrderStatusType.DONE);
-                    workOrderRepo.save(workOrder);
-                }
-                // ProductionDetail의 상태가 PRODUCTION_COMPLETED이면 Stock에 저장
-                if (productionDetailRequest.getProductionStatusType() == ProductionStatusType.PRODUCTION_COMPLETED) {
-                    Product product = productRepo.findById(workOrder.getProductCode())
-                            .orElseThrow(() -> new CustomException(ExceptionCode.NOT_FOUND_PRODUCT_CODE));
-                    Stock newStock = Stock.of(
-                            Long.valueOf(productionDetail.getCompletelyQuantity()),
-                            RE_INSPECTION,
-                            product
-                    );
-                    stockRepo.save(newStock);
-                }
-            }
-            for (DefectDetail defectDetailToDelete : defectDetailMap.values()) {
-                defectDetailRepo.delete(defectDetailToDelete);
-            }
+        List<ProductionDetail> details = productionDetailRepo.findAllWithWorkOrder(List.of(productionManagement));
+        List<DefectDetail> defects = details.isEmpty() ? List.of() : defectDetailRepo.findByProductionDetailIn(details);
+        ProductionReportDiff diff = ProductionReportDiff.of(details, defects, reportUpdateRequest.getProductionDetailUpdateRequest());
+
+        productionReportBatchRepo.updateDetails(diff.getDetailUpdates());
+
+        List<DefectDetail> newDefectDetails = new ArrayList<>();
+        List<Long> defectDetailCodes = new ArrayList<>();
+        for (ProductionReportDiff.DefectInsert insert : diff.getDefectInserts()) {
+            newDefectDetails.add(DefectDetail.of(insert.getProductionDetail(), insert.getRequest().getDefectReason(), insert.getRequest().getDefectStatus(), insert.getRequest().getDefectFile()));
+            defectDetailCodes.add(insert.getProductionDetail().getProductionDetailCode());
         }
-        productionRepo.save(productionManagement);
+        List<String> defectReasons = new ArrayList<>();
+        newDefectDetails.forEach(defect -> defectReasons.add(defect.getDefectReason()));
+        diff.getDefectUpdates().forEach(update -> defectReasons.add(update.getRequest().getDefectReason()));
+        defectAnalyticsService.registerReasons(defectReasons);
+
+        productionReportBatchRepo.insertDefects(newDefectDetails, defectDetailCodes);
+        productionReportBatchRepo.updateDefects(diff.getDefectUpdates());
+        productionReportBatchRepo.deleteDefects(diff.getDefectDeletes());
+
+        /* 나윤님 작업지시서 상태 자동 변화 */
+        productionReportBatchRepo.completeWorkOrders(diff.getCompletedWorkOrderCodes());
+        applyStockChanges(diff.getStockChanges());
+        linePerformanceService.recordModification(
+                previousStartAt,
+                productionManagement.getStartAt(),
+                details,
+                diff.getDetailUpdates().stream().collect(Collectors.toMap(
+                        ProductionReportDiff.DetailUpdate::getProductionDetailCode,
+                        ProductionReportDiff.DetailUpdate::getRequest,
+                        (previous, next) -> next
+                ))
+        );
+
+        // 검수 일시가 바뀐 경우를 포함해 수정 전후 날짜의 불량 집계 캐시를 버린다
+        List<LocalDateTime> inspectionDates = new ArrayList<>();
+        details.forEach(detail -> inspectionDates.add(detail.getInspectionDate()));
+        diff.getDetailUpdates().forEach(update -> inspectionDates.add(update.getRequest().getInspectionDate()));
+        defectAnalyticsService.invalidate(inspectionDates);
+
+        availableToPromiseService.invalidate(
+                details.stream().map(detail -> detail.getWorkOrder().getProductCode()).collect(Collectors.toSet())
+        );
     }
 
-    /* 보고서 삭제 */
+    /* 재고 코드가 없는 변경은 새 재검수 재고를 만들고, 있으면 수량만 증감한 뒤 상세에 적재 수량을 기록한다 */
+    private void applyStockChanges(List<StockChange> stockChanges) {
+        if (stockChanges.isEmpty()) {
+            return;
+        }
+        List<StockChange> newStockChanges = stockChanges.stream()
+                .filter(change -> change.getStockCode() == null)
+                .toList();
+        Map<Long, Product> products = productRepo.findAllById(
+                        newStockChanges.stream().map(StockChange::getProductCode).collect(Collectors.toSet())
+                ).stream()
+                .collect(Collectors.toMap(Product::getProductCode, Function.identity()));
+
+        List<Stock> newStocks = new ArrayList<>();
+        for (StockChange change : newStockChanges) {
+            Product product = Optional.ofNullable(products.get(change.getProductCode()))
+                    .orElseThrow(() -> new CustomException(ExceptionCode.NOT_FOUND_PRODUCT_CODE));
+            newStocks.add(Stock.of(change.getDelta(), RE_INSPECTION, product));
+        }
+        List<Long> stockCodes = productionReportBatchRepo.insertStocks(newStocks);
+
+        Map<Long, Long> stockCodeByDetail = new HashMap<>();
+        for (int i = 0; i < newStockChanges.size(); i++) {
+            stockCodeByDetail.put(newStockChanges.get(i).getProductionDetailCode(), stockCodes.get(i));
+        }
+
+        List<StockChange> existingStockChanges = stockChanges.stream()
+                .filter(change -> change.getStockCode() != null)
+                .toList();
+        if (productionReportBatchRepo.addStockQuantities(existingStockChanges) != existingStockChanges.size()) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_STOCK_PROCESSED);
+        }
+        productionReportBatchRepo.updateStockedQuantities(stockChanges, stockCodeByDetail);
+    }
+
+    /* 보고서 삭제. 라인 실적에서 보고서 수량을 뺀 뒤 삭제한다. */
     public void removeReport(Long productionStatusCode) {
-        // 보고서 찾는 로직
-        Optional<ProductionManagement> optionalProductionManagement = productionRepo.findByProductionStatusCode(productionStatusCode);
+        // 보고서 찾는 로직 (수정과 같이 잠가서 동시 수정분과 어긋나지 않게)
+        Optional<ProductionManagement> optionalProductionManagement = productionRepo.findWithLockByProductionStatusCode(productionStatusCode);
         // 보고서 삭제
-        optionalProductionManagement.ifPresent(productionRepo::delete);
+        optionalProductionManagement.ifPresent(productionManagement -> {
+            List<ProductionDetail> details = productionDetailRepo.findAllWithWorkOrder(List.of(productionManagement));
+            linePerformanceService.recordRemoval(productionManagement.getStartAt(), details);
+            productionRepo.delete(productionManagement);
+        });
     }
 }
 //    /* -------------------------- 계산기 --------------------------------------------------*/
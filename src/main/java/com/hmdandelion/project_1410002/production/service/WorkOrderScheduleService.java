@@ -0,0 +1,169 @@
+package com.hmdandelion.project_1410002.production.service;
+
+import com.hmdandelion.project_1410002.common.exception.NotFoundException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.common.reference.ReferenceCodes;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNameResolver;
+import com.hmdandelion.project_1410002.common.reference.ReferenceNames;
+import com.hmdandelion.project_1410002.production.domain.entity.ProductionPlan;
+import com.hmdandelion.project_1410002.production.domain.repository.productionPlan.ProductionPlanRepo;
+import com.hmdandelion.project_1410002.production.domain.repository.productionPlan.WorkOrderScheduleRepo;
+import com.hmdandelion.project_1410002.production.domain.schedule.*;
+import com.hmdandelion.project_1410002.production.dto.response.schedule.ScheduledWorkOrderResponse;
+import com.hmdandelion.project_1410002.production.dto.response.schedule.UnscheduledQuantityResponse;
+import com.hmdandelion.project_1410002.production.dto.response.schedule.WorkOrderScheduleResponse;
+import com.hmdandelion.project_1410002.sales.service.AvailableToPromiseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/*
+ * 생산계획의 잔여 수량을 가동 중인 라인에 날짜별 작업지시로 배정한다.
+ * 미리보기는 저장하지 않고 결과만 돌려주고, 확정은 라인을 잠근 뒤 같은 계산을 다시 해서 한 트랜잭션으로 저장한다.
+ * 계획을 고친 뒤 다시 확정하면 이 계획으로 생성된 작업지시 중 손대지 않은 것만 다시 배정하고,
+ * 기존 작업지시와 라인/날짜 단위로 비교해 바뀐 날짜만 추가/수정/삭제한다. 원자재 사용도 같은 트랜잭션에서 맞춘다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class WorkOrderScheduleService {
+
+    private final ProductionPlanRepo productionPlanRepo;
+
+    private final WorkOrderScheduleRepo workOrderScheduleRepo;
+
+    private final ReferenceNameResolver referenceNameResolver;
+
+    private final AvailableToPromiseService availableToPromiseService;
+
+    private final ProductionCalendarService productionCalendarService;
+
+    private final MaterialUsageService materialUsageService;
+
+    @Transactional(readOnly = true)
+    public WorkOrderScheduleResponse getDraft(Long planCode) {
+        ProductionPlan plan = findPlan(planCode);
+        LocalDate startAt = scheduleStart(plan);
+        List<ScheduleLine> lines = workOrderScheduleRepo.findActiveLines(false);
+        List<RegenerableWorkOrder> regenerable = workOrderScheduleRepo.findRegenerableWorkOrders(planCode, LocalDate.now(), false);
+
+        WorkOrderSchedule schedule = schedule(plan, startAt, lines, regenerable);
+        WorkOrderRegeneration regeneration = WorkOrderRegeneration.of(regenerable, schedule.getWorkOrders());
+        return toResponse(plan, startAt, schedule, regeneration, resolveNames(schedule, null));
+    }
+
+    public WorkOrderScheduleResponse commit(Long planCode, Long employeeCode) {
+        ProductionPlan plan = findPlan(planCode);
+        LocalDate startAt = scheduleStart(plan);
+        /* 라인을 먼저 잠가야 그 사이 다른 배정이 라인/날짜를 차지하지 못한다 */
+        List<ScheduleLine> lines = workOrderScheduleRepo.findActiveLines(true);
+        /* 계획 시작일이 뒤로 밀렸으면 새 시작일 앞에 남은 작업지시도 오늘부터 찾아야 삭제 대상에 들어간다 */
+        List<RegenerableWorkOrder> regenerable = workOrderScheduleRepo.findRegenerableWorkOrders(planCode, LocalDate.now(), true);
+
+        WorkOrderSchedule schedule = schedule(plan, startAt, lines, regenerable);
+        WorkOrderRegeneration regeneration = WorkOrderRegeneration.of(regenerable, schedule.getWorkOrders());
+        /* 사원이 없으면 여기서 NOT_FOUND_EMPLOYEE_CODE */
+        ReferenceNames names = resolveNames(schedule, employeeCode);
+        names.employeeName(employeeCode);
+
+        if (!regeneration.isEmpty()) {
+            List<Long> removedCodes = regeneration.getRemoved().stream()
+                    .map(RegenerableWorkOrder::getWorkOrderCode)
+                    .toList();
+            materialUsageService.usageRemoveReady(removedCodes);
+            workOrderScheduleRepo.deleteWorkOrders(removedCodes);
+            workOrderScheduleRepo.updateWorkOrders(regeneration.getUpdated());
+            workOrderScheduleRepo.insertWorkOrders(regeneration.getCreated(), planCode, employeeCode);
+            materialUsageService.usageCreateByPlan(planCode);
+
+            productionCalendarService.invalidateAll();
+            availableToPromiseService.invalidate(regeneration.getAffectedProductCodes());
+        }
+        return toResponse(plan, startAt, schedule, regeneration, names);
+    }
+
+    /* 다시 배정할 작업지시(모두 이 계획으로 생성된 것)는 이미 나간 수량에서 빼고 라인/날짜도 비워 둔 채로 계산한다 */
+    private WorkOrderSchedule schedule(ProductionPlan plan, LocalDate startAt, List<ScheduleLine> lines, List<RegenerableWorkOrder> regenerable) {
+        LocalDate endAt = plan.getEndAt();
+        int days = startAt.isAfter(endAt) ? 0 : (int) ChronoUnit.DAYS.between(startAt, endAt) + 1;
+
+        Map<Long, Long> planned = workOrderScheduleRepo.findPlannedQuantities(plan.getPlanCode());
+        Map<Long, Long> ordered = workOrderScheduleRepo.findOrderedQuantities(plan.getPlanCode(), planned.keySet(), plan.getStartAt(), endAt);
+        Map<Long, LocalDate> deadlines = workOrderScheduleRepo.findDeadlines(plan.getPlanCode());
+
+        Map<Long, Set<LocalDate>> released = new HashMap<>();
+        for (RegenerableWorkOrder workOrder : regenerable) {
+            released.computeIfAbsent(workOrder.getLineCode(), key -> new HashSet<>()).add(workOrder.getWorkOrderDate());
+            ordered.computeIfPresent(workOrder.getProductCode(), (key, quantity) -> quantity - workOrder.getQuantity());
+        }
+
+        List<ScheduleJob> jobs = new ArrayList<>();
+        planned.forEach((productCode, quantity) -> {
+            long remaining = quantity - ordered.getOrDefault(productCode, 0L);
+            if (remaining > 0) {
+                jobs.add(new ScheduleJob(productCode, deadlines.getOrDefault(productCode, endAt), remaining));
+            }
+        });
+
+        boolean[][] occupied = new boolean[lines.size()][days];
+        if (days > 0 && !jobs.isEmpty()) {
+            Map<Long, Set<LocalDate>> occupiedDates = workOrderScheduleRepo.findOccupiedDates(startAt, endAt);
+            for (int line = 0; line < lines.size(); line++) {
+                Long lineCode = lines.get(line).getLineCode();
+                Set<LocalDate> releasedDates = released.getOrDefault(lineCode, Set.of());
+                for (LocalDate date : occupiedDates.getOrDefault(lineCode, Set.of())) {
+                    if (!releasedDates.contains(date)) {
+                        occupied[line][(int) ChronoUnit.DAYS.between(startAt, date)] = true;
+                    }
+                }
+            }
+        }
+
+        return WorkOrderScheduler.schedule(jobs, lines, occupied, startAt, days);
+    }
+
+    private ReferenceNames resolveNames(WorkOrderSchedule schedule, Long employeeCode) {
+        ReferenceCodes codes = new ReferenceCodes().addEmployee(employeeCode);
+        schedule.getWorkOrders().forEach(workOrder -> codes
+                .addLine(workOrder.getLineCode())
+                .addProduct(workOrder.getProductCode()));
+        schedule.getUnscheduledQuantities().keySet().forEach(codes::addProduct);
+        return referenceNameResolver.resolve(codes);
+    }
+
+    private WorkOrderScheduleResponse toResponse(ProductionPlan plan, LocalDate startAt, WorkOrderSchedule schedule,
+                                                 WorkOrderRegeneration regeneration, ReferenceNames names) {
+        List<ScheduledWorkOrderResponse> workOrders = schedule.getWorkOrders().stream()
+                .map(workOrder -> ScheduledWorkOrderResponse.of(workOrder, names))
+                .toList();
+        List<UnscheduledQuantityResponse> unscheduled = schedule.getUnscheduledQuantities().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new UnscheduledQuantityResponse(entry.getKey(), names.productName(entry.getKey()), entry.getValue()))
+                .toList();
+        return new WorkOrderScheduleResponse(
+                plan.getPlanCode(),
+                startAt,
+                plan.getEndAt(),
+                workOrders,
+                unscheduled,
+                regeneration.getCreated().size(),
+                regeneration.getUpdated().size(),
+                regeneration.getRemoved().size(),
+                regeneration.getUnchanged()
+        );
+    }
+
+    private ProductionPlan findPlan(Long planCode) {
+        return productionPlanRepo.findByPlanCode(planCode)
+                .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PLAN_CODE));
+    }
+
+    private LocalDate scheduleStart(ProductionPlan plan) {
+        LocalDate today = LocalDate.now();
+        return plan.getStartAt().isBefore(today) ? today : plan.getStartAt();
+    }
+}
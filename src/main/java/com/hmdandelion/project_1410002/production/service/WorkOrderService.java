@@ -5,11 +5,13 @@ import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
 import com.hmdandelion.project_1410002.employee.service.EmployeeService;
 import com.hmdandelion.project_1410002.inventory.service.ProductService;
 import com.hmdandelion.project_1410002.production.domain.entity.WorkOrder;
+import com.hmdandelion.project_1410002.production.domain.repository.line.LineRepo;
 import com.hmdandelion.project_1410002.production.domain.repository.productionPlan.WorkOrderRepo;
 import com.hmdandelion.project_1410002.production.domain.type.WorkOrderStatusType;
 import com.hmdandelion.project_1410002.production.dto.request.WorkOrderCreateRequest;
 import com.hmdandelion.project_1410002.production.dto.request.WorkOrderUpdateRequest;
 import com.hmdandelion.project_1410002.production.dto.response.WorkOrderResponse;
+import com.hmdandelion.project_1410002.sales.service.AvailableToPromiseService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -31,8 +33,14 @@ public class WorkOrderService {
 
     private final WorkOrderRepo workOrderRepo;
 
+    private final LineRepo lineRepo;
+
     private final MaterialUsageService materialUsageService;
 
+    private final AvailableToPromiseService availableToPromiseService;
+
+    private final ProductionCalendarService productionCalendarService;
+
 //    private final EmployeeService employeeService;
 //
 //    private final LineService lineService;
@@ -59,7 +67,9 @@ public class WorkOrderService {
     public Long workOrderSave(WorkOrderCreateRequest workOrderCreateRequest, WorkOrderStatusType inProgress) {
         LocalDate workOrderDate = workOrderCreateRequest.getWorkOrderDate();
 
-        // 이미 등록된 작업인지 확인
+        // 라인을 잠근 뒤 이미 등록된 작업인지 DB 로 확인 (캘린더는 다른 서버 변경이 늦게 보일 수 있다)
+        lineRepo.findWithLockByLineCode(workOrderCreateRequest.getLineCode())
+                .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_LINE_CODE));
         if (workOrderRepo.existsByWorkOrderDateAndLineCode(workOrderDate, workOrderCreateRequest.getLineCode())) {
             throw new NotFoundException(ALREADY_EXIST_WORK_ORDER);
         }
@@ -74,6 +84,8 @@ public class WorkOrderService {
         );
 
         final WorkOrder workOrder = workOrderRepo.save(newWorkOrder);
+        productionCalendarService.putWorkOrder(workOrder);
+        availableToPromiseService.invalidate(workOrder.getProductCode());
 
         return workOrder.getWorkOrderCode();
     }
@@ -107,6 +119,8 @@ public class WorkOrderService {
                     workOrderUpdateRequest.getLineCode(),
                     workOrderUpdateRequest.getEmployeeCode()
             );
+            productionCalendarService.putWorkOrder(workOrder);
+            availableToPromiseService.invalidate(workOrder.getProductCode());
         } else if (workOrder.getCompletionStatus() == WorkOrderStatusType.DONE) {
             // 완료 상태인 경우 수정할 수 없음을 알림
             throw new NotFoundException(ExceptionCode.BAD_REQUEST_WORK_ORDER_DONE);
@@ -124,7 +138,10 @@ public class WorkOrderService {
 
     public void workOrderRemove(Long workOrderCode) {
 
+        workOrderRepo.findByWorkOrderCode(workOrderCode)
+                .ifPresent(workOrder -> availableToPromiseService.invalidate(workOrder.getProductCode()));
         workOrderRepo.deleteById(workOrderCode);
+        productionCalendarService.removeWorkOrder(workOrderCode);
     }
 
 
@@ -133,5 +150,6 @@ public class WorkOrderService {
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_WORK_ORDER));
 
         workOrder.end();
+        availableToPromiseService.invalidate(workOrder.getProductCode());
     }
 }
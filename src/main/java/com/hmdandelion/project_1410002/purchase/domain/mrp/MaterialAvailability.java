@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.purchase.domain.mrp;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* 스펙별 가용량 산정 재료. 현재고는 양품 재고의 실수량, 미입고량은 배송 완료 전 주문 수량 */
+@Getter
+@RequiredArgsConstructor
+public class MaterialAvailability {
+    private final long specCode;
+    private final String materialName;
+    private final String unit;
+    private final long safetyStock;
+    private final long onHandQuantity;
+    private final long openOrderQuantity;
+}
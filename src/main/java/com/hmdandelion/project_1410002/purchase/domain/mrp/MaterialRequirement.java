@@ -0,0 +1,26 @@
+package com.hmdandelion.project_1410002.purchase.domain.mrp;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* 스펙 하나의 소요량 계산 결과. 순소요량이 양수인 만큼 발주를 제안한다. */
+@Getter
+@RequiredArgsConstructor
+public class MaterialRequirement {
+    private final long specCode;
+    private final String materialName;
+    private final String unit;
+    private final long grossRequirement;
+    private final long onHandQuantity;
+    private final long safetyStock;
+    private final long openOrderQuantity;
+
+    /* 총소요량 + 안전재고 - 현재고 - 미입고량 */
+    public long getNetRequirement() {
+        return grossRequirement + safetyStock - onHandQuantity - openOrderQuantity;
+    }
+
+    public long getSuggestedOrderQuantity() {
+        return Math.max(0L, getNetRequirement());
+    }
+}
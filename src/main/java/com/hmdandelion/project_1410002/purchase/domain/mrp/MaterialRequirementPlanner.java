@@ -0,0 +1,91 @@
+package com.hmdandelion.project_1410002.purchase.domain.mrp;
+
+import com.hmdandelion.project_1410002.inventory.domian.bom.BomExplosion;
+
+import java.util.*;
+
+/*
+ * 계획 수량 × BOM 으로 스펙별 총소요량을 모으고, 가용량으로 순소요량을 계산한다.
+ * 스펙 코드는 처음 나올 때 0..n-1 번호를 한 번 매기고, 이후 누적은 번호로 배열에만 한다.
+ */
+public class MaterialRequirementPlanner {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<Long, Integer> specIndexes = new HashMap<>();
+    private long[] specCodes = new long[INITIAL_CAPACITY];
+    private long[] grossRequirements = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /* plannedQuantities : 상품 코드별 계획 수량, explosions : 상품 1개당 스펙별 수량 (하위 상품까지 전개된 것) */
+    public void explode(Map<Long, Long> plannedQuantities, Map<Long, BomExplosion> explosions) {
+        plannedQuantities.forEach((productCode, planned) -> {
+            BomExplosion explosion = explosions.get(productCode);
+            if (explosion == null || planned == null || planned <= 0) {
+                return;
+            }
+            explosion.getSpecQuantities().forEach((specCode, quantity) -> addGrossRequirement(specCode, planned * quantity));
+        });
+    }
+
+    public void addGrossRequirement(long specCode, long quantity) {
+        int index = indexOf(specCode);
+        grossRequirements[index] += quantity;
+    }
+
+    public List<Long> getSpecCodes() {
+        List<Long> codes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            codes.add(specCodes[i]);
+        }
+        return codes;
+    }
+
+    public long getGrossRequirement(long specCode) {
+        Integer index = specIndexes.get(specCode);
+        return index == null ? 0L : grossRequirements[index];
+    }
+
+    /* 총소요량이 있는 스펙만 결과에 포함한다. 가용량 정보가 없는 스펙(삭제된 스펙)은 가용량 0 으로 본다. */
+    public List<MaterialRequirement> net(Collection<MaterialAvailability> availabilities) {
+        MaterialAvailability[] byIndex = new MaterialAvailability[size];
+        for (MaterialAvailability availability : availabilities) {
+            Integer index = specIndexes.get(availability.getSpecCode());
+            if (index != null) {
+                byIndex[index] = availability;
+            }
+        }
+
+        List<MaterialRequirement> requirements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            MaterialAvailability availability = byIndex[i];
+            requirements.add(availability == null
+                    ? new MaterialRequirement(specCodes[i], null, null, grossRequirements[i], 0L, 0L, 0L)
+                    : new MaterialRequirement(
+                            specCodes[i],
+                            availability.getMaterialName(),
+                            availability.getUnit(),
+                            grossRequirements[i],
+                            availability.getOnHandQuantity(),
+                            availability.getSafetyStock(),
+                            availability.getOpenOrderQuantity()
+                    ));
+        }
+        requirements.sort(Comparator.comparingLong(MaterialRequirement::getSpecCode));
+        return requirements;
+    }
+
+    private int indexOf(long specCode) {
+        Integer index = specIndexes.get(specCode);
+        if (index != null) {
+            return index;
+        }
+        if (size == specCodes.length) {
+            specCodes = Arrays.copyOf(specCodes, size * 2);
+            grossRequirements = Arrays.copyOf(grossRequirements, size * 2);
+        }
+        specCodes[size] = specCode;
+        specIndexes.put(specCode, size);
+        return size++;
+    }
+}
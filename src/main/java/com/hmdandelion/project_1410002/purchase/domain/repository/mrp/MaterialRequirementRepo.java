@@ -0,0 +1,102 @@
+package com.hmdandelion.project_1410002.purchase.domain.repository.mrp;
+
+import com.hmdandelion.project_1410002.purchase.domain.mrp.MaterialAvailability;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.*;
+
+/*
+ * 소요량 계산에 필요한 계획 수량, 재고, 미입고 주문을 종류별로 한 번에 읽는다.
+ * 상품/스펙 수와 관계없이 쿼리 수는 일정하다. BOM 전개는 BomExplosionService 가 맡는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MaterialRequirementRepo {
+
+    /* 배송 완료 전이고 삭제되지 않은 원자재 주문 */
+    private static final String OPEN_ORDER_CONDITION =
+            "mo.status IN ('ORDER_COMPLETED', 'DELIVERY_EXPECTED') AND mo.is_deleted = FALSE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<LocalDate> findPlanStartDate(Long planCode) {
+        return jdbcTemplate.query(
+                "SELECT start_at FROM tbl_production_plan WHERE plan_code = ?",
+                (rs, rowNum) -> {
+                    Date startAt = rs.getDate(1);
+                    return startAt == null ? LocalDate.now() : startAt.toLocalDate();
+                },
+                planCode
+        ).stream().findFirst();
+    }
+
+    /* 같은 상품이 여러 줄로 계획된 경우 합산 */
+    public Map<Long, Long> findPlannedQuantities(Long planCode) {
+        Map<Long, Long> quantities = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT product_code, SUM(planned_quantity) FROM tbl_production_plan_list"
+                        + " WHERE plan_code = ?"
+                        + " GROUP BY product_code",
+                (RowCallbackHandler) rs -> quantities.put(rs.getLong(1), rs.getLong(2)),
+                planCode
+        );
+        return quantities;
+    }
+
+    public List<MaterialAvailability> findAvailabilities(Collection<Long> specCodes) {
+        if (specCodes.isEmpty()) {
+            return List.of();
+        }
+        String in = "(" + placeholders(specCodes) + ")";
+        List<Object> args = new ArrayList<>(specCodes.size() * 3);
+        args.addAll(specCodes);
+        args.addAll(specCodes);
+        args.addAll(specCodes);
+
+        return jdbcTemplate.query(
+                "SELECT s.spec_code, s.material_name, s.unit, s.safety_stock,"
+                        + " COALESCE(st.quantity, 0), COALESCE(oo.quantity, 0)"
+                        + " FROM tbl_material_specification s"
+                        + " LEFT JOIN (SELECT spec_code, SUM(actual_quantity) AS quantity FROM tbl_material_stock"
+                        + "   WHERE division = 'STOCK' AND spec_code IN " + in
+                        + "   GROUP BY spec_code) st ON st.spec_code = s.spec_code"
+                        + " LEFT JOIN (SELECT os.spec_code, SUM(os.order_quantity) AS quantity FROM tbl_order_spec os"
+                        + "   JOIN tbl_material_order mo ON mo.order_code = os.order_code"
+                        + "   WHERE " + OPEN_ORDER_CONDITION + " AND os.spec_code IN " + in
+                        + "   GROUP BY os.spec_code) oo ON oo.spec_code = s.spec_code"
+                        + " WHERE s.spec_code IN " + in,
+                (rs, rowNum) -> new MaterialAvailability(
+                        rs.getLong(1),
+                        rs.getString(2),
+                        rs.getString(3),
+                        rs.getLong(4),
+                        rs.getLong(5),
+                        rs.getLong(6)
+                ),
+                args.toArray()
+        );
+    }
+
+    /* 생산계획에 연결해 발주한 스펙별 수량 */
+    public Map<Long, Long> findPlanOrderedQuantities(Long planCode) {
+        Map<Long, Long> quantities = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT os.spec_code, SUM(os.order_quantity) FROM tbl_order_spec os"
+                        + " JOIN tbl_material_order mo ON mo.order_code = os.order_code"
+                        + " WHERE mo.plan_code = ? AND mo.is_deleted = FALSE"
+                        + " GROUP BY os.spec_code",
+                (RowCallbackHandler) rs -> quantities.put(rs.getLong(1), rs.getLong(2)),
+                planCode
+        );
+        return quantities;
+    }
+
+    private String placeholders(Collection<?> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.hmdandelion.project_1410002.purchase.dto.material.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/* 생산계획의 스펙별 소요량. suggestedOrders 는 발주가 필요한 스펙만 모은 것 */
+@Getter
+@RequiredArgsConstructor
+public class MaterialRequirementPlanResponse {
+
+    private final Long planCode;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private final LocalDate needDate;
+    private final List<MaterialRequirementResponse> requirements;
+
+    public List<MaterialRequirementResponse> getSuggestedOrders() {
+        return requirements.stream()
+                .filter(requirement -> requirement.getSuggestedOrderQuantity() > 0)
+                .toList();
+    }
+}
@@ -0,0 +1,34 @@
+package com.hmdandelion.project_1410002.purchase.dto.material.response;
+
+import com.hmdandelion.project_1410002.purchase.domain.mrp.MaterialRequirement;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MaterialRequirementResponse {
+
+    private final Long specCode;
+    private final String materialName;
+    private final String unit;
+    private final long grossRequirement;
+    private final long onHandQuantity;
+    private final long safetyStock;
+    private final long openOrderQuantity;
+    private final long netRequirement;
+    private final long suggestedOrderQuantity;
+
+    public static MaterialRequirementResponse from(MaterialRequirement requirement) {
+        return new MaterialRequirementResponse(
+                requirement.getSpecCode(),
+                requirement.getMaterialName(),
+                requirement.getUnit(),
+                requirement.getGrossRequirement(),
+                requirement.getOnHandQuantity(),
+                requirement.getSafetyStock(),
+                requirement.getOpenOrderQuantity(),
+                requirement.getNetRequirement(),
+                requirement.getSuggestedOrderQuantity()
+        );
+    }
+}
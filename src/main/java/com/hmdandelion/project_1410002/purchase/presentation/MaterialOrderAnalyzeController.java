@@ -4,6 +4,7 @@ import com.hmdandelion.project_1410002.common.paging.PagingResponse;
 import com.hmdandelion.project_1410002.inventory.dto.material.dto.MaterialGraphModel;
 import com.hmdandelion.project_1410002.inventory.dto.material.response.MaterialGraphResponse;
 import com.hmdandelion.project_1410002.purchase.dto.material.MaterialClientDTO;
+import com.hmdandelion.project_1410002.purchase.dto.material.response.MaterialRequirementPlanResponse;
 import com.hmdandelion.project_1410002.purchase.service.MaterialOrderAnalyzeService;
 import com.hmdandelion.project_1410002.purchase.service.MaterialOrderService;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,13 @@ public class MaterialOrderAnalyzeController {
         MaterialGraphResponse res = MaterialGraphResponse.from(list);
         return ResponseEntity.ok(res);
     }
+    //생산계획의 스펙별 순소요량과 발주 제안
+    @GetMapping("/requirements/{planCode}")
+    public ResponseEntity<MaterialRequirementPlanResponse> getMaterialRequirements(@PathVariable Long planCode) {
+        MaterialRequirementPlanResponse res = materialOrderAnalyzeService.getMaterialRequirements(planCode);
+        return ResponseEntity.ok(res);
+    }
+
     //원자재 목록으로 주문 가능한 업체 조회
     @GetMapping("/order-materials")
     public ResponseEntity<PagingResponse> getClientBySpecList(
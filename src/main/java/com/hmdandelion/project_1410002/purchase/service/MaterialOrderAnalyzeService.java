@@ -1,73 +1,68 @@
 package com.hmdandelion.project_1410002.purchase.service;
 
-import com.hmdandelion.project_1410002.inventory.domian.entity.material.MaterialSpec;
-import com.hmdandelion.project_1410002.inventory.domian.entity.product.Bom;
+import com.hmdandelion.project_1410002.common.exception.NotFoundException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
 import com.hmdandelion.project_1410002.inventory.dto.material.dto.MaterialGraphModel;
-import com.hmdandelion.project_1410002.inventory.service.BomService;
-import com.hmdandelion.project_1410002.production.domain.entity.ProductionPlannedList;
-import com.hmdandelion.project_1410002.production.service.ProductionPlannedListService;
-import com.hmdandelion.project_1410002.purchase.domain.entity.material.MaterialOrder;
-import com.hmdandelion.project_1410002.purchase.domain.entity.material.OrderSpec;
+import com.hmdandelion.project_1410002.inventory.service.BomExplosionService;
+import com.hmdandelion.project_1410002.purchase.domain.mrp.MaterialRequirement;
+import com.hmdandelion.project_1410002.purchase.domain.mrp.MaterialRequirementPlanner;
+import com.hmdandelion.project_1410002.purchase.domain.repository.mrp.MaterialRequirementRepo;
 import com.hmdandelion.project_1410002.purchase.dto.material.MaterialClientDTO;
+import com.hmdandelion.project_1410002.purchase.dto.material.response.MaterialRequirementPlanResponse;
+import com.hmdandelion.project_1410002.purchase.dto.material.response.MaterialRequirementResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.*;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class MaterialOrderAnalyzeService {
-    private final ProductionPlannedListService plannedOrderListService;
-    private final BomService bomService;
-    private final MaterialOrderService materialOrderService;
+    private final MaterialRequirementRepo materialRequirementRepo;
+    private final BomExplosionService bomExplosionService;
     private final MaterialClientService materialClientService;
 
+    //생산계획의 필요 자재량(총소요량) 대비 계획에 연결해 주문한 수량
     public List<MaterialGraphModel> findOrderByMaterialRequirementRatio(Long planCode) {
-        List<MaterialGraphModel> result = new ArrayList<>();
-        Map<String, Long> materialNeeds = new HashMap<>();
-        //생산계획 리스트를 생산계획 코드로 조회한다 (생산하려는 제품과 그 숫자)
-        List<ProductionPlannedList> plannedLists = plannedOrderListService.findByPlanCode(planCode);
-        //생산하려는 제품의 BOM을 조회한다(생산하려는 제품의 요구수치)
-        for (ProductionPlannedList plannedList : plannedLists) {
-            List<Bom> bomList = bomService.getBomByProductCode(plannedList.getProductCode());
-            for (Bom bom : bomList) {
-                String materialName = bom.getMaterialSpec().getMaterialName();
-                long requiredQuantity = bom.getQuantity();
-
-                materialNeeds.put(materialName,
-                                  (materialNeeds.getOrDefault(materialName, 0L) + requiredQuantity)
-                                          * Integer.parseInt(plannedList.getPlannedQuantity()));
-            }
-
-        }
-        //원자재의 이름과 총 필요량을 result에 추가
-        for (Map.Entry<String, Long> entry : materialNeeds.entrySet()) {
-            result.add(new MaterialGraphModel(entry.getKey(), 0, entry.getValue().intValue()));
-        }
-        //생산계획 코드로 원자재 주문을 조회한다
-        List<MaterialOrder> orders = materialOrderService.findByPlanCode(planCode);
-        //원자재 주문과 연결된 order-spec을 조회한다
-        for (MaterialOrder order : orders) {
-            List<OrderSpec> orderSpecs = materialOrderService.getOrderSpecsByOrderCode(order.getOrderCode());
-
-            for (OrderSpec orderSpec : orderSpecs) {
-                String materialName = orderSpec.getMaterialSpec().getMaterialName();
-                int orderedQuantity = orderSpec.getOrderQuantity();
+        MaterialRequirementPlanner planner = explode(planCode);
+        Map<Long, Long> orderedQuantities = materialRequirementRepo.findPlanOrderedQuantities(planCode);
 
-                for (MaterialGraphModel model : result) {
-                    //order-spec리스트와 A를 비교하여 원자재 이름이 같을경우 주문수량에 orderSpec주문 수량을 누적한다
-                    if (model.getNameValue().equals(materialName)) {
-                        model.addSubject(orderedQuantity);
-                    }
-                }
-            }
+        List<MaterialGraphModel> result = new ArrayList<>();
+        for (MaterialRequirement requirement : planner.net(materialRequirementRepo.findAvailabilities(planner.getSpecCodes()))) {
+            result.add(new MaterialGraphModel(
+                    requirement.getMaterialName(),
+                    orderedQuantities.getOrDefault(requirement.getSpecCode(), 0L).intValue(),
+                    (int) requirement.getGrossRequirement()
+            ));
         }
-        //결과를 반환한다
         return result;
     }
 
+    /* 생산계획 BOM 전개 후 현재고, 안전재고, 미입고 주문을 반영한 스펙별 순소요량과 발주 제안 */
+    public MaterialRequirementPlanResponse getMaterialRequirements(Long planCode) {
+        LocalDate needDate = materialRequirementRepo.findPlanStartDate(planCode)
+                .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_PLAN_CODE));
+
+        MaterialRequirementPlanner planner = explode(planCode);
+        List<MaterialRequirementResponse> requirements = planner.net(materialRequirementRepo.findAvailabilities(planner.getSpecCodes()))
+                .stream()
+                .map(MaterialRequirementResponse::from)
+                .toList();
+
+        return new MaterialRequirementPlanResponse(planCode, needDate, requirements);
+    }
 
     public List<MaterialClientDTO> getClientBySpecList(List<Long> specCodes) {
         return materialClientService.getClientBySpecList(specCodes);
     }
+
+    private MaterialRequirementPlanner explode(Long planCode) {
+        Map<Long, Long> plannedQuantities = materialRequirementRepo.findPlannedQuantities(planCode);
+        MaterialRequirementPlanner planner = new MaterialRequirementPlanner();
+        planner.explode(plannedQuantities, bomExplosionService.explode(plannedQuantities.keySet()));
+        return planner;
+    }
 }
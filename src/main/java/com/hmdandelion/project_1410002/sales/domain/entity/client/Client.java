@@ -30,6 +30,7 @@ public class Client {
     private ClientType clientType;
     @Enumerated(value = EnumType.STRING)
     private ClientStatus status = ClientStatus.ACTIVE;
+    private Long creditLimit;
 
     public Client(
             String clientName, String address, String addressDetail, String postcode,
@@ -67,4 +68,8 @@ public class Client {
         this.representativeName = representativeName;
         this.phone = phone;
     }
+
+    public void modifyCreditLimit(Long creditLimit) {
+        this.creditLimit = creditLimit;
+    }
 }
@@ -21,7 +21,7 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-@SQLDelete(sql = "UPDATE tbl_estimate SET status = 'DELETED' WHERE estimate_code = ?")
+@SQLDelete(sql = "UPDATE tbl_estimate SET status = 'DELETED' WHERE estimate_code = ? AND version = ?")
 public class Estimate {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,6 +35,8 @@ public class Estimate {
     public EstimateStatus status = EstimateStatus.ACTIVE;
     public Boolean isOrdered = false;
     public Long clientCode;
+    @Version
+    private Long version;
     @OneToMany(mappedBy = "estimate", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<EstimateProduct> estimateProducts = new ArrayList<>();
 
@@ -50,9 +52,8 @@ public class Estimate {
         );
     }
 
-    public void modify(LocalDate deadline, List<EstimateProduct> products) {
+    public void modify(LocalDate deadline) {
         this.deadline = deadline;
-        this.estimateProducts.addAll(products);
     }
 
     public void modifyProducts(List<EstimateProduct> products) {
@@ -5,6 +5,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Objects;
+
 @Table(name = "tbl_estimate_product")
 @Entity
 @Getter
@@ -42,4 +44,10 @@ public class EstimateProduct {
         this.productCode = productCode;
     }
 
+    public boolean isSameAs(Integer quantity, Integer price, Long productCode) {
+        return Objects.equals(this.quantity, quantity)
+                && Objects.equals(this.price, price)
+                && Objects.equals(this.productCode, productCode);
+    }
+
 }
@@ -35,6 +35,7 @@ public class Return {
     @Enumerated(value = EnumType.STRING)
     private ReturnStatus returnStatus = ReturnStatus.AWAITING_INSPECTION;
     private Long exchangeOrder;
+    private Boolean isRestocked = false;
     @LastModifiedDate
     private LocalDateTime updatedAt;
     @OneToMany(mappedBy = "returnEntity", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -37,4 +37,14 @@ public class ReturnProduct {
                 productCode
         );
     }
+
+    public void inspect(Integer defectiveQuantity) {
+        this.defectiveQuantity = defectiveQuantity;
+        this.inspectionStatus = true;
+    }
+
+    /* 검수 후 다시 입고할 수 있는 수량 */
+    public int getRestockQuantity() {
+        return quantity - (defectiveQuantity == null ? 0 : defectiveQuantity);
+    }
 }
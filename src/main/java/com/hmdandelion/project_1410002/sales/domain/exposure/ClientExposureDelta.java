@@ -0,0 +1,27 @@
+package com.hmdandelion.project_1410002.sales.domain.exposure;
+
+import com.hmdandelion.project_1410002.sales.domain.type.ExposureType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/* 거래처 미결 금액 한 행에 더할 증감분 */
+@Getter
+@RequiredArgsConstructor
+public class ClientExposureDelta {
+    private final Long clientCode;
+    private long openOrderAmount;
+    private long shippingAmount;
+    private long returnedAmount;
+
+    public void addOrderAmount(ExposureType type, long amount) {
+        if (type == ExposureType.OPEN_ORDER) {
+            this.openOrderAmount += amount;
+        } else if (type == ExposureType.SHIPPING) {
+            this.shippingAmount += amount;
+        }
+    }
+
+    public void addReturnedAmount(long amount) {
+        this.returnedAmount += amount;
+    }
+}
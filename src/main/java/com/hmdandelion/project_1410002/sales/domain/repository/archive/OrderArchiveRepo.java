@@ -0,0 +1,179 @@
+package com.hmdandelion.project_1410002.sales.domain.repository.archive;
+
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import com.hmdandelion.project_1410002.sales.dto.response.OrderClientDTO;
+import com.hmdandelion.project_1410002.sales.dto.response.OrderProductResponse;
+import com.hmdandelion.project_1410002.sales.dto.response.OrderResponse;
+import com.hmdandelion.project_1410002.sales.dto.response.OrdersResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * 종료된 주문 이력을 보관 테이블로 옮기고, 보관 포함 조회를 담당한다.
+ * 주문에 딸린 주문 상품, 출고, 출고 변경 이력, 반품, 반품 상품을 같은 트랜잭션 안에서 함께 옮긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderArchiveRepo {
+
+    /* 진행 중인 반품(환불/교환 처리 전, 재입고 전)이 걸린 주문은 옮기지 않는다 */
+    private static final String OPEN_RETURN_CONDITION =
+            "SELECT 1 FROM tbl_return r WHERE (r.order_code = o.order_code OR r.exchange_order = o.order_code)"
+                    + " AND (r.manage_status NOT IN ('REFUNDED', 'COMPLETED', 'CANCELED')"
+                    + " OR (r.return_status = 'INSPECTION_COMPLETED' AND r.is_restocked = FALSE))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /* 완료는 완료 일시, 취소/반품은 마지막 수정 일시 기준. 같은 배치가 동시에 돌지 않도록 잠그고 가져온다. */
+    public List<Long> findArchivableOrderCodes(LocalDateTime cutoff, int limit) {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        return jdbcTemplate.queryForList(
+                "SELECT o.order_code FROM tbl_order o"
+                        + " WHERE ((o.status = 'COMPLETED' AND o.completed_at < ?)"
+                        + " OR (o.status IN ('CANCELED', 'RETURNED') AND COALESCE(o.updated_at, o.order_datetime) < ?))"
+                        + " AND NOT EXISTS (" + OPEN_RETURN_CONDITION + ")"
+                        + " ORDER BY o.order_code"
+                        + " LIMIT ?"
+                        + " FOR UPDATE",
+                Long.class,
+                before, before, limit
+        );
+    }
+
+    /* 자식 테이블부터 복사 후 삭제. 반환값은 옮긴 주문 수 */
+    public int archive(Collection<Long> orderCodes) {
+        if (orderCodes.isEmpty()) {
+            return 0;
+        }
+        String in = "(" + String.join(", ", Collections.nCopies(orderCodes.size(), "?")) + ")";
+        Object[] args = orderCodes.toArray();
+
+        String releaseCodes = "SELECT release_code FROM tbl_release WHERE order_code IN " + in;
+        String returnCodes = "SELECT return_code FROM tbl_return WHERE order_code IN " + in;
+
+        move("tbl_release_change", "release_code IN (" + releaseCodes + ")", args);
+        move("tbl_release", "order_code IN " + in, args);
+        move("tbl_return_product", "return_code IN (" + returnCodes + ")", args);
+        move("tbl_return", "order_code IN " + in, args);
+        move("tbl_order_product", "order_code IN " + in, args);
+        return move("tbl_order", "order_code IN " + in, args);
+    }
+
+    /* 주문 목록의 보관 포함 조회. 필터와 정렬은 원본 목록 조회(OrderRepoCustomImpl.search)와 같다. */
+    public Page<OrdersResponse> searchWithArchive(
+            Pageable pageable, LocalDate startDate, LocalDate endDate,
+            String clientName, String status, String productName, String sort
+    ) {
+        StringBuilder where = new StringBuilder(" WHERE o.order_datetime >= ? AND o.order_datetime <= ?");
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(LocalDateTime.of(startDate, LocalTime.MIN)));
+        args.add(Timestamp.valueOf(LocalDateTime.of(endDate, LocalTime.MAX).withNano(0)));
+
+        if (clientName != null && !clientName.isEmpty()) {
+            where.append(" AND LOWER(c.client_name) LIKE LOWER(CONCAT('%', ?, '%'))");
+            args.add(clientName);
+        }
+        if (status != null && !status.isEmpty()) {
+            where.append(" AND o.status = ?");
+            args.add(status);
+        }
+        if (productName != null && !productName.isEmpty()) {
+            where.append(" AND EXISTS (SELECT 1 FROM ").append(OrderHistorySql.ORDER_PRODUCTS).append(" op")
+                    .append(" JOIN tbl_product p ON p.product_code = op.product_code")
+                    .append(" WHERE op.order_code = o.order_code AND LOWER(p.product_name) LIKE LOWER(CONCAT('%', ?, '%')))");
+            args.add(productName);
+        }
+
+        String from = " FROM " + OrderHistorySql.ORDERS + " o LEFT JOIN tbl_client c ON c.client_code = o.client_code";
+
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*)" + from + where, Long.class, args.toArray());
+
+        List<Object> pageArgs = new ArrayList<>(args);
+        pageArgs.add(pageable.getPageSize());
+        pageArgs.add(pageable.getOffset());
+        List<OrdersResponse> orders = jdbcTemplate.query(
+                "SELECT o.order_code, o.order_datetime, c.client_name, o.status, o.deadline"
+                        + from + where
+                        + " ORDER BY " + orderBy(sort)
+                        + " LIMIT ? OFFSET ?",
+                (rs, rowNum) -> new OrdersResponse(
+                        rs.getLong(1),
+                        rs.getTimestamp(2).toLocalDateTime(),
+                        rs.getString(3),
+                        OrderStatus.valueOf(rs.getString(4)),
+                        rs.getDate(5).toLocalDate()
+                ),
+                pageArgs.toArray()
+        );
+
+        return new PageImpl<>(orders, pageable, total == null ? 0L : total);
+    }
+
+    public Optional<OrderResponse> findArchivedOrder(Long orderCode) {
+        List<OrderProductResponse> orderProducts = jdbcTemplate.query(
+                "SELECT p.product_code, p.product_name, op.quantity, op.price"
+                        + " FROM tbl_order_product_archive op LEFT JOIN tbl_product p ON p.product_code = op.product_code"
+                        + " WHERE op.order_code = ?",
+                (rs, rowNum) -> new OrderProductResponse(
+                        rs.getObject(1, Long.class),
+                        rs.getString(2),
+                        rs.getInt(3),
+                        rs.getInt(4)
+                ),
+                orderCode
+        );
+
+        return jdbcTemplate.query(
+                "SELECT o.order_code, o.order_datetime, o.deadline, o.completed_at, o.status,"
+                        + " c.client_code, c.client_name, c.representative_name, c.address, c.address_detail, c.phone"
+                        + " FROM tbl_order_archive o LEFT JOIN tbl_client c ON c.client_code = o.client_code"
+                        + " WHERE o.order_code = ?",
+                (rs, rowNum) -> new OrderResponse(
+                        rs.getLong(1),
+                        rs.getTimestamp(2).toLocalDateTime(),
+                        rs.getDate(3).toLocalDate(),
+                        rs.getTimestamp(4) == null ? null : rs.getTimestamp(4).toLocalDateTime(),
+                        OrderStatus.valueOf(rs.getString(5)),
+                        new OrderClientDTO(
+                                rs.getObject(6, Long.class),
+                                rs.getString(7),
+                                rs.getString(8),
+                                rs.getString(9),
+                                rs.getString(10),
+                                rs.getString(11)
+                        ),
+                        orderProducts
+                ),
+                orderCode
+        ).stream().findFirst();
+    }
+
+    private int move(String table, String condition, Object[] args) {
+        jdbcTemplate.update("INSERT INTO " + table + "_archive SELECT * FROM " + table + " WHERE " + condition, args);
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE " + condition, args);
+    }
+
+    private String orderBy(String sort) {
+        return switch (sort != null ? sort : "none") {
+            case "orderDate" -> "o.order_datetime ASC";
+            case "-orderDate" -> "o.order_datetime DESC";
+            case "deadline" -> "o.deadline ASC";
+            case "-deadline" -> "o.deadline DESC";
+            default -> "o.order_code ASC";
+        };
+    }
+}
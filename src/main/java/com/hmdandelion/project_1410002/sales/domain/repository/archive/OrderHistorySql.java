@@ -0,0 +1,24 @@
+package com.hmdandelion.project_1410002.sales.domain.repository.archive;
+
+/* 원본 테이블과 보관 테이블을 합친 이력 조회용 파생 테이블. 보관 포함 조회나 전체 기간 재계산에서만 사용한다. */
+public final class OrderHistorySql {
+
+    public static final String ORDERS =
+            "(SELECT order_code, order_datetime, deadline, status, completed_at, client_code FROM tbl_order"
+                    + " UNION ALL SELECT order_code, order_datetime, deadline, status, completed_at, client_code FROM tbl_order_archive)";
+
+    public static final String ORDER_PRODUCTS =
+            "(SELECT order_code, product_code, quantity, price FROM tbl_order_product"
+                    + " UNION ALL SELECT order_code, product_code, quantity, price FROM tbl_order_product_archive)";
+
+    public static final String RETURNS =
+            "(SELECT return_code, return_datetime, client_code, order_code, exchange_order, manage_type, return_status FROM tbl_return"
+                    + " UNION ALL SELECT return_code, return_datetime, client_code, order_code, exchange_order, manage_type, return_status FROM tbl_return_archive)";
+
+    public static final String RETURN_PRODUCTS =
+            "(SELECT return_code, product_code, quantity, refund_price FROM tbl_return_product"
+                    + " UNION ALL SELECT return_code, product_code, quantity, refund_price FROM tbl_return_product_archive)";
+
+    private OrderHistorySql() {
+    }
+}
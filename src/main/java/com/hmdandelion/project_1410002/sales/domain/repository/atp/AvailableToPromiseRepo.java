@@ -0,0 +1,180 @@
+package com.hmdandelion.project_1410002.sales.domain.repository.atp;
+
+import com.hmdandelion.project_1410002.production.domain.type.WorkOrderStatusType;
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.hmdandelion.project_1410002.inventory.domian.entity.stock.QStock.stock;
+import static com.hmdandelion.project_1410002.inventory.domian.entity.stock.QStorage.storage;
+import static com.hmdandelion.project_1410002.production.domain.entity.QProductionPlan.productionPlan;
+import static com.hmdandelion.project_1410002.production.domain.entity.QProductionPlannedList.productionPlannedList;
+import static com.hmdandelion.project_1410002.production.domain.entity.QWorkOrder.workOrder;
+import static com.hmdandelion.project_1410002.production.domain.entity.production.QProductionDetail.productionDetail;
+import static com.hmdandelion.project_1410002.sales.domain.entity.order.QOrder.order;
+import static com.hmdandelion.project_1410002.sales.domain.entity.order.QOrderProduct.orderProduct;
+
+/* ATP 모델 적재용 집계 조회. productCodes 가 null 이면 전체 상품을 대상으로 한다. */
+@Repository
+@RequiredArgsConstructor
+public class AvailableToPromiseRepo {
+
+    private static final List<OrderStatus> OPEN_ORDER_STATUSES = List.of(OrderStatus.ORDER_RECEIVED, OrderStatus.IN_PRODUCTION);
+
+    private final JPAQueryFactory queryFactory;
+
+    /* 현재고 = 재고 수량 - 적재 후 출고/폐기로 빠진 수량 (미적재분 포함). 출고와 같이 재고 유형은 구분하지 않는다.
+     * 다 빠져서 삭제 처리된 적재도 빠진 수량은 남아 있으므로 적재의 삭제 여부는 보지 않는다. */
+    public Map<Long, Long> findOnHandQuantities(Collection<Long> productCodes) {
+        Map<Long, Long> onHands = new HashMap<>();
+
+        queryFactory
+                .select(stock.product.productCode, stock.quantity.sum())
+                .from(stock)
+                .where(
+                        stock.isDelete.isFalse(),
+                        productCodeIn(stock.product.productCode, productCodes)
+                )
+                .groupBy(stock.product.productCode)
+                .fetch()
+                .forEach(tuple -> onHands.merge(tuple.get(0, Long.class), toLong(tuple, 1), Long::sum));
+
+        queryFactory
+                .select(stock.product.productCode, storage.initialQuantity.subtract(storage.actualQuantity).sum())
+                .from(storage)
+                .join(storage.stock, stock)
+                .where(
+                        stock.isDelete.isFalse(),
+                        productCodeIn(stock.product.productCode, productCodes)
+                )
+                .groupBy(stock.product.productCode)
+                .fetch()
+                .forEach(tuple -> onHands.merge(tuple.get(0, Long.class), -toLong(tuple, 1), Long::sum));
+
+        return onHands;
+    }
+
+    /* 출고 전(접수, 생산중) 주문이 납기일 기준으로 점유하는 수량 */
+    public Map<Long, Map<LocalDate, Long>> findOpenOrderDemands(Collection<Long> productCodes) {
+        Map<Long, Map<LocalDate, Long>> demands = new HashMap<>();
+
+        queryFactory
+                .select(orderProduct.productCode, order.deadline, orderProduct.quantity.sum())
+                .from(orderProduct)
+                .join(orderProduct.order, order)
+                .where(
+                        order.status.in(OPEN_ORDER_STATUSES),
+                        productCodeIn(orderProduct.productCode, productCodes)
+                )
+                .groupBy(orderProduct.productCode, order.deadline)
+                .fetch()
+                .forEach(tuple -> addBucket(demands, tuple.get(0, Long.class), tuple.get(1, LocalDate.class), toLong(tuple, 2)));
+
+        return demands;
+    }
+
+    /* 진행중 작업지시의 잔여 생산량 (지시 수량 - 완성 수량) 을 작업일 기준으로 */
+    public Map<Long, Map<LocalDate, Long>> findWorkOrderSupplies(Collection<Long> productCodes) {
+        Map<Long, Map<LocalDate, Long>> supplies = new HashMap<>();
+
+        queryFactory
+                .select(workOrder.productCode, workOrder.workOrderDate, workOrder.orderedQuantity, productionDetail.completelyQuantity.sum())
+                .from(workOrder)
+                .leftJoin(productionDetail).on(productionDetail.workOrder.eq(workOrder))
+                .where(
+                        workOrder.completionStatus.eq(WorkOrderStatusType.IN_PROGRESS),
+                        productCodeIn(workOrder.productCode, productCodes)
+                )
+                .groupBy(workOrder.workOrderCode, workOrder.productCode, workOrder.workOrderDate, workOrder.orderedQuantity)
+                .fetch()
+                .forEach(tuple -> {
+                    long remaining = toLong(tuple, 2) - toLong(tuple, 3);
+                    if (remaining > 0) {
+                        addBucket(supplies, tuple.get(0, Long.class), tuple.get(1, LocalDate.class), remaining);
+                    }
+                });
+
+        return supplies;
+    }
+
+    /* 끝나지 않은 생산계획 중 아직 작업지시로 내려가지 않은 수량을 계획 종료일 기준으로.
+     * 계획 기간 안에 같은 상품으로 나간 작업지시 수량은 이미 작업지시 쪽에서 집계되므로 차감한다. */
+    public Map<Long, Map<LocalDate, Long>> findPlannedSupplies(Collection<Long> productCodes, LocalDate today) {
+        Map<Long, Map<LocalDate, Long>> supplies = new HashMap<>();
+
+        List<Tuple> plannedLists = queryFactory
+                .select(productionPlannedList.productCode, productionPlan.startAt, productionPlan.endAt, productionPlannedList.plannedQuantity)
+                .from(productionPlannedList)
+                .join(productionPlan).on(productionPlannedList.planCode.eq(productionPlan.planCode))
+                .where(
+                        productionPlan.endAt.goe(today),
+                        productCodeIn(productionPlannedList.productCode, productCodes)
+                )
+                .fetch();
+
+        if (plannedLists.isEmpty()) {
+            return supplies;
+        }
+
+        LocalDate earliestStart = plannedLists.stream()
+                .map(tuple -> tuple.get(1, LocalDate.class))
+                .min(LocalDate::compareTo)
+                .orElse(today);
+
+        Map<Long, TreeMap<LocalDate, Long>> orderedByDate = new HashMap<>();
+        queryFactory
+                .select(workOrder.productCode, workOrder.workOrderDate, workOrder.orderedQuantity.sum())
+                .from(workOrder)
+                .where(
+                        workOrder.workOrderDate.goe(earliestStart),
+                        productCodeIn(workOrder.productCode, productCodes)
+                )
+                .groupBy(workOrder.productCode, workOrder.workOrderDate)
+                .fetch()
+                .forEach(tuple -> orderedByDate
+                        .computeIfAbsent(tuple.get(0, Long.class), key -> new TreeMap<>())
+                        .merge(tuple.get(1, LocalDate.class), toLong(tuple, 2), Long::sum));
+
+        for (Tuple tuple : plannedLists) {
+            Long productCode = tuple.get(0, Long.class);
+            LocalDate startAt = tuple.get(1, LocalDate.class);
+            LocalDate endAt = tuple.get(2, LocalDate.class);
+
+            long ordered = orderedByDate.getOrDefault(productCode, new TreeMap<>())
+                    .subMap(startAt, true, endAt, true)
+                    .values().stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+            long remaining = toLong(tuple, 3) - ordered;
+            if (remaining > 0) {
+                addBucket(supplies, productCode, endAt, remaining);
+            }
+        }
+
+        return supplies;
+    }
+
+    private BooleanExpression productCodeIn(NumberPath<Long> path, Collection<Long> productCodes) {
+        return productCodes == null ? null : path.in(productCodes);
+    }
+
+    private void addBucket(Map<Long, Map<LocalDate, Long>> buckets, Long productCode, LocalDate date, long quantity) {
+        if (productCode == null || date == null) {
+            return;
+        }
+        buckets.computeIfAbsent(productCode, key -> new HashMap<>()).merge(date, quantity, Long::sum);
+    }
+
+    /* SUM 결과 타입이 방언마다 달라 Number 로 받아서 변환 */
+    private long toLong(Tuple tuple, int index) {
+        Number value = tuple.get(index, Number.class);
+        return value == null ? 0L : value.longValue();
+    }
+}
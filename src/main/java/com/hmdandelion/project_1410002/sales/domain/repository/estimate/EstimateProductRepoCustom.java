@@ -0,0 +1,14 @@
+package com.hmdandelion.project_1410002.sales.domain.repository.estimate;
+
+import com.hmdandelion.project_1410002.sales.domain.entity.estimate.EstimateProduct;
+import com.hmdandelion.project_1410002.sales.dto.request.EstimateProductRequest;
+
+import java.util.List;
+
+public interface EstimateProductRepoCustom {
+    void insertAll(List<EstimateProduct> estimateProducts);
+
+    void updateAll(List<EstimateProductRequest> productRequests);
+
+    long deleteAllByCodes(List<Long> estimateProductCodes);
+}
@@ -0,0 +1,63 @@
+package com.hmdandelion.project_1410002.sales.domain.repository.estimate;
+
+import com.hmdandelion.project_1410002.sales.domain.entity.estimate.EstimateProduct;
+import com.hmdandelion.project_1410002.sales.dto.request.EstimateProductRequest;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static com.hmdandelion.project_1410002.sales.domain.entity.estimate.QEstimateProduct.estimateProduct;
+
+@RequiredArgsConstructor
+public class EstimateProductRepoCustomImpl implements EstimateProductRepoCustom {
+    private static final int BATCH_SIZE = 500;
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<EstimateProduct> estimateProducts) {
+        if (estimateProducts.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_estimate_product (quantity, price, estimate_code, product_code) VALUES (?, ?, ?, ?)",
+                estimateProducts,
+                BATCH_SIZE,
+                (ps, product) -> {
+                    ps.setInt(1, product.getQuantity());
+                    ps.setInt(2, product.getPrice());
+                    ps.setLong(3, product.getEstimate().getEstimateCode());
+                    ps.setLong(4, product.getProductCode());
+                }
+        );
+    }
+
+    @Override
+    public void updateAll(List<EstimateProductRequest> productRequests) {
+        if (productRequests.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE tbl_estimate_product SET quantity = ?, price = ?, product_code = ? WHERE estimate_product_code = ?",
+                productRequests,
+                BATCH_SIZE,
+                (ps, productRequest) -> {
+                    ps.setInt(1, productRequest.getQuantity());
+                    ps.setInt(2, productRequest.getPrice());
+                    ps.setLong(3, productRequest.getProductCode());
+                    ps.setLong(4, productRequest.getEstimateProductCode());
+                }
+        );
+    }
+
+    @Override
+    public long deleteAllByCodes(List<Long> estimateProductCodes) {
+        if (estimateProductCodes.isEmpty()) return 0;
+
+        return queryFactory
+                .delete(estimateProduct)
+                .where(estimateProduct.estimateProductCode.in(estimateProductCodes))
+                .execute();
+    }
+}
@@ -5,7 +5,9 @@ import com.hmdandelion.project_1410002.sales.domain.type.EstimateStatus;
 import com.hmdandelion.project_1410002.sales.dto.response.EstimatesResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.Optional;
 
@@ -14,4 +16,8 @@ public interface EstimateRepo extends JpaRepository<Estimate, Long>, EstimateRep
     Optional<Estimate> findByEstimateCodeAndStatusNot(Long estimateCode, EstimateStatus estimateStatus);
 
     Optional<Estimate> findByEstimateCodeAndIsOrderedFalse(Long estimateCode);
+
+    /* 수정 시 커밋 시점에 버전을 올려 동시 수정을 감지 */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    Optional<Estimate> findWithVersionByEstimateCodeAndStatusNot(Long estimateCode, EstimateStatus estimateStatus);
 }
@@ -1,5 +1,6 @@
 package com.hmdandelion.project_1410002.sales.domain.repository.estimate;
 
+import com.hmdandelion.project_1410002.sales.domain.entity.estimate.Estimate;
 import com.hmdandelion.project_1410002.sales.dto.response.EstimateProductResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.EstimateResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.EstimatesResponse;
@@ -11,12 +12,14 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -107,7 +110,9 @@ public class EstimateRepoCustomImpl implements EstimateRepoCustom {
                                         client.clientName,
                                         estimate.status,
                                         estimate.isOrdered,
+                                        estimate.version,
                                         GroupBy.list(Projections.constructor(EstimateProductResponse.class,
+                                                estimateProduct.estimateProductCode,
                                                 product.productCode,
                                                 product.productName,
                                                 estimateProduct.quantity,
@@ -121,4 +126,49 @@ public class EstimateRepoCustomImpl implements EstimateRepoCustom {
 
     }
 
+    /* 주문 전환 가능한 견적을 잠그고 코드만 돌려준다. 다른 요청이 먼저 전환해 커밋했다면 대기 후 빠진다. */
+    @Override
+    public List<Long> lockConvertibleEstimateCodes(List<Long> estimateCodes) {
+        return queryFactory
+                .selectFrom(estimate)
+                .where(
+                        estimate.estimateCode.in(estimateCodes),
+                        estimate.isOrdered.isFalse(),
+                        estimate.status.ne(EstimateStatus.DELETED)
+                )
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch()
+                .stream()
+                .map(Estimate::getEstimateCode)
+                .toList();
+    }
+
+    /* 주문 전환 가능한 견적을 견적 상품과 함께 한 번에 조회 */
+    @Override
+    public List<Estimate> findConvertibleEstimates(List<Long> estimateCodes) {
+        return queryFactory
+                .selectFrom(estimate)
+                .distinct()
+                .leftJoin(estimate.estimateProducts, estimateProduct).fetchJoin()
+                .where(
+                        estimate.estimateCode.in(estimateCodes),
+                        estimate.isOrdered.isFalse(),
+                        estimate.status.ne(EstimateStatus.DELETED)
+                )
+                .fetch();
+    }
+
+    @Override
+    public long updateOrdered(List<Long> estimateCodes) {
+        return queryFactory
+                .update(estimate)
+                .set(estimate.isOrdered, true)
+                .set(estimate.updatedAt, LocalDateTime.now())
+                .set(estimate.version, estimate.version.add(1))
+                .where(
+                        estimate.estimateCode.in(estimateCodes),
+                        estimate.isOrdered.isFalse()
+                )
+                .execute();
+    }
 }
@@ -0,0 +1,144 @@
+package com.hmdandelion.project_1410002.sales.domain.repository.exposure;
+
+import com.hmdandelion.project_1410002.sales.domain.exposure.ClientExposureDelta;
+import com.hmdandelion.project_1410002.sales.domain.type.ManageType;
+import com.hmdandelion.project_1410002.sales.dto.response.ClientExposureResponse;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+import static com.hmdandelion.project_1410002.sales.domain.entity.order.QOrder.order;
+import static com.hmdandelion.project_1410002.sales.domain.entity.order.QOrderProduct.orderProduct;
+import static com.hmdandelion.project_1410002.sales.domain.entity.returns.QReturn.return$;
+import static com.hmdandelion.project_1410002.sales.domain.entity.returns.QReturnProduct.returnProduct;
+
+/* 거래처별 미결 금액 테이블 접근. 증감분 반영과 원본 기준 재계산을 모두 upsert 로 처리한다. */
+@Repository
+@RequiredArgsConstructor
+public class ClientExposureRepo {
+    private static final int BATCH_SIZE = 500;
+
+    private static final String RECALCULATE_SQL =
+            "INSERT INTO tbl_client_exposure (client_code, open_order_amount, shipping_amount, returned_amount, updated_at)"
+                    + " SELECT c.client_code,"
+                    + " COALESCE((SELECT SUM(op.quantity * op.price) FROM tbl_order o JOIN tbl_order_product op ON op.order_code = o.order_code"
+                    + "   WHERE o.client_code = c.client_code AND o.status IN ('ORDER_RECEIVED', 'IN_PRODUCTION', 'WAIT_SHIPPING')), 0),"
+                    + " COALESCE((SELECT SUM(op.quantity * op.price) FROM tbl_order o JOIN tbl_order_product op ON op.order_code = o.order_code"
+                    + "   WHERE o.client_code = c.client_code AND o.status = 'SHIPPING'), 0),"
+                    + " COALESCE((SELECT SUM(rp.quantity * rp.refund_price) FROM tbl_return r JOIN tbl_return_product rp ON rp.return_code = r.return_code"
+                    + "   WHERE r.client_code = c.client_code AND r.manage_type = 'REFUND' AND r.manage_status NOT IN ('REFUNDED', 'CANCELED')), 0),"
+                    + " NOW()"
+                    + " FROM tbl_client c";
+
+    private static final String RECALCULATE_ON_DUPLICATE =
+            " ON DUPLICATE KEY UPDATE open_order_amount = VALUES(open_order_amount), shipping_amount = VALUES(shipping_amount),"
+                    + " returned_amount = VALUES(returned_amount), updated_at = VALUES(updated_at)";
+
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<Long, Long> sumOrderAmountsByClient(Collection<Long> orderCodes) {
+        Map<Long, Long> amounts = new HashMap<>();
+        queryFactory
+                .select(order.clientCode, orderProduct.quantity, orderProduct.price)
+                .from(orderProduct)
+                .join(orderProduct.order, order)
+                .where(order.orderCode.in(orderCodes))
+                .fetch()
+                .forEach(tuple -> amounts.merge(
+                        tuple.get(order.clientCode),
+                        (long) tuple.get(orderProduct.quantity) * tuple.get(orderProduct.price),
+                        Long::sum
+                ));
+        return amounts;
+    }
+
+    /* 환불 반품만 대상. 교환 반품은 교환 주문 금액으로 잡힌다. */
+    public Map<Long, Long> sumRefundAmountsByClient(Collection<Long> returnCodes) {
+        Map<Long, Long> amounts = new HashMap<>();
+        queryFactory
+                .select(return$.clientCode, returnProduct.quantity, returnProduct.refundPrice)
+                .from(returnProduct)
+                .join(returnProduct.returnEntity, return$)
+                .where(
+                        return$.returnCode.in(returnCodes),
+                        return$.manageType.eq(ManageType.REFUND)
+                )
+                .fetch()
+                .forEach(tuple -> amounts.merge(
+                        tuple.get(return$.clientCode),
+                        (long) tuple.get(returnProduct.quantity) * tuple.get(returnProduct.refundPrice),
+                        Long::sum
+                ));
+        return amounts;
+    }
+
+    public List<Long> findClientCodesByOrderCodes(Collection<Long> orderCodes) {
+        return queryFactory
+                .select(order.clientCode)
+                .distinct()
+                .from(order)
+                .where(order.orderCode.in(orderCodes))
+                .fetch();
+    }
+
+    public void upsert(Collection<ClientExposureDelta> deltas) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_client_exposure (client_code, open_order_amount, shipping_amount, returned_amount, updated_at)"
+                        + " VALUES (?, ?, ?, ?, NOW())"
+                        + " ON DUPLICATE KEY UPDATE"
+                        + " open_order_amount = open_order_amount + VALUES(open_order_amount),"
+                        + " shipping_amount = shipping_amount + VALUES(shipping_amount),"
+                        + " returned_amount = returned_amount + VALUES(returned_amount),"
+                        + " updated_at = VALUES(updated_at)",
+                new ArrayList<>(deltas), BATCH_SIZE, (ps, delta) -> {
+                    ps.setLong(1, delta.getClientCode());
+                    ps.setLong(2, delta.getOpenOrderAmount());
+                    ps.setLong(3, delta.getShippingAmount());
+                    ps.setLong(4, delta.getReturnedAmount());
+                }
+        );
+    }
+
+    /* 전체 거래처를 원본 주문/반품 기준으로 다시 계산 */
+    public void recalculateAll() {
+        jdbcTemplate.update(RECALCULATE_SQL + RECALCULATE_ON_DUPLICATE);
+    }
+
+    public void recalculate(Collection<Long> clientCodes) {
+        if (clientCodes.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(clientCodes.size(), "?"));
+        jdbcTemplate.update(
+                RECALCULATE_SQL + " WHERE c.client_code IN (" + placeholders + ")" + RECALCULATE_ON_DUPLICATE,
+                clientCodes.toArray()
+        );
+    }
+
+    /* 거래처, 미결 금액 모두 PK 조회라 주문 상품 테이블을 보지 않는다 */
+    public Optional<ClientExposureResponse> findExposure(Long clientCode) {
+        return jdbcTemplate.query(
+                "SELECT c.client_code, c.credit_limit, COALESCE(e.open_order_amount, 0), COALESCE(e.shipping_amount, 0), COALESCE(e.returned_amount, 0)"
+                        + " FROM tbl_client c LEFT JOIN tbl_client_exposure e ON e.client_code = c.client_code"
+                        + " WHERE c.client_code = ? AND c.status <> 'DELETED'",
+                (rs, rowNum) -> {
+                    Long creditLimit = rs.getObject(2) == null ? null : rs.getLong(2);
+                    long exposure = rs.getLong(3) + rs.getLong(4);
+                    return new ClientExposureResponse(
+                            rs.getLong(1),
+                            creditLimit,
+                            rs.getLong(3),
+                            rs.getLong(4),
+                            rs.getLong(5),
+                            exposure,
+                            creditLimit == null ? null : creditLimit - exposure
+                    );
+                },
+                clientCode
+        ).stream().findFirst();
+    }
+}
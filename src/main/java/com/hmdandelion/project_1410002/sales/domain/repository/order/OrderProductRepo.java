@@ -1,10 +1,12 @@
 package com.hmdandelion.project_1410002.sales.domain.repository.order;
 
 import com.hmdandelion.project_1410002.sales.domain.entity.order.OrderProduct;
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderProductRepo extends JpaRepository<OrderProduct,Long> {
@@ -12,4 +14,10 @@ public interface OrderProductRepo extends JpaRepository<OrderProduct,Long> {
     List<OrderProduct> findByOrderCode(@Param("orderCode") Long orderCode);
     /*동환 : 메소드 추가*/
     List<OrderProduct> findByProductCode(Long productCode);
+
+    @Query("SELECT DISTINCT op.productCode FROM OrderProduct op WHERE op.order.orderCode IN :orderCodes")
+    List<Long> findProductCodesByOrderCodes(@Param("orderCodes") Collection<Long> orderCodes);
+
+    @Query("SELECT op FROM OrderProduct op JOIN FETCH op.order o WHERE o.orderCode IN :orderCodes AND o.status = :status")
+    List<OrderProduct> findByOrderCodesAndStatus(@Param("orderCodes") Collection<Long> orderCodes, @Param("status") OrderStatus status);
 }
@@ -1,5 +1,7 @@
 package com.hmdandelion.project_1410002.sales.domain.repository.order;
 
+import com.hmdandelion.project_1410002.sales.domain.entity.order.OrderProduct;
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
 import com.hmdandelion.project_1410002.sales.dto.response.OrderResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.OrdersResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.PlanningOrderResponse;
@@ -7,6 +9,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface OrderRepoCustom {
@@ -15,4 +19,10 @@ public interface OrderRepoCustom {
     Optional<OrderResponse> getOrder(Long orderCode);
 
     Page<PlanningOrderResponse> getPlanningOrders(Pageable pageable, LocalDate startDate, LocalDate endDate, String clientName, String status, String productName, String sort);
+
+    void insertOrderProducts(List<OrderProduct> orderProducts);
+
+    Map<Long, OrderStatus> findStatuses(List<Long> orderCodes);
+
+    long updateStatus(List<Long> orderCodes, OrderStatus fromStatus, OrderStatus toStatus);
 }
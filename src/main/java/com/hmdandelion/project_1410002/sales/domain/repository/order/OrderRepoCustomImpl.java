@@ -1,5 +1,7 @@
 package com.hmdandelion.project_1410002.sales.domain.repository.order;
 
+import com.hmdandelion.project_1410002.sales.domain.entity.order.OrderProduct;
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
 import com.hmdandelion.project_1410002.sales.dto.response.*;
 import com.querydsl.core.group.GroupBy;
 import com.querydsl.core.types.Order;
@@ -10,10 +12,12 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -22,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.hmdandelion.project_1410002.inventory.domian.entity.product.QProduct.product;
 import static com.hmdandelion.project_1410002.inventory.domian.entity.stock.QStock.stock;
@@ -33,7 +38,10 @@ import static com.hmdandelion.project_1410002.sales.domain.entity.order.QOrderPr
 
 @RequiredArgsConstructor
 public class OrderRepoCustomImpl implements OrderRepoCustom{
+    private static final int BATCH_SIZE = 500;
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     private OrderSpecifier createOrderSpecifier(String sort) {
         return switch (sort != null ? sort : "none") {
@@ -67,6 +75,7 @@ public class OrderRepoCustomImpl implements OrderRepoCustom{
                 .where(
                         containClientName(clientName),
                         containProductName(productName),
+                        statusEq(status),
                         searchDateFilter(startDate, endDate)
                 )
                 .groupBy(order.orderCode)
@@ -84,6 +93,7 @@ public class OrderRepoCustomImpl implements OrderRepoCustom{
                 .where(
                         containClientName(clientName),
                         containProductName(productName),
+                        statusEq(status),
                         searchDateFilter(startDate, endDate)
                 )
                 .orderBy(orderSpecifier);
@@ -180,6 +190,57 @@ public class OrderRepoCustomImpl implements OrderRepoCustom{
         return PageableExecutionUtils.getPage(planningOrders, pageable, countQuery::fetchOne);
     }
 
+    /* IDENTITY 전략에서는 JPA 배치 insert가 불가능하므로 JDBC 배치로 주문 상품을 일괄 등록 */
+    @Override
+    public void insertOrderProducts(List<OrderProduct> orderProducts) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO tbl_order_product (quantity, price, order_code, product_code) VALUES (?, ?, ?, ?)",
+                orderProducts,
+                BATCH_SIZE,
+                (ps, newProduct) -> {
+                    ps.setInt(1, newProduct.getQuantity());
+                    ps.setInt(2, newProduct.getPrice());
+                    ps.setLong(3, newProduct.getOrder().getOrderCode());
+                    ps.setLong(4, newProduct.getProductCode());
+                }
+        );
+    }
+
+    @Override
+    public Map<Long, OrderStatus> findStatuses(List<Long> orderCodes) {
+        return queryFactory
+                .select(order.orderCode, order.status)
+                .from(order)
+                .where(order.orderCode.in(orderCodes))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(order.orderCode),
+                        tuple -> tuple.get(order.status)
+                ));
+    }
+
+    /* 조회 이후 다른 요청이 상태를 바꿨다면 갱신되지 않도록 현재 상태를 조건으로 건다 */
+    @Override
+    public long updateStatus(List<Long> orderCodes, OrderStatus fromStatus, OrderStatus toStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        JPAUpdateClause updateClause = queryFactory
+                .update(order)
+                .set(order.status, toStatus)
+                .set(order.updatedAt, now);
+
+        if (toStatus == OrderStatus.COMPLETED) {
+            updateClause.set(order.completedAt, now);
+        }
+
+        return updateClause
+                .where(
+                        order.orderCode.in(orderCodes),
+                        order.status.eq(fromStatus)
+                )
+                .execute();
+    }
+
 
 
 
@@ -199,6 +260,14 @@ public class OrderRepoCustomImpl implements OrderRepoCustom{
         return product.productName.containsIgnoreCase(productName);
     }
 
+    /* 상태명(ORDER_RECEIVED 등)과 문자열로 비교해 없는 상태는 빈 결과가 된다. 보관 포함 조회도 같은 조건을 쓴다. */
+    private BooleanExpression statusEq(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        return order.status.stringValue().eq(status);
+    }
+
     private BooleanExpression searchDateFilter(LocalDate startDate, LocalDate endDate) {
         BooleanExpression isGoeStartDate = order.orderDatetime.goe(LocalDateTime.of(startDate, LocalTime.MIN));
         BooleanExpression isLoeEndDate = order.orderDatetime.loe(LocalDateTime.of(endDate, LocalTime.MAX).withNano(0));
@@ -5,8 +5,11 @@ import com.hmdandelion.project_1410002.sales.domain.type.ManageStatus;
 import com.hmdandelion.project_1410002.sales.domain.type.ReturnStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface ReturnRepo extends JpaRepository<Return, Long>, ReturnRepoCustom {
     Optional<Return> findByReturnCodeAndManageStatusAndReturnStatus(Long returnCode, ManageStatus manageStatus, ReturnStatus returnStatus);
+
+    Optional<Return> findByReturnCodeAndReturnStatusIn(Long returnCode, Collection<ReturnStatus> returnStatuses);
 }
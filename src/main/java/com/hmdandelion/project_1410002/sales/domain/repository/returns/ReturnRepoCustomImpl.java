@@ -1,6 +1,9 @@
 package com.hmdandelion.project_1410002.sales.domain.repository.returns;
 
 import com.hmdandelion.project_1410002.sales.domain.entity.returns.QReturn;
+import com.hmdandelion.project_1410002.sales.domain.entity.returns.Return;
+import com.hmdandelion.project_1410002.sales.domain.type.ManageStatus;
+import com.hmdandelion.project_1410002.sales.domain.type.ReturnStatus;
 import com.hmdandelion.project_1410002.sales.domain.type.ManageType;
 import com.hmdandelion.project_1410002.sales.dto.response.ExchangeOrderResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.ReturnProductResponse;
@@ -14,11 +17,14 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -148,10 +154,13 @@ public class ReturnRepoCustomImpl implements ReturnRepoCustom{
                                                 order.status
                                         ),
                                         GroupBy.list(Projections.constructor(ReturnProductResponse.class,
+                                                returnProduct.returnProductCode,
                                                 product.productCode,
                                                 product.productName,
                                                 returnProduct.quantity,
-                                                returnProduct.refundPrice
+                                                returnProduct.refundPrice,
+                                                returnProduct.defectiveQuantity,
+                                                returnProduct.inspectionStatus
                                         ))
                                 )
                         )
@@ -159,4 +168,67 @@ public class ReturnRepoCustomImpl implements ReturnRepoCustom{
 
         return Optional.ofNullable(result.get(returnCode));
     }
+
+    /* 동시에 재입고 배치가 돌더라도 같은 반품을 두 번 처리하지 않도록 잠그고 가져온다 */
+    @Override
+    public List<Return> findRestockTargets(int limit) {
+        List<Return> returns = queryFactory
+                .selectFrom(return$)
+                .where(
+                        return$.returnStatus.eq(ReturnStatus.INSPECTION_COMPLETED),
+                        return$.isRestocked.isFalse()
+                )
+                .orderBy(return$.returnCode.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+
+        if (returns.isEmpty()) {
+            return returns;
+        }
+
+        // 반품 상품을 한 번에 초기화 (이미 영속 상태인 반품에 컬렉션만 채워진다)
+        List<Long> returnCodes = returns.stream().map(Return::getReturnCode).toList();
+        queryFactory
+                .selectFrom(return$)
+                .distinct()
+                .leftJoin(return$.returnProducts, returnProduct).fetchJoin()
+                .where(return$.returnCode.in(returnCodes))
+                .fetch();
+
+        return returns;
+    }
+
+    /* 재입고는 끝났지만 교환 주문 재고를 기다리는 반품. afterReturnCode 이후부터 반품 코드 순으로 잠그고 가져온다 */
+    @Override
+    public List<Return> findAwaitingStockExchanges(Long afterReturnCode, int limit) {
+        return queryFactory
+                .selectFrom(return$)
+                .where(
+                        return$.manageStatus.eq(ManageStatus.AWAITING_STOCK),
+                        return$.isRestocked.isTrue(),
+                        return$.returnCode.gt(afterReturnCode)
+                )
+                .orderBy(return$.returnCode.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    /* manageStatus 가 null 이면 관리 상태는 그대로 둔다 */
+    @Override
+    public long updateRestocked(List<Long> returnCodes, ManageStatus manageStatus) {
+        JPAUpdateClause updateClause = queryFactory
+                .update(return$)
+                .set(return$.isRestocked, true)
+                .set(return$.updatedAt, LocalDateTime.now());
+
+        if (manageStatus != null) {
+            updateClause.set(return$.manageStatus, manageStatus);
+        }
+
+        return updateClause
+                .where(return$.returnCode.in(returnCodes))
+                .execute();
+    }
 }
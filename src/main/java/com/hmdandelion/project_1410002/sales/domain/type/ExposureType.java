@@ -0,0 +1,18 @@
+package com.hmdandelion.project_1410002.sales.domain.type;
+
+public enum ExposureType {
+    OPEN_ORDER,     // 출고 전 주문 (접수, 생산중, 배송 준비)
+    SHIPPING;       // 배송 중
+
+    /* 미결 금액으로 잡히지 않는 상태(완료, 취소, 반품)는 null */
+    public static ExposureType of(OrderStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return switch (status) {
+            case ORDER_RECEIVED, IN_PRODUCTION, WAIT_SHIPPING -> OPEN_ORDER;
+            case SHIPPING -> SHIPPING;
+            default -> null;
+        };
+    }
+}
@@ -5,6 +5,7 @@ public enum ManageStatus {
     REFUNDED,           // 환불됨
     IN_PRODUCTION,      // 생산중
     INSPECTING,         // 검수중
+    AWAITING_STOCK,     // 재고대기 (교환 주문을 덮을 재고가 모자라 재입고 때마다 다시 확인)
     WAIT_SHIPPING,      // 배송대기
     SHIPPING,            // 배송중
     COMPLETED,          // 완료됨
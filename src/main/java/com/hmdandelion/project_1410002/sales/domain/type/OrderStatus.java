@@ -1,5 +1,10 @@
 package com.hmdandelion.project_1410002.sales.domain.type;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     ORDER_RECEIVED, // 주문 접수
     IN_PRODUCTION,  // 생산 중
@@ -7,6 +12,23 @@ public enum OrderStatus {
     SHIPPING,       // 배송 중
     COMPLETED,      // 최종 완료
     CANCELED,       // 취소됨
-    RETURNED        // 반품됨
+    RETURNED;       // 반품됨
+
+    /* 일괄 상태 변경에서 허용하는 전이는 접수 → 생산 중/취소뿐이다.
+     * 배송 준비 이후 단계는 출고 이력과 창고 차감이 함께 있어야 하므로 ReleaseService, 반품은 ReturnService 에서만 바꾼다. */
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(ORDER_RECEIVED, EnumSet.of(IN_PRODUCTION, CANCELED));
+        TRANSITIONS.put(IN_PRODUCTION, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(WAIT_SHIPPING, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(SHIPPING, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(COMPLETED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(CANCELED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(RETURNED, EnumSet.noneOf(OrderStatus.class));
+    }
 
+    public boolean canTransitionTo(OrderStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
 }
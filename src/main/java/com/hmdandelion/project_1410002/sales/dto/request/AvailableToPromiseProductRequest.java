@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.sales.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AvailableToPromiseProductRequest {
+    @NotNull
+    private final Long productCode;
+    @NotNull
+    @Min(value = 1)
+    private final Integer quantity;
+}
@@ -0,0 +1,18 @@
+package com.hmdandelion.project_1410002.sales.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class AvailableToPromiseRequest {
+    private final LocalDate deadline;
+    @Valid
+    @NotEmpty
+    private final List<AvailableToPromiseProductRequest> products;
+}
@@ -0,0 +1,14 @@
+package com.hmdandelion.project_1410002.sales.dto.request;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class ClientCreditLimitRequest {
+
+    /* null 이면 한도 없음 */
+    @Min(value = 0)
+    private Long creditLimit;
+}
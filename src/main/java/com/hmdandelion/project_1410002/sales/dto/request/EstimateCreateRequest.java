@@ -1,5 +1,6 @@
 package com.hmdandelion.project_1410002.sales.dto.request;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -19,5 +20,6 @@ public class EstimateCreateRequest {
     private Long clientCode;
     private final ClientCreateRequest client;
     @NotNull
+    @Valid
     private final List<EstimateProductRequest> products;
 }
@@ -8,10 +8,12 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public class EstimateProductRequest {
-    @NotNull
+    /* 수정 시 null 이면 새로 추가하는 상품 */
     public final Long estimateProductCode;
+    @NotNull
     @Min(value = 1)
     public final Integer quantity;
+    @NotNull
     @Min(value = 0)
     public final Integer price;
     @NotNull
@@ -1,5 +1,6 @@
 package com.hmdandelion.project_1410002.sales.dto.request;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -15,5 +16,9 @@ public class EstimateUpdateRequest {
     @Future
     private final LocalDate deadline;
     @NotNull
+    @Valid
     private final List<EstimateProductRequest> products;
+    /* 조회 시점의 견적 버전. 다른 사용자가 먼저 수정했다면 수정이 거부된다. */
+    @NotNull
+    private final Long version;
 }
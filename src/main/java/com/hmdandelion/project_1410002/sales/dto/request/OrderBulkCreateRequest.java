@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.sales.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class OrderBulkCreateRequest {
+    @NotNull
+    @NotEmpty
+    private List<Long> estimateCodes;
+}
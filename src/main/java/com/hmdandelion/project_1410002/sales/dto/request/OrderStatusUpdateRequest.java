@@ -0,0 +1,19 @@
+package com.hmdandelion.project_1410002.sales.dto.request;
+
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class OrderStatusUpdateRequest {
+    @NotNull
+    @NotEmpty
+    private final List<Long> orderCodes;
+    @NotNull
+    private final OrderStatus status;
+}
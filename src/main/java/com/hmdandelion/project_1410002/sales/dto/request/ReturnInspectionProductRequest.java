@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.sales.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ReturnInspectionProductRequest {
+    @NotNull
+    private final Long returnProductCode;
+    @NotNull
+    @Min(value = 0)
+    private final Integer defectiveQuantity;
+}
@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.sales.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ReturnInspectionRequest {
+    @Valid
+    @NotEmpty
+    private List<ReturnInspectionProductRequest> products;
+}
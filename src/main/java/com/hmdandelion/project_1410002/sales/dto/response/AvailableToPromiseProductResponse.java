@@ -0,0 +1,15 @@
+package com.hmdandelion.project_1410002.sales.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@RequiredArgsConstructor
+public class AvailableToPromiseProductResponse {
+    private final Long productCode;
+    private final Long quantity;
+    private final Long availableQuantity;
+    private final LocalDate availableDate;
+}
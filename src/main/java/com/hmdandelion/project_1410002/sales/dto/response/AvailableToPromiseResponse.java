@@ -0,0 +1,15 @@
+package com.hmdandelion.project_1410002.sales.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class AvailableToPromiseResponse {
+    private final LocalDate availableDate;
+    private final Boolean isDeadlineMet;
+    private final List<AvailableToPromiseProductResponse> products;
+}
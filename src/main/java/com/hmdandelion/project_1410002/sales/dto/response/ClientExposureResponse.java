@@ -0,0 +1,19 @@
+package com.hmdandelion.project_1410002.sales.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ClientExposureResponse {
+
+    private final Long clientCode;
+    private final Long creditLimit;
+    private final Long openOrderAmount;
+    private final Long shippingAmount;
+    private final Long returnedAmount;
+    /* 출고 전 주문 + 배송 중 주문 */
+    private final Long exposureAmount;
+    /* 한도가 없으면 null */
+    private final Long availableCredit;
+}
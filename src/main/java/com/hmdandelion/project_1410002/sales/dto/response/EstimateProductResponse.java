@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public class EstimateProductResponse {
+    public final Long estimateProductCode;
     public final Long productCode;
     public final String productName;
     public final Integer quantity;
@@ -23,5 +23,6 @@ public class EstimateResponse {
     private final String clientName;
     private final EstimateStatus status;
     private final Boolean isOrdered;
+    private final Long version;
     private final List<EstimateProductResponse> products;
 }
@@ -0,0 +1,16 @@
+package com.hmdandelion.project_1410002.sales.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor
+public class OrderArchiveResponse {
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private final LocalDateTime cutoff;
+    private final Integer archivedOrderCount;
+    private final Integer batchCount;
+}
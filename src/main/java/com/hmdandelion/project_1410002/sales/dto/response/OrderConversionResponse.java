@@ -0,0 +1,35 @@
+package com.hmdandelion.project_1410002.sales.dto.response;
+
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class OrderConversionResponse {
+    private final Long estimateCode;
+    private final Long orderCode;
+    private final Boolean isConverted;
+    private final Integer code;
+    private final String message;
+
+    public static OrderConversionResponse success(Long estimateCode, Long orderCode) {
+        return new OrderConversionResponse(
+                estimateCode,
+                orderCode,
+                true,
+                null,
+                null
+        );
+    }
+
+    public static OrderConversionResponse fail(Long estimateCode, ExceptionCode exceptionCode) {
+        return new OrderConversionResponse(
+                estimateCode,
+                null,
+                false,
+                exceptionCode.getCode(),
+                exceptionCode.getMessage()
+        );
+    }
+}
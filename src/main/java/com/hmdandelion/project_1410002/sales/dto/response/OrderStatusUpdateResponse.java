@@ -0,0 +1,15 @@
+package com.hmdandelion.project_1410002.sales.dto.response;
+
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class OrderStatusUpdateResponse {
+    private final OrderStatus status;
+    private final List<Long> updatedOrderCodes;
+    private final List<RejectedOrderResponse> rejectedOrders;
+}
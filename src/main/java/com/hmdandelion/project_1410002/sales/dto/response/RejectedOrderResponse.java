@@ -0,0 +1,24 @@
+package com.hmdandelion.project_1410002.sales.dto.response;
+
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class RejectedOrderResponse {
+    private final Long orderCode;
+    private final OrderStatus currentStatus;
+    private final Integer code;
+    private final String message;
+
+    public static RejectedOrderResponse of(Long orderCode, OrderStatus currentStatus, ExceptionCode exceptionCode) {
+        return new RejectedOrderResponse(
+                orderCode,
+                currentStatus,
+                exceptionCode.getCode(),
+                exceptionCode.getMessage()
+        );
+    }
+}
@@ -6,8 +6,11 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public class ReturnProductResponse {
+    private final Long returnProductCode;
     private final Long productCode;
     private final String productName;
     private final Integer quantity;
     private final Integer refundPrice;
+    private final Integer defectiveQuantity;
+    private final Boolean inspectionStatus;
 }
@@ -0,0 +1,15 @@
+package com.hmdandelion.project_1410002.sales.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class ReturnRestockResponse {
+    private final List<Long> returnCodes;
+    private final Long restockedQuantity;
+    private final Long writtenOffQuantity;
+    private final List<Long> reservedOrderCodes;
+}
@@ -5,10 +5,13 @@ import com.hmdandelion.project_1410002.common.paging.PagingButtonInfo;
 import com.hmdandelion.project_1410002.common.paging.PagingResponse;
 import com.hmdandelion.project_1410002.sales.domain.type.ClientType;
 import com.hmdandelion.project_1410002.sales.dto.request.ClientCreateRequest;
+import com.hmdandelion.project_1410002.sales.dto.request.ClientCreditLimitRequest;
 import com.hmdandelion.project_1410002.sales.dto.request.ClientUpdateRequest;
+import com.hmdandelion.project_1410002.sales.dto.response.ClientExposureResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.SalesClientResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.SalesClientsResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.SimpleClientResponse;
+import com.hmdandelion.project_1410002.sales.service.ClientExposureService;
 import com.hmdandelion.project_1410002.sales.service.ClientService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -25,6 +28,7 @@ import java.util.List;
 public class ClientController {
 
     private final ClientService clientService;
+    private final ClientExposureService clientExposureService;
 
     @GetMapping("/clients/simple")
     public ResponseEntity<List<SimpleClientResponse>> getSimpleClients() {
@@ -68,6 +72,28 @@ public class ClientController {
         return ResponseEntity.created(URI.create("/api/v1/clients/" + clientCode)).build();
     }
 
+    /* 거래처 미결 금액 (출고 전 주문, 배송 중 주문, 환불 전 반품) 과 여신 한도 */
+    @GetMapping("/clients/{clientCode}/exposure")
+    public ResponseEntity<ClientExposureResponse> getExposure(@PathVariable final Long clientCode) {
+        return ResponseEntity.ok(clientExposureService.getExposure(clientCode));
+    }
+
+    @PutMapping("/clients/{clientCode}/credit-limit")
+    public ResponseEntity<Void> modifyCreditLimit(
+            @PathVariable final Long clientCode,
+            @Validated @RequestBody final ClientCreditLimitRequest creditLimitRequest
+    ) {
+        clientService.modifyCreditLimit(clientCode, creditLimitRequest);
+        return ResponseEntity.created(URI.create("/api/v1/clients/" + clientCode + "/exposure")).build();
+    }
+
+    /* 미결 금액 재계산 (최초 적재, 보정용) */
+    @PostMapping("/clients/exposures")
+    public ResponseEntity<Void> recalculateExposures() {
+        clientExposureService.recalculateAll();
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/clients/{clientCode}")
     public ResponseEntity<Void> remove(@PathVariable final Long clientCode) {
         clientService.remove(clientCode);
@@ -3,10 +3,13 @@ package com.hmdandelion.project_1410002.sales.presentation;
 import com.hmdandelion.project_1410002.common.paging.Pagination;
 import com.hmdandelion.project_1410002.common.paging.PagingButtonInfo;
 import com.hmdandelion.project_1410002.common.paging.PagingResponse;
+import com.hmdandelion.project_1410002.sales.dto.request.AvailableToPromiseRequest;
 import com.hmdandelion.project_1410002.sales.dto.request.EstimateCreateRequest;
 import com.hmdandelion.project_1410002.sales.dto.request.EstimateUpdateRequest;
+import com.hmdandelion.project_1410002.sales.dto.response.AvailableToPromiseResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.EstimateResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.EstimatesResponse;
+import com.hmdandelion.project_1410002.sales.service.AvailableToPromiseService;
 import com.hmdandelion.project_1410002.sales.service.EstimateService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,6 +25,7 @@ import java.net.URI;
 public class EstimateController {
 
     private final EstimateService estimateService;
+    private final AvailableToPromiseService availableToPromiseService;
 
     @GetMapping("/estimates")
     public ResponseEntity<PagingResponse> getEstimates(
@@ -43,6 +47,15 @@ public class EstimateController {
         return ResponseEntity.ok(estimateResponse);
     }
 
+    /* 견적 작성 중 품목별 납기 가능일 조회 */
+    @PostMapping("/estimates/available-to-promise")
+    public ResponseEntity<AvailableToPromiseResponse> getAvailableToPromise(
+            @Validated @RequestBody AvailableToPromiseRequest availableToPromiseRequest
+    ) {
+        final AvailableToPromiseResponse availableToPromiseResponse = availableToPromiseService.getAvailableToPromise(availableToPromiseRequest);
+        return ResponseEntity.ok(availableToPromiseResponse);
+    }
+
     @PostMapping("/estimates")
     public ResponseEntity<Void> save(@Validated @RequestBody EstimateCreateRequest estimateRequest) {
         final Long estimateCode = estimateService.save(estimateRequest);
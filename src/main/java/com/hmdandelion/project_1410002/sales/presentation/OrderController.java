@@ -3,18 +3,26 @@ package com.hmdandelion.project_1410002.sales.presentation;
 import com.hmdandelion.project_1410002.common.paging.Pagination;
 import com.hmdandelion.project_1410002.common.paging.PagingButtonInfo;
 import com.hmdandelion.project_1410002.common.paging.PagingResponse;
+import com.hmdandelion.project_1410002.sales.dto.request.OrderBulkCreateRequest;
+import com.hmdandelion.project_1410002.sales.dto.request.OrderStatusUpdateRequest;
+import com.hmdandelion.project_1410002.sales.dto.response.OrderArchiveResponse;
+import com.hmdandelion.project_1410002.sales.dto.response.OrderConversionResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.OrderResponse;
+import com.hmdandelion.project_1410002.sales.dto.response.OrderStatusUpdateResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.OrdersResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.PlanningOrderResponse;
+import com.hmdandelion.project_1410002.sales.service.OrderArchiveService;
 import com.hmdandelion.project_1410002.sales.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +30,7 @@ import java.time.LocalDate;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderArchiveService orderArchiveService;
 
     @PostMapping("/orders")
     public ResponseEntity<Void> applyOrder(@RequestParam Long estimateCode) {
@@ -29,6 +38,12 @@ public class OrderController {
         return ResponseEntity.created(URI.create("/api/v1/orders/" + orderCode)).build();
     }
 
+    @PostMapping("/orders/bulk")
+    public ResponseEntity<List<OrderConversionResponse>> applyOrders(@Validated @RequestBody final OrderBulkCreateRequest orderRequest) {
+        final List<OrderConversionResponse> results = orderService.saveAll(orderRequest.getEstimateCodes());
+        return ResponseEntity.ok(results);
+    }
+
     @GetMapping("/orders")
     public ResponseEntity<PagingResponse> getOrders (
             @RequestParam(defaultValue = "1") final Integer page,
@@ -37,9 +52,10 @@ public class OrderController {
             @RequestParam(required = false) final String clientName,
             @RequestParam(required = false) final String status,
             @RequestParam(required = false) final String productName,
-            @RequestParam(required = false) final String sort
+            @RequestParam(required = false) final String sort,
+            @RequestParam(defaultValue = "false") final boolean includeArchive
     ) {
-        Page<OrdersResponse> orders = orderService.getOrders(page, startDate, endDate, clientName, status, productName, sort);
+        Page<OrdersResponse> orders = orderService.getOrders(page, startDate, endDate, clientName, status, productName, sort, includeArchive);
         final PagingButtonInfo pagingButtonInfo = Pagination.getPagingButtonInfo(orders);
         final PagingResponse pagingResponse = PagingResponse.of(orders.getContent(), pagingButtonInfo);
 
@@ -47,17 +63,35 @@ public class OrderController {
     }
 
     @GetMapping("/orders/{orderCode}")
-    public ResponseEntity<OrderResponse> getOrder(@PathVariable final Long orderCode) {
-        OrderResponse orderResponse = orderService.getOrder(orderCode);
+    public ResponseEntity<OrderResponse> getOrder(
+            @PathVariable final Long orderCode,
+            @RequestParam(defaultValue = "false") final boolean includeArchive
+    ) {
+        OrderResponse orderResponse = orderService.getOrder(orderCode, includeArchive);
         return ResponseEntity.ok(orderResponse);
     }
 
+    /* 종료 후 months 개월이 지난 주문 이력 보관 */
+    @PostMapping("/orders/archive")
+    public ResponseEntity<OrderArchiveResponse> archiveOrders(
+            @RequestParam(defaultValue = "" + OrderArchiveService.DEFAULT_RETENTION_MONTHS) final Integer months
+    ) {
+        final OrderArchiveResponse archiveResponse = orderArchiveService.archive(months);
+        return ResponseEntity.ok(archiveResponse);
+    }
+
     @PutMapping("/orders/{orderCode}")
     public ResponseEntity<Void> cancelOrder(@PathVariable final Long orderCode) {
         orderService.cancel(orderCode);
         return ResponseEntity.created(URI.create("/api/v1/orders/" + orderCode)).build();
     }
 
+    @PutMapping("/orders/status")
+    public ResponseEntity<OrderStatusUpdateResponse> modifyOrderStatuses(@Validated @RequestBody final OrderStatusUpdateRequest orderRequest) {
+        final OrderStatusUpdateResponse result = orderService.modifyStatuses(orderRequest.getOrderCodes(), orderRequest.getStatus());
+        return ResponseEntity.ok(result);
+    }
+
     /* 나윤 */
     @GetMapping("/orders/production/planning/list")
     public ResponseEntity<PagingResponse> getPlanningOrders (
@@ -5,8 +5,11 @@ import com.hmdandelion.project_1410002.common.paging.PagingButtonInfo;
 import com.hmdandelion.project_1410002.common.paging.PagingResponse;
 import com.hmdandelion.project_1410002.sales.domain.type.ManageType;
 import com.hmdandelion.project_1410002.sales.dto.request.ReturnCreateRequest;
+import com.hmdandelion.project_1410002.sales.dto.request.ReturnInspectionRequest;
 import com.hmdandelion.project_1410002.sales.dto.response.ReturnResponse;
+import com.hmdandelion.project_1410002.sales.dto.response.ReturnRestockResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.ReturnsResponse;
+import com.hmdandelion.project_1410002.sales.service.ReturnRestockService;
 import com.hmdandelion.project_1410002.sales.service.ReturnService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -24,6 +27,7 @@ import java.time.LocalDate;
 public class ReturnController {
 
     private final ReturnService returnService;
+    private final ReturnRestockService returnRestockService;
 
     @PostMapping("/returns")
     public ResponseEntity<Void> applyReturn(@Validated @RequestBody final ReturnCreateRequest returnRequest) {
@@ -58,4 +62,20 @@ public class ReturnController {
         returnService.cancel(returnCode);
         return ResponseEntity.created(URI.create("/api/v1/returns/" + returnCode)).build();
     }
+
+    @PutMapping("/returns/{returnCode}/inspection")
+    public ResponseEntity<Void> inspectReturn(
+            @PathVariable final Long returnCode,
+            @Validated @RequestBody final ReturnInspectionRequest inspectionRequest
+    ) {
+        returnService.inspect(returnCode, inspectionRequest);
+        return ResponseEntity.created(URI.create("/api/v1/returns/" + returnCode)).build();
+    }
+
+    /* 검수 완료된 반품 재입고(불량은 입고 창고에서 파손 처리) 및 교환 주문 납기 확인 */
+    @PostMapping("/returns/restock")
+    public ResponseEntity<ReturnRestockResponse> restockReturns(@RequestParam final Long warehouseCode) {
+        final ReturnRestockResponse restockResponse = returnRestockService.restock(warehouseCode);
+        return ResponseEntity.ok(restockResponse);
+    }
 }
@@ -0,0 +1,288 @@
+package com.hmdandelion.project_1410002.sales.service;
+
+import com.hmdandelion.project_1410002.sales.domain.entity.order.OrderProduct;
+import com.hmdandelion.project_1410002.sales.domain.repository.atp.AvailableToPromiseRepo;
+import com.hmdandelion.project_1410002.sales.domain.repository.order.OrderProductRepo;
+import com.hmdandelion.project_1410002.sales.dto.request.AvailableToPromiseProductRequest;
+import com.hmdandelion.project_1410002.sales.dto.request.AvailableToPromiseRequest;
+import com.hmdandelion.project_1410002.sales.dto.response.AvailableToPromiseProductResponse;
+import com.hmdandelion.project_1410002.sales.dto.response.AvailableToPromiseResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 상품별 일 단위 공급/수요 버킷을 메모리에 올려두고 납기 가능일(ATP)을 계산한다.
+ * 최초 조회(또는 날짜가 바뀐 뒤) 전체를 적재하고, 이후에는 변경이 통보된 상품만 다시 적재한다.
+ * 통보가 누락된 경로가 있더라도 STALE_AFTER 가 지난 상품은 조회 시점에 다시 적재한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AvailableToPromiseService {
+
+    private static final int HORIZON_DAYS = 365;
+    private static final long STALE_AFTER = TimeUnit.MINUTES.toNanos(5);
+
+    private final AvailableToPromiseRepo availableToPromiseRepo;
+    private final OrderProductRepo orderProductRepo;
+
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyProductCodes = ConcurrentHashMap.newKeySet();
+    private volatile LocalDate baseDate;
+    private volatile boolean fullRefreshRequired = true;
+
+    @Transactional(readOnly = true)
+    public AvailableToPromiseResponse getAvailableToPromise(AvailableToPromiseRequest request) {
+        LocalDate today = LocalDate.now();
+        if (fullRefreshRequired || !today.equals(baseDate)) {
+            refreshAll(today);
+        }
+
+        /* 같은 상품이 여러 줄로 들어오면 합산해서 판단 */
+        Map<Long, Long> quantities = new LinkedHashMap<>();
+        for (AvailableToPromiseProductRequest product : request.getProducts()) {
+            quantities.merge(product.getProductCode(), product.getQuantity().longValue(), Long::sum);
+        }
+
+        List<Long> staleProductCodes = quantities.keySet().stream()
+                .filter(this::isStale)
+                .toList();
+        if (!staleProductCodes.isEmpty()) {
+            refresh(staleProductCodes);
+        }
+
+        List<AvailableToPromiseProductResponse> products = new ArrayList<>();
+        LocalDate availableDate = today;
+        for (Map.Entry<Long, Long> entry : quantities.entrySet()) {
+            Timeline timeline = timelines.getOrDefault(entry.getKey(), Timeline.EMPTY);
+            int bucket = timeline.earliestBucket(entry.getValue());
+            LocalDate productDate = bucket < 0 ? null : baseDate.plusDays(bucket);
+
+            products.add(new AvailableToPromiseProductResponse(
+                    entry.getKey(),
+                    entry.getValue(),
+                    timeline.availableNow(),
+                    productDate
+            ));
+
+            if (productDate == null) {
+                availableDate = null;
+            } else if (availableDate != null && productDate.isAfter(availableDate)) {
+                availableDate = productDate;
+            }
+        }
+
+        Boolean isDeadlineMet = request.getDeadline() == null
+                ? null
+                : availableDate != null && !availableDate.isAfter(request.getDeadline());
+
+        return new AvailableToPromiseResponse(availableDate, isDeadlineMet, products);
+    }
+
+    /*
+     * 열린 주문(이미 수요로 잡혀 있음)이 납기일 이후 어느 날에도 부족해지지 않는 주문 코드.
+     * 같은 트랜잭션에서 바뀐 재고까지 봐야 하므로 캐시를 거치지 않고 해당 상품만 새로 계산한다.
+     */
+    public Set<Long> findCoveredOrders(Collection<OrderProduct> orderProducts) {
+        if (orderProducts.isEmpty()) {
+            return Set.of();
+        }
+        LocalDate today = LocalDate.now();
+        Set<Long> productCodes = new HashSet<>();
+        orderProducts.forEach(orderProduct -> productCodes.add(orderProduct.getProductCode()));
+        Map<Long, Timeline> loaded = load(productCodes, today);
+
+        Set<Long> covered = new LinkedHashSet<>();
+        Set<Long> uncovered = new HashSet<>();
+        for (OrderProduct orderProduct : orderProducts) {
+            Long orderCode = orderProduct.getOrder().getOrderCode();
+            long offset = Math.max(0L, ChronoUnit.DAYS.between(today, orderProduct.getOrder().getDeadline()));
+            Timeline timeline = loaded.getOrDefault(orderProduct.getProductCode(), Timeline.EMPTY);
+            if (timeline.isCovered((int) Math.min(offset, HORIZON_DAYS - 1))) {
+                covered.add(orderCode);
+            } else {
+                uncovered.add(orderCode);
+            }
+        }
+        covered.removeAll(uncovered);
+        return covered;
+    }
+
+    /* 재고, 주문, 작업지시 등이 바뀐 상품을 통보받는다. 커밋 이후에 반영해야 이전 값으로 다시 적재되지 않는다. */
+    public void invalidate(Collection<Long> productCodes) {
+        if (productCodes == null || productCodes.isEmpty()) {
+            return;
+        }
+        Set<Long> codes = new HashSet<>(productCodes);
+        codes.remove(null);
+        afterCommit(() -> dirtyProductCodes.addAll(codes));
+    }
+
+    public void invalidate(Long productCode) {
+        invalidate(Collections.singletonList(productCode));
+    }
+
+    public void invalidateOrders(Collection<Long> orderCodes) {
+        if (orderCodes == null || orderCodes.isEmpty()) {
+            return;
+        }
+        invalidate(orderProductRepo.findProductCodesByOrderCodes(orderCodes));
+    }
+
+    /* 생산계획처럼 여러 상품에 걸친 변경은 전체를 다시 적재 */
+    public void invalidateAll() {
+        afterCommit(() -> fullRefreshRequired = true);
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private boolean isStale(Long productCode) {
+        if (dirtyProductCodes.contains(productCode)) {
+            return true;
+        }
+        Timeline timeline = timelines.get(productCode);
+        return timeline != null && System.nanoTime() - timeline.loadedAt > STALE_AFTER;
+    }
+
+    private synchronized void refreshAll(LocalDate today) {
+        if (!fullRefreshRequired && today.equals(baseDate)) {
+            return;
+        }
+        fullRefreshRequired = false;
+        dirtyProductCodes.clear();
+
+        Map<Long, Timeline> loaded = load(null, today);
+        baseDate = today;
+        timelines.keySet().retainAll(loaded.keySet());
+        timelines.putAll(loaded);
+    }
+
+    private synchronized void refresh(List<Long> productCodes) {
+        /* 적재 중에 들어온 통보는 다음 조회에서 다시 반영되도록 먼저 지운다 */
+        dirtyProductCodes.removeAll(productCodes);
+
+        Map<Long, Timeline> loaded = load(productCodes, baseDate);
+        for (Long productCode : productCodes) {
+            timelines.put(productCode, loaded.getOrDefault(productCode, Timeline.empty()));
+        }
+    }
+
+    private Map<Long, Timeline> load(Collection<Long> productCodes, LocalDate today) {
+        Map<Long, Long> onHands = availableToPromiseRepo.findOnHandQuantities(productCodes);
+        Map<Long, Map<LocalDate, Long>> demands = availableToPromiseRepo.findOpenOrderDemands(productCodes);
+        Map<Long, Map<LocalDate, Long>> workOrderSupplies = availableToPromiseRepo.findWorkOrderSupplies(productCodes);
+        Map<Long, Map<LocalDate, Long>> plannedSupplies = availableToPromiseRepo.findPlannedSupplies(productCodes, today);
+
+        Set<Long> loadedProductCodes = new HashSet<>(onHands.keySet());
+        loadedProductCodes.addAll(demands.keySet());
+        loadedProductCodes.addAll(workOrderSupplies.keySet());
+        loadedProductCodes.addAll(plannedSupplies.keySet());
+
+        Map<Long, Timeline> loaded = new HashMap<>();
+        for (Long productCode : loadedProductCodes) {
+            long[] supply = new long[HORIZON_DAYS];
+            long[] demand = new long[HORIZON_DAYS];
+            fillBuckets(supply, workOrderSupplies.get(productCode), today, false);
+            fillBuckets(supply, plannedSupplies.get(productCode), today, false);
+            fillBuckets(demand, demands.get(productCode), today, true);
+
+            loaded.put(productCode, Timeline.of(onHands.getOrDefault(productCode, 0L), supply, demand));
+        }
+        return loaded;
+    }
+
+    /* 지난 날짜는 오늘 버킷으로 당긴다. 범위를 넘는 수요는 마지막 버킷에 쌓고, 범위를 넘는 공급은 약속할 수 없으므로 버린다. */
+    private void fillBuckets(long[] buckets, Map<LocalDate, Long> quantities, LocalDate today, boolean clampOverflow) {
+        if (quantities == null) {
+            return;
+        }
+        quantities.forEach((date, quantity) -> {
+            long offset = Math.max(0L, ChronoUnit.DAYS.between(today, date));
+            if (offset >= HORIZON_DAYS) {
+                if (!clampOverflow) {
+                    return;
+                }
+                offset = HORIZON_DAYS - 1;
+            }
+            buckets[(int) offset] += quantity;
+        });
+    }
+
+    /*
+     * minAvailable[i] : i 일 이후 모든 날짜의 누적 가용량 중 최솟값.
+     * i 일에 q 개를 약속해도 이후 어떤 날에도 부족해지지 않으려면 minAvailable[i] >= q 여야 하고,
+     * 뒤로 갈수록 비교 범위가 줄어드므로 배열은 단조 증가 → 이분 탐색으로 찾는다.
+     */
+    private static final class Timeline {
+        private static final Timeline EMPTY = empty();
+
+        private final long[] minAvailable;
+        private final long loadedAt;
+
+        private Timeline(long[] minAvailable) {
+            this.minAvailable = minAvailable;
+            this.loadedAt = System.nanoTime();
+        }
+
+        private static Timeline empty() {
+            return new Timeline(new long[HORIZON_DAYS]);
+        }
+
+        private static Timeline of(long onHand, long[] supply, long[] demand) {
+            long[] available = new long[HORIZON_DAYS];
+            long cumulative = onHand;
+            for (int day = 0; day < HORIZON_DAYS; day++) {
+                cumulative += supply[day] - demand[day];
+                available[day] = cumulative;
+            }
+            for (int day = HORIZON_DAYS - 2; day >= 0; day--) {
+                available[day] = Math.min(available[day], available[day + 1]);
+            }
+            return new Timeline(available);
+        }
+
+        private boolean isCovered(int bucket) {
+            return minAvailable[bucket] >= 0;
+        }
+
+        private long availableNow() {
+            return Math.max(0L, minAvailable[0]);
+        }
+
+        private int earliestBucket(long quantity) {
+            if (minAvailable[HORIZON_DAYS - 1] < quantity) {
+                return -1;
+            }
+            int low = 0;
+            int high = HORIZON_DAYS - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (minAvailable[mid] >= quantity) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
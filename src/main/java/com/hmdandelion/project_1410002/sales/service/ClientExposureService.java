@@ -0,0 +1,114 @@
+package com.hmdandelion.project_1410002.sales.service;
+
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
+import com.hmdandelion.project_1410002.common.exception.NotFoundException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.sales.domain.exposure.ClientExposureDelta;
+import com.hmdandelion.project_1410002.sales.domain.repository.exposure.ClientExposureRepo;
+import com.hmdandelion.project_1410002.sales.domain.type.ExposureType;
+import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import com.hmdandelion.project_1410002.sales.dto.response.ClientExposureResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 거래처별 미결 금액(출고 전 주문, 배송 중 주문, 환불 전 반품)을 주문 상태가 바뀔 때마다 증감분으로 유지한다.
+ * 견적/주문 등록 시 한도 확인은 거래처와 미결 금액 행을 PK 로 한 번 읽는 것으로 끝난다.
+ * 매일 새벽 원본 기준으로 다시 계산해 누락된 변경을 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ClientExposureService {
+
+    private final ClientExposureRepo clientExposureRepo;
+
+    @Transactional(readOnly = true)
+    public ClientExposureResponse getExposure(Long clientCode) {
+        return clientExposureRepo.findExposure(clientCode)
+                .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_CLIENT_CODE));
+    }
+
+    /* 한도가 없거나 (미결 금액 + amount) 가 한도 이내면 수주 가능 */
+    @Transactional(readOnly = true)
+    public boolean canAccept(Long clientCode, long amount) {
+        return clientExposureRepo.findExposure(clientCode)
+                .map(exposure -> exposure.getAvailableCredit() == null || exposure.getAvailableCredit() >= amount)
+                .orElse(true);
+    }
+
+    public void checkAcceptable(Long clientCode, long amount) {
+        if (!canAccept(clientCode, amount)) {
+            throw new BadRequestException(ExceptionCode.BAD_REQUEST_CREDIT_LIMIT_EXCEEDED);
+        }
+    }
+
+    public void recordOrders(Collection<Long> orderCodes) {
+        changeOrderStatus(orderCodes, null, OrderStatus.ORDER_RECEIVED);
+    }
+
+    /* 같은 구분 안에서의 이동(접수 → 생산중 등)은 금액 변화가 없으므로 조회하지 않는다 */
+    public void changeOrderStatus(Collection<Long> orderCodes, OrderStatus fromStatus, OrderStatus toStatus) {
+        ExposureType from = ExposureType.of(fromStatus);
+        ExposureType to = ExposureType.of(toStatus);
+        if (orderCodes == null || orderCodes.isEmpty() || from == to) {
+            return;
+        }
+
+        Map<Long, Long> amounts = clientExposureRepo.sumOrderAmountsByClient(orderCodes);
+        List<ClientExposureDelta> deltas = amounts.entrySet().stream()
+                .map(entry -> {
+                    ClientExposureDelta delta = new ClientExposureDelta(entry.getKey());
+                    delta.addOrderAmount(from, -entry.getValue());
+                    delta.addOrderAmount(to, entry.getValue());
+                    return delta;
+                })
+                .toList();
+        clientExposureRepo.upsert(deltas);
+    }
+
+    public void recordReturns(Collection<Long> returnCodes) {
+        applyReturns(returnCodes, 1);
+    }
+
+    /* 환불 완료 또는 반품 취소 */
+    public void settleReturns(Collection<Long> returnCodes) {
+        applyReturns(returnCodes, -1);
+    }
+
+    /* 이전 상태를 확정할 수 없는 주문(동시 변경)은 해당 거래처만 원본 기준으로 다시 계산 */
+    public void recalculateOrders(Collection<Long> orderCodes) {
+        if (orderCodes == null || orderCodes.isEmpty()) {
+            return;
+        }
+        clientExposureRepo.recalculate(clientExposureRepo.findClientCodesByOrderCodes(orderCodes));
+    }
+
+    @Scheduled(cron = "0 40 3 * * *")
+    public void recalculateAll() {
+        clientExposureRepo.recalculateAll();
+        log.info("거래처 미결 금액 재계산 완료");
+    }
+
+    private void applyReturns(Collection<Long> returnCodes, int sign) {
+        if (returnCodes == null || returnCodes.isEmpty()) {
+            return;
+        }
+        List<ClientExposureDelta> deltas = clientExposureRepo.sumRefundAmountsByClient(returnCodes).entrySet().stream()
+                .map(entry -> {
+                    ClientExposureDelta delta = new ClientExposureDelta(entry.getKey());
+                    delta.addReturnedAmount(sign * entry.getValue());
+                    return delta;
+                })
+                .toList();
+        clientExposureRepo.upsert(deltas);
+    }
+}
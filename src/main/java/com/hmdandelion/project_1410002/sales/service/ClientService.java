@@ -9,6 +9,7 @@ import com.hmdandelion.project_1410002.sales.domain.entity.client.Client;
 import com.hmdandelion.project_1410002.sales.domain.repository.client.ClientRepo;
 import com.hmdandelion.project_1410002.sales.domain.type.ClientStatus;
 import com.hmdandelion.project_1410002.sales.domain.type.ClientType;
+import com.hmdandelion.project_1410002.sales.dto.request.ClientCreditLimitRequest;
 import com.hmdandelion.project_1410002.sales.dto.request.ClientCreateRequest;
 import com.hmdandelion.project_1410002.sales.dto.request.ClientUpdateRequest;
 import com.hmdandelion.project_1410002.sales.dto.response.ClientOrderDTO;
@@ -93,6 +94,11 @@ public class ClientService {
         );
     }
 
+    public void modifyCreditLimit(Long clientCode, ClientCreditLimitRequest creditLimitRequest) {
+        Client client = findByClientCodeAndType(clientCode, ClientType.PRODUCTS);
+        client.modifyCreditLimit(creditLimitRequest.getCreditLimit());
+    }
+
     public void remove(Long clientCode) {
         if (!clientRepo.getOrderList(clientCode).isEmpty()) {
             throw new BadRequestException(ExceptionCode.BAD_REQUEST_ORDER_EXIST_CLIENT);
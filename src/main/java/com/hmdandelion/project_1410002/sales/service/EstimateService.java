@@ -1,6 +1,7 @@
 package com.hmdandelion.project_1410002.sales.service;
 
 import com.hmdandelion.project_1410002.common.exception.BadRequestException;
+import com.hmdandelion.project_1410002.common.exception.ConflictException;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
 import com.hmdandelion.project_1410002.sales.domain.entity.estimate.Estimate;
@@ -24,8 +25,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,6 +41,7 @@ public class EstimateService {
     private final EstimateRepo estimateRepo;
     private final EstimateProductRepo estimateProductRepo;
     private final ClientRepo clientRepo;
+    private final ClientExposureService clientExposureService;
 
     private Pageable getPageable(final Integer page) {
         return PageRequest.of(page - 1, 10);
@@ -64,6 +69,11 @@ public class EstimateService {
         clientRepo.findByClientCodeAndStatusNot(estimateRequest.getClientCode(), ClientStatus.DELETED)
                 .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_CLIENT_CODE));
 
+        long amount = estimateRequest.getProducts().stream()
+                .mapToLong(productRequest -> (long) productRequest.getQuantity() * productRequest.getPrice())
+                .sum();
+        clientExposureService.checkAcceptable(estimateRequest.getClientCode(), amount);
+
         final Estimate newEstimate = Estimate.of(
                 estimateRequest.getDeadline(),
                 estimateRequest.getClientCode()
@@ -86,52 +96,54 @@ public class EstimateService {
     }
 
     public void modify(Long estimateCode, EstimateUpdateRequest estimateRequest) {
-        Estimate estimate = estimateRepo.findByEstimateCodeAndStatusNot(estimateCode, EstimateStatus.DELETED)
+        Estimate estimate = estimateRepo.findWithVersionByEstimateCodeAndStatusNot(estimateCode, EstimateStatus.DELETED)
                 .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_ESTIMATE_CODE));
 
         if(estimate.getIsOrdered()) {
             throw new BadRequestException(ExceptionCode.BAD_REQUEST_ORDERED_ESTIMATE);
         }
+        if(!estimateRequest.getVersion().equals(estimate.getVersion())) {
+            throw new ConflictException(ExceptionCode.ALREADY_MODIFIED);
+        }
 
-        Set<Long> productRequestCodes = estimateRequest.getProducts().stream()
-                .map(EstimateProductRequest::getEstimateProductCode)
-                .collect(Collectors.toSet());
-
-        List<EstimateProduct> deleteProducts = new ArrayList<>();
-
-        estimate.getEstimateProducts().forEach(product -> {
-            if (!productRequestCodes.contains(product.getEstimateProductCode()))
-                deleteProducts.add(product);
-        });
-        estimateProductRepo.deleteAllInBatch(deleteProducts);
+        // 현재 견적 상품을 한 번만 불러와 요청과 비교
+        Map<Long, EstimateProduct> currentProducts = estimate.getEstimateProducts().stream()
+                .collect(Collectors.toMap(EstimateProduct::getEstimateProductCode, Function.identity()));
 
-        List<EstimateProduct> newProducts = new ArrayList<>();
+        List<EstimateProduct> insertProducts = new ArrayList<>();
+        List<EstimateProductRequest> updateProducts = new ArrayList<>();
+        Set<Long> keepCodes = new HashSet<>();
 
-        estimateRequest.getProducts().forEach( productRequest -> {
+        estimateRequest.getProducts().forEach(productRequest -> {
             if(productRequest.getEstimateProductCode() == null) {
-                // 새로 엔터티 생성하여 리스트에 담아 addAll
-                EstimateProduct newProduct = EstimateProduct.of(
-                        productRequest.quantity,
+                insertProducts.add(EstimateProduct.of(
+                        productRequest.getQuantity(),
                         productRequest.getPrice(),
                         productRequest.getProductCode(),
                         estimate
-                );
-                newProducts.add(estimateProductRepo.save(newProduct));
-            } else { // null이 아닐 경우 = 이미 존재하는 경우
-                EstimateProduct existedProduct = estimateProductRepo.findById(productRequest.getEstimateProductCode())
-                        .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_ESTIMATE_PRODUCT_CODE));
-                existedProduct.modify(
-                        productRequest.getQuantity(),
-                        productRequest.getPrice(),
-                        productRequest.getProductCode()
-                );
+                ));
+                return;
+            }
+
+            EstimateProduct existedProduct = currentProducts.get(productRequest.getEstimateProductCode());
+            if(existedProduct == null) {
+                throw new NotFoundException(ExceptionCode.NOT_FOUND_ESTIMATE_PRODUCT_CODE);
+            }
+            keepCodes.add(existedProduct.getEstimateProductCode());
+            if(!existedProduct.isSameAs(productRequest.getQuantity(), productRequest.getPrice(), productRequest.getProductCode())) {
+                updateProducts.add(productRequest);
             }
         });
 
-        estimate.modify(
-                estimateRequest.getDeadline(),
-                newProducts
-        );
+        List<Long> deleteCodes = currentProducts.keySet().stream()
+                .filter(code -> !keepCodes.contains(code))
+                .toList();
+
+        estimateProductRepo.deleteAllByCodes(deleteCodes);
+        estimateProductRepo.updateAll(updateProducts);
+        estimateProductRepo.insertAll(insertProducts);
+
+        estimate.modify(estimateRequest.getDeadline());
     }
 
     public void remove(Long estimateCode) {
@@ -0,0 +1,46 @@
+package com.hmdandelion.project_1410002.sales.service;
+
+import com.hmdandelion.project_1410002.sales.dto.response.OrderArchiveResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/* 종료 후 보관 기간이 지난 주문을 배치 단위로 보관 테이블로 옮긴다. 배치마다 별도 트랜잭션으로 커밋된다. */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+
+    public static final int DEFAULT_RETENTION_MONTHS = 12;
+    private static final int BATCH_SIZE = 200;
+
+    private final OrderService orderService;
+
+    @Scheduled(cron = "0 30 4 * * *")
+    public void archiveExpired() {
+        OrderArchiveResponse result = archive(DEFAULT_RETENTION_MONTHS);
+        log.info("주문 이력 보관 완료 : {}건 ({} 이전)", result.getArchivedOrderCount(), result.getCutoff());
+    }
+
+    public OrderArchiveResponse archive(int retentionMonths) {
+        LocalDateTime cutoff = LocalDateTime.now().minusMonths(retentionMonths);
+        int archived = 0;
+        int batches = 0;
+
+        while (true) {
+            List<Long> orderCodes = orderService.archiveBatch(cutoff, BATCH_SIZE);
+            archived += orderCodes.size();
+            batches++;
+
+            if (orderCodes.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        return new OrderArchiveResponse(cutoff, archived, batches);
+    }
+}
@@ -3,15 +3,20 @@ package com.hmdandelion.project_1410002.sales.service;
 import com.hmdandelion.project_1410002.common.exception.BadRequestException;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.dashboard.service.SalesRollupService;
 import com.hmdandelion.project_1410002.sales.domain.entity.estimate.Estimate;
 import com.hmdandelion.project_1410002.sales.domain.entity.order.Order;
 import com.hmdandelion.project_1410002.sales.domain.entity.order.OrderProduct;
+import com.hmdandelion.project_1410002.sales.domain.repository.archive.OrderArchiveRepo;
 import com.hmdandelion.project_1410002.sales.domain.repository.estimate.EstimateRepo;
 import com.hmdandelion.project_1410002.sales.domain.repository.order.OrderRepo;
 import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
+import com.hmdandelion.project_1410002.sales.dto.response.OrderConversionResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.OrderResponse;
+import com.hmdandelion.project_1410002.sales.dto.response.OrderStatusUpdateResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.OrdersResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.PlanningOrderResponse;
+import com.hmdandelion.project_1410002.sales.dto.response.RejectedOrderResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -20,7 +25,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -28,6 +44,10 @@ import java.util.List;
 public class OrderService {
     private final EstimateRepo estimateRepo;
     private final OrderRepo orderRepo;
+    private final AvailableToPromiseService availableToPromiseService;
+    private final SalesRollupService salesRollupService;
+    private final ClientExposureService clientExposureService;
+    private final OrderArchiveRepo orderArchiveRepo;
 
     private Pageable getPageable(final Integer page) {
         return PageRequest.of(page - 1, 10);
@@ -37,10 +57,10 @@ public class OrderService {
         Estimate estimate = estimateRepo.findByEstimateCodeAndIsOrderedFalse(estimateCode)
                 .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_ESTIMATE_CODE));
 
-        LocalDate today = LocalDate.now();
-        if(estimate.getDeadline().isBefore(today) || estimate.getDeadline().isEqual(today)) {
+        if(isDeadlinePassed(estimate, LocalDate.now())) {
             throw new BadRequestException(ExceptionCode.BAD_REQUEST_DEADLINE_PASSED);
         }
+        clientExposureService.checkAcceptable(estimate.getClientCode(), getAmount(estimate));
 
         final Order newOrder =  Order.of(
                 estimate.getDeadline(),
@@ -61,31 +81,129 @@ public class OrderService {
         newOrder.modifyProducts(orderProducts);
         final Order order = orderRepo.save(newOrder);
         estimate.updateOrdered();
+        salesRollupService.recordOrders(List.of(order.getOrderCode()));
+        clientExposureService.recordOrders(List.of(order.getOrderCode()));
+        availableToPromiseService.invalidate(orderProducts.stream().map(OrderProduct::getProductCode).toList());
 
         return order.getOrderCode();
     }
 
+    /* 여러 견적을 한 번에 주문으로 전환. 실패한 견적은 결과에만 기록하고 나머지는 계속 전환한다. */
+    public List<OrderConversionResponse> saveAll(List<Long> estimateCodes) {
+        final List<Long> requestCodes = estimateCodes.stream().distinct().toList();
+        /* 전환 가능한 견적을 먼저 잠가 선점한다. 동시에 같은 견적을 전환한 요청이 먼저 커밋했다면
+         * 그 견적만 빠지고 해당 항목이 실패로 응답되며, 나머지 견적의 전환은 계속된다. */
+        final Set<Long> claimedCodes = new HashSet<>(estimateRepo.lockConvertibleEstimateCodes(requestCodes));
+        final Map<Long, Estimate> estimates = claimedCodes.isEmpty()
+                ? Map.of()
+                : estimateRepo.findConvertibleEstimates(new ArrayList<>(claimedCodes)).stream()
+                        .collect(Collectors.toMap(Estimate::getEstimateCode, Function.identity()));
+
+        final LocalDate today = LocalDate.now();
+        final Map<Long, OrderConversionResponse> results = new LinkedHashMap<>();
+        final List<Order> newOrders = new ArrayList<>();
+        // 같은 요청 안에서 먼저 전환된 주문 금액도 한도에 포함
+        final Map<Long, Long> pendingAmounts = new HashMap<>();
+
+        for (Long estimateCode : requestCodes) {
+            Estimate estimate = estimates.get(estimateCode);
+            if (estimate == null) {
+                results.put(estimateCode, OrderConversionResponse.fail(estimateCode, ExceptionCode.NOT_FOUND_ESTIMATE_CODE));
+            } else if (isDeadlinePassed(estimate, today)) {
+                results.put(estimateCode, OrderConversionResponse.fail(estimateCode, ExceptionCode.BAD_REQUEST_DEADLINE_PASSED));
+            } else if (!clientExposureService.canAccept(
+                    estimate.getClientCode(),
+                    pendingAmounts.getOrDefault(estimate.getClientCode(), 0L) + getAmount(estimate))) {
+                results.put(estimateCode, OrderConversionResponse.fail(estimateCode, ExceptionCode.BAD_REQUEST_CREDIT_LIMIT_EXCEEDED));
+            } else {
+                pendingAmounts.merge(estimate.getClientCode(), getAmount(estimate), Long::sum);
+                results.put(estimateCode, null);
+                newOrders.add(Order.of(
+                        estimate.getDeadline(),
+                        estimate.getClientCode(),
+                        estimateCode
+                ));
+            }
+        }
+
+        if (newOrders.isEmpty()) {
+            return new ArrayList<>(results.values());
+        }
+
+        /* 잠근 견적만 전환하므로 모두 주문 완료로 바뀐다 */
+        estimateRepo.updateOrdered(newOrders.stream().map(Order::getEstimateCode).toList());
+
+        orderRepo.saveAll(newOrders);
+
+        List<OrderProduct> orderProducts = newOrders.stream()
+                .flatMap(newOrder -> estimates.get(newOrder.getEstimateCode()).getEstimateProducts().stream()
+                        .map(product -> OrderProduct.of(
+                                product.getQuantity(),
+                                product.getPrice(),
+                                product.getProductCode(),
+                                newOrder
+                        )))
+                .toList();
+        orderRepo.insertOrderProducts(orderProducts);
+        availableToPromiseService.invalidate(orderProducts.stream().map(OrderProduct::getProductCode).toList());
+
+        salesRollupService.recordOrders(newOrders.stream().map(Order::getOrderCode).toList());
+        clientExposureService.recordOrders(newOrders.stream().map(Order::getOrderCode).toList());
+
+        newOrders.forEach(newOrder -> results.put(
+                newOrder.getEstimateCode(),
+                OrderConversionResponse.success(newOrder.getEstimateCode(), newOrder.getOrderCode())
+        ));
+
+        return new ArrayList<>(results.values());
+    }
+
+    private boolean isDeadlinePassed(Estimate estimate, LocalDate today) {
+        return !estimate.getDeadline().isAfter(today);
+    }
+
+    private long getAmount(Estimate estimate) {
+        return estimate.getEstimateProducts().stream()
+                .mapToLong(product -> (long) product.getQuantity() * product.getPrice())
+                .sum();
+    }
+
     @Transactional(readOnly = true)
     public Page<OrdersResponse> getOrders(
             Integer page, LocalDate startDate, LocalDate endDate,
-            String clientName, String status, String productName, String sort
+            String clientName, String status, String productName, String sort, boolean includeArchive
     ) {
+        if (includeArchive) {
+            return orderArchiveRepo.searchWithArchive(getPageable(page), startDate, endDate, clientName, status, productName, sort);
+        }
         Page<OrdersResponse> orders = orderRepo.search(getPageable(page), startDate, endDate, clientName, status, productName, sort);
         return orders;
     }
 
+    /* 원본에 없으면 includeArchive 일 때만 보관 테이블을 본다 */
     @Transactional(readOnly = true)
-    public OrderResponse getOrder(Long orderCode) {
+    public OrderResponse getOrder(Long orderCode, boolean includeArchive) {
         OrderResponse orderResponse = orderRepo.getOrder(orderCode)
+                .or(() -> includeArchive ? orderArchiveRepo.findArchivedOrder(orderCode) : Optional.empty())
                 .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_ORDER_CODE));
         return orderResponse;
     }
 
+    /* cutoff 이전에 종료된 주문을 limit 건까지 보관 테이블로 옮긴다. 반환값은 옮긴 주문 코드 */
+    public List<Long> archiveBatch(LocalDateTime cutoff, int limit) {
+        List<Long> orderCodes = orderArchiveRepo.findArchivableOrderCodes(cutoff, limit);
+        orderArchiveRepo.archive(orderCodes);
+        return orderCodes;
+    }
+
     public void cancel(Long orderCode) {
         Order order = orderRepo.findByOrderCodeAndStatus(orderCode, OrderStatus.ORDER_RECEIVED)
                 .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_ORDER_CODE));
 
         order.modifyStatus(OrderStatus.CANCELED);
+        salesRollupService.cancelOrders(List.of(orderCode));
+        clientExposureService.changeOrderStatus(List.of(orderCode), OrderStatus.ORDER_RECEIVED, OrderStatus.CANCELED);
+        availableToPromiseService.invalidateOrders(List.of(orderCode));
     }
 
     public void updateOrderStatusToInProduction(Long orderCode) {
@@ -95,6 +213,55 @@ public class OrderService {
         order.modifyStatus(OrderStatus.IN_PRODUCTION);
     }
 
+    /* 여러 주문의 상태를 한 번에 변경. 전이 규칙에 맞지 않는 주문은 거절 목록으로 돌려준다. */
+    public OrderStatusUpdateResponse modifyStatuses(List<Long> orderCodes, OrderStatus toStatus) {
+        final List<Long> requestCodes = orderCodes.stream().distinct().toList();
+        final Map<Long, OrderStatus> currentStatuses = orderRepo.findStatuses(requestCodes);
+
+        final List<RejectedOrderResponse> rejectedOrders = new ArrayList<>();
+        final Map<OrderStatus, List<Long>> codesByStatus = new EnumMap<>(OrderStatus.class);
+
+        for (Long orderCode : requestCodes) {
+            OrderStatus currentStatus = currentStatuses.get(orderCode);
+            if (currentStatus == null) {
+                rejectedOrders.add(RejectedOrderResponse.of(orderCode, null, ExceptionCode.NOT_FOUND_ORDER_CODE));
+            } else if (!currentStatus.canTransitionTo(toStatus)) {
+                rejectedOrders.add(RejectedOrderResponse.of(orderCode, currentStatus, ExceptionCode.BAD_REQUEST_ORDER_STATUS_TRANSITION));
+            } else {
+                codesByStatus.computeIfAbsent(currentStatus, status -> new ArrayList<>()).add(orderCode);
+            }
+        }
+
+        final List<Long> updatedOrderCodes = new ArrayList<>();
+        codesByStatus.forEach((fromStatus, codes) -> {
+            long updatedCount = orderRepo.updateStatus(codes, fromStatus, toStatus);
+            if (updatedCount == codes.size()) {
+                updatedOrderCodes.addAll(codes);
+                clientExposureService.changeOrderStatus(codes, fromStatus, toStatus);
+                return;
+            }
+
+            // 조회 이후 다른 요청이 상태를 바꾼 주문은 거절 처리
+            Map<Long, OrderStatus> afterStatuses = orderRepo.findStatuses(codes);
+            codes.forEach(orderCode -> {
+                OrderStatus afterStatus = afterStatuses.get(orderCode);
+                if (afterStatus == toStatus) {
+                    updatedOrderCodes.add(orderCode);
+                } else {
+                    rejectedOrders.add(RejectedOrderResponse.of(orderCode, afterStatus, ExceptionCode.BAD_REQUEST_ORDER_STATUS_TRANSITION));
+                }
+            });
+            clientExposureService.recalculateOrders(codes);
+        });
+
+        availableToPromiseService.invalidateOrders(updatedOrderCodes);
+        if (toStatus == OrderStatus.CANCELED) {
+            salesRollupService.cancelOrders(updatedOrderCodes);
+        }
+
+        return new OrderStatusUpdateResponse(toStatus, updatedOrderCodes, rejectedOrders);
+    }
+
     public Page<PlanningOrderResponse> getPlanningOrders(Integer page, LocalDate startDate, LocalDate endDate, String clientName, String status, String productName, String sort) {
 
         Page<PlanningOrderResponse> planningOrders = orderRepo.getPlanningOrders(getPageable(page), startDate, endDate, clientName, status, productName, sort);
@@ -0,0 +1,60 @@
+package com.hmdandelion.project_1410002.sales.service;
+
+import com.hmdandelion.project_1410002.common.exception.NotFoundException;
+import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.inventory.domian.entity.warehouse.Warehouse;
+import com.hmdandelion.project_1410002.inventory.domian.repository.warehouse.WarehouseRepo;
+import com.hmdandelion.project_1410002.sales.dto.response.ReturnRestockResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/* 검수 완료 반품을 배치 단위로 나눠 재입고. 배치마다 별도 트랜잭션으로 커밋된다. */
+@Service
+@RequiredArgsConstructor
+public class ReturnRestockService {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final ReturnService returnService;
+    private final WarehouseRepo warehouseRepo;
+
+    /* warehouseCode : 반품이 들어온 창고. 불량 수량은 이 창고의 파손으로 기록된다. */
+    public ReturnRestockResponse restock(Long warehouseCode) {
+        Warehouse warehouse = warehouseRepo.findById(warehouseCode)
+                .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_WAREHOUSE_CODE));
+
+        List<Long> returnCodes = new ArrayList<>();
+        List<Long> reservedOrderCodes = new ArrayList<>();
+        long restockedQuantity = 0L;
+        long writtenOffQuantity = 0L;
+
+        while (true) {
+            ReturnRestockResponse batch = returnService.restockBatch(BATCH_SIZE, warehouse);
+            returnCodes.addAll(batch.getReturnCodes());
+            reservedOrderCodes.addAll(batch.getReservedOrderCodes());
+            restockedQuantity += batch.getRestockedQuantity();
+            writtenOffQuantity += batch.getWrittenOffQuantity();
+
+            if (batch.getReturnCodes().size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        // 이번 재입고로 늘어난 재고로 이전에 재고 대기로 남은 교환을 다시 확인
+        long afterReturnCode = 0L;
+        while (true) {
+            ReturnRestockResponse batch = returnService.reserveAwaitingExchanges(BATCH_SIZE, afterReturnCode);
+            reservedOrderCodes.addAll(batch.getReservedOrderCodes());
+
+            if (batch.getReturnCodes().size() < BATCH_SIZE) {
+                break;
+            }
+            afterReturnCode = batch.getReturnCodes().get(batch.getReturnCodes().size() - 1);
+        }
+
+        return new ReturnRestockResponse(returnCodes, restockedQuantity, writtenOffQuantity, reservedOrderCodes);
+    }
+}
@@ -1,19 +1,33 @@
 package com.hmdandelion.project_1410002.sales.service;
 
+import com.hmdandelion.project_1410002.common.exception.BadRequestException;
 import com.hmdandelion.project_1410002.common.exception.NotFoundException;
 import com.hmdandelion.project_1410002.common.exception.type.ExceptionCode;
+import com.hmdandelion.project_1410002.dashboard.service.SalesRollupService;
+import com.hmdandelion.project_1410002.inventory.domian.entity.stock.Stock;
+import com.hmdandelion.project_1410002.inventory.domian.entity.stock.Storage;
+import com.hmdandelion.project_1410002.inventory.domian.entity.warehouse.Warehouse;
+import com.hmdandelion.project_1410002.inventory.domian.repository.product.ProductRepo;
+import com.hmdandelion.project_1410002.inventory.domian.repository.stock.StockRepo;
+import com.hmdandelion.project_1410002.inventory.domian.repository.stock.StorageRepo;
+import com.hmdandelion.project_1410002.inventory.domian.type.AssignmentStatus;
+import com.hmdandelion.project_1410002.inventory.domian.type.StockType;
 import com.hmdandelion.project_1410002.sales.domain.entity.order.Order;
 import com.hmdandelion.project_1410002.sales.domain.entity.order.OrderProduct;
 import com.hmdandelion.project_1410002.sales.domain.entity.returns.Return;
 import com.hmdandelion.project_1410002.sales.domain.entity.returns.ReturnProduct;
 import com.hmdandelion.project_1410002.sales.domain.repository.returns.ReturnRepo;
+import com.hmdandelion.project_1410002.sales.domain.repository.order.OrderProductRepo;
 import com.hmdandelion.project_1410002.sales.domain.repository.order.OrderRepo;
 import com.hmdandelion.project_1410002.sales.domain.type.ManageStatus;
 import com.hmdandelion.project_1410002.sales.domain.type.ManageType;
 import com.hmdandelion.project_1410002.sales.domain.type.OrderStatus;
 import com.hmdandelion.project_1410002.sales.domain.type.ReturnStatus;
 import com.hmdandelion.project_1410002.sales.dto.request.ReturnCreateRequest;
+import com.hmdandelion.project_1410002.sales.dto.request.ReturnInspectionProductRequest;
+import com.hmdandelion.project_1410002.sales.dto.request.ReturnInspectionRequest;
 import com.hmdandelion.project_1410002.sales.dto.response.ReturnResponse;
+import com.hmdandelion.project_1410002.sales.dto.response.ReturnRestockResponse;
 import com.hmdandelion.project_1410002.sales.dto.response.ReturnsResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,7 +36,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -31,6 +47,13 @@ public class ReturnService {
 
     private final OrderRepo orderRepo;
     private final ReturnRepo returnRepo;
+    private final OrderProductRepo orderProductRepo;
+    private final ProductRepo productRepo;
+    private final StockRepo stockRepo;
+    private final StorageRepo storageRepo;
+    private final AvailableToPromiseService availableToPromiseService;
+    private final SalesRollupService salesRollupService;
+    private final ClientExposureService clientExposureService;
 
     private Pageable getPageable(final Integer page) {
         return PageRequest.of(page - 1, 10);
@@ -79,10 +102,15 @@ public class ReturnService {
             final Long exchangeOrderCode = orderRepo.save(exchangeOrder).getOrderCode();
 
             newReturn.modifyExchangeCode(exchangeOrderCode);
+            clientExposureService.recordOrders(List.of(exchangeOrderCode));
+            availableToPromiseService.invalidate(exchangeProducts.stream().map(OrderProduct::getProductCode).toList());
         }
         System.out.println("manageType : " + newReturn.getManageType());
         order.modifyStatus(OrderStatus.RETURNED);
-        return returnRepo.save(newReturn).getReturnCode();
+        final Long returnCode = returnRepo.save(newReturn).getReturnCode();
+        salesRollupService.recordReturns(List.of(returnCode));
+        clientExposureService.recordReturns(List.of(returnCode));
+        return returnCode;
     }
 
     @Transactional(readOnly = true)
@@ -108,12 +136,169 @@ public class ReturnService {
 
         canceledReturn.modifyReturnStatus(ReturnStatus.CANCELED);
         canceledReturn.modifyManageStatus(ManageStatus.CANCELED);
+        salesRollupService.cancelReturns(List.of(returnCode));
+        clientExposureService.settleReturns(List.of(returnCode));
 
         if(ManageType.EXCHANGE.equals(canceledReturn.getManageType())) {
             Order exchangeOrder = orderRepo.findByOrderCodeAndStatus(canceledReturn.getExchangeOrder(), OrderStatus.ORDER_RECEIVED)
                     .orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_ORDER_CODE));
 
             exchangeOrder.modifyStatus(OrderStatus.CANCELED);
+            clientExposureService.changeOrderStatus(List.of(exchangeOrder.getOrderCode()), OrderStatus.ORDER_RECEIVED, OrderStatus.CANCELED);
+            availableToPromiseService.invalidateOrders(List.of(exchangeOrder.getOrderCode()));
         }
     }
+
+    /* 반품 검수 결과 등록. 모든 상품의 검수가 끝나면 검수 완료로 바뀌어 재입고 대상이 된다. */
+    public void inspect(Long returnCode, ReturnInspectionRequest inspectionRequest) {
+        Return inspectedReturn = returnRepo.findByReturnCodeAndReturnStatusIn(
+                returnCode, List.of(ReturnStatus.AWAITING_INSPECTION, ReturnStatus.UNDER_INSPECTION)
+        ).orElseThrow(() -> new NotFoundException(ExceptionCode.NOT_FOUND_RETURN_CODE));
+
+        Map<Long, ReturnProduct> returnProducts = inspectedReturn.getReturnProducts().stream()
+                .collect(Collectors.toMap(ReturnProduct::getReturnProductCode, Function.identity()));
+
+        for (ReturnInspectionProductRequest productRequest : inspectionRequest.getProducts()) {
+            ReturnProduct returnProduct = returnProducts.get(productRequest.getReturnProductCode());
+            if (returnProduct == null) {
+                throw new NotFoundException(ExceptionCode.NOT_FOUND_RETURN_PRODUCT_CODE);
+            }
+            if (productRequest.getDefectiveQuantity() > returnProduct.getQuantity()) {
+                throw new BadRequestException(ExceptionCode.BAD_REQUEST_DEFECTIVE_QUANTITY);
+            }
+            returnProduct.inspect(productRequest.getDefectiveQuantity());
+        }
+
+        boolean isAllInspected = returnProducts.values().stream().allMatch(ReturnProduct::getInspectionStatus);
+        inspectedReturn.modifyReturnStatus(isAllInspected ? ReturnStatus.INSPECTION_COMPLETED : ReturnStatus.UNDER_INSPECTION);
+        inspectedReturn.modifyManageStatus(ManageStatus.INSPECTING);
+    }
+
+    /*
+     * 검수 완료된 반품을 batchSize 만큼 재입고한다.
+     * 양품은 상품별로 합산해 재검수(RE_INSPECTION) 재고 한 건으로 입고하고,
+     * 불량은 상품별로 합산해 반품이 들어온 창고에 전량 파손 처리된 적재로 남긴다.
+     * 교환 주문은 이미 ATP 수요로 잡혀 있으므로, 납기일 기준으로 공급이 덮이는 주문만 출고 대기로 표시하고
+     * 덮이지 않는 교환은 재고 대기로 남겨 reserveAwaitingExchanges 에서 다시 확인한다.
+     */
+    public ReturnRestockResponse restockBatch(int batchSize, Warehouse warehouse) {
+        List<Return> returns = returnRepo.findRestockTargets(batchSize);
+        if (returns.isEmpty()) {
+            return new ReturnRestockResponse(List.of(), 0L, 0L, List.of());
+        }
+
+        Map<Long, Long> restockQuantities = new LinkedHashMap<>();
+        Map<Long, Long> writeOffQuantities = new LinkedHashMap<>();
+        for (Return restockedReturn : returns) {
+            for (ReturnProduct returnProduct : restockedReturn.getReturnProducts()) {
+                int restockQuantity = returnProduct.getRestockQuantity();
+                restockQuantities.merge(returnProduct.getProductCode(), (long) restockQuantity, Long::sum);
+                writeOffQuantities.merge(returnProduct.getProductCode(), (long) returnProduct.getQuantity() - restockQuantity, Long::sum);
+            }
+        }
+
+        List<Stock> newStocks = restockQuantities.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> Stock.of(entry.getValue(), StockType.RE_INSPECTION, productRepo.getReferenceById(entry.getKey())))
+                .toList();
+        stockRepo.saveAll(newStocks);
+        writeOff(writeOffQuantities, warehouse);
+        availableToPromiseService.invalidate(restockQuantities.keySet());
+
+        List<Long> reservedOrderCodes = reserveExchangeOrders(returns);
+
+        Map<ManageStatus, List<Long>> codesByManageStatus = new HashMap<>();
+        List<Long> unchangedCodes = new ArrayList<>();
+        for (Return restockedReturn : returns) {
+            if (ManageType.REFUND.equals(restockedReturn.getManageType())) {
+                codesByManageStatus.computeIfAbsent(ManageStatus.REFUNDED, status -> new ArrayList<>()).add(restockedReturn.getReturnCode());
+            } else if (reservedOrderCodes.contains(restockedReturn.getExchangeOrder())) {
+                codesByManageStatus.computeIfAbsent(ManageStatus.WAIT_SHIPPING, status -> new ArrayList<>()).add(restockedReturn.getReturnCode());
+            } else if (isExchange(restockedReturn)) {
+                codesByManageStatus.computeIfAbsent(ManageStatus.AWAITING_STOCK, status -> new ArrayList<>()).add(restockedReturn.getReturnCode());
+            } else {
+                unchangedCodes.add(restockedReturn.getReturnCode());
+            }
+        }
+        codesByManageStatus.forEach((manageStatus, codes) -> returnRepo.updateRestocked(codes, manageStatus));
+        clientExposureService.settleReturns(codesByManageStatus.get(ManageStatus.REFUNDED));
+        if (!unchangedCodes.isEmpty()) {
+            returnRepo.updateRestocked(unchangedCodes, null);
+        }
+
+        List<Long> returnCodes = returns.stream().map(Return::getReturnCode).toList();
+        return new ReturnRestockResponse(
+                returnCodes,
+                restockQuantities.values().stream().mapToLong(Long::longValue).sum(),
+                writeOffQuantities.values().stream().mapToLong(Long::longValue).sum(),
+                reservedOrderCodes
+        );
+    }
+
+    /* 상품별 불량 수량을 재고 + 적재로 만들고 적재 수량 전부를 파손으로 기록한다. 실수량이 0 이라 가용 재고에는 잡히지 않는다. */
+    private void writeOff(Map<Long, Long> writeOffQuantities, Warehouse warehouse) {
+        List<Stock> stocks = new ArrayList<>();
+        List<Storage> storages = new ArrayList<>();
+        writeOffQuantities.forEach((productCode, quantity) -> {
+            if (quantity <= 0) {
+                return;
+            }
+            Stock stock = Stock.of(quantity, StockType.RE_INSPECTION, productRepo.getReferenceById(productCode));
+            stock.modifyStatus(AssignmentStatus.FULLY_ASSIGNED);
+            Storage storage = Storage.of(warehouse, quantity, stock);
+            storage.modifyDestroyQuantity(quantity);
+            stocks.add(stock);
+            storages.add(storage);
+        });
+        stockRepo.saveAll(stocks);
+        storageRepo.saveAll(storages);
+    }
+
+    /*
+     * 재고 대기 중인 교환 반품을 batchSize 만큼 다시 확인해 납기가 덮이게 된 것만 출고 대기로 바꾼다.
+     * 덮이지 않는 반품은 그대로 두므로 afterReturnCode 로 다음 묶음을 이어서 읽는다. returnCodes 는 확인한 반품이다.
+     */
+    public ReturnRestockResponse reserveAwaitingExchanges(int batchSize, Long afterReturnCode) {
+        List<Return> returns = returnRepo.findAwaitingStockExchanges(afterReturnCode, batchSize);
+        if (returns.isEmpty()) {
+            return new ReturnRestockResponse(List.of(), 0L, 0L, List.of());
+        }
+
+        List<Long> reservedOrderCodes = reserveExchangeOrders(returns);
+        List<Long> reservedReturnCodes = returns.stream()
+                .filter(awaitingReturn -> reservedOrderCodes.contains(awaitingReturn.getExchangeOrder()))
+                .map(Return::getReturnCode)
+                .toList();
+        if (!reservedReturnCodes.isEmpty()) {
+            returnRepo.updateRestocked(reservedReturnCodes, ManageStatus.WAIT_SHIPPING);
+        }
+        return new ReturnRestockResponse(
+                returns.stream().map(Return::getReturnCode).toList(),
+                0L,
+                0L,
+                reservedOrderCodes
+        );
+    }
+
+    private boolean isExchange(Return exchangedReturn) {
+        return ManageType.EXCHANGE.equals(exchangedReturn.getManageType()) && exchangedReturn.getExchangeOrder() != null;
+    }
+
+    /* 교환 주문 상품을 한 번에 읽어 ATP 로 납기 충족 여부만 확인한다. 출고와 주문 상태 변경은 출고 등록에서 한다. */
+    private List<Long> reserveExchangeOrders(List<Return> returns) {
+        List<Long> exchangeOrderCodes = returns.stream()
+                .filter(this::isExchange)
+                .map(Return::getExchangeOrder)
+                .toList();
+        if (exchangeOrderCodes.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> coveredOrderCodes = availableToPromiseService.findCoveredOrders(
+                orderProductRepo.findByOrderCodesAndStatus(exchangeOrderCodes, OrderStatus.ORDER_RECEIVED)
+        );
+        return exchangeOrderCodes.stream()
+                .filter(coveredOrderCodes::contains)
+                .toList();
+    }
 }